@@ -0,0 +1,300 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.parser;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import org.eclipse.rdf4j.query.MalformedQueryException;
+import org.eclipse.rdf4j.query.QueryLanguage;
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
+
+/**
+ * A bounded, thread-safe cache of parsed queries, keyed on the query language, the query string, the base URI and the
+ * custom prefixes of the parser. When the cache is full, the least recently used query is evicted.
+ * <p>
+ * The cache can also hold {@link ParsedQueryTemplate query templates}, which parsers use to share a query model
+ * between queries that only differ in their constants. Templates are kept apart from the parsed queries, and are
+ * returned as they are, as they are never modified.
+ * <p>
+ * The cache keeps its own copy of each parsed query and returns a copy with a cloned {@link TupleExpr} on every call,
+ * so that callers may modify the returned query model, for instance while optimizing it. Queries of a type other than
+ * {@link ParsedTupleQuery}, {@link ParsedGraphQuery}, {@link ParsedDescribeQuery} and {@link ParsedBooleanQuery} are
+ * not cached. Queries that fail to parse are not cached either.
+ *
+ * @see QueryParserUtil#parseQuery(QueryLanguage, String, String, ParsedQueryCache)
+ */
+public class ParsedQueryCache {
+
+	/**
+	 * The value that is cached for a query that can not be turned into a template.
+	 */
+	private static final Object NO_TEMPLATE = new Object();
+
+	private final int maximumSize;
+
+	private final LinkedHashMap<Key, Object> cache;
+
+	private long hitCount;
+
+	private long missCount;
+
+	private long evictionCount;
+
+	/**
+	 * Creates a new cache.
+	 *
+	 * @param maximumSize The maximum number of parsed queries to keep.
+	 * @throws IllegalArgumentException If the maximum size is not positive.
+	 */
+	public ParsedQueryCache(int maximumSize) {
+		if (maximumSize <= 0) {
+			throw new IllegalArgumentException("maximum size must be positive: " + maximumSize);
+		}
+		this.maximumSize = maximumSize;
+		this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+				if (size() > ParsedQueryCache.this.maximumSize) {
+					evictionCount++;
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * Returns the parsed query for the supplied query string, parsing it with the supplied parser if it is not in the
+	 * cache. The query is parsed without holding a lock, so a query that is requested concurrently for the first time
+	 * may be parsed more than once.
+	 *
+	 * @param ql       The language in which the query is formulated.
+	 * @param query    The query.
+	 * @param baseURI  The base URI to resolve any relative URIs that are in the query against, can be <var>null</var>.
+	 * @param prefixes The custom prefixes of the parser.
+	 * @param parser   Parses the query when it is not in the cache.
+	 * @return A copy of the parsed query, which the caller may modify.
+	 * @throws MalformedQueryException If the supplied query was malformed.
+	 */
+	public ParsedQuery get(QueryLanguage ql, String query, String baseURI, Map<String, String> prefixes,
+			Supplier<? extends ParsedQuery> parser) throws MalformedQueryException {
+		Key key = new Key(ql, query, baseURI, prefixes, false);
+
+		ParsedQuery cached;
+		synchronized (this) {
+			cached = (ParsedQuery) cache.get(key);
+			if (cached != null) {
+				hitCount++;
+			} else {
+				missCount++;
+			}
+		}
+		if (cached != null) {
+			return copy(cached);
+		}
+
+		ParsedQuery parsed = parser.get();
+		ParsedQuery copy = copy(parsed);
+		if (copy == null) {
+			// a query type that the cache can not copy
+			return parsed;
+		}
+
+		synchronized (this) {
+			cache.put(key, parsed);
+		}
+		return copy;
+	}
+
+	/**
+	 * Returns the query template for the supplied query string, creating it with the supplied parser if it is not in
+	 * the cache. The template is created without holding a lock, so a template that is requested concurrently for the
+	 * first time may be created more than once.
+	 * <p>
+	 * A request for a query that is known not to be a template is not counted as a hit, as the caller then parses the
+	 * query with {@link #get(QueryLanguage, String, String, Map, Supplier)}, which counts the request.
+	 *
+	 * @param ql       The language in which the query is formulated.
+	 * @param query    The query, in the form that the parser creates the template from.
+	 * @param baseURI  The base URI to resolve any relative URIs that are in the query against, can be <var>null</var>.
+	 * @param prefixes The custom prefixes of the parser.
+	 * @param parser   Creates the template when it is not in the cache, or returns <var>null</var> if the query can
+	 *                 not be turned into a template, which is cached as well.
+	 * @return The template, or <var>null</var> if the query can not be turned into a template.
+	 * @throws MalformedQueryException If the supplied query was malformed.
+	 */
+	public ParsedQueryTemplate getTemplate(QueryLanguage ql, String query, String baseURI,
+			Map<String, String> prefixes, Supplier<? extends ParsedQueryTemplate> parser)
+			throws MalformedQueryException {
+		Key key = new Key(ql, query, baseURI, prefixes, true);
+
+		Object cached;
+		synchronized (this) {
+			cached = cache.get(key);
+			if (cached == NO_TEMPLATE) {
+				// counted by the lookup of the query itself
+			} else if (cached != null) {
+				hitCount++;
+			} else {
+				missCount++;
+			}
+		}
+		if (cached != null) {
+			return cached == NO_TEMPLATE ? null : (ParsedQueryTemplate) cached;
+		}
+
+		ParsedQueryTemplate template = parser.get();
+		synchronized (this) {
+			cache.put(key, template != null ? template : NO_TEMPLATE);
+		}
+		return template;
+	}
+
+	/**
+	 * Removes all cached parsed queries and query templates for the supplied query string, for any query language,
+	 * base URI and prefixes.
+	 */
+	public synchronized void invalidate(String query) {
+		Iterator<Key> keys = cache.keySet().iterator();
+		while (keys.hasNext()) {
+			if (keys.next().query.equals(query)) {
+				keys.remove();
+			}
+		}
+	}
+
+	/**
+	 * Removes all cached parsed queries and query templates.
+	 */
+	public synchronized void invalidateAll() {
+		cache.clear();
+	}
+
+	/**
+	 * @return The number of parsed queries and query templates in the cache.
+	 */
+	public synchronized int size() {
+		return cache.size();
+	}
+
+	/**
+	 * @return The maximum number of parsed queries and query templates in the cache.
+	 */
+	public int getMaximumSize() {
+		return maximumSize;
+	}
+
+	/**
+	 * @return The number of requests that were answered from the cache.
+	 */
+	public synchronized long getHitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * @return The number of requests for which the query had to be parsed.
+	 */
+	public synchronized long getMissCount() {
+		return missCount;
+	}
+
+	/**
+	 * @return The fraction of requests that were answered from the cache, or 0 if there were no requests.
+	 */
+	public synchronized double getHitRate() {
+		long requestCount = hitCount + missCount;
+		return requestCount == 0 ? 0.0 : (double) hitCount / requestCount;
+	}
+
+	/**
+	 * @return The number of parsed queries that were removed from the cache because it was full.
+	 */
+	public synchronized long getEvictionCount() {
+		return evictionCount;
+	}
+
+	/**
+	 * Copies the supplied parsed query, with a clone of its tuple expression. The dataset and the namespaces are
+	 * shared, as the parsers do not modify them after parsing.
+	 *
+	 * @return The copy, or <var>null</var> if the query is of a type that can not be copied.
+	 */
+	private static ParsedQuery copy(ParsedQuery query) {
+		String sourceString = query.getSourceString();
+		TupleExpr tupleExpr = query.getTupleExpr().clone();
+
+		ParsedQuery copy;
+		Class<?> type = query.getClass();
+		if (type == ParsedTupleQuery.class) {
+			copy = new ParsedTupleQuery(sourceString, tupleExpr);
+		} else if (type == ParsedBooleanQuery.class) {
+			copy = new ParsedBooleanQuery(sourceString, tupleExpr);
+		} else if (type == ParsedGraphQuery.class) {
+			copy = new ParsedGraphQuery(sourceString, tupleExpr,
+					((ParsedGraphQuery) query).getQueryNamespaces());
+		} else if (type == ParsedDescribeQuery.class) {
+			copy = new ParsedDescribeQuery(sourceString, tupleExpr,
+					((ParsedDescribeQuery) query).getQueryNamespaces());
+		} else {
+			return null;
+		}
+
+		copy.setDataset(query.getDataset());
+		return copy;
+	}
+
+	private static final class Key {
+
+		private final QueryLanguage ql;
+
+		private final String query;
+
+		private final String baseURI;
+
+		private final Map<String, String> prefixes;
+
+		private final boolean template;
+
+		private final int hashCode;
+
+		Key(QueryLanguage ql, String query, String baseURI, Map<String, String> prefixes, boolean template) {
+			this.ql = Objects.requireNonNull(ql);
+			this.query = Objects.requireNonNull(query);
+			this.baseURI = baseURI;
+			this.prefixes = prefixes == null ? Collections.emptyMap() : prefixes;
+			this.template = template;
+			this.hashCode = Objects.hash(ql, query, baseURI, this.prefixes, template);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) o;
+			return hashCode == other.hashCode && template == other.template && query.equals(other.query)
+					&& ql.equals(other.ql) && Objects.equals(baseURI, other.baseURI) && prefixes.equals(other.prefixes);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
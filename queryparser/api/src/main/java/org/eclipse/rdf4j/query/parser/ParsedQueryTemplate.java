@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.parser;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.rdf4j.model.Value;
+
+/**
+ * A query that has been parsed once, with some of its variables declared as parameters. Binding the parameters to
+ * values produces the query model of the query in which each parameter is replaced by its value, without parsing the
+ * query again.
+ * <p>
+ * Implementations are thread-safe: the template itself is never modified, and each call to
+ * {@link #bind(Map)} returns a new query model.
+ *
+ * @see QueryParser#parseQueryTemplate(String, String, Set)
+ * @see QueryParserUtil#parseQueryTemplate(org.eclipse.rdf4j.query.QueryLanguage, String, String, String...)
+ */
+public interface ParsedQueryTemplate {
+
+	/**
+	 * @return The source string of the query template.
+	 */
+	String getSourceString();
+
+	/**
+	 * @return The names of the variables that are parameters of this template.
+	 */
+	Set<String> getParameterNames();
+
+	/**
+	 * Creates the query model of the template with the supplied parameters replaced by their values. Parameters that
+	 * are not bound remain variables.
+	 *
+	 * @param values The values of the parameters, by parameter name.
+	 * @return A new query model, which the caller may modify.
+	 * @throws IllegalArgumentException If a value is supplied for a name that is not a parameter of this template.
+	 */
+	ParsedQuery bind(Map<String, ? extends Value> values) throws IllegalArgumentException;
+}
@@ -10,12 +10,24 @@
  *******************************************************************************/
 package org.eclipse.rdf4j.query.parser;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-
+import java.util.RandomAccess;
+import java.util.Set;
+
+import org.eclipse.rdf4j.model.BNode;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Triple;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
 import org.eclipse.rdf4j.query.Dataset;
 import org.eclipse.rdf4j.query.algebra.UpdateExpr;
 
@@ -26,6 +38,8 @@ import org.eclipse.rdf4j.query.algebra.UpdateExpr;
  */
 public class ParsedUpdate extends ParsedOperation {
 
+	private static final ValueFactory VF = SimpleValueFactory.getInstance();
+
 	/*-----------*
 	 * Variables *
 	 *-----------*/
@@ -36,6 +50,10 @@ public class ParsedUpdate extends ParsedOperation {
 
 	private final Map<UpdateExpr, Dataset> datasetMapping = new IdentityHashMap<>();
 
+	private final Map<UpdateExpr, List<Statement>> dataMapping = new IdentityHashMap<>();
+
+	private final Set<UpdateExpr> dataWithBNodes = Collections.newSetFromMap(new IdentityHashMap<>());
+
 	/*--------------*
 	 * Constructors *
 	 *--------------*/
@@ -102,6 +120,91 @@ public class ParsedUpdate extends ParsedOperation {
 		return datasetMapping;
 	}
 
+	/**
+	 * @param updateExpr The INSERT DATA or DELETE DATA updateExpr whose data block was parsed.
+	 * @param statements The statements in the data block of the updateExpr.
+	 */
+	public void mapData(UpdateExpr updateExpr, List<Statement> statements) {
+		dataMapping.put(updateExpr, Collections.unmodifiableList(statements));
+		if (statements.stream().anyMatch(ParsedUpdate::hasBNode)) {
+			dataWithBNodes.add(updateExpr);
+		} else {
+			dataWithBNodes.remove(updateExpr);
+		}
+	}
+
+	/**
+	 * Gets the statements that the parser read from the data block of an INSERT DATA or DELETE DATA update
+	 * expression, so that they do not need to be parsed again. Parsers only supply them on request, as they are kept
+	 * for as long as this update.
+	 * <p>
+	 * Blank nodes in INSERT DATA are fresh blank nodes each time the update is executed. Each call of this method
+	 * therefore returns a view of the statements in which the blank nodes are replaced by new ones (the same label in
+	 * the data block still denotes the same blank node within one view), so the method should be called once per
+	 * execution.
+	 *
+	 * @param updateExpr An update expression of this update sequence.
+	 * @return An unmodifiable list of the statements in the data block of the updateExpr, or <var>null</var> if the
+	 *         parser did not supply them.
+	 */
+	public List<Statement> getData(UpdateExpr updateExpr) {
+		List<Statement> statements = dataMapping.get(updateExpr);
+		if (statements == null || !dataWithBNodes.contains(updateExpr)) {
+			return statements;
+		}
+		return new FreshBNodeList(statements);
+	}
+
+	private static boolean hasBNode(Statement st) {
+		return hasBNode(st.getSubject()) || hasBNode(st.getObject()) || hasBNode(st.getContext());
+	}
+
+	private static boolean hasBNode(Value value) {
+		if (value instanceof Triple) {
+			Triple triple = (Triple) value;
+			return hasBNode(triple.getSubject()) || hasBNode(triple.getObject());
+		}
+		return value instanceof BNode;
+	}
+
+	private static Value renameBNodes(Value value, Map<BNode, BNode> freshBNodes) {
+		if (value instanceof BNode) {
+			return freshBNodes.computeIfAbsent((BNode) value, bnode -> VF.createBNode());
+		} else if (value instanceof Triple) {
+			Triple triple = (Triple) value;
+			return VF.createTriple((Resource) renameBNodes(triple.getSubject(), freshBNodes), triple.getPredicate(),
+					renameBNodes(triple.getObject(), freshBNodes));
+		}
+		return value;
+	}
+
+	/**
+	 * A view of a list of statements in which each blank node is replaced by a new blank node, the same one wherever
+	 * it occurs in the view.
+	 */
+	private static final class FreshBNodeList extends AbstractList<Statement> implements RandomAccess {
+
+		private final List<Statement> statements;
+
+		private final Map<BNode, BNode> freshBNodes = new HashMap<>();
+
+		FreshBNodeList(List<Statement> statements) {
+			this.statements = statements;
+		}
+
+		@Override
+		public Statement get(int index) {
+			Statement st = statements.get(index);
+			return VF.createStatement((Resource) renameBNodes(st.getSubject(), freshBNodes), st.getPredicate(),
+					renameBNodes(st.getObject(), freshBNodes), (Resource) renameBNodes(st.getContext(), freshBNodes));
+		}
+
+		@Override
+		public int size() {
+			return statements.size();
+		}
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder stringBuilder = new StringBuilder();
@@ -10,6 +10,8 @@
  *******************************************************************************/
 package org.eclipse.rdf4j.query.parser;
 
+import java.util.Set;
+
 import org.eclipse.rdf4j.query.MalformedQueryException;
 
 /**
@@ -20,4 +22,23 @@ public interface QueryParser {
 	ParsedUpdate parseUpdate(String updateStr, String baseURI) throws MalformedQueryException;
 
 	ParsedQuery parseQuery(String queryStr, String baseURI) throws MalformedQueryException;
+
+	/**
+	 * Parses the supplied query into a template, in which the variables with the supplied names are parameters that
+	 * can be bound to values without parsing the query again.
+	 *
+	 * @param queryStr       The query.
+	 * @param baseURI        The base URI to resolve any relative URIs that are in the query against, can be
+	 *                       <var>null</var> if the query does not contain any relative URIs.
+	 * @param parameterNames The names of the variables that are parameters.
+	 * @return The query template.
+	 * @throws MalformedQueryException       If the supplied query was malformed.
+	 * @throws IllegalArgumentException      If a parameter does not occur in the query, or occurs in a position where it
+	 *                                       can not be replaced by a value.
+	 * @throws UnsupportedOperationException If this parser does not support query templates.
+	 */
+	default ParsedQueryTemplate parseQueryTemplate(String queryStr, String baseURI, Set<String> parameterNames)
+			throws MalformedQueryException {
+		throw new UnsupportedOperationException(getClass().getName() + " does not support query templates");
+	}
 }
@@ -10,6 +10,10 @@
  *******************************************************************************/
 package org.eclipse.rdf4j.query.parser;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+
 import org.eclipse.rdf4j.query.MalformedQueryException;
 import org.eclipse.rdf4j.query.QueryLanguage;
 import org.eclipse.rdf4j.query.UnsupportedQueryLanguageException;
@@ -96,6 +100,47 @@ public class QueryParserUtil {
 		return parser.parseQuery(query, baseURI);
 	}
 
+	/**
+	 * Parses the supplied query into a query model, or returns a copy of the query model from the supplied cache if the
+	 * query has been parsed before.
+	 *
+	 * @param ql      The language in which the query is formulated.
+	 * @param query   The query.
+	 * @param baseURI The base URI to resolve any relative URIs that are in the query against, can be <var>null</var> if
+	 *                the query does not contain any relative URIs.
+	 * @param cache   The cache to look the query up in, and to add it to if it is not in there yet.
+	 * @return The query model for the parsed query, which the caller may modify.
+	 * @throws MalformedQueryException           If the supplied query was malformed.
+	 * @throws UnsupportedQueryLanguageException If the specified query language is not supported.
+	 */
+	public static ParsedQuery parseQuery(QueryLanguage ql, String query, String baseURI, ParsedQueryCache cache)
+			throws MalformedQueryException, UnsupportedQueryLanguageException {
+		return cache.get(ql, query, baseURI, Collections.emptyMap(), () -> parseQuery(ql, query, baseURI));
+	}
+
+	/**
+	 * Parses the supplied query into a template, in which the variables with the supplied names are parameters that
+	 * can be bound to values without parsing the query again.
+	 *
+	 * @param ql             The language in which the query is formulated.
+	 * @param query          The query.
+	 * @param baseURI        The base URI to resolve any relative URIs that are in the query against, can be
+	 *                       <var>null</var> if the query does not contain any relative URIs.
+	 * @param parameterNames The names of the variables that are parameters.
+	 * @return The query template.
+	 * @throws MalformedQueryException           If the supplied query was malformed.
+	 * @throws IllegalArgumentException          If a parameter does not occur in the query, or occurs in a position
+	 *                                           where it can not be replaced by a value.
+	 * @throws UnsupportedQueryLanguageException If the specified query language is not supported.
+	 * @throws UnsupportedOperationException     If the parser of the specified query language does not support query
+	 *                                           templates.
+	 */
+	public static ParsedQueryTemplate parseQueryTemplate(QueryLanguage ql, String query, String baseURI,
+			String... parameterNames) throws MalformedQueryException, UnsupportedQueryLanguageException {
+		QueryParser parser = createParser(ql);
+		return parser.parseQueryTemplate(query, baseURI, new LinkedHashSet<>(Arrays.asList(parameterNames)));
+	}
+
 	/**
 	 * Parses the supplied query into a query model.
 	 *
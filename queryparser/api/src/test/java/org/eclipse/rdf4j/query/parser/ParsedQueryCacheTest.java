@@ -0,0 +1,201 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.query.MalformedQueryException;
+import org.eclipse.rdf4j.query.QueryLanguage;
+import org.eclipse.rdf4j.query.algebra.Projection;
+import org.eclipse.rdf4j.query.algebra.ProjectionElem;
+import org.eclipse.rdf4j.query.algebra.ProjectionElemList;
+import org.eclipse.rdf4j.query.algebra.StatementPattern;
+import org.eclipse.rdf4j.query.algebra.Var;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ParsedQueryCache}.
+ */
+public class ParsedQueryCacheTest {
+
+	private final AtomicInteger parseCount = new AtomicInteger();
+
+	@Test
+	public void testHitReturnsCopy() {
+		ParsedQueryCache cache = new ParsedQueryCache(10);
+
+		ParsedQuery first = get(cache, "q", null);
+		ParsedQuery second = get(cache, "q", null);
+
+		assertEquals(1, parseCount.get());
+		assertTrue(second instanceof ParsedTupleQuery);
+		assertEquals(first, second);
+		assertNotSame(first.getTupleExpr(), second.getTupleExpr());
+		assertEquals("q", second.getSourceString());
+
+		// modifying a returned query model does not affect the cached one
+		((Projection) first.getTupleExpr()).getProjectionElemList().addElement(new ProjectionElem("o"));
+		assertEquals(second, get(cache, "q", null));
+
+		assertEquals(2, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+		assertEquals(2.0 / 3, cache.getHitRate(), 0.0);
+	}
+
+	@Test
+	public void testKey() {
+		ParsedQueryCache cache = new ParsedQueryCache(10);
+
+		get(cache, "q", null);
+		get(cache, "q", "http://example.org/");
+		get(cache, "other", null);
+		cache.get(QueryLanguage.SPARQL, "q", null, Collections.singletonMap("ex", "http://example.org/"), this::parse);
+		cache.get(new QueryLanguage("Custom"), "q", null, Collections.emptyMap(), this::parse);
+
+		assertEquals(5, parseCount.get());
+		assertEquals(5, cache.size());
+	}
+
+	@Test
+	public void testLeastRecentlyUsedIsEvicted() {
+		ParsedQueryCache cache = new ParsedQueryCache(2);
+
+		get(cache, "a", null);
+		get(cache, "b", null);
+		get(cache, "a", null);
+		get(cache, "c", null);
+
+		assertEquals(2, cache.size());
+		assertEquals(1, cache.getEvictionCount());
+
+		get(cache, "a", null);
+		assertEquals(3, parseCount.get());
+		get(cache, "b", null);
+		assertEquals(4, parseCount.get());
+	}
+
+	@Test
+	public void testInvalidate() {
+		ParsedQueryCache cache = new ParsedQueryCache(10);
+
+		get(cache, "a", null);
+		get(cache, "a", "http://example.org/");
+		get(cache, "b", null);
+
+		cache.invalidate("a");
+		assertEquals(1, cache.size());
+		get(cache, "b", null);
+		assertEquals(3, parseCount.get());
+
+		cache.invalidateAll();
+		assertEquals(0, cache.size());
+		get(cache, "b", null);
+		assertEquals(4, parseCount.get());
+	}
+
+	@Test
+	public void testMalformedQueryIsNotCached() {
+		ParsedQueryCache cache = new ParsedQueryCache(10);
+
+		for (int i = 0; i < 2; i++) {
+			try {
+				cache.get(QueryLanguage.SPARQL, "bad", null, Collections.emptyMap(), () -> {
+					parseCount.incrementAndGet();
+					throw new MalformedQueryException("bad query");
+				});
+				fail("expected MalformedQueryException");
+			} catch (MalformedQueryException e) {
+				// expected
+			}
+		}
+
+		assertEquals(2, parseCount.get());
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void testUnknownQueryTypeIsNotCached() {
+		ParsedQueryCache cache = new ParsedQueryCache(10);
+		ParsedQuery custom = new ParsedQuery("q", parse().getTupleExpr()) {
+		};
+
+		assertSame(custom, cache.get(QueryLanguage.SPARQL, "q", null, Collections.emptyMap(), () -> custom));
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void testTemplates() {
+		ParsedQueryCache cache = new ParsedQueryCache(10);
+		ParsedQueryTemplate template = new ParsedQueryTemplate() {
+			@Override
+			public String getSourceString() {
+				return "q";
+			}
+
+			@Override
+			public Set<String> getParameterNames() {
+				return Collections.singleton("s");
+			}
+
+			@Override
+			public ParsedQuery bind(Map<String, ? extends Value> values) {
+				return parse();
+			}
+		};
+
+		assertSame(template,
+				cache.getTemplate(QueryLanguage.SPARQL, "q", null, Collections.emptyMap(), () -> template));
+		assertSame(template, cache.getTemplate(QueryLanguage.SPARQL, "q", null, Collections.emptyMap(), () -> {
+			throw new AssertionError("template is cached");
+		}));
+
+		// templates and parsed queries for the same string are kept apart
+		get(cache, "q", null);
+		assertEquals(1, parseCount.get());
+		assertEquals(2, cache.size());
+
+		// a query that can not be turned into a template is remembered, and the lookup of the query itself that
+		// follows is the one that is counted
+		assertNull(cache.getTemplate(QueryLanguage.SPARQL, "r", null, Collections.emptyMap(), () -> null));
+		assertNull(cache.getTemplate(QueryLanguage.SPARQL, "r", null, Collections.emptyMap(), () -> {
+			throw new AssertionError("missing template is cached");
+		}));
+
+		assertEquals(1, cache.getHitCount());
+		assertEquals(3, cache.getMissCount());
+
+		cache.invalidate("q");
+		assertEquals(1, cache.size());
+	}
+
+	private ParsedQuery get(ParsedQueryCache cache, String query, String baseURI) {
+		return cache.get(QueryLanguage.SPARQL, query, baseURI, Collections.emptyMap(),
+				() -> new ParsedTupleQuery(query, parse().getTupleExpr()));
+	}
+
+	private ParsedQuery parse() {
+		parseCount.incrementAndGet();
+		ProjectionElemList elements = new ProjectionElemList(new ProjectionElem("s"), new ProjectionElem("p"));
+		return new ParsedTupleQuery(
+				new Projection(new StatementPattern(new Var("s"), new Var("p"), new Var("o")), elements));
+	}
+}
@@ -31,6 +31,7 @@ import org.eclipse.rdf4j.query.parser.sparql.ast.ASTCoalesce;
 import org.eclipse.rdf4j.query.parser.sparql.ast.ASTCollection;
 import org.eclipse.rdf4j.query.parser.sparql.ast.ASTCompare;
 import org.eclipse.rdf4j.query.parser.sparql.ast.ASTConcat;
+import org.eclipse.rdf4j.query.parser.sparql.ast.ASTConjGraphPattern;
 import org.eclipse.rdf4j.query.parser.sparql.ast.ASTConstTripleRef;
 import org.eclipse.rdf4j.query.parser.sparql.ast.ASTConstraint;
 import org.eclipse.rdf4j.query.parser.sparql.ast.ASTConstruct;
@@ -128,6 +129,7 @@ import org.eclipse.rdf4j.query.parser.sparql.ast.ASTSeconds;
 import org.eclipse.rdf4j.query.parser.sparql.ast.ASTSelect;
 import org.eclipse.rdf4j.query.parser.sparql.ast.ASTSelectQuery;
 import org.eclipse.rdf4j.query.parser.sparql.ast.ASTServiceGraphPattern;
+import org.eclipse.rdf4j.query.parser.sparql.ast.ASTSettGraphPattern;
 import org.eclipse.rdf4j.query.parser.sparql.ast.ASTStr;
 import org.eclipse.rdf4j.query.parser.sparql.ast.ASTStrAfter;
 import org.eclipse.rdf4j.query.parser.sparql.ast.ASTStrBefore;
@@ -894,4 +896,14 @@ public abstract class AbstractASTVisitor implements SyntaxTreeBuilderVisitor {
 	public Object visit(ASTConstTripleRef node, Object data) throws VisitorException {
 		return node.childrenAccept(this, data);
 	}
+
+	@Override
+	public Object visit(ASTConjGraphPattern node, Object data) throws VisitorException {
+		return node.childrenAccept(this, data);
+	}
+
+	@Override
+	public Object visit(ASTSettGraphPattern node, Object data) throws VisitorException {
+		return node.childrenAccept(this, data);
+	}
 }
@@ -47,6 +47,39 @@ public class BaseDeclProcessor {
 	 * @throws MalformedQueryException  If the base URI specified in the query model is not an absolute URI.
 	 */
 	public static void process(ASTOperationContainer qc, String externalBaseURI) throws MalformedQueryException {
+		ParsedIRI parsedBaseURI = getBaseURI(qc, externalBaseURI);
+
+		if (parsedBaseURI != null) {
+			ASTUnparsedQuadDataBlock dataBlock = null;
+			if (qc.getOperation() instanceof ASTInsertData) {
+				ASTInsertData insertData = (ASTInsertData) qc.getOperation();
+				dataBlock = insertData.jjtGetChild(ASTUnparsedQuadDataBlock.class);
+
+			} else if (qc.getOperation() instanceof ASTDeleteData) {
+				ASTDeleteData deleteData = (ASTDeleteData) qc.getOperation();
+				dataBlock = deleteData.jjtGetChild(ASTUnparsedQuadDataBlock.class);
+			}
+
+			if (dataBlock != null) {
+				dataBlock.setBaseURI(parsedBaseURI.toString());
+			} else {
+				RelativeIRIResolver visitor = new RelativeIRIResolver(parsedBaseURI);
+				try {
+					qc.jjtAccept(visitor, null);
+				} catch (VisitorException e) {
+					throw new MalformedQueryException(e);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Determines the base URI of the supplied query model: the base URI specified in the query model itself or, if it
+	 * specifies none, the <var>externalBaseURI</var>.
+	 *
+	 * @return The base URI, or <var>null</var> if there is none.
+	 */
+	static ParsedIRI getBaseURI(ASTOperationContainer qc, String externalBaseURI) throws MalformedQueryException {
 		ParsedIRI parsedBaseURI = null;
 
 		// Use the query model's own base URI, if available
@@ -76,29 +109,7 @@ public class BaseDeclProcessor {
 			// FIXME: use the "Default Base URI"?
 		}
 
-		if (parsedBaseURI != null) {
-			ASTUnparsedQuadDataBlock dataBlock = null;
-			if (qc.getOperation() instanceof ASTInsertData) {
-				ASTInsertData insertData = (ASTInsertData) qc.getOperation();
-				dataBlock = insertData.jjtGetChild(ASTUnparsedQuadDataBlock.class);
-
-			} else if (qc.getOperation() instanceof ASTDeleteData) {
-				ASTDeleteData deleteData = (ASTDeleteData) qc.getOperation();
-				dataBlock = deleteData.jjtGetChild(ASTUnparsedQuadDataBlock.class);
-			}
-
-			if (dataBlock != null) {
-				final String baseURIDeclaration = "BASE <" + parsedBaseURI + "> \n";
-				dataBlock.setDataBlock(baseURIDeclaration + dataBlock.getDataBlock());
-			} else {
-				RelativeIRIResolver visitor = new RelativeIRIResolver(parsedBaseURI);
-				try {
-					qc.jjtAccept(visitor, null);
-				} catch (VisitorException e) {
-					throw new MalformedQueryException(e);
-				}
-			}
-		}
+		return parsedBaseURI;
 	}
 
 	private static class RelativeIRIResolver extends AbstractASTVisitor {
@@ -51,7 +51,7 @@ public class BlankNodeVarProcessor extends AbstractASTVisitor {
 	 * Inner class BlankNodeToVarConverter *
 	 *-------------------------------------*/
 
-	private static class BlankNodeToVarConverter extends AbstractASTVisitor {
+	static class BlankNodeToVarConverter extends AbstractASTVisitor {
 
 		private int anonVarNo = 1;
 
@@ -59,7 +59,7 @@ public class BlankNodeVarProcessor extends AbstractASTVisitor {
 
 		private final Set<String> usedBNodeIDs = new HashSet<>();
 
-		private String createAnonVarName() {
+		String createAnonVarName() {
 			return "_anon_" + anonVarNo++;
 		}
 
@@ -70,17 +70,31 @@ public class BlankNodeVarProcessor extends AbstractASTVisitor {
 
 		@Override
 		public Object visit(ASTBasicGraphPattern node, Object data) throws VisitorException {
+			enterBasicGraphPattern();
+			return super.visit(node, data);
+		}
+
+		@Override
+		public Object visit(ASTBlankNode node, Object data) throws VisitorException {
+			convert(node);
+			return super.visit(node, data);
+		}
+
+		/**
+		 * Starts a new scope for blank node identifiers.
+		 */
+		void enterBasicGraphPattern() {
 			// The same Blank node ID cannot be used across Graph Patterns
 			usedBNodeIDs.addAll(conversionMap.keySet());
 
 			// Blank nodes are scoped to Basic Graph Patterns
 			conversionMap.clear();
-
-			return super.visit(node, data);
 		}
 
-		@Override
-		public Object visit(ASTBlankNode node, Object data) throws VisitorException {
+		/**
+		 * Replaces the supplied blank node with an anonymous variable.
+		 */
+		void convert(ASTBlankNode node) throws VisitorException {
 			String bnodeID = node.getID();
 			String varName = findVarName(bnodeID);
 
@@ -97,8 +111,6 @@ public class BlankNodeVarProcessor extends AbstractASTVisitor {
 			varNode.setAnonymous(true);
 
 			node.jjtReplaceWith(varNode);
-
-			return super.visit(node, data);
 		}
 
 		private String findVarName(String bnodeID) throws VisitorException {
@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.parser.sparql;
+
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.rdf4j.model.IRI;
+
+import org.eclipse.rdf4j.query.impl.SimpleDataset;
+import org.eclipse.rdf4j.query.parser.sparql.PartitionedStatementPattern.Partition;
+
+/**
+ * A {@link SimpleDataset} that also contains all graphs of a partition of the named graphs, as declared by the
+ * <code>FROM CONJ</code>, <code>FROM NAMED CONJ</code> and <code>EXCLUDE CONJ</code> dataset clauses:
+ * <ul>
+ * <li><code>FROM CONJ</code> adds all conjecture graphs to the default graph;</li>
+ * <li><code>FROM NAMED CONJ</code> adds all conjecture graphs to the named graphs;</li>
+ * <li><code>EXCLUDE CONJ</code> makes the default graph and the named graphs consist of all asserted graphs.</li>
+ * </ul>
+ * <code>EXCLUDE CONJ</code> can not be combined with other dataset clauses.
+ * <p>
+ * {@link #getDefaultGraphs()} and {@link #getNamedGraphs()} are empty, as for a dataset without restrictions, and
+ * {@link SPARQLParser} restricts the statement patterns of the query to the graphs of the dataset instead, so that a
+ * store that does not know about partitions evaluates the query correctly. The graphs that were listed explicitly are
+ * returned by {@link #getListedDefaultGraphs()} and {@link #getListedNamedGraphs()}.
+ */
+public class ConjectureDataset extends SimpleDataset {
+
+	private static final long serialVersionUID = 4719328540127365913L;
+
+	private Partition defaultGraphPartition;
+
+	private Partition namedGraphPartition;
+
+	/**
+	 * Gets the partition whose graphs are added to the default graph.
+	 *
+	 * @return a partition, or <var>null</var> if only the graphs of {@link #getListedDefaultGraphs()} are in the
+	 *         default graph.
+	 */
+	public Partition getDefaultGraphPartition() {
+		return defaultGraphPartition;
+	}
+
+	public void setDefaultGraphPartition(Partition defaultGraphPartition) {
+		this.defaultGraphPartition = defaultGraphPartition;
+	}
+
+	/**
+	 * Gets the partition whose graphs are added to the named graphs.
+	 *
+	 * @return a partition, or <var>null</var> if only the graphs of {@link #getListedNamedGraphs()} are named
+	 *         graphs.
+	 */
+	public Partition getNamedGraphPartition() {
+		return namedGraphPartition;
+	}
+
+	public void setNamedGraphPartition(Partition namedGraphPartition) {
+		this.namedGraphPartition = namedGraphPartition;
+	}
+
+	/**
+	 * @return an empty set, as the default graph is restricted in the query model.
+	 */
+	@Override
+	public Set<IRI> getDefaultGraphs() {
+		return Collections.emptySet();
+	}
+
+	/**
+	 * @return an empty set, as the named graphs are restricted in the query model.
+	 */
+	@Override
+	public Set<IRI> getNamedGraphs() {
+		return Collections.emptySet();
+	}
+
+	/**
+	 * Gets the graphs that were listed explicitly by <code>FROM</code> clauses.
+	 *
+	 * @return an unmodifiable set of graphs.
+	 */
+	public Set<IRI> getListedDefaultGraphs() {
+		return super.getDefaultGraphs();
+	}
+
+	/**
+	 * Gets the graphs that were listed explicitly by <code>FROM NAMED</code> clauses.
+	 *
+	 * @return an unmodifiable set of graphs.
+	 */
+	public Set<IRI> getListedNamedGraphs() {
+		return super.getNamedGraphs();
+	}
+
+	/**
+	 * @return the dataset clauses of the dataset, one per line.
+	 */
+	@Override
+	public String toString() {
+		if (defaultGraphPartition == Partition.ASSERTED && namedGraphPartition == Partition.ASSERTED) {
+			return "EXCLUDE CONJ\n";
+		}
+		StringBuilder sb = new StringBuilder();
+		for (IRI graph : getListedDefaultGraphs()) {
+			sb.append("FROM <").append(graph).append(">\n");
+		}
+		if (defaultGraphPartition == Partition.CONJECTURES) {
+			sb.append("FROM CONJ\n");
+		}
+		for (IRI graph : getListedNamedGraphs()) {
+			sb.append("FROM NAMED <").append(graph).append(">\n");
+		}
+		if (namedGraphPartition == Partition.CONJECTURES) {
+			sb.append("FROM NAMED CONJ\n");
+		}
+		return sb.toString();
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (!(o instanceof ConjectureDataset) || !super.equals(o)) {
+			return false;
+		}
+		ConjectureDataset other = (ConjectureDataset) o;
+		return defaultGraphPartition == other.defaultGraphPartition && namedGraphPartition == other.namedGraphPartition;
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * super.hashCode() + Objects.hash(defaultGraphPartition, namedGraphPartition);
+	}
+}
@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.parser.sparql;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.impl.BooleanLiteral;
+import org.eclipse.rdf4j.query.algebra.Distinct;
+import org.eclipse.rdf4j.query.algebra.Filter;
+import org.eclipse.rdf4j.query.algebra.Not;
+import org.eclipse.rdf4j.query.algebra.Or;
+import org.eclipse.rdf4j.query.algebra.Projection;
+import org.eclipse.rdf4j.query.algebra.ProjectionElem;
+import org.eclipse.rdf4j.query.algebra.ProjectionElemList;
+import org.eclipse.rdf4j.query.algebra.SameTerm;
+import org.eclipse.rdf4j.query.algebra.Service;
+import org.eclipse.rdf4j.query.algebra.StatementPattern;
+import org.eclipse.rdf4j.query.algebra.StatementPattern.Scope;
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
+import org.eclipse.rdf4j.query.algebra.ValueConstant;
+import org.eclipse.rdf4j.query.algebra.ValueExpr;
+import org.eclipse.rdf4j.query.algebra.Var;
+import org.eclipse.rdf4j.query.algebra.helpers.AbstractQueryModelVisitor;
+import org.eclipse.rdf4j.query.parser.sparql.PartitionedStatementPattern.Partition;
+
+/**
+ * Expresses the graphs of a {@link ConjectureDataset} in the query model, as filters on the contexts of the statement
+ * patterns, so that a store that does not know about partitions evaluates the query correctly: it sees a dataset
+ * without restrictions.
+ * <ul>
+ * <li>A pattern in a GRAPH or CONJ block is filtered on its context.</li>
+ * <li>A pattern on the default graph is replaced by the distinct solutions of a pattern on the named graphs, filtered
+ * on an anonymous context. It is a {@link PartitionedStatementPattern} if the default graph consists of a partition
+ * only.</li>
+ * </ul>
+ * Patterns in a SERVICE clause are not changed.
+ */
+class ConjectureDatasetProcessor {
+
+	private final ConjectureDataset dataset;
+
+	private final String anonVarPrefix = "_anon_dataset_" + UUID.randomUUID().toString().replace('-', '_');
+
+	private int anonVarCount;
+
+	private ConjectureDatasetProcessor(ConjectureDataset dataset) {
+		this.dataset = dataset;
+	}
+
+	/**
+	 * Restricts the statement patterns of a query to the graphs of its dataset.
+	 *
+	 * @param tupleExpr The query model.
+	 * @param dataset   The dataset of the query.
+	 */
+	static void process(TupleExpr tupleExpr, ConjectureDataset dataset) {
+		List<StatementPattern> patterns = new ArrayList<>();
+		tupleExpr.visit(new AbstractQueryModelVisitor<RuntimeException>() {
+
+			@Override
+			public void meet(StatementPattern node) {
+				patterns.add(node);
+			}
+
+			@Override
+			public void meet(Service node) {
+				// evaluated against the dataset of the remote endpoint
+			}
+		});
+
+		ConjectureDatasetProcessor processor = new ConjectureDatasetProcessor(dataset);
+		for (StatementPattern pattern : patterns) {
+			if (pattern.getScope() == Scope.NAMED_CONTEXTS) {
+				processor.restrictNamedGraphs(pattern);
+			} else {
+				processor.restrictDefaultGraph(pattern);
+			}
+		}
+	}
+
+	private void restrictNamedGraphs(StatementPattern pattern) {
+		Filter filter = new Filter();
+		pattern.replaceWith(filter);
+		filter.setArg(pattern);
+		filter.setCondition(createCondition(pattern.getContextVar(), dataset.getListedNamedGraphs(),
+				dataset.getNamedGraphPartition()));
+	}
+
+	/**
+	 * The default graph is the merge of its graphs, so the context is projected away and duplicates are removed.
+	 */
+	private void restrictDefaultGraph(StatementPattern pattern) {
+		Set<IRI> graphs = dataset.getListedDefaultGraphs();
+		Partition partition = dataset.getDefaultGraphPartition();
+
+		Var contextVar = new Var(anonVarPrefix + ++anonVarCount, true);
+		StatementPattern namedPattern = GraphPattern.createStatementPattern(graphs.isEmpty() ? partition : null,
+				Scope.NAMED_CONTEXTS, pattern.getSubjectVar().clone(), pattern.getPredicateVar().clone(),
+				pattern.getObjectVar().clone(), contextVar);
+
+		Set<String> names = new LinkedHashSet<>();
+		for (Var var : pattern.getVarList()) {
+			if (!var.hasValue()) {
+				names.add(var.getName());
+			}
+		}
+		ProjectionElemList elements = new ProjectionElemList();
+		for (String name : names) {
+			elements.addElement(new ProjectionElem(name));
+		}
+
+		Filter filter = new Filter(namedPattern, createCondition(contextVar, graphs, partition));
+		pattern.replaceWith(new Distinct(new Projection(filter, elements)));
+	}
+
+	/**
+	 * Creates a condition that holds if a context is one of a set of graphs, or is in a partition.
+	 */
+	private static ValueExpr createCondition(Var contextVar, Set<IRI> graphs, Partition partition) {
+		ValueExpr condition = null;
+		for (IRI graph : graphs) {
+			condition = or(condition, new SameTerm(contextVar.clone(), new ValueConstant(graph)));
+		}
+		if (partition == Partition.CONJECTURES) {
+			condition = or(condition, TupleExprBuilder.createConjectureCondition(contextVar));
+		} else if (partition == Partition.ASSERTED) {
+			condition = or(condition, new Not(TupleExprBuilder.createConjectureCondition(contextVar)));
+		}
+		return condition != null ? condition : new ValueConstant(BooleanLiteral.FALSE);
+	}
+
+	private static ValueExpr or(ValueExpr left, ValueExpr right) {
+		return left != null ? new Or(left, right) : right;
+	}
+}
@@ -19,6 +19,7 @@ import org.eclipse.rdf4j.model.vocabulary.RDF4J;
 import org.eclipse.rdf4j.query.Dataset;
 import org.eclipse.rdf4j.query.MalformedQueryException;
 import org.eclipse.rdf4j.query.impl.SimpleDataset;
+import org.eclipse.rdf4j.query.parser.sparql.PartitionedStatementPattern.Partition;
 import org.eclipse.rdf4j.query.parser.sparql.ast.ASTDatasetClause;
 import org.eclipse.rdf4j.query.parser.sparql.ast.ASTIRI;
 import org.eclipse.rdf4j.query.parser.sparql.ast.ASTModify;
@@ -26,7 +27,9 @@ import org.eclipse.rdf4j.query.parser.sparql.ast.ASTOperation;
 import org.eclipse.rdf4j.query.parser.sparql.ast.ASTOperationContainer;
 
 /**
- * Extracts a SPARQL {@link Dataset} from an ASTQueryContainer, if one is contained.
+ * Extracts a SPARQL {@link Dataset} from an ASTQueryContainer, if one is contained. Queries with conjecture dataset
+ * clauses (<code>FROM CONJ</code>, <code>FROM NAMED CONJ</code> or <code>EXCLUDE CONJ</code>) get a
+ * {@link ConjectureDataset}.
  *
  * @author Simon Schenk
  * @author Arjohn Kampman
@@ -51,11 +54,37 @@ public class DatasetDeclProcessor {
 			List<ASTDatasetClause> datasetClauses = op.getDatasetClauseList();
 
 			if (!datasetClauses.isEmpty()) {
-				dataset = new SimpleDataset();
+				boolean conjectures = datasetClauses.stream()
+						.anyMatch(dc -> dc.isConjectures() || dc.isExcludeConjectures());
+				dataset = conjectures ? new ConjectureDataset() : new SimpleDataset();
 
 				for (ASTDatasetClause dc : datasetClauses) {
 
+					if (dc.isExcludeConjectures()) {
+						if (datasetClauses.size() > 1) {
+							throw new MalformedQueryException(
+									"EXCLUDE CONJ can not be combined with other dataset clauses");
+						}
+						((ConjectureDataset) dataset).setDefaultGraphPartition(Partition.ASSERTED);
+						((ConjectureDataset) dataset).setNamedGraphPartition(Partition.ASSERTED);
+						continue;
+					}
+
+					if (dc.isConjectures()) {
+						if (dc.isNamed()) {
+							((ConjectureDataset) dataset).setNamedGraphPartition(Partition.CONJECTURES);
+						} else {
+							((ConjectureDataset) dataset).setDefaultGraphPartition(Partition.CONJECTURES);
+						}
+						continue;
+					}
+
 					ASTIRI astIri = dc.jjtGetChild(ASTIRI.class);
+					if (astIri == null && conjectures) {
+						// the null context is not a named graph, so it can not be restricted in the query model
+						throw new MalformedQueryException(
+								"FROM DEFAULT can not be combined with conjecture dataset clauses");
+					}
 
 					try {
 						IRI uri = RDF4J.NIL;
@@ -48,6 +48,11 @@ public class GraphPattern {
 	 */
 	private StatementPattern.Scope spScope = StatementPattern.Scope.DEFAULT_CONTEXTS;
 
+	/**
+	 * The partition of the named graphs the statement patterns of this graph pattern are restricted to, if any.
+	 */
+	private PartitionedStatementPattern.Partition partition;
+
 	/**
 	 * The required tuple expressions in this graph pattern.
 	 */
@@ -76,6 +81,7 @@ public class GraphPattern {
 	public GraphPattern(GraphPattern parent) {
 		contextVar = parent.contextVar;
 		spScope = parent.spScope;
+		partition = parent.partition;
 	}
 
 	public void setContextVar(Var contextVar) {
@@ -94,6 +100,14 @@ public class GraphPattern {
 		return spScope;
 	}
 
+	public void setPartition(PartitionedStatementPattern.Partition partition) {
+		this.partition = partition;
+	}
+
+	public PartitionedStatementPattern.Partition getPartition() {
+		return partition;
+	}
+
 	public void addRequiredTE(TupleExpr te) {
 		requiredTEs.add(te);
 	}
@@ -107,10 +121,22 @@ public class GraphPattern {
 
 	public void addRequiredSP(Var subjVar, Var predVar, Var objVar) {
 
-		addRequiredTE(new StatementPattern(spScope, subjVar, predVar, objVar,
+		addRequiredTE(createStatementPattern(partition, spScope, subjVar, predVar, objVar,
 				contextVar != null ? contextVar.clone() : null));
 	}
 
+	/**
+	 * Creates a statement pattern that is restricted to the supplied partition of the named graphs, or an ordinary
+	 * statement pattern if the partition is <var>null</var>.
+	 */
+	static StatementPattern createStatementPattern(PartitionedStatementPattern.Partition partition,
+			StatementPattern.Scope scope, Var subjVar, Var predVar, Var objVar, Var contextVar) {
+		if (partition == null) {
+			return new StatementPattern(scope, subjVar, predVar, objVar, contextVar);
+		}
+		return new PartitionedStatementPattern(partition, scope, subjVar, predVar, objVar, contextVar);
+	}
+
 	public List<TupleExpr> getRequiredTEs() {
 		return Collections.unmodifiableList(requiredTEs);
 	}
@@ -0,0 +1,373 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.parser.sparql;
+
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.rdf4j.common.net.ParsedIRI;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.XSD;
+import org.eclipse.rdf4j.query.parser.sparql.ast.CharSequenceStream;
+import org.eclipse.rdf4j.query.parser.sparql.ast.FastPathTokenManager;
+import org.eclipse.rdf4j.query.parser.sparql.ast.SyntaxTreeBuilderConstants;
+import org.eclipse.rdf4j.query.parser.sparql.ast.Token;
+import org.eclipse.rdf4j.query.parser.sparql.ast.TokenMgrError;
+
+/**
+ * A query in which the constant IRIs and literals have been replaced by variables, so that queries that only differ
+ * in their constants have the same lifted query string. The query model of the lifted query is parsed once into a
+ * {@link SPARQLQueryTemplate}, which the constants of each query are then bound to.
+ * <p>
+ * The query is lexed with the token manager of the parser, so the lifted query string does not depend on whitespace
+ * and comments either. Constants are only lifted where the grammar allows a variable with the same meaning, which is
+ * approximated by the tokens around them: constants in property paths, function names, dataset clauses, prologue
+ * declarations, <code>LIMIT</code> and <code>OFFSET</code>, <code>GROUP_CONCAT</code> separators, VALUES blocks,
+ * SERVICE patterns, CONSTRUCT templates and DESCRIBE targets are part of the lifted query string. Prefixed names are
+ * not lifted either, as these are mostly vocabulary, which is part of the structure of a query. The variables of IRIs
+ * and of literals have different names, so that the grammar accepts a query if and only if it accepts the first query
+ * that the template was created from.
+ */
+class LiftedQuery {
+
+	/**
+	 * The prefix of the names of the variables that replace constants.
+	 */
+	private static final String NAME_PREFIX = "_lifted_";
+
+	private static final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	private final String query;
+
+	private final Map<String, Value> values;
+
+	private LiftedQuery(String query, Map<String, Value> values) {
+		this.query = query;
+		this.values = values;
+	}
+
+	/**
+	 * @return The query with the constants replaced by variables.
+	 */
+	String getQuery() {
+		return query;
+	}
+
+	/**
+	 * @return The names of the variables that replace constants.
+	 */
+	Set<String> getParameterNames() {
+		return values.keySet();
+	}
+
+	/**
+	 * @return The constants, by the names of the variables that replace them.
+	 */
+	Map<String, Value> getValues() {
+		return values;
+	}
+
+	/**
+	 * Replaces the constants in the supplied query by variables.
+	 *
+	 * @param queryStr The query.
+	 * @param baseURI  The base URI to resolve relative IRIs against, can be <var>null</var>.
+	 * @return The lifted query, or <var>null</var> if the query has no constants that can be lifted, or can not be
+	 *         lexed, in which case it is left to the parser to report the error.
+	 */
+	static LiftedQuery lift(String queryStr, String baseURI) {
+		if (CharSequenceStream.hasUnicodeEscapes(queryStr)) {
+			// the token images are not the unescaped text
+			return null;
+		}
+
+		List<Token> tokens = new ArrayList<>();
+		try {
+			FastPathTokenManager tokenManager = new FastPathTokenManager(new CharSequenceStream(queryStr, 1));
+			Token t = tokenManager.getNextToken();
+			while (t.kind != SyntaxTreeBuilderConstants.EOF) {
+				if ((t.kind == SyntaxTreeBuilderConstants.VAR1 || t.kind == SyntaxTreeBuilderConstants.VAR2)
+						&& t.image.startsWith(NAME_PREFIX, 1)) {
+					// a variable of the query itself could be confused with a lifted constant
+					return null;
+				}
+				tokens.add(t);
+				t = tokenManager.getNextToken();
+			}
+		} catch (TokenMgrError e) {
+			return null;
+		}
+
+		ParsedIRI base;
+		try {
+			base = getBase(tokens, baseURI);
+		} catch (URISyntaxException | IllegalArgumentException e) {
+			return null;
+		}
+
+		StringBuilder lifted = new StringBuilder(queryStr.length());
+		Map<String, Value> values = new LinkedHashMap<>();
+
+		// the brace depth, and the depth at which the current block in which nothing is lifted started
+		int depth = 0;
+		int excludedDepth = -1;
+		// whether the next block is one in which nothing is lifted
+		boolean excludeNext = false;
+		// whether the targets of a DESCRIBE query are being read
+		boolean describe = false;
+
+		for (int i = 0; i < tokens.size(); i++) {
+			Token t = tokens.get(i);
+
+			int consumed = 0;
+			boolean iri = false;
+			Value value = null;
+			if (excludedDepth < 0 && !excludeNext && !describe) {
+				try {
+					if (t.kind == SyntaxTreeBuilderConstants.Q_IRI_REF) {
+						if (isLiftableIRI(tokens, i)) {
+							value = createIRI(t, base);
+							iri = true;
+							consumed = 1;
+						}
+					} else if (isString(t.kind)) {
+						if (!isSeparator(tokens, i)) {
+							Token next = get(tokens, i + 1);
+							String label = SPARQLQueries.unescape(trim(t.image, isLongString(t.kind) ? 3 : 1));
+							if (next != null && next.kind == SyntaxTreeBuilderConstants.LANGTAG) {
+								value = vf.createLiteral(label, next.image.substring(1));
+								consumed = 2;
+							} else if (next != null && next.kind == SyntaxTreeBuilderConstants.DT_PREFIX) {
+								Token datatype = get(tokens, i + 2);
+								if (datatype != null && datatype.kind == SyntaxTreeBuilderConstants.Q_IRI_REF) {
+									value = vf.createLiteral(label, createIRI(datatype, base));
+									consumed = 3;
+								}
+							} else {
+								value = vf.createLiteral(label);
+								consumed = 1;
+							}
+						}
+					} else {
+						IRI datatype = getNumericDatatype(t.kind);
+						if (datatype != null && !isLimit(tokens, i)) {
+							value = vf.createLiteral(t.image, datatype);
+							consumed = 1;
+						}
+					}
+				} catch (IllegalArgumentException e) {
+					// not a valid IRI, which the parser reports or resolves
+					value = null;
+				}
+			}
+
+			if (lifted.length() > 0) {
+				lifted.append(' ');
+			}
+			if (value != null) {
+				String name = NAME_PREFIX + (iri ? "iri_" : "literal_") + values.size();
+				values.put(name, value);
+				lifted.append('?').append(name);
+				i += consumed - 1;
+				continue;
+			}
+			lifted.append(t.image);
+
+			switch (t.kind) {
+			case SyntaxTreeBuilderConstants.VALUES:
+			case SyntaxTreeBuilderConstants.SERVICE:
+			case SyntaxTreeBuilderConstants.CONSTRUCT:
+				excludeNext |= excludedDepth < 0;
+				break;
+			case SyntaxTreeBuilderConstants.DESCRIBE:
+				describe = true;
+				break;
+			case SyntaxTreeBuilderConstants.WHERE:
+				describe = false;
+				break;
+			case SyntaxTreeBuilderConstants.LBRACE:
+				describe = false;
+				if (excludeNext) {
+					excludedDepth = depth;
+					excludeNext = false;
+				}
+				depth++;
+				break;
+			case SyntaxTreeBuilderConstants.RBRACE:
+				depth--;
+				if (depth == excludedDepth) {
+					excludedDepth = -1;
+				}
+				break;
+			default:
+				break;
+			}
+		}
+
+		if (values.isEmpty()) {
+			return null;
+		}
+		return new LiftedQuery(lifted.toString(), Collections.unmodifiableMap(values));
+	}
+
+	/**
+	 * Determines the base URI as {@link BaseDeclProcessor#getBaseURI} does.
+	 *
+	 * @return The base URI, or <var>null</var> if there is none.
+	 * @throws IllegalArgumentException If the query has more than one base declaration, or the base URI is not
+	 *                                  absolute.
+	 */
+	private static ParsedIRI getBase(List<Token> tokens, String baseURI) throws URISyntaxException {
+		String baseDecl = null;
+		for (int i = 0; i + 1 < tokens.size(); i++) {
+			if (tokens.get(i).kind == SyntaxTreeBuilderConstants.BASE
+					&& tokens.get(i + 1).kind == SyntaxTreeBuilderConstants.Q_IRI_REF) {
+				if (baseDecl != null) {
+					throw new IllegalArgumentException("more than one base declaration");
+				}
+				baseDecl = trim(tokens.get(i + 1).image, 1);
+			}
+		}
+
+		String iri = baseDecl != null ? baseDecl : baseURI;
+		if (iri == null) {
+			return null;
+		}
+		ParsedIRI base = new ParsedIRI(iri);
+		if (!base.isAbsolute()) {
+			throw new IllegalArgumentException("base URI is not absolute: " + iri);
+		}
+		return base;
+	}
+
+	/**
+	 * Checks whether the IRI reference at the supplied index may be replaced by a variable: it is not part of a
+	 * property path, the name of a function, the graph of a dataset clause, including conjecture dataset clauses, or a
+	 * prologue declaration.
+	 */
+	private static boolean isLiftableIRI(List<Token> tokens, int index) {
+		Token previous = get(tokens, index - 1);
+		if (previous != null) {
+			switch (previous.kind) {
+			case SyntaxTreeBuilderConstants.SLASH:
+			case SyntaxTreeBuilderConstants.PIPE:
+			case SyntaxTreeBuilderConstants.INVERSE:
+			case SyntaxTreeBuilderConstants.NOT:
+			case SyntaxTreeBuilderConstants.FROM:
+			case SyntaxTreeBuilderConstants.NAMED:
+			case SyntaxTreeBuilderConstants.BASE:
+			case SyntaxTreeBuilderConstants.DT_PREFIX:
+				return false;
+			case SyntaxTreeBuilderConstants.CONJ:
+				Token clause = get(tokens, index - 2);
+				if (clause != null && (clause.kind == SyntaxTreeBuilderConstants.FROM
+						|| clause.kind == SyntaxTreeBuilderConstants.NAMED
+						|| clause.kind == SyntaxTreeBuilderConstants.EXCLUDE)) {
+					return false;
+				}
+				break;
+			case SyntaxTreeBuilderConstants.PNAME_NS:
+				Token declaration = get(tokens, index - 2);
+				if (declaration != null && declaration.kind == SyntaxTreeBuilderConstants.PREFIX) {
+					return false;
+				}
+				break;
+			default:
+				break;
+			}
+		}
+
+		Token next = get(tokens, index + 1);
+		if (next != null) {
+			switch (next.kind) {
+			case SyntaxTreeBuilderConstants.SLASH:
+			case SyntaxTreeBuilderConstants.PIPE:
+			case SyntaxTreeBuilderConstants.STAR:
+			case SyntaxTreeBuilderConstants.PLUS:
+			case SyntaxTreeBuilderConstants.QUESTION:
+			case SyntaxTreeBuilderConstants.LPAREN:
+				return false;
+			default:
+				break;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks whether the string at the supplied index is the separator of a <code>GROUP_CONCAT</code>.
+	 */
+	private static boolean isSeparator(List<Token> tokens, int index) {
+		Token previous = get(tokens, index - 1);
+		Token keyword = get(tokens, index - 2);
+		return previous != null && previous.kind == SyntaxTreeBuilderConstants.EQ && keyword != null
+				&& keyword.kind == SyntaxTreeBuilderConstants.SEPARATOR;
+	}
+
+	/**
+	 * Checks whether the number at the supplied index is the argument of <code>LIMIT</code> or <code>OFFSET</code>.
+	 */
+	private static boolean isLimit(List<Token> tokens, int index) {
+		Token previous = get(tokens, index - 1);
+		return previous != null && (previous.kind == SyntaxTreeBuilderConstants.LIMIT
+				|| previous.kind == SyntaxTreeBuilderConstants.OFFSET);
+	}
+
+	private static IRI createIRI(Token token, ParsedIRI base) {
+		String iri = trim(token.image, 1);
+		if (base != null) {
+			iri = base.resolve(iri);
+		}
+		return vf.createIRI(iri);
+	}
+
+	/**
+	 * @return The datatype of unsigned numbers of the supplied token kind, or <var>null</var> if it is not a number.
+	 */
+	private static IRI getNumericDatatype(int kind) {
+		switch (kind) {
+		case SyntaxTreeBuilderConstants.INTEGER:
+			return XSD.INTEGER;
+		case SyntaxTreeBuilderConstants.DECIMAL:
+			return XSD.DECIMAL;
+		case SyntaxTreeBuilderConstants.DOUBLE:
+			return XSD.DOUBLE;
+		default:
+			return null;
+		}
+	}
+
+	private static boolean isString(int kind) {
+		return kind == SyntaxTreeBuilderConstants.STRING_LITERAL1 || kind == SyntaxTreeBuilderConstants.STRING_LITERAL2
+				|| isLongString(kind);
+	}
+
+	private static boolean isLongString(int kind) {
+		return kind == SyntaxTreeBuilderConstants.STRING_LITERAL_LONG1
+				|| kind == SyntaxTreeBuilderConstants.STRING_LITERAL_LONG2;
+	}
+
+	private static Token get(List<Token> tokens, int index) {
+		return index >= 0 && index < tokens.size() ? tokens.get(index) : null;
+	}
+
+	private static String trim(String image, int quotes) {
+		return image.substring(quotes, image.length() - quotes);
+	}
+}
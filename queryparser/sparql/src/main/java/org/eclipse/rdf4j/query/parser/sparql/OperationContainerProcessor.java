@@ -0,0 +1,254 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.parser.sparql;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.rdf4j.common.annotation.InternalUseOnly;
+import org.eclipse.rdf4j.common.net.ParsedIRI;
+import org.eclipse.rdf4j.query.MalformedQueryException;
+import org.eclipse.rdf4j.query.parser.sparql.BlankNodeVarProcessor.BlankNodeToVarConverter;
+import org.eclipse.rdf4j.query.parser.sparql.ast.ASTBasicGraphPattern;
+import org.eclipse.rdf4j.query.parser.sparql.ast.ASTBlankNode;
+import org.eclipse.rdf4j.query.parser.sparql.ast.ASTBlankNodePropertyList;
+import org.eclipse.rdf4j.query.parser.sparql.ast.ASTCollection;
+import org.eclipse.rdf4j.query.parser.sparql.ast.ASTDeleteData;
+import org.eclipse.rdf4j.query.parser.sparql.ast.ASTDescribe;
+import org.eclipse.rdf4j.query.parser.sparql.ast.ASTIRI;
+import org.eclipse.rdf4j.query.parser.sparql.ast.ASTIRIFunc;
+import org.eclipse.rdf4j.query.parser.sparql.ast.ASTInsertData;
+import org.eclipse.rdf4j.query.parser.sparql.ast.ASTOperationContainer;
+import org.eclipse.rdf4j.query.parser.sparql.ast.ASTPrefixDecl;
+import org.eclipse.rdf4j.query.parser.sparql.ast.ASTQName;
+import org.eclipse.rdf4j.query.parser.sparql.ast.ASTSelect;
+import org.eclipse.rdf4j.query.parser.sparql.ast.ASTServiceGraphPattern;
+import org.eclipse.rdf4j.query.parser.sparql.ast.ASTString;
+import org.eclipse.rdf4j.query.parser.sparql.ast.ASTUnparsedQuadDataBlock;
+import org.eclipse.rdf4j.query.parser.sparql.ast.VisitorException;
+
+/**
+ * Prepares a syntax tree for building the query algebra in a single traversal, with the combined effect of
+ * {@link StringEscapesProcessor}, {@link BaseDeclProcessor}, {@link PrefixDeclProcessor},
+ * {@link WildcardProjectionProcessor} and {@link BlankNodeVarProcessor} applied in that order.
+ * <p>
+ * The prologue is processed first, as the prefix declarations must be resolved against the base IRI before their
+ * namespaces are used. Wildcard projections are expanded in a separate pass over the WHERE clauses, which only runs if
+ * the traversal found a wildcard.
+ *
+ * @apiNote This feature is for internal use only: its existence, signature or behavior may change without warning from
+ *          one release to the next.
+ */
+@InternalUseOnly
+@SuppressWarnings("deprecation")
+public class OperationContainerProcessor {
+
+	private final String externalBaseURI;
+
+	private final Map<String, String> customDefaultPrefixes;
+
+	private Map<String, String> prefixes;
+
+	private Set<String> usedBNodeIDs;
+
+	/**
+	 * @param externalBaseURI       The external base URI to use for resolving relative URIs, or <var>null</var> if the
+	 *                              base URI that is specified in the query model should be used.
+	 * @param customDefaultPrefixes Custom prefixes to add, will override SPARQL default prefixes. can't be null.
+	 */
+	public OperationContainerProcessor(String externalBaseURI, Map<String, String> customDefaultPrefixes) {
+		this.externalBaseURI = externalBaseURI;
+		this.customDefaultPrefixes = customDefaultPrefixes;
+	}
+
+	/**
+	 * Processes the supplied query model.
+	 *
+	 * @param qc The query model that needs to be processed.
+	 * @throws IllegalArgumentException If an external base URI is specified that is not an absolute URI.
+	 * @throws MalformedQueryException  If the query model contains an invalid escape sequence, a base URI that is not an
+	 *                                  absolute URI, redefined prefixes, qnames that use undefined prefixes or blank
+	 *                                  node identifiers that are used in more than one scope.
+	 */
+	public void process(ASTOperationContainer qc) throws MalformedQueryException {
+		ParsedIRI parsedBaseURI = BaseDeclProcessor.getBaseURI(qc, externalBaseURI);
+
+		ASTUnparsedQuadDataBlock dataBlock = null;
+		if (qc.getOperation() instanceof ASTInsertData) {
+			dataBlock = qc.getOperation().jjtGetChild(ASTUnparsedQuadDataBlock.class);
+		} else if (qc.getOperation() instanceof ASTDeleteData) {
+			dataBlock = qc.getOperation().jjtGetChild(ASTUnparsedQuadDataBlock.class);
+		}
+
+		// the IRIs of a data block, including those of the prefix declarations, are resolved by the data block parser
+		if (dataBlock != null && parsedBaseURI != null) {
+			dataBlock.setBaseURI(parsedBaseURI.toString());
+			parsedBaseURI = null;
+		}
+
+		if (parsedBaseURI != null) {
+			for (ASTPrefixDecl prefixDecl : qc.getPrefixDeclList()) {
+				ASTIRI iri = prefixDecl.getIRI();
+				iri.setValue(parsedBaseURI.resolve(iri.getValue()));
+			}
+		}
+
+		prefixes = new LinkedHashMap<>();
+		PrefixDeclProcessor.collectPrefixes(qc, customDefaultPrefixes, prefixes);
+		if (dataBlock != null) {
+			dataBlock.setPrefixes(prefixes);
+		}
+
+		SyntaxTreeVisitor visitor = new SyntaxTreeVisitor(parsedBaseURI, dataBlock == null ? prefixes : null);
+		try {
+			qc.jjtAccept(visitor, null);
+		} catch (VisitorException e) {
+			throw new MalformedQueryException(e);
+		}
+
+		if (visitor.foundWildcard) {
+			WildcardProjectionProcessor.process(qc);
+		}
+
+		usedBNodeIDs = visitor.blankNodeConverter.getUsedBNodeIDs();
+	}
+
+	/**
+	 * @return A map containing the prefixes that are declared in the processed query (key) and the namespace they map
+	 *         to (value).
+	 */
+	public Map<String, String> getPrefixes() {
+		return prefixes;
+	}
+
+	/**
+	 * @return The blank node identifiers that are used in the processed query.
+	 */
+	public Set<String> getUsedBNodeIDs() {
+		return usedBNodeIDs;
+	}
+
+	private static class SyntaxTreeVisitor extends AbstractASTVisitor {
+
+		private final ParsedIRI parsedBaseURI;
+
+		private final Map<String, String> prefixMap;
+
+		private final BlankNodeToVarConverter blankNodeConverter = new BlankNodeToVarConverter();
+
+		private boolean foundWildcard;
+
+		/**
+		 * @param parsedBaseURI The base URI to resolve relative IRIs against, or <var>null</var>.
+		 * @param prefixMap     The prefixes to expand qnames with, or <var>null</var> if qnames are not expanded.
+		 */
+		SyntaxTreeVisitor(ParsedIRI parsedBaseURI, Map<String, String> prefixMap) {
+			this.parsedBaseURI = parsedBaseURI;
+			this.prefixMap = prefixMap;
+		}
+
+		@Override
+		public Object visit(ASTPrefixDecl node, Object data) throws VisitorException {
+			// the prologue has been processed already
+			return null;
+		}
+
+		@Override
+		public Object visit(ASTString stringNode, Object data) throws VisitorException {
+			String value = stringNode.getValue();
+			try {
+				String unescaped = SPARQLQueries.unescape(value);
+				if (unescaped != value) {
+					stringNode.setValue(unescaped);
+				}
+			} catch (IllegalArgumentException e) {
+				// Invalid escape sequence
+				throw new VisitorException(e.getMessage());
+			}
+
+			return super.visit(stringNode, data);
+		}
+
+		@Override
+		public Object visit(ASTIRI node, Object data) throws VisitorException {
+			if (parsedBaseURI != null) {
+				node.setValue(parsedBaseURI.resolve(node.getValue()));
+			}
+			return super.visit(node, data);
+		}
+
+		@Override
+		public Object visit(ASTIRIFunc node, Object data) throws VisitorException {
+			if (parsedBaseURI != null) {
+				node.setBaseURI(parsedBaseURI.toString());
+			}
+			return super.visit(node, data);
+		}
+
+		@Override
+		public Object visit(ASTQName qnameNode, Object data) throws VisitorException {
+			if (prefixMap != null) {
+				// the IRI that replaces the qname is not resolved against the base URI
+				PrefixDeclProcessor.expandQName(qnameNode, prefixMap);
+				return null;
+			}
+			return super.visit(qnameNode, data);
+		}
+
+		@Override
+		public Object visit(ASTServiceGraphPattern node, Object data) throws VisitorException {
+			if (parsedBaseURI != null) {
+				node.setBaseURI(parsedBaseURI.toString());
+			}
+			if (prefixMap != null) {
+				node.setPrefixDeclarations(prefixMap);
+			}
+			return super.visit(node, data);
+		}
+
+		@Override
+		public Object visit(ASTSelect node, Object data) throws VisitorException {
+			foundWildcard |= node.isWildcard();
+			return super.visit(node, data);
+		}
+
+		@Override
+		public Object visit(ASTDescribe node, Object data) throws VisitorException {
+			foundWildcard |= node.isWildcard();
+			return super.visit(node, data);
+		}
+
+		@Override
+		public Object visit(ASTBasicGraphPattern node, Object data) throws VisitorException {
+			blankNodeConverter.enterBasicGraphPattern();
+			return super.visit(node, data);
+		}
+
+		@Override
+		public Object visit(ASTBlankNode node, Object data) throws VisitorException {
+			blankNodeConverter.convert(node);
+			return super.visit(node, data);
+		}
+
+		@Override
+		public Object visit(ASTBlankNodePropertyList node, Object data) throws VisitorException {
+			node.setVarName(blankNodeConverter.createAnonVarName());
+			return super.visit(node, data);
+		}
+
+		@Override
+		public Object visit(ASTCollection node, Object data) throws VisitorException {
+			node.setVarName(blankNodeConverter.createAnonVarName());
+			return super.visit(node, data);
+		}
+	}
+}
@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.parser.sparql;
+
+import java.util.Objects;
+
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.query.algebra.StatementPattern;
+import org.eclipse.rdf4j.query.algebra.Var;
+
+/**
+ * A {@link StatementPattern} in a GRAPH or CONJ block that only matches statements in one partition of the named
+ * graphs: the asserted graphs, or the conjecture graphs whose names start with <code>conj-</code>. An evaluation
+ * strategy that knows about partitions can restrict the contexts it scans, for example by a precomputed set of context
+ * ids, instead of checking the name of every context it binds.
+ * <p>
+ * {@link TupleExprBuilder} still adds the equivalent filter on the block, so that queries are evaluated correctly by
+ * strategies that treat the pattern as an ordinary {@link StatementPattern}. A strategy that restricts the contexts of
+ * all patterns in the block may drop that filter.
+ */
+public class PartitionedStatementPattern extends StatementPattern {
+
+	private static final long serialVersionUID = 3093240426802921447L;
+
+	/**
+	 * The partitions of the named graphs.
+	 */
+	public enum Partition {
+
+		/**
+		 * The graphs that are not conjectures.
+		 */
+		ASSERTED,
+
+		/**
+		 * The conjecture graphs, whose names start with <code>conj-</code>.
+		 */
+		CONJECTURES;
+
+		/**
+		 * The prefix of the names of conjecture graphs.
+		 */
+		public static final String CONJECTURE_PREFIX = "conj-";
+
+		/**
+		 * Checks whether the supplied context belongs to this partition.
+		 *
+		 * @param context a context, or <var>null</var> for the default graph.
+		 * @return <var>true</var> if the context is a named graph in this partition.
+		 */
+		public boolean contains(Resource context) {
+			if (context == null) {
+				return false;
+			}
+			return context.stringValue().startsWith(CONJECTURE_PREFIX) == (this == CONJECTURES);
+		}
+	}
+
+	private Partition partition;
+
+	public PartitionedStatementPattern(Partition partition, Scope scope, Var subjVar, Var predVar, Var objVar,
+			Var contextVar) {
+		super(scope, subjVar, predVar, objVar, contextVar);
+		this.partition = Objects.requireNonNull(partition);
+	}
+
+	public Partition getPartition() {
+		return partition;
+	}
+
+	public void setPartition(Partition partition) {
+		this.partition = Objects.requireNonNull(partition);
+	}
+
+	@Override
+	public String getSignature() {
+		return super.getSignature() + " (" + partition + ")";
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		return other instanceof PartitionedStatementPattern && super.equals(other)
+				&& partition == ((PartitionedStatementPattern) other).partition;
+	}
+
+	@Override
+	public int hashCode() {
+		return super.hashCode() ^ partition.hashCode();
+	}
+
+	@Override
+	public PartitionedStatementPattern clone() {
+		return (PartitionedStatementPattern) super.clone();
+	}
+}
@@ -47,6 +47,8 @@ import org.eclipse.rdf4j.query.parser.sparql.ast.VisitorException;
 @InternalUseOnly
 public class PrefixDeclProcessor {
 
+	private static final Pattern ESCAPED_CHAR_PATTERN = Pattern.compile("\\\\[_~.\\-!$&'()*+,;=:/?#@%]");
+
 	/**
 	 * Processes prefix declarations in queries. This method collects all prefixes that are declared in the supplied
 	 * query, verifies that prefixes are not redefined and replaces any {@link ASTQName} nodes in the query with
@@ -59,38 +61,9 @@ public class PrefixDeclProcessor {
 	 */
 	public static Map<String, String> process(ASTOperationContainer qc, Map<String, String> customDefaultPrefixes)
 			throws MalformedQueryException {
-		List<ASTPrefixDecl> prefixDeclList = qc.getPrefixDeclList();
-
 		// Build a prefix --> IRI map
 		Map<String, String> prefixMap = new LinkedHashMap<>();
-
-		for (ASTPrefixDecl prefixDecl : prefixDeclList) {
-			String prefix = prefixDecl.getPrefix();
-			String iri = prefixDecl.getIRI().getValue();
-
-			if (prefixMap.containsKey(prefix)) {
-				throw new MalformedQueryException("Multiple prefix declarations for prefix '" + prefix + "'");
-			}
-
-			prefixMap.put(prefix, iri);
-		}
-
-		int preDefaultPrefixes = 0;
-
-		// insert the default prefixes if presents
-		for (Entry<String, String> defaultPrefix : customDefaultPrefixes.entrySet()) {
-			preDefaultPrefixes += insertDefaultPrefix(prefixMap, defaultPrefix.getKey(), defaultPrefix.getValue());
-		}
-
-		// insert some default prefixes (if not explicitly defined in the query)
-		final int defaultPrefixesAdded = preDefaultPrefixes
-				+ insertDefaultPrefix(prefixMap, "rdf", RDF.NAMESPACE)
-				+ insertDefaultPrefix(prefixMap, "rdfs", RDFS.NAMESPACE)
-				+ insertDefaultPrefix(prefixMap, "rdf4j", RDF4J.NAMESPACE)
-				+ insertDefaultPrefix(prefixMap, "sesame", SESAME.NAMESPACE)
-				+ insertDefaultPrefix(prefixMap, "owl", OWL.NAMESPACE)
-				+ insertDefaultPrefix(prefixMap, "xsd", XSD.NAMESPACE)
-				+ insertDefaultPrefix(prefixMap, "fn", FN.NAMESPACE);
+		collectPrefixes(qc, customDefaultPrefixes, prefixMap);
 
 		ASTUnparsedQuadDataBlock dataBlock = null;
 		if (qc.getOperation() instanceof ASTInsertData) {
@@ -103,10 +76,8 @@ public class PrefixDeclProcessor {
 		}
 
 		if (dataBlock != null) {
-			String prefixes = createPrefixesInSPARQLFormat(prefixMap);
-			dataBlock.setAddedDefaultPrefixes(defaultPrefixesAdded);
-			// TODO optimize string concat?
-			dataBlock.setDataBlock(prefixes + dataBlock.getDataBlock());
+			// the data block parser is seeded with the prefixes, rather than the prefixes being declared in the text
+			dataBlock.setPrefixes(prefixMap);
 		} else {
 			QNameProcessor visitor = new QNameProcessor(prefixMap);
 			try {
@@ -119,26 +90,92 @@ public class PrefixDeclProcessor {
 		return prefixMap;
 	}
 
-	private static int insertDefaultPrefix(Map<String, String> prefixMap, String prefix, String namespace) {
+	/**
+	 * Adds the prefixes that are declared in the supplied query, and the default prefixes that it does not redefine,
+	 * to the supplied map.
+	 *
+	 * @throws MalformedQueryException If the query contains redefined prefixes.
+	 */
+	static void collectPrefixes(ASTOperationContainer qc, Map<String, String> customDefaultPrefixes,
+			Map<String, String> prefixMap) throws MalformedQueryException {
+		List<ASTPrefixDecl> prefixDeclList = qc.getPrefixDeclList();
+
+		for (ASTPrefixDecl prefixDecl : prefixDeclList) {
+			String prefix = prefixDecl.getPrefix();
+			String iri = prefixDecl.getIRI().getValue();
+
+			if (prefixMap.containsKey(prefix)) {
+				throw new MalformedQueryException("Multiple prefix declarations for prefix '" + prefix + "'");
+			}
+
+			prefixMap.put(prefix, iri);
+		}
+
+		// insert the default prefixes if presents
+		for (Entry<String, String> defaultPrefix : customDefaultPrefixes.entrySet()) {
+			insertDefaultPrefix(prefixMap, defaultPrefix.getKey(), defaultPrefix.getValue());
+		}
+
+		// insert some default prefixes (if not explicitly defined in the query)
+		insertDefaultPrefix(prefixMap, "rdf", RDF.NAMESPACE);
+		insertDefaultPrefix(prefixMap, "rdfs", RDFS.NAMESPACE);
+		insertDefaultPrefix(prefixMap, "rdf4j", RDF4J.NAMESPACE);
+		insertDefaultPrefix(prefixMap, "sesame", SESAME.NAMESPACE);
+		insertDefaultPrefix(prefixMap, "owl", OWL.NAMESPACE);
+		insertDefaultPrefix(prefixMap, "xsd", XSD.NAMESPACE);
+		insertDefaultPrefix(prefixMap, "fn", FN.NAMESPACE);
+	}
+
+	private static void insertDefaultPrefix(Map<String, String> prefixMap, String prefix, String namespace) {
 		if (!prefixMap.containsKey(prefix) && !prefixMap.containsValue(namespace)) {
 			prefixMap.put(prefix, namespace);
-			return 1;
 		}
-		return 0;
 	}
 
-	private static String createPrefixesInSPARQLFormat(Map<String, String> prefixMap) {
-		StringBuilder sb = new StringBuilder();
-		for (Entry<String, String> entry : prefixMap.entrySet()) {
-			sb.append("PREFIX");
-			final String prefix = entry.getKey();
-			if (prefix != null) {
-				sb.append(" ").append(prefix);
-			}
-			sb.append(":");
-			sb.append(" <").append(entry.getValue()).append("> \n");
+	/**
+	 * Replaces the supplied qname node with an equivalent {@link ASTIRI} node.
+	 *
+	 * @throws VisitorException If the qname uses a prefix that is not in the supplied map.
+	 */
+	static void expandQName(ASTQName qnameNode, Map<String, String> prefixMap) throws VisitorException {
+		String qname = qnameNode.getValue();
+
+		int colonIdx = qname.indexOf(':');
+		assert colonIdx >= 0 : "colonIdx should be >= 0: " + colonIdx;
+
+		String prefix = qname.substring(0, colonIdx);
+		String localName = qname.substring(colonIdx + 1);
+
+		String namespace = prefixMap.get(prefix);
+		if (namespace == null) {
+			throw new VisitorException("QName '" + qname + "' uses an undefined prefix");
 		}
-		return sb.toString();
+
+		localName = processEscapes(localName);
+
+		// Replace the qname node with a new IRI node in the parent node
+		ASTIRI iriNode = new ASTIRI(SyntaxTreeBuilderTreeConstants.JJTIRI);
+		iriNode.setValue(namespace + localName);
+		qnameNode.jjtReplaceWith(iriNode);
+	}
+
+	private static String processEscapes(String localName) {
+		if (localName.indexOf('\\') < 0) {
+			return localName;
+		}
+
+		// process escaped special chars.
+		StringBuilder unescaped = new StringBuilder();
+		Matcher m = ESCAPED_CHAR_PATTERN.matcher(localName);
+		boolean result = m.find();
+		while (result) {
+			String escaped = m.group();
+			m.appendReplacement(unescaped, escaped.substring(1));
+			result = m.find();
+		}
+		m.appendTail(unescaped);
+
+		return unescaped.toString();
 	}
 
 	private static class QNameProcessor extends AbstractASTVisitor {
@@ -151,47 +188,10 @@ public class PrefixDeclProcessor {
 
 		@Override
 		public Object visit(ASTQName qnameNode, Object data) throws VisitorException {
-			String qname = qnameNode.getValue();
-
-			int colonIdx = qname.indexOf(':');
-			assert colonIdx >= 0 : "colonIdx should be >= 0: " + colonIdx;
-
-			String prefix = qname.substring(0, colonIdx);
-			String localName = qname.substring(colonIdx + 1);
-
-			String namespace = prefixMap.get(prefix);
-			if (namespace == null) {
-				throw new VisitorException("QName '" + qname + "' uses an undefined prefix");
-			}
-
-			localName = processEscapes(localName);
-
-			// Replace the qname node with a new IRI node in the parent node
-			ASTIRI iriNode = new ASTIRI(SyntaxTreeBuilderTreeConstants.JJTIRI);
-			iriNode.setValue(namespace + localName);
-			qnameNode.jjtReplaceWith(iriNode);
-
+			expandQName(qnameNode, prefixMap);
 			return null;
 		}
 
-		private String processEscapes(String localName) {
-
-			// process escaped special chars.
-			StringBuilder unescaped = new StringBuilder();
-			Pattern escapedCharPattern = Pattern
-					.compile("\\\\[_~.\\-!$&'()*+,;=:/?#@%]");
-			Matcher m = escapedCharPattern.matcher(localName);
-			boolean result = m.find();
-			while (result) {
-				String escaped = m.group();
-				m.appendReplacement(unescaped, escaped.substring(1));
-				result = m.find();
-			}
-			m.appendTail(unescaped);
-
-			return unescaped.toString();
-		}
-
 		@Override
 		public Object visit(ASTServiceGraphPattern node, Object data) throws VisitorException {
 			node.setPrefixDeclarations(prefixMap);
@@ -13,15 +13,21 @@ package org.eclipse.rdf4j.query.parser.sparql;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.Reader;
 import java.io.StringReader;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.rdf4j.model.Namespace;
+import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
 import org.eclipse.rdf4j.model.util.Namespaces;
 import org.eclipse.rdf4j.query.Dataset;
@@ -38,18 +44,22 @@ import org.eclipse.rdf4j.query.parser.ParsedDescribeQuery;
 import org.eclipse.rdf4j.query.parser.ParsedGraphQuery;
 import org.eclipse.rdf4j.query.parser.ParsedOperation;
 import org.eclipse.rdf4j.query.parser.ParsedQuery;
+import org.eclipse.rdf4j.query.parser.ParsedQueryCache;
+import org.eclipse.rdf4j.query.parser.ParsedQueryTemplate;
 import org.eclipse.rdf4j.query.parser.ParsedTupleQuery;
 import org.eclipse.rdf4j.query.parser.ParsedUpdate;
 import org.eclipse.rdf4j.query.parser.QueryParser;
 import org.eclipse.rdf4j.query.parser.QueryParserUtil;
 import org.eclipse.rdf4j.query.parser.sparql.ast.ASTAskQuery;
 import org.eclipse.rdf4j.query.parser.sparql.ast.ASTConstructQuery;
+import org.eclipse.rdf4j.query.parser.sparql.ast.ASTDeleteData;
 import org.eclipse.rdf4j.query.parser.sparql.ast.ASTDescribeQuery;
 import org.eclipse.rdf4j.query.parser.sparql.ast.ASTInsertData;
 import org.eclipse.rdf4j.query.parser.sparql.ast.ASTPrefixDecl;
 import org.eclipse.rdf4j.query.parser.sparql.ast.ASTQuery;
 import org.eclipse.rdf4j.query.parser.sparql.ast.ASTQueryContainer;
 import org.eclipse.rdf4j.query.parser.sparql.ast.ASTSelectQuery;
+import org.eclipse.rdf4j.query.parser.sparql.ast.ASTUnparsedQuadDataBlock;
 import org.eclipse.rdf4j.query.parser.sparql.ast.ASTUpdate;
 import org.eclipse.rdf4j.query.parser.sparql.ast.ASTUpdateContainer;
 import org.eclipse.rdf4j.query.parser.sparql.ast.ASTUpdateSequence;
@@ -57,26 +67,63 @@ import org.eclipse.rdf4j.query.parser.sparql.ast.Node;
 import org.eclipse.rdf4j.query.parser.sparql.ast.ParseException;
 import org.eclipse.rdf4j.query.parser.sparql.ast.SyntaxTreeBuilder;
 import org.eclipse.rdf4j.query.parser.sparql.ast.TokenMgrError;
+import org.eclipse.rdf4j.query.parser.sparql.ast.UpdateSequenceSplitter;
 import org.eclipse.rdf4j.query.parser.sparql.ast.VisitorException;
 import org.eclipse.rdf4j.rio.RDFParseException;
 import org.eclipse.rdf4j.rio.helpers.BasicParserSettings;
+import org.eclipse.rdf4j.rio.helpers.StatementCollector;
 
 @SuppressWarnings("deprecation")
 public class SPARQLParser implements QueryParser {
 	private final Map<String, String> customPrefixes;
 
+	private final ParsedQueryCache queryCache;
+
+	private final boolean liftConstants;
+
+	private boolean keepUpdateData;
+
 	/**
 	 * Create a new SPARQLParser.
 	 *
 	 * @param customPrefixes the default namespaces to apply to this parser. null for no prefixes
 	 */
 	public SPARQLParser(Set<Namespace> customPrefixes) {
+		this(customPrefixes, null);
+	}
+
+	/**
+	 * Create a new SPARQLParser that looks up the queries it parses in a cache.
+	 *
+	 * @param customPrefixes the default namespaces to apply to this parser. null for no prefixes
+	 * @param queryCache     the cache of parsed queries, which may be shared with other parsers. null for no cache
+	 */
+	public SPARQLParser(Set<Namespace> customPrefixes, ParsedQueryCache queryCache) {
+		this(customPrefixes, queryCache, false);
+	}
+
+	/**
+	 * Create a new SPARQLParser that looks up the queries it parses in a cache, optionally sharing a query model
+	 * between queries that only differ in their constants. With <var>liftConstants</var>, the constant IRIs and
+	 * literals of a query are replaced by variables before it is looked up, so that the query model of all queries
+	 * with the same structure is parsed once and the constants of each query are filled in.
+	 *
+	 * @param customPrefixes the default namespaces to apply to this parser. null for no prefixes
+	 * @param queryCache     the cache of parsed queries, which may be shared with other parsers
+	 * @param liftConstants  whether queries that only differ in their constants share a cached query model
+	 */
+	public SPARQLParser(Set<Namespace> customPrefixes, ParsedQueryCache queryCache, boolean liftConstants) {
 		Objects.requireNonNull(customPrefixes, "customPrefixes can't be null!");
 		if (customPrefixes.isEmpty()) {
 			this.customPrefixes = Collections.emptyMap();
 		} else {
 			this.customPrefixes = Namespaces.asMap(customPrefixes);
 		}
+		this.queryCache = queryCache;
+		this.liftConstants = liftConstants;
+		if (liftConstants) {
+			Objects.requireNonNull(queryCache, "queryCache can't be null when lifting constants!");
+		}
 	}
 
 	/**
@@ -86,23 +133,36 @@ public class SPARQLParser implements QueryParser {
 		this(Collections.emptySet());
 	}
 
+	/**
+	 * Sets whether parsed updates keep the statements of their INSERT DATA and DELETE DATA operations, so that a store
+	 * can get them from {@link ParsedUpdate#getData(UpdateExpr)} instead of parsing the data blocks again. The
+	 * statements are read anyway to validate the data blocks, but keeping them retains them next to the text of the
+	 * data blocks for as long as the parsed update is kept, so they are not kept by default.
+	 *
+	 * @param keepUpdateData whether to keep the statements of data blocks
+	 */
+	public void setKeepUpdateData(boolean keepUpdateData) {
+		this.keepUpdateData = keepUpdateData;
+	}
+
+	/**
+	 * @return whether parsed updates keep the statements of their INSERT DATA and DELETE DATA operations
+	 */
+	public boolean isKeepUpdateData() {
+		return keepUpdateData;
+	}
+
 	@Override
 	public ParsedUpdate parseUpdate(String updateStr, String baseURI) throws MalformedQueryException {
 		try {
 
 			ParsedUpdate update = new ParsedUpdate(updateStr);
 
-			SPARQLUpdateDataBlockParser parser = new SPARQLUpdateDataBlockParser();
-
 			ASTUpdateSequence updateSequence = SyntaxTreeBuilder.parseUpdateSequence(updateStr);
 
 			List<ASTUpdateContainer> updateOperations = updateSequence.getUpdateContainers();
 
-			List<ASTPrefixDecl> sharedPrefixDeclarations = null;
-
-			Node node = updateSequence.jjtGetChild(0);
-
-			Set<String> globalUsedBNodeIds = new HashSet<>();
+			UpdateSequenceProcessor processor = new UpdateSequenceProcessor(baseURI);
 			for (int i = 0; i < updateOperations.size(); i++) {
 
 				ASTUpdateContainer uc = updateOperations.get(i);
@@ -112,92 +172,97 @@ public class SPARQLParser implements QueryParser {
 					throw new MalformedQueryException("empty update in sequence not allowed");
 				}
 
-				StringEscapesProcessor.process(uc);
-				BaseDeclProcessor.process(uc, baseURI);
-				WildcardProjectionProcessor.process(uc);
+				processor.process(uc, update);
+			} // end for
 
-				if (uc.getBaseDecl() != null) {
-					baseURI = uc.getBaseDecl().getIRI();
-				}
+			return update;
+		} catch (RDFParseException | ParseException | TokenMgrError | VisitorException | IOException e) {
+			throw new MalformedQueryException(e.getMessage(), e);
+		}
 
-				// do a special dance to handle prefix declarations in sequences: if
-				// the current
-				// operation has its own prefix declarations, use those. Otherwise,
-				// try and use
-				// prefix declarations from a previous operation in this sequence.
-				List<ASTPrefixDecl> prefixDeclList = uc.getPrefixDeclList();
-				if (prefixDeclList == null || prefixDeclList.isEmpty()) {
-					if (sharedPrefixDeclarations != null) {
-						for (ASTPrefixDecl prefixDecl : sharedPrefixDeclarations) {
-							uc.jjtAppendChild(prefixDecl);
-						}
-					}
-				} else {
-					sharedPrefixDeclarations = prefixDeclList;
-				}
+	}
 
-				PrefixDeclProcessor.process(uc, customPrefixes);
-				Set<String> usedBNodeIds = BlankNodeVarProcessor.process(uc);
+	/**
+	 * Parses a SPARQL update sequence that is read from a {@link Reader}, one update operation at a time. An operation
+	 * is read and parsed only when the returned iterator is advanced to it, so that memory use is bounded by the
+	 * largest operation rather than by the length of the sequence. Prefix and base declarations carry over to the
+	 * following operations, and blank node identifiers may not be shared across INSERT DATA operations, as in
+	 * {@link #parseUpdate(String, String)}.
+	 *
+	 * @param reader  The reader to read the update sequence from. It is not closed.
+	 * @param baseURI The base URI to resolve any relative URIs that are in the update sequence against, can be
+	 *                <var>null</var> if the update sequence does not contain any relative URIs.
+	 * @return An iterator over the operations of the update sequence. Each operation is returned as a
+	 *         {@link ParsedUpdate} with a single update expression and its dataset. Operations that consist of a
+	 *         prologue only are skipped. The iterator throws a {@link MalformedQueryException} if an operation is
+	 *         malformed or the update sequence could not be read.
+	 */
+	public Iterator<ParsedUpdate> parseUpdateSequence(Reader reader, String baseURI) {
+		return new UpdateOperationIterator(new UpdateSequenceSplitter(reader), baseURI);
+	}
 
-				if (uc.getUpdate() instanceof ASTInsertData || uc.getUpdate() instanceof ASTInsertData) {
-					if (Collections.disjoint(usedBNodeIds, globalUsedBNodeIds)) {
-						globalUsedBNodeIds.addAll(usedBNodeIds);
-					} else {
-						throw new MalformedQueryException(
-								"blank node identifier may not be shared across INSERT/DELETE DATA operations");
-					}
+	@Override
+	public ParsedQuery parseQuery(String queryStr, String baseURI) throws MalformedQueryException {
+		if (queryCache != null) {
+			if (liftConstants) {
+				ParsedQuery query = parseLiftedQuery(queryStr, baseURI);
+				if (query != null) {
+					return query;
 				}
+			}
+			return queryCache.get(QueryLanguage.SPARQL, queryStr, baseURI, customPrefixes,
+					() -> parseQueryUncached(queryStr, baseURI));
+		}
+		return parseQueryUncached(queryStr, baseURI);
+	}
 
-				UpdateExprBuilder updateExprBuilder = new UpdateExprBuilder(SimpleValueFactory.getInstance());
-
-				ASTUpdate updateNode = uc.getUpdate();
-				if (updateNode != null) {
-					UpdateExpr updateExpr = (UpdateExpr) updateNode.jjtAccept(updateExprBuilder, null);
-
-					// add individual update expression to ParsedUpdate sequence
-					// container
-
-					String datablock = "";
-					if (updateExpr instanceof InsertData) {
-						InsertData insertDataExpr = (InsertData) updateExpr;
-						parser.getParserConfig().set(BasicParserSettings.SKOLEMIZE_ORIGIN, null);
-						parser.setLineNumberOffset(insertDataExpr.getLineNumberOffset());
-						datablock = insertDataExpr.getDataBlock();
-					} else if (updateExpr instanceof DeleteData) {
-						DeleteData deleteDataExpr = (DeleteData) updateExpr;
-						parser.setLineNumberOffset(deleteDataExpr.getLineNumberOffset());
-						parser.setAllowBlankNodes(false);
-						datablock = deleteDataExpr.getDataBlock();
-					}
+	/**
+	 * Parses the supplied query by binding its constants to the cached template of queries with the same structure.
+	 *
+	 * @return The query model, or <var>null</var> if the constants of the query can not be lifted.
+	 */
+	private ParsedQuery parseLiftedQuery(String queryStr, String baseURI) throws MalformedQueryException {
+		LiftedQuery lifted = LiftedQuery.lift(queryStr, baseURI);
+		if (lifted == null) {
+			return null;
+		}
 
-					if (!datablock.equals("")) {
-						parser.parse(new StringReader(datablock), "");
+		AtomicReference<ParsedQuery> parsed = new AtomicReference<>();
+		ParsedQueryTemplate template = queryCache.getTemplate(QueryLanguage.SPARQL, lifted.getQuery(), baseURI,
+				customPrefixes, () -> {
+					// the lifted query may be accepted where the query itself is not, so the first query of each
+					// structure is parsed as well, and malformed ones never create a template
+					parsed.set(parseQueryUncached(queryStr, baseURI));
+					try {
+						return new SPARQLQueryTemplate(parseQueryUncached(lifted.getQuery(), baseURI),
+								lifted.getParameterNames());
+					} catch (MalformedQueryException | IllegalArgumentException e) {
+						// a constant in a position where a variable has another meaning
+						return null;
 					}
+				});
 
-					update.addUpdateExpr(updateExpr);
-
-					// associate updateExpr with the correct dataset (if any)
-					Dataset dataset = DatasetDeclProcessor.process(uc);
-					update.map(updateExpr, dataset);
-				}
-			} // end for
-
-			return update;
-		} catch (RDFParseException | ParseException | TokenMgrError | VisitorException | IOException e) {
-			throw new MalformedQueryException(e.getMessage(), e);
+		if (parsed.get() != null) {
+			return parsed.get();
 		}
-
+		if (template == null) {
+			return null;
+		}
+		return ((SPARQLQueryTemplate) template).bind(lifted.getValues(), queryStr);
 	}
 
 	@Override
-	public ParsedQuery parseQuery(String queryStr, String baseURI) throws MalformedQueryException {
+	public ParsedQueryTemplate parseQueryTemplate(String queryStr, String baseURI, Set<String> parameterNames)
+			throws MalformedQueryException {
+		return new SPARQLQueryTemplate(parseQuery(queryStr, baseURI), parameterNames);
+	}
+
+	private ParsedQuery parseQueryUncached(String queryStr, String baseURI) throws MalformedQueryException {
 		try {
 			ASTQueryContainer qc = SyntaxTreeBuilder.parseQuery(queryStr);
-			StringEscapesProcessor.process(qc);
-			BaseDeclProcessor.process(qc, baseURI);
-			Map<String, String> prefixes = PrefixDeclProcessor.process(qc, customPrefixes);
-			WildcardProjectionProcessor.process(qc);
-			BlankNodeVarProcessor.process(qc);
+			OperationContainerProcessor processor = new OperationContainerProcessor(baseURI, customPrefixes);
+			processor.process(qc);
+			Map<String, String> prefixes = processor.getPrefixes();
 
 			if (qc.containsQuery()) {
 
@@ -229,6 +294,9 @@ public class SPARQLParser implements QueryParser {
 				Dataset dataset = DatasetDeclProcessor.process(qc);
 				if (dataset != null) {
 					query.setDataset(dataset);
+					if (dataset instanceof ConjectureDataset) {
+						ConjectureDatasetProcessor.process(tupleExpr, (ConjectureDataset) dataset);
+					}
 				}
 
 				return query;
@@ -249,6 +317,168 @@ public class SPARQLParser implements QueryParser {
 		}
 	}
 
+	/**
+	 * Processes the operations of an update sequence in order, carrying the base IRI, the prefix declarations and the
+	 * blank node identifiers of INSERT DATA operations over from one operation to the next.
+	 */
+	private class UpdateSequenceProcessor {
+
+		private final SPARQLUpdateDataBlockParser parser = new SPARQLUpdateDataBlockParser();
+
+		private final Set<String> globalUsedBNodeIds = new HashSet<>();
+
+		private List<ASTPrefixDecl> sharedPrefixDeclarations = null;
+
+		private String baseURI;
+
+		UpdateSequenceProcessor(String baseURI) {
+			this.baseURI = baseURI;
+		}
+
+		/**
+		 * Builds the update expression of an operation, if it has one, and adds it to the supplied update.
+		 */
+		void process(ASTUpdateContainer uc, ParsedUpdate update)
+				throws RDFParseException, VisitorException, IOException, MalformedQueryException {
+			// do a special dance to handle prefix declarations in sequences: if
+			// the current
+			// operation has its own prefix declarations, use those. Otherwise,
+			// try and use
+			// prefix declarations from a previous operation in this sequence.
+			List<ASTPrefixDecl> prefixDeclList = uc.getPrefixDeclList();
+			if (prefixDeclList == null || prefixDeclList.isEmpty()) {
+				if (sharedPrefixDeclarations != null) {
+					for (ASTPrefixDecl prefixDecl : sharedPrefixDeclarations) {
+						uc.jjtAppendChild(prefixDecl);
+					}
+				}
+			} else {
+				sharedPrefixDeclarations = prefixDeclList;
+			}
+
+			OperationContainerProcessor processor = new OperationContainerProcessor(baseURI, customPrefixes);
+			processor.process(uc);
+			Set<String> usedBNodeIds = processor.getUsedBNodeIDs();
+
+			if (uc.getBaseDecl() != null) {
+				baseURI = uc.getBaseDecl().getIRI();
+			}
+
+			if (uc.getUpdate() instanceof ASTInsertData || uc.getUpdate() instanceof ASTDeleteData) {
+				if (Collections.disjoint(usedBNodeIds, globalUsedBNodeIds)) {
+					globalUsedBNodeIds.addAll(usedBNodeIds);
+				} else {
+					throw new MalformedQueryException(
+							"blank node identifier may not be shared across INSERT/DELETE DATA operations");
+				}
+			}
+
+			UpdateExprBuilder updateExprBuilder = new UpdateExprBuilder(SimpleValueFactory.getInstance());
+
+			ASTUpdate updateNode = uc.getUpdate();
+			if (updateNode != null) {
+				UpdateExpr updateExpr = (UpdateExpr) updateNode.jjtAccept(updateExprBuilder, null);
+
+				// add individual update expression to ParsedUpdate sequence
+				// container
+
+				ASTUnparsedQuadDataBlock dataBlock = null;
+				if (updateExpr instanceof InsertData) {
+					parser.getParserConfig().set(BasicParserSettings.SKOLEMIZE_ORIGIN, null);
+					dataBlock = updateNode.jjtGetChild(ASTUnparsedQuadDataBlock.class);
+				} else if (updateExpr instanceof DeleteData) {
+					parser.setAllowBlankNodes(false);
+					dataBlock = updateNode.jjtGetChild(ASTUnparsedQuadDataBlock.class);
+				}
+
+				if (dataBlock != null) {
+					// parse the data block as written, with its prefixes and base IRI supplied to the parser
+					// directly. If requested, keep the statements read while validating it, so that they need not
+					// be parsed again when the update is executed.
+					List<Statement> statements = keepUpdateData ? new ArrayList<>() : null;
+					parser.setNamespaces(dataBlock.getPrefixes());
+					parser.setLineNumberOffset(UpdateExprBuilder.getLineNumberOffset(dataBlock));
+					parser.setRDFHandler(statements != null ? new StatementCollector(statements) : null);
+					String dataBlockBaseURI = dataBlock.getBaseURI() != null ? dataBlock.getBaseURI() : "";
+					parser.parse(new StringReader(dataBlock.getDataBlock()), dataBlockBaseURI);
+					if (statements != null) {
+						update.mapData(updateExpr, statements);
+					}
+				}
+
+				update.addUpdateExpr(updateExpr);
+
+				// associate updateExpr with the correct dataset (if any)
+				Dataset dataset = DatasetDeclProcessor.process(uc);
+				update.map(updateExpr, dataset);
+			}
+		}
+	}
+
+	/**
+	 * Reads, parses and processes the operations of an update sequence as they are requested.
+	 */
+	private class UpdateOperationIterator implements Iterator<ParsedUpdate> {
+
+		private final UpdateSequenceSplitter splitter;
+
+		private final UpdateSequenceProcessor processor;
+
+		private boolean first = true;
+
+		private ParsedUpdate next;
+
+		UpdateOperationIterator(UpdateSequenceSplitter splitter, String baseURI) {
+			this.splitter = splitter;
+			this.processor = new UpdateSequenceProcessor(baseURI);
+		}
+
+		@Override
+		public boolean hasNext() {
+			while (next == null && splitter.hasMoreOperations()) {
+				next = parseNextOperation();
+			}
+			return next != null;
+		}
+
+		@Override
+		public ParsedUpdate next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			ParsedUpdate result = next;
+			next = null;
+			return result;
+		}
+
+		/**
+		 * @return The next operation, or <var>null</var> if it has no update expression.
+		 */
+		private ParsedUpdate parseNextOperation() {
+			try {
+				String operation = splitter.nextOperation();
+				if (operation == null) {
+					return null;
+				}
+
+				ParsedUpdate update = new ParsedUpdate(operation);
+				for (ASTUpdateContainer uc : SyntaxTreeBuilder.parseUpdateSequence(operation).getUpdateContainers()) {
+					if (uc.jjtGetNumChildren() == 0 && !first && splitter.hasMoreOperations()) {
+						// empty update in the middle of the sequence
+						throw new MalformedQueryException("empty update in sequence not allowed");
+					}
+					first = false;
+
+					processor.process(uc, update);
+				}
+				return update.getUpdateExprs().isEmpty() ? null : update;
+			} catch (RDFParseException | ParseException | TokenMgrError | VisitorException | IOException e) {
+				throw new MalformedQueryException(
+						"in update operation at line " + splitter.getOperationLine() + ": " + e.getMessage(), e);
+			}
+		}
+	}
+
 	public static void main(String[] args) throws java.io.IOException {
 		System.out.println("Your SPARQL query:");
 
@@ -10,7 +10,6 @@
  *******************************************************************************/
 package org.eclipse.rdf4j.query.parser.sparql;
 
-import org.eclipse.rdf4j.common.text.StringUtil;
 import org.eclipse.rdf4j.model.Namespace;
 
 /**
@@ -50,15 +49,56 @@ public class SPARQLQueries {
 	 * @since 3.6.0
 	 */
 	public static String escape(String s) {
-		s = StringUtil.gsub("\\", "\\\\", s);
-		s = StringUtil.gsub("\t", "\\t", s);
-		s = StringUtil.gsub("\n", "\\n", s);
-		s = StringUtil.gsub("\r", "\\r", s);
-		s = StringUtil.gsub("\b", "\\b", s);
-		s = StringUtil.gsub("\f", "\\f", s);
-		s = StringUtil.gsub("\"", "\\\"", s);
-		s = StringUtil.gsub("'", "\\'", s);
-		return s;
+		int length = s.length();
+		int i = 0;
+		while (i < length && escapeChar(s.charAt(i)) == 0) {
+			i++;
+		}
+
+		if (i == length) {
+			// No characters to escape
+			return s;
+		}
+
+		StringBuilder sb = new StringBuilder(length + 16);
+		sb.append(s, 0, i);
+		for (; i < length; i++) {
+			char c = s.charAt(i);
+			char escaped = escapeChar(c);
+			if (escaped == 0) {
+				sb.append(c);
+			} else {
+				sb.append('\\').append(escaped);
+			}
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Returns the character that follows the backslash in the escape sequence for the supplied character, or 0 if it
+	 * does not need to be escaped.
+	 */
+	private static char escapeChar(char c) {
+		switch (c) {
+		case '\\':
+			return '\\';
+		case '\t':
+			return 't';
+		case '\n':
+			return 'n';
+		case '\r':
+			return 'r';
+		case '\b':
+			return 'b';
+		case '\f':
+			return 'f';
+		case '"':
+			return '"';
+		case '\'':
+			return '\'';
+		default:
+			return 0;
+		}
 	}
 
 	/**
@@ -131,7 +171,7 @@ public class SPARQLQueries {
 			backSlashIdx = s.indexOf('\\', startIdx);
 		}
 
-		sb.append(s.substring(startIdx));
+		sb.append(s, startIdx, sLength);
 
 		return sb.toString();
 	}
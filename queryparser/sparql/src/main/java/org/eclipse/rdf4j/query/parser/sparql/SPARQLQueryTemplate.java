@@ -0,0 +1,521 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.parser.sparql;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.FN;
+import org.eclipse.rdf4j.query.algebra.ArbitraryLengthPath;
+import org.eclipse.rdf4j.query.algebra.BindingSetAssignment;
+import org.eclipse.rdf4j.query.algebra.ExtensionElem;
+import org.eclipse.rdf4j.query.algebra.Filter;
+import org.eclipse.rdf4j.query.algebra.FunctionCall;
+import org.eclipse.rdf4j.query.algebra.Group;
+import org.eclipse.rdf4j.query.algebra.Not;
+import org.eclipse.rdf4j.query.algebra.Projection;
+import org.eclipse.rdf4j.query.algebra.ProjectionElem;
+import org.eclipse.rdf4j.query.algebra.ProjectionElemList;
+import org.eclipse.rdf4j.query.algebra.QueryModelNode;
+import org.eclipse.rdf4j.query.algebra.Service;
+import org.eclipse.rdf4j.query.algebra.StatementPattern;
+import org.eclipse.rdf4j.query.algebra.Str;
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
+import org.eclipse.rdf4j.query.algebra.Union;
+import org.eclipse.rdf4j.query.algebra.ValueConstant;
+import org.eclipse.rdf4j.query.algebra.ValueExpr;
+import org.eclipse.rdf4j.query.algebra.Var;
+import org.eclipse.rdf4j.query.algebra.VariableScopeChange;
+import org.eclipse.rdf4j.query.algebra.ZeroLengthPath;
+import org.eclipse.rdf4j.query.algebra.helpers.AbstractQueryModelVisitor;
+import org.eclipse.rdf4j.query.algebra.helpers.TupleExprs;
+import org.eclipse.rdf4j.query.parser.ParsedBooleanQuery;
+import org.eclipse.rdf4j.query.parser.ParsedDescribeQuery;
+import org.eclipse.rdf4j.query.parser.ParsedGraphQuery;
+import org.eclipse.rdf4j.query.parser.ParsedQuery;
+import org.eclipse.rdf4j.query.parser.ParsedQueryTemplate;
+import org.eclipse.rdf4j.query.parser.ParsedTupleQuery;
+import org.eclipse.rdf4j.query.parser.sparql.PartitionedStatementPattern.Partition;
+
+/**
+ * A {@link ParsedQueryTemplate} for a query parsed by {@link SPARQLParser}. Binding the parameters clones the query
+ * model of the template and replaces the parameter variables in a single traversal of the clone, with the result that
+ * {@link TupleExprBuilder} produces for the query with the values written in place of the parameters:
+ * <ul>
+ * <li>a parameter in a statement pattern or property path becomes a constant variable, and a parameter in an
+ * expression becomes a {@link ValueConstant};</li>
+ * <li>a parameter that is the graph of a CONJ block is bound to the conjecture graph of the value, and the statement
+ * patterns of a GRAPH or CONJ block over a parameter are no longer restricted to a partition if the value determines
+ * it, in which case the filter on the partition is dropped;</li>
+ * <li>a bound parameter is removed from the projections of the query, as a wildcard projection of the query with the
+ * value written in place of the parameter would not include it.</li>
+ * </ul>
+ * Parameters can not be assigned by the query (BIND, VALUES, GROUP BY), occur in a CONSTRUCT template, or occur in a
+ * SERVICE pattern, as the query text of the pattern is sent to the service as written.
+ * <p>
+ * Which occurrences of the parameters are in CONJ and GRAPH blocks is determined once, when the template is created,
+ * by the position of the occurrence in the traversal order of the query model.
+ */
+class SPARQLQueryTemplate implements ParsedQueryTemplate {
+
+	private final ParsedQuery template;
+
+	private final Set<String> parameterNames;
+
+	/**
+	 * The occurrences of parameters, by traversal index of the {@link Var}, that are the graph of a CONJ block.
+	 */
+	private final BitSet conjectureGraphs = new BitSet();
+
+	/**
+	 * The occurrences of parameters, by traversal index of the {@link Var}, in the conditions on the partition of
+	 * GRAPH and CONJ blocks. These remain variables when bound, as in the blocks over a constant.
+	 */
+	private final BitSet partitionConditions = new BitSet();
+
+	/**
+	 * The partitioned statement patterns over a parameter, by traversal index of the {@link StatementPattern}.
+	 */
+	private final Map<Integer, GraphBlock> partitionedPatterns = new HashMap<>();
+
+	/**
+	 * The filters on the partition of a GRAPH or CONJ block over a parameter, by traversal index of the
+	 * {@link Filter}.
+	 */
+	private final Map<Integer, GraphBlock> partitionFilters = new HashMap<>();
+
+	/**
+	 * @param template       The parsed query. It is not modified.
+	 * @param parameterNames The names of the variables that are parameters.
+	 * @throws IllegalArgumentException If a parameter does not occur in the query, or occurs in a position where it can
+	 *                                  not be replaced by a value.
+	 */
+	SPARQLQueryTemplate(ParsedQuery template, Set<String> parameterNames) throws IllegalArgumentException {
+		this.template = template;
+		this.parameterNames = Collections.unmodifiableSet(new LinkedHashSet<>(parameterNames));
+
+		Analyzer analyzer = new Analyzer();
+		template.getTupleExpr().visit(analyzer);
+
+		for (String name : this.parameterNames) {
+			if (!analyzer.occurringParameters.contains(name)) {
+				throw new IllegalArgumentException("parameter ?" + name + " does not occur in the query");
+			}
+		}
+	}
+
+	@Override
+	public String getSourceString() {
+		return template.getSourceString();
+	}
+
+	@Override
+	public Set<String> getParameterNames() {
+		return parameterNames;
+	}
+
+	@Override
+	public ParsedQuery bind(Map<String, ? extends Value> values) throws IllegalArgumentException {
+		return bind(values, template.getSourceString());
+	}
+
+	/**
+	 * Creates the query model of the template with the supplied parameters replaced by their values, for a query with
+	 * the supplied source string.
+	 *
+	 * @see #bind(Map)
+	 */
+	ParsedQuery bind(Map<String, ? extends Value> values, String sourceString) throws IllegalArgumentException {
+		for (String name : values.keySet()) {
+			if (!parameterNames.contains(name)) {
+				throw new IllegalArgumentException("?" + name + " is not a parameter of the query");
+			}
+		}
+
+		// the root of the query model is never a node that is replaced
+		TupleExpr tupleExpr = template.getTupleExpr().clone();
+		tupleExpr.visit(new Binder(values));
+
+		ParsedQuery query;
+		if (template instanceof ParsedTupleQuery) {
+			query = new ParsedTupleQuery(sourceString, tupleExpr);
+		} else if (template instanceof ParsedBooleanQuery) {
+			query = new ParsedBooleanQuery(sourceString, tupleExpr);
+		} else if (template instanceof ParsedDescribeQuery) {
+			query = new ParsedDescribeQuery(sourceString, tupleExpr,
+					((ParsedDescribeQuery) template).getQueryNamespaces());
+		} else {
+			query = new ParsedGraphQuery(sourceString, tupleExpr, ((ParsedGraphQuery) template).getQueryNamespaces());
+		}
+		query.setDataset(template.getDataset());
+		return query;
+	}
+
+	/**
+	 * @return The name of the conjecture graph about the graph with the supplied name.
+	 */
+	private static Value toConjectureGraph(Value graph) {
+		if (graph.stringValue().startsWith(Partition.CONJECTURE_PREFIX)) {
+			return graph;
+		}
+		return SimpleValueFactory.getInstance().createIRI(Partition.CONJECTURE_PREFIX + graph.stringValue());
+	}
+
+	/**
+	 * @return <var>true</var> if binding the graph of the supplied block to the supplied value makes the statement
+	 *         patterns of the block match only graphs of their partition.
+	 */
+	private static boolean determinesPartition(GraphBlock block, Value value) {
+		return block.partition == Partition.CONJECTURES
+				|| !value.stringValue().startsWith(Partition.CONJECTURE_PREFIX);
+	}
+
+	/**
+	 * A GRAPH or CONJ block over a parameter.
+	 */
+	private static final class GraphBlock {
+
+		private final String parameter;
+
+		private final Partition partition;
+
+		/**
+		 * The variable in the condition on the partition of the block, if any.
+		 */
+		private final Var conditionVar;
+
+		GraphBlock(String parameter, Partition partition) {
+			this.parameter = parameter;
+			this.partition = partition;
+			this.conditionVar = null;
+		}
+
+		GraphBlock(Var conditionVar, Partition partition) {
+			this.parameter = conditionVar.getName();
+			this.partition = partition;
+			this.conditionVar = conditionVar;
+		}
+	}
+
+	/**
+	 * Visits the nodes of the query model in the order of the {@link Binder}, counting the variables, statement
+	 * patterns and filters.
+	 */
+	private abstract static class IndexingVisitor extends AbstractQueryModelVisitor<RuntimeException> {
+
+		int varIndex;
+
+		int patternIndex;
+
+		int filterIndex;
+	}
+
+	/**
+	 * Validates the positions of the parameters and finds the occurrences that are in GRAPH and CONJ blocks.
+	 */
+	private final class Analyzer extends IndexingVisitor {
+
+		private final Set<String> occurringParameters = new HashSet<>();
+
+		private final Set<Var> conditionVars = Collections.newSetFromMap(new IdentityHashMap<>());
+
+		@Override
+		public void meet(Var node) {
+			int index = varIndex++;
+			if (isParameter(node)) {
+				occurringParameters.add(node.getName());
+
+				QueryModelNode parent = node.getParentNode();
+				if (isConjectureGraph(node, parent)) {
+					conjectureGraphs.set(index);
+				}
+				if (conditionVars.contains(node)) {
+					partitionConditions.set(index);
+				}
+			}
+			super.meet(node);
+		}
+
+		@Override
+		public void meet(StatementPattern node) {
+			int index = patternIndex++;
+			Var contextVar = node.getContextVar();
+			if (node instanceof PartitionedStatementPattern && contextVar != null && isParameter(contextVar)) {
+				partitionedPatterns.put(index, new GraphBlock(contextVar.getName(),
+						((PartitionedStatementPattern) node).getPartition()));
+			}
+			super.meet(node);
+		}
+
+		@Override
+		public void meet(Filter node) {
+			int index = filterIndex++;
+			GraphBlock block = getPartitionCondition(node.getCondition());
+			if (block != null) {
+				// the condition of a GRAPH or CONJ block is on the block itself, see TupleExprBuilder
+				StatementPattern pattern = findPattern(node.getArg());
+				if (pattern instanceof PartitionedStatementPattern
+						&& ((PartitionedStatementPattern) pattern).getPartition() == block.partition
+						&& block.parameter.equals(pattern.getContextVar().getName())) {
+					partitionFilters.put(index, block);
+					conditionVars.add(block.conditionVar);
+				}
+			}
+			super.meet(node);
+		}
+
+		@Override
+		public void meet(ExtensionElem node) {
+			if (parameterNames.contains(node.getName())) {
+				throw new IllegalArgumentException("parameter ?" + node.getName() + " is assigned by the query");
+			}
+			super.meet(node);
+		}
+
+		@Override
+		public void meet(BindingSetAssignment node) {
+			checkNotAssigned(node.getBindingNames(), "is assigned by the query");
+			super.meet(node);
+		}
+
+		@Override
+		public void meet(Group node) {
+			checkNotAssigned(node.getGroupBindingNames(), "is grouped by");
+			super.meet(node);
+		}
+
+		@Override
+		public void meet(ProjectionElem node) {
+			// only the projections of CONSTRUCT templates rename the variables they project
+			if (parameterNames.contains(node.getName()) && node.getProjectionAlias().isPresent()) {
+				throw new IllegalArgumentException(
+						"parameter ?" + node.getName() + " occurs in the CONSTRUCT template");
+			}
+			super.meet(node);
+		}
+
+		@Override
+		public void meet(Service node) {
+			if (isParameter(node.getServiceRef())) {
+				throw new IllegalArgumentException(
+						"parameter ?" + node.getServiceRef().getName() + " occurs in a SERVICE pattern");
+			}
+			checkNotAssigned(node.getServiceVars(), "occurs in a SERVICE pattern");
+			super.meet(node);
+		}
+
+		private void checkNotAssigned(Set<String> names, String message) {
+			for (String name : names) {
+				if (parameterNames.contains(name)) {
+					throw new IllegalArgumentException("parameter ?" + name + " " + message);
+				}
+			}
+		}
+
+		private boolean isParameter(Var var) {
+			return !var.hasValue() && !var.isAnonymous() && parameterNames.contains(var.getName());
+		}
+
+		/**
+		 * Checks whether the supplied variable is the graph of a statement pattern or property path in a CONJ block.
+		 */
+		private boolean isConjectureGraph(Var var, QueryModelNode parent) {
+			StatementPattern pattern;
+			if (parent instanceof StatementPattern && ((StatementPattern) parent).getContextVar() == var) {
+				pattern = (StatementPattern) parent;
+			} else if (parent instanceof ArbitraryLengthPath && ((ArbitraryLengthPath) parent).getContextVar() == var) {
+				pattern = findPattern(((ArbitraryLengthPath) parent).getPathExpression());
+			} else if (parent instanceof ZeroLengthPath && ((ZeroLengthPath) parent).getContextVar() == var
+					&& parent.getParentNode() instanceof Union) {
+				// the zero length alternative of a ? path, the other one is the path itself
+				pattern = findPattern(((Union) parent.getParentNode()).getRightArg());
+			} else {
+				return false;
+			}
+			return pattern instanceof PartitionedStatementPattern
+					&& ((PartitionedStatementPattern) pattern).getPartition() == Partition.CONJECTURES;
+		}
+
+		/**
+		 * Matches the condition on the partition that {@link TupleExprBuilder} adds to a GRAPH or CONJ block:
+		 * <code>strStarts(str(?context), "conj-")</code>, negated for GRAPH.
+		 */
+		private GraphBlock getPartitionCondition(ValueExpr condition) {
+			Partition partition = Partition.CONJECTURES;
+			if (condition instanceof Not) {
+				partition = Partition.ASSERTED;
+				condition = ((Not) condition).getArg();
+			}
+			if (!(condition instanceof FunctionCall)) {
+				return null;
+			}
+			FunctionCall call = (FunctionCall) condition;
+			List<ValueExpr> args = call.getArgs();
+			if (!FN.STARTS_WITH.stringValue().equals(call.getURI()) || args.size() != 2
+					|| !(args.get(0) instanceof Str) || !(args.get(1) instanceof ValueConstant)) {
+				return null;
+			}
+			ValueExpr context = ((Str) args.get(0)).getArg();
+			Value prefix = ((ValueConstant) args.get(1)).getValue();
+			if (context instanceof Var && isParameter((Var) context)
+					&& Partition.CONJECTURE_PREFIX.equals(prefix.stringValue())) {
+				return new GraphBlock((Var) context, partition);
+			}
+			return null;
+		}
+
+		/**
+		 * @return The first statement pattern in the supplied tuple expression, or <var>null</var> if it has none.
+		 */
+		private StatementPattern findPattern(TupleExpr expr) {
+			List<StatementPattern> found = new ArrayList<>(1);
+			expr.visit(new AbstractQueryModelVisitor<RuntimeException>() {
+				@Override
+				protected void meetNode(QueryModelNode node) {
+					if (found.isEmpty()) {
+						super.meetNode(node);
+					}
+				}
+
+				@Override
+				public void meet(StatementPattern node) {
+					if (found.isEmpty()) {
+						found.add(node);
+					}
+				}
+			});
+			return found.isEmpty() ? null : found.get(0);
+		}
+	}
+
+	/**
+	 * Replaces the bound parameters in a clone of the query model of the template.
+	 */
+	private final class Binder extends IndexingVisitor {
+
+		private final Map<String, ? extends Value> values;
+
+		Binder(Map<String, ? extends Value> values) {
+			this.values = values;
+		}
+
+		@Override
+		public void meet(Var node) {
+			int index = varIndex++;
+			super.meet(node);
+
+			Value value = node.hasValue() || node.isAnonymous() ? null : values.get(node.getName());
+			if (value == null) {
+				return;
+			}
+			if (conjectureGraphs.get(index)) {
+				value = toConjectureGraph(value);
+			}
+
+			// variables of tuple expressions are constant variables, those of value expressions are constants
+			if (node.getParentNode() instanceof TupleExpr || partitionConditions.get(index)) {
+				node.replaceWith(TupleExprs.createConstVar(value));
+			} else {
+				node.replaceWith(new ValueConstant(value));
+			}
+		}
+
+		@Override
+		public void meet(StatementPattern node) {
+			GraphBlock block = partitionedPatterns.get(patternIndex++);
+			super.meet(node);
+
+			Value value = block != null ? values.get(block.parameter) : null;
+			if (value != null && determinesPartition(block, value)) {
+				StatementPattern pattern = new StatementPattern(node.getScope(), node.getSubjectVar(),
+						node.getPredicateVar(), node.getObjectVar(), node.getContextVar());
+				pattern.setVariableScopeChange(node.isVariableScopeChange());
+				node.replaceWith(pattern);
+			}
+		}
+
+		@Override
+		public void meet(Filter node) {
+			GraphBlock block = partitionFilters.get(filterIndex++);
+			super.meet(node);
+
+			Value value = block != null ? values.get(block.parameter) : null;
+			if (value != null && determinesPartition(block, value)) {
+				TupleExpr arg = node.getArg();
+				if (node.isVariableScopeChange() && arg instanceof VariableScopeChange) {
+					((VariableScopeChange) arg).setVariableScopeChange(true);
+				}
+				node.replaceWith(arg);
+			}
+		}
+
+		@Override
+		public void meet(Projection node) {
+			if (!isZeroOrOnePath(node)) {
+				super.meet(node);
+				return;
+			}
+
+			// the projection of a ? path projects the variables of the path, which are renamed if they are bound
+			ZeroLengthPath path = (ZeroLengthPath) ((Union) node.getArg()).getLeftArg();
+			List<Var> vars = path.getVarList();
+			List<String> names = new ArrayList<>(vars.size());
+			for (Var var : vars) {
+				names.add(var.getName());
+			}
+
+			node.getArg().visit(this);
+
+			vars = path.getVarList();
+			Map<String, String> renamed = new HashMap<>();
+			for (int i = 0; i < vars.size(); i++) {
+				renamed.put(names.get(i), vars.get(i).getName());
+			}
+			ProjectionElemList elements = new ProjectionElemList();
+			for (ProjectionElem elem : node.getProjectionElemList().getElements()) {
+				String name = elem.getName();
+				elements.addElement(new ProjectionElem(renamed.getOrDefault(name, name)));
+			}
+			node.setProjectionElemList(elements);
+		}
+
+		@Override
+		public void meet(ProjectionElemList node) {
+			if (node.getParentNode() instanceof Projection && !isZeroOrOnePath((Projection) node.getParentNode())) {
+				List<ProjectionElem> elements = new ArrayList<>(node.getElements().size());
+				for (ProjectionElem elem : node.getElements()) {
+					if (!values.containsKey(elem.getName())) {
+						elements.add(elem);
+					}
+				}
+				if (elements.size() < node.getElements().size()) {
+					node.setElements(elements);
+				}
+			}
+			super.meet(node);
+		}
+
+		private boolean isZeroOrOnePath(Projection projection) {
+			return projection.getArg() instanceof Union
+					&& ((Union) projection.getArg()).getLeftArg() instanceof ZeroLengthPath;
+		}
+	}
+}
@@ -11,6 +11,8 @@
 package org.eclipse.rdf4j.query.parser.sparql;
 
 import java.io.IOException;
+import java.util.Map;
+import java.util.Map.Entry;
 
 import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.Value;
@@ -41,6 +43,7 @@ public class SPARQLUpdateDataBlockParser extends TriGStarParser {
 
 	private boolean allowBlankNodes = true;
 	private int lineNumberOffset;
+	private Map<String, String> namespaces;
 
 	/*--------------*
 	 * Constructors *
@@ -208,6 +211,28 @@ public class SPARQLUpdateDataBlockParser extends TriGStarParser {
 		}
 	}
 
+	/**
+	 * Sets namespaces that are declared in addition to those of the parser configuration at the start of each parse,
+	 * so that a data block can use the prefixes of its update without declaring them itself.
+	 *
+	 * @param namespaces A map of prefixes (key) to the namespaces they map to (value). May be null.
+	 */
+	public void setNamespaces(Map<String, String> namespaces) {
+		this.namespaces = namespaces;
+	}
+
+	@Override
+	protected void initializeNamespaceTableFromConfiguration() {
+		super.initializeNamespaceTableFromConfiguration();
+		// also called by the superclass constructor, before the namespaces are set
+		if (namespaces == null) {
+			return;
+		}
+		for (Entry<String, String> entry : namespaces.entrySet()) {
+			setNamespace(entry.getKey(), entry.getValue());
+		}
+	}
+
 	/**
 	 * @param lineNumberOffset
 	 */
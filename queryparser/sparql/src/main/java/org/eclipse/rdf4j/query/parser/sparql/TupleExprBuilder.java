@@ -29,6 +29,7 @@ import org.eclipse.rdf4j.model.Triple;
 import org.eclipse.rdf4j.model.Value;
 import org.eclipse.rdf4j.model.ValueFactory;
 import org.eclipse.rdf4j.model.impl.BooleanLiteral;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
 import org.eclipse.rdf4j.model.vocabulary.FN;
 import org.eclipse.rdf4j.model.vocabulary.RDF;
 import org.eclipse.rdf4j.query.BindingSet;
@@ -105,6 +106,7 @@ import org.eclipse.rdf4j.query.algebra.helpers.TupleExprs;
 import org.eclipse.rdf4j.query.algebra.helpers.VarNameCollector;
 import org.eclipse.rdf4j.query.algebra.helpers.collectors.StatementPatternCollector;
 import org.eclipse.rdf4j.query.impl.ListBindingSet;
+import org.eclipse.rdf4j.query.parser.sparql.PartitionedStatementPattern.Partition;
 import org.eclipse.rdf4j.query.parser.sparql.aggregate.CustomAggregateFunctionRegistry;
 import org.eclipse.rdf4j.query.parser.sparql.ast.ASTAbs;
 import org.eclipse.rdf4j.query.parser.sparql.ast.ASTAnd;
@@ -123,6 +125,7 @@ import org.eclipse.rdf4j.query.parser.sparql.ast.ASTCoalesce;
 import org.eclipse.rdf4j.query.parser.sparql.ast.ASTCollection;
 import org.eclipse.rdf4j.query.parser.sparql.ast.ASTCompare;
 import org.eclipse.rdf4j.query.parser.sparql.ast.ASTConcat;
+import org.eclipse.rdf4j.query.parser.sparql.ast.ASTConjGraphPattern;
 import org.eclipse.rdf4j.query.parser.sparql.ast.ASTConstTripleRef;
 import org.eclipse.rdf4j.query.parser.sparql.ast.ASTConstraint;
 import org.eclipse.rdf4j.query.parser.sparql.ast.ASTConstruct;
@@ -204,6 +207,7 @@ import org.eclipse.rdf4j.query.parser.sparql.ast.ASTSeconds;
 import org.eclipse.rdf4j.query.parser.sparql.ast.ASTSelect;
 import org.eclipse.rdf4j.query.parser.sparql.ast.ASTSelectQuery;
 import org.eclipse.rdf4j.query.parser.sparql.ast.ASTServiceGraphPattern;
+import org.eclipse.rdf4j.query.parser.sparql.ast.ASTSettGraphPattern;
 import org.eclipse.rdf4j.query.parser.sparql.ast.ASTStr;
 import org.eclipse.rdf4j.query.parser.sparql.ast.ASTStrAfter;
 import org.eclipse.rdf4j.query.parser.sparql.ast.ASTStrBefore;
@@ -243,6 +247,11 @@ public class TupleExprBuilder extends AbstractASTVisitor {
 	private final static String uniqueIdPrefix = UUID.randomUUID().toString().replace("-", "");
 	private final static AtomicLong uniqueIdSuffix = new AtomicLong();
 
+	/**
+	 * The predicate that links a graph of a SETT block to the conjecture it settles.
+	 */
+	private final static String CONJECTURE_SETTLES = "https://w3id.org/conjectures/settles";
+
 	/*-----------*
 	 * Variables *
 	 *-----------*/
@@ -524,7 +533,8 @@ public class TupleExprBuilder extends AbstractASTVisitor {
 
 		Extension extension = new Extension();
 
-		ProjectionElemList projElemList = new ProjectionElemList();
+		// collected first, ProjectionElemList.addElement copies all elements on every call
+		List<ProjectionElem> projElems = new ArrayList<>();
 
 		GroupFinder groupFinder = new GroupFinder();
 		result.visit(groupFinder);
@@ -556,7 +566,7 @@ public class TupleExprBuilder extends AbstractASTVisitor {
 				}
 
 				ProjectionElem elem = new ProjectionElem(alias);
-				projElemList.addElement(elem);
+				projElems.add(elem);
 
 				AggregateCollector collector = new AggregateCollector();
 				valueExpr.visit(collector);
@@ -601,7 +611,7 @@ public class TupleExprBuilder extends AbstractASTVisitor {
 			} else if (child instanceof ASTVar) {
 				Var projVar = (Var) child.jjtAccept(this, null);
 				ProjectionElem elem = new ProjectionElem(projVar.getName());
-				projElemList.addElement(elem);
+				projElems.add(elem);
 			} else {
 				throw new IllegalStateException("required alias for non-Var projection elements not found");
 			}
@@ -625,6 +635,7 @@ public class TupleExprBuilder extends AbstractASTVisitor {
 			}
 		}
 
+		ProjectionElemList projElemList = new ProjectionElemList(projElems);
 		result = new Projection(result, projElemList);
 		if (group != null) {
 			Set<String> groupNames = group.getBindingNames();
@@ -1263,22 +1274,109 @@ public class TupleExprBuilder extends AbstractASTVisitor {
 
 	@Override
 	public Object visit(ASTGraphGraphPattern node, Object data) throws VisitorException {
-		Var oldContext = graphPattern.getContextVar();
-		Scope oldScope = graphPattern.getStatementPatternScope();
+		ValueExpr context = (ValueExpr) node.jjtGetChild(0).jjtAccept(this, null);
+		Var contextVar = mapValueExprToVar(context);
 
-		ValueExpr newContext = (ValueExpr) node.jjtGetChild(0).jjtAccept(this, null);
+		// GRAPH only matches graphs that are not conjectures
+		TupleExpr te;
+		if (contextVar.hasValue() && !contextVar.getValue().stringValue().startsWith(Partition.CONJECTURE_PREFIX)) {
+			te = buildGraphBlock(node.jjtGetChild(1), contextVar, null, null);
+		} else {
+			te = buildGraphBlock(node.jjtGetChild(1), contextVar, Partition.ASSERTED,
+					new Not(createConjectureCondition(contextVar)));
+		}
+		graphPattern.addRequiredTE(te);
 
-		graphPattern.setContextVar(mapValueExprToVar(newContext));
-		graphPattern.setStatementPatternScope(Scope.NAMED_CONTEXTS);
+		return null;
+	}
 
-		node.jjtGetChild(1).jjtAccept(this, null);
+	@Override
+	public Object visit(ASTConjGraphPattern node, Object data) throws VisitorException {
+		ValueExpr context = (ValueExpr) node.jjtGetChild(0).jjtAccept(this, null);
 
-		graphPattern.setContextVar(oldContext);
-		graphPattern.setStatementPatternScope(oldScope);
+		TupleExpr te;
+		if (context instanceof ValueConstant) {
+			// the conjecture about a named graph is stored in a graph of its own
+			Value graph = ((ValueConstant) context).getValue();
+			if (!graph.stringValue().startsWith(Partition.CONJECTURE_PREFIX)) {
+				graph = valueFactory.createIRI(Partition.CONJECTURE_PREFIX + graph.stringValue());
+			}
+			te = buildGraphBlock(node.jjtGetChild(1), TupleExprs.createConstVar(graph), null, null);
+		} else {
+			Var contextVar = mapValueExprToVar(context);
+			te = buildGraphBlock(node.jjtGetChild(1), contextVar, Partition.CONJECTURES,
+					createConjectureCondition(contextVar));
+		}
+		graphPattern.addRequiredTE(te);
 
 		return null;
 	}
 
+	@Override
+	public Object visit(ASTSettGraphPattern node, Object data) throws VisitorException {
+		ValueExpr context = (ValueExpr) node.jjtGetChild(0).jjtAccept(this, null);
+		Var contextVar = mapValueExprToVar(context);
+		Node block = node.jjtGetChild(1);
+
+		// the pattern holds in the settled graph...
+		TupleExpr settled = buildGraphBlock(block, contextVar, null, null);
+
+		// ...and in the conjecture about it, which the settled graph states that it settles with the statement
+		// (graph conj:settles conj-graph). This is a semi-join, so a solution is not repeated for every settles
+		// statement, and the settles statement comes first so it binds the conjecture graph, which is a variable
+		// even if the settled graph is a constant so that a query template with a parameter for it has the same
+		// query model.
+		Var conjectureVar = createAnonVar();
+		GraphPattern parentGP = graphPattern;
+		graphPattern = new GraphPattern(parentGP);
+		graphPattern.setContextVar(conjectureVar);
+		graphPattern.setStatementPatternScope(Scope.NAMED_CONTEXTS);
+		graphPattern.setPartition(null);
+		graphPattern.addRequiredTE(new StatementPattern(Scope.NAMED_CONTEXTS, contextVar.clone(),
+				TupleExprs.createConstVar(valueFactory.createIRI(CONJECTURE_SETTLES)), conjectureVar.clone(),
+				contextVar.clone()));
+		block.jjtAccept(this, null);
+		TupleExpr settling = graphPattern.buildTupleExpr();
+		graphPattern = parentGP;
+
+		graphPattern.addRequiredTE(new Filter(settled, new Exists(settling)));
+
+		return null;
+	}
+
+	/**
+	 * Builds the tuple expression for the group graph pattern of a GRAPH, CONJ or SETT block, matched against the
+	 * supplied context. If a partition is supplied, the statement patterns of the block are marked as restricted to it,
+	 * and the supplied condition, which must be equivalent, is added as a filter on the block itself, so it does not
+	 * affect the rest of the query.
+	 */
+	private TupleExpr buildGraphBlock(Node block, Var contextVar, Partition partition, ValueExpr condition)
+			throws VisitorException {
+		GraphPattern parentGP = graphPattern;
+		graphPattern = new GraphPattern(parentGP);
+		graphPattern.setContextVar(contextVar);
+		graphPattern.setStatementPatternScope(Scope.NAMED_CONTEXTS);
+		graphPattern.setPartition(partition);
+
+		block.jjtAccept(this, null);
+		if (condition != null) {
+			graphPattern.addConstraint(condition);
+		}
+
+		TupleExpr te = graphPattern.buildTupleExpr();
+		graphPattern = parentGP;
+		return te;
+	}
+
+	/**
+	 * Creates the condition <code>strStarts(str(?context), "conj-")</code>, which holds if the context is a conjecture
+	 * graph.
+	 */
+	static ValueExpr createConjectureCondition(Var contextVar) {
+		return new FunctionCall(FN.STARTS_WITH.stringValue(), new Str(contextVar.clone()),
+				new ValueConstant(SimpleValueFactory.getInstance().createLiteral(Partition.CONJECTURE_PREFIX)));
+	}
+
 	@Override
 	public Object visit(ASTUnionGraphPattern node, Object data) throws VisitorException {
 		GraphPattern parentGP = graphPattern;
@@ -1409,6 +1507,7 @@ public class TupleExprBuilder extends AbstractASTVisitor {
 		GraphPattern pathSequencePattern = new GraphPattern(graphPattern);
 		pathSequenceContext.scope = pathSequencePattern.getStatementPatternScope();
 		pathSequenceContext.contextVar = pathSequencePattern.getContextVar();
+		pathSequenceContext.partition = pathSequencePattern.getPartition();
 
 		for (int i = 0; i < pathLength; i++) {
 			ASTPathElt pathElement = pathElements.get(i);
@@ -1489,8 +1588,8 @@ public class TupleExprBuilder extends AbstractASTVisitor {
 			pathElementExpression = createTupleExprForNegatedPropertySets(psElems, pathSequenceContext);
 		} else {
 			Var predVar = mapValueExprToVar(pathElement.jjtGetChild(0).jjtAccept(this, pathSequenceContext));
-			pathElementExpression = new StatementPattern(pathSequenceContext.scope, startVar.clone(), predVar,
-					endVar.clone(),
+			pathElementExpression = GraphPattern.createStatementPattern(pathSequenceContext.partition,
+					pathSequenceContext.scope, startVar.clone(), predVar, endVar.clone(),
 					pathSequenceContext.contextVar != null ? pathSequenceContext.contextVar.clone() : null);
 		}
 
@@ -1542,16 +1641,16 @@ public class TupleExprBuilder extends AbstractASTVisitor {
 			}
 		}
 
-		TupleExpr patternMatch = new StatementPattern(pathSequenceContext.scope, subjVar.clone(), predVar.clone(),
-				endVar.clone(),
+		TupleExpr patternMatch = GraphPattern.createStatementPattern(pathSequenceContext.partition,
+				pathSequenceContext.scope, subjVar.clone(), predVar.clone(), endVar.clone(),
 				pathSequenceContext.contextVar != null ? pathSequenceContext.contextVar.clone() : null);
 
 		TupleExpr patternMatchInverse = null;
 
 		// build a inverse statement pattern if needed
 		if (filterConditionInverse != null) {
-			patternMatchInverse = new StatementPattern(pathSequenceContext.scope, endVar.clone(), predVar.clone(),
-					subjVar.clone(),
+			patternMatchInverse = GraphPattern.createStatementPattern(pathSequenceContext.partition,
+					pathSequenceContext.scope, endVar.clone(), predVar.clone(), subjVar.clone(),
 					pathSequenceContext.contextVar != null ? pathSequenceContext.contextVar.clone() : null);
 		}
 
@@ -2679,6 +2778,7 @@ public class TupleExprBuilder extends AbstractASTVisitor {
 
 		public Scope scope;
 		public Var contextVar;
+		public Partition partition;
 		public Var startVar;
 		public Var endVar;
 
@@ -2690,6 +2790,7 @@ public class TupleExprBuilder extends AbstractASTVisitor {
 		public PathSequenceContext(PathSequenceContext pathSequenceContext) {
 			this.scope = pathSequenceContext.scope;
 			this.contextVar = pathSequenceContext.contextVar;
+			this.partition = pathSequenceContext.partition;
 			this.startVar = pathSequenceContext.startVar;
 			this.endVar = pathSequenceContext.endVar;
 		}
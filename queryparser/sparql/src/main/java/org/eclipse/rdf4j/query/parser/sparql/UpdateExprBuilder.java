@@ -87,9 +87,9 @@ public class UpdateExprBuilder extends TupleExprBuilder {
 	@Override
 	public InsertData visit(ASTInsertData node, Object data) throws VisitorException {
 		ASTUnparsedQuadDataBlock dataBlock = node.jjtGetChild(ASTUnparsedQuadDataBlock.class);
-		InsertData insertData = new InsertData(dataBlock.getDataBlock());
+		InsertData insertData = new InsertData(createDataBlockText(dataBlock));
 
-		insertData.setLineNumberOffset(dataBlock.getAddedDefaultPrefixes());
+		insertData.setLineNumberOffset(getDeclarationLineCount(dataBlock));
 		return insertData;
 	}
 
@@ -97,13 +97,52 @@ public class UpdateExprBuilder extends TupleExprBuilder {
 	public DeleteData visit(ASTDeleteData node, Object data) throws VisitorException {
 
 		ASTUnparsedQuadDataBlock dataBlock = node.jjtGetChild(ASTUnparsedQuadDataBlock.class);
-		DeleteData deleteData = new DeleteData(dataBlock.getDataBlock());
+		DeleteData deleteData = new DeleteData(createDataBlockText(dataBlock));
 
-		deleteData.setLineNumberOffset(dataBlock.getAddedDefaultPrefixes());
+		deleteData.setLineNumberOffset(getDeclarationLineCount(dataBlock));
 		return deleteData;
 
 	}
 
+	/**
+	 * Creates the text of a data block for the algebra, which declares the prefixes and base IRI of the block, one per
+	 * line, so that it can be parsed on its own. The line number offset of the algebra node is the number of these
+	 * lines, so that a parser of the text reports lines counted from the opening brace of the block.
+	 */
+	private static String createDataBlockText(ASTUnparsedQuadDataBlock dataBlock) {
+		Map<String, String> prefixes = dataBlock.getPrefixes();
+		if (prefixes.isEmpty() && dataBlock.getBaseURI() == null) {
+			return dataBlock.getDataBlock();
+		}
+
+		StringBuilder sb = new StringBuilder(dataBlock.getDataBlock().length() + 64 * (prefixes.size() + 1));
+		for (Map.Entry<String, String> entry : prefixes.entrySet()) {
+			sb.append("PREFIX ");
+			if (entry.getKey() != null) {
+				sb.append(entry.getKey());
+			}
+			sb.append(": <").append(entry.getValue()).append(">\n");
+		}
+		if (dataBlock.getBaseURI() != null) {
+			sb.append("BASE <").append(dataBlock.getBaseURI()).append(">\n");
+		}
+		return sb.append(dataBlock.getDataBlock()).toString();
+	}
+
+	private static int getDeclarationLineCount(ASTUnparsedQuadDataBlock dataBlock) {
+		return dataBlock.getPrefixes().size() + (dataBlock.getBaseURI() != null ? 1 : 0);
+	}
+
+	/**
+	 * Returns the offset that {@link SPARQLUpdateDataBlockParser#setLineNumberOffset(int)} subtracts from the line
+	 * numbers in the data block as written, without declarations, so that they are reported as lines of the parsed
+	 * update string. The offset is zero or negative, as the data block text starts on the line of its opening brace.
+	 * It is only used by the parser that validates the data block, as it is seeded with the declarations.
+	 */
+	static int getLineNumberOffset(ASTUnparsedQuadDataBlock dataBlock) {
+		return 1 - dataBlock.getBeginLine();
+	}
+
 	@Override
 	public TupleExpr visit(ASTQuadsNotTriples node, Object data) throws VisitorException {
 		GraphPattern parentGP = graphPattern;
@@ -16,6 +16,10 @@ public class ASTDatasetClause extends SimpleNode {
 
 	private boolean named;
 
+	private boolean conjectures;
+
+	private boolean excludeConjectures;
+
 	public ASTDatasetClause(int id) {
 		super(id);
 	}
@@ -37,8 +41,37 @@ public class ASTDatasetClause extends SimpleNode {
 		this.named = named;
 	}
 
+	/**
+	 * Checks whether this is a <code>FROM CONJ</code> or <code>FROM NAMED CONJ</code> clause, which adds all conjecture
+	 * graphs instead of a single graph.
+	 */
+	public boolean isConjectures() {
+		return conjectures;
+	}
+
+	public void setConjectures(boolean conjectures) {
+		this.conjectures = conjectures;
+	}
+
+	/**
+	 * Checks whether this is an <code>EXCLUDE CONJ</code> clause.
+	 */
+	public boolean isExcludeConjectures() {
+		return excludeConjectures;
+	}
+
+	public void setExcludeConjectures(boolean excludeConjectures) {
+		this.excludeConjectures = excludeConjectures;
+	}
+
 	@Override
 	public String toString() {
-		return super.toString() + " (named=" + named + ")";
+		String result = super.toString() + " (named=" + named + ")";
+		if (conjectures) {
+			result += " (conjectures)";
+		} else if (excludeConjectures) {
+			result += " (exclude conjectures)";
+		}
+		return result;
 	}
 }
@@ -33,7 +33,7 @@ public class ASTProjectionElem extends SimpleNode {
 	}
 
 	public String getAlias() {
-		if (children.length >= 2) {
+		if (numChildren >= 2) {
 			Node aliasNode = children[1];
 
 			if (aliasNode instanceof ASTString) {
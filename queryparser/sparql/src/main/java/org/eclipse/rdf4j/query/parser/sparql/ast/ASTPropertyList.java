@@ -36,7 +36,7 @@ public class ASTPropertyList extends SimpleNode {
 	}
 
 	public ASTPropertyList getNextPropertyList() {
-		if (children.length >= 3) {
+		if (numChildren >= 3) {
 			return (ASTPropertyList) children[2];
 		}
 		return null;
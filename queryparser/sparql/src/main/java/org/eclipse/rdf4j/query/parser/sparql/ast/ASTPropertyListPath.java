@@ -37,7 +37,7 @@ public class ASTPropertyListPath extends SimpleNode {
 	}
 
 	public ASTPropertyListPath getNextPropertyList() {
-		if (children.length >= 3) {
+		if (numChildren >= 3) {
 			return (ASTPropertyListPath) children[2];
 		}
 		return null;
@@ -42,7 +42,7 @@ public class ASTRDFLiteral extends ASTRDFValue {
 	}
 
 	public ASTIRI getDatatype() {
-		if (children.length >= 2) {
+		if (numChildren >= 2) {
 			return (ASTIRI) children[1];
 		}
 		return null;
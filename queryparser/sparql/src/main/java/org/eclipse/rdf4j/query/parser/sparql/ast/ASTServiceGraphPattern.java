@@ -32,6 +32,10 @@ public class ASTServiceGraphPattern extends SimpleNode {
 
 	private int endTokenColumnPos;
 
+	private int beginTokenOffset = -1;
+
+	private int endTokenOffset = -1;
+
 	public ASTServiceGraphPattern(int id) {
 		super(id);
 	}
@@ -60,30 +64,34 @@ public class ASTServiceGraphPattern extends SimpleNode {
 	public String getPatternString() {
 
 		if (patternString == null) {
-			// snip away line until begin token line position
 			String sourceString = getSourceString();
-			String substring = sourceString;
-			for (int i = 1; i < getBeginTokenLinePos(); i++) {
-				substring = substring.substring(substring.indexOf('\n') + 1);
-			}
-
-			// snip away until begin token column pos
-			substring = substring.substring(getBeginTokenColumnPos() - 1);
 
-			// determine part of the query behind the service pattern closing bracket.
-			String toTrimSuffix = sourceString;
-			for (int i = 1; i < getEndTokenLinePos(); i++) {
-				toTrimSuffix = toTrimSuffix.substring(toTrimSuffix.indexOf('\n') + 1);
+			int begin = beginTokenOffset;
+			int end = endTokenOffset;
+			if (begin < 0 || end < 0) {
+				// offsets are unknown if the source was read through a UnicodeEscapeStream
+				begin = toOffset(sourceString, getBeginTokenLinePos(), getBeginTokenColumnPos());
+				end = toOffset(sourceString, getEndTokenLinePos(), getEndTokenColumnPos());
 			}
-			toTrimSuffix = toTrimSuffix.substring(getEndTokenColumnPos() - 1);
 
-			// trim off the end
-			patternString = substring.substring(0, substring.lastIndexOf(toTrimSuffix) + 1);
+			// up to and including the closing bracket of the service pattern
+			patternString = sourceString.substring(begin, end + 1);
 		}
 
 		return patternString;
 	}
 
+	/**
+	 * Determines the offset in the source string of the supplied (1-based) line and column.
+	 */
+	private static int toOffset(String sourceString, int line, int column) {
+		int lineStart = 0;
+		for (int i = 1; i < line; i++) {
+			lineStart = sourceString.indexOf('\n', lineStart) + 1;
+		}
+		return lineStart + column - 1;
+	}
+
 	private String getSourceString() {
 		Node theParent = getParentContainer(this);
 		String sourceString = null;
@@ -183,6 +191,34 @@ public class ASTServiceGraphPattern extends SimpleNode {
 		return beginTokenColumnPos;
 	}
 
+	/**
+	 * @param beginTokenOffset The offset of the begin token in the source string, or -1 if unknown.
+	 */
+	public void setBeginTokenOffset(int beginTokenOffset) {
+		this.beginTokenOffset = beginTokenOffset;
+	}
+
+	/**
+	 * @return Returns the offset of the begin token in the source string, or -1 if unknown.
+	 */
+	public int getBeginTokenOffset() {
+		return beginTokenOffset;
+	}
+
+	/**
+	 * @param endTokenOffset The offset of the end token in the source string, or -1 if unknown.
+	 */
+	public void setEndTokenOffset(int endTokenOffset) {
+		this.endTokenOffset = endTokenOffset;
+	}
+
+	/**
+	 * @return Returns the offset of the end token in the source string, or -1 if unknown.
+	 */
+	public int getEndTokenOffset() {
+		return endTokenOffset;
+	}
+
 	/**
 	 * @param beginTokenLinePos The beginTokenLinePos to set.
 	 */
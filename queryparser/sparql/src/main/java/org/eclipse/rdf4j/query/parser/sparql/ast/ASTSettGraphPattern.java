@@ -0,0 +1,29 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+/* Generated By:JJTree: Do not edit this line. ASTSettGraphPattern.java */
+
+package org.eclipse.rdf4j.query.parser.sparql.ast;
+
+public class ASTSettGraphPattern extends SimpleNode {
+
+	public ASTSettGraphPattern(int id) {
+		super(id);
+	}
+
+	public ASTSettGraphPattern(SyntaxTreeBuilder p, int id) {
+		super(p, id);
+	}
+
+	@Override
+	public Object jjtAccept(SyntaxTreeBuilderVisitor visitor, Object data) throws VisitorException {
+		return visitor.visit(this, data);
+	}
+}
@@ -12,11 +12,18 @@
 /* JavaCCOptions:MULTI=true,NODE_USES_PARSER=false,VISITOR=true,TRACK_TOKENS=false,NODE_PREFIX=AST,NODE_EXTENDS=,NODE_FACTORY=,SUPPORT_CLASS_VISIBILITY_PUBLIC=true */
 package org.eclipse.rdf4j.query.parser.sparql.ast;
 
+import java.util.Collections;
+import java.util.Map;
+
 public class ASTUnparsedQuadDataBlock extends SimpleNode {
 
 	private String dataBlock;
 
-	private int addedDefaultPrefixes;
+	private Map<String, String> prefixes = Collections.emptyMap();
+
+	private String baseURI;
+
+	private int beginLine = 1;
 
 	public ASTUnparsedQuadDataBlock(int id) {
 		super(id);
@@ -34,6 +41,22 @@ public class ASTUnparsedQuadDataBlock extends SimpleNode {
 		return dataBlock;
 	}
 
+	/**
+	 * Sets the line of the operation on which the data block starts, which is the line of its opening brace.
+	 *
+	 * @param beginLine A line number, starting at 1.
+	 */
+	public void setBeginLine(int beginLine) {
+		this.beginLine = beginLine;
+	}
+
+	/**
+	 * @return The line of the operation on which the data block starts.
+	 */
+	public int getBeginLine() {
+		return beginLine;
+	}
+
 	/** Accept the visitor. **/
 	@Override
 	public Object jjtAccept(SyntaxTreeBuilderVisitor visitor, Object data) throws VisitorException {
@@ -41,14 +64,35 @@ public class ASTUnparsedQuadDataBlock extends SimpleNode {
 	}
 
 	/**
-	 * @param defaultPrefixesAdded
+	 * Sets the prefixes that are in scope for the data block. The data block text itself does not declare them.
+	 *
+	 * @param prefixes A map of prefixes (key) to the namespaces they map to (value).
 	 */
-	public void setAddedDefaultPrefixes(int defaultPrefixesAdded) {
-		this.addedDefaultPrefixes = defaultPrefixesAdded;
+	public void setPrefixes(Map<String, String> prefixes) {
+		this.prefixes = prefixes;
 	}
 
-	public int getAddedDefaultPrefixes() {
-		return addedDefaultPrefixes;
+	/**
+	 * @return A map of the prefixes that are in scope for the data block (key) to the namespaces they map to (value).
+	 */
+	public Map<String, String> getPrefixes() {
+		return prefixes;
+	}
+
+	/**
+	 * Sets the base IRI against which relative IRIs in the data block are resolved.
+	 *
+	 * @param baseURI An absolute IRI, or <var>null</var> if no base IRI applies.
+	 */
+	public void setBaseURI(String baseURI) {
+		this.baseURI = baseURI;
+	}
+
+	/**
+	 * @return The base IRI for the data block, or <var>null</var> if no base IRI applies.
+	 */
+	public String getBaseURI() {
+		return baseURI;
 	}
 }
 /* JavaCC - OriginalChecksum=0f8443c5fea151a421f76d4230035cd9 (do not edit this line) */
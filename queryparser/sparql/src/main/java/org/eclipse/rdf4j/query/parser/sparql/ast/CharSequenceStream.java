@@ -0,0 +1,296 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.parser.sparql.ast;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * A {@link CharStream} that reads directly from a {@link CharSequence}, without copying it into a buffer. Unlike
+ * {@link UnicodeEscapeStream}, it does not decode <code>\\u</code> and <code>\\U</code> escapes, so it can only be used
+ * for input without escapes, see {@link #hasUnicodeEscapes(CharSequence)}. For such input, it reports the same
+ * characters, lines and columns as {@link UnicodeEscapeStream}.
+ * <p>
+ * Lines and columns are not tracked per character, but computed from the offsets of the line starts when the token
+ * manager asks for them.
+ */
+public class CharSequenceStream implements CharStream {
+
+	/**
+	 * The number of token images that are kept for reuse, a power of two.
+	 */
+	private static final int IMAGE_CACHE_SIZE = 256;
+
+	/**
+	 * The maximum length of a token image that is kept for reuse. Longer images, such as string literals and IRIs, are
+	 * rarely repeated.
+	 */
+	private static final int MAX_CACHED_IMAGE_LENGTH = 24;
+
+	private final CharSequence input;
+
+	private final int length;
+
+	/**
+	 * The offsets at which the lines start, the first <var>lineCount</var> entries are used.
+	 */
+	private int[] lineStarts;
+
+	private int lineCount;
+
+	/**
+	 * The (0-based) line of the last offset looked up.
+	 */
+	private int lastLine;
+
+	/**
+	 * The offset of the last character read, or -1.
+	 */
+	private int pos = -1;
+
+	/**
+	 * The offset of the first character of the current token.
+	 */
+	private int tokenBegin;
+
+	private int tabSize = 1;
+
+	private boolean trackLineColumn = true;
+
+	/**
+	 * The token images created so far, indexed by their hash code, or <var>null</var> until the first image is created.
+	 */
+	private String[] images;
+
+	public CharSequenceStream(CharSequence input, int tabSize) {
+		this.input = input;
+		this.length = input.length();
+		this.tabSize = tabSize;
+		indexLines();
+	}
+
+	/**
+	 * Checks whether the supplied input contains a backslash followed by <code>u</code> or <code>U</code>, which
+	 * {@link UnicodeEscapeStream} would decode.
+	 */
+	public static boolean hasUnicodeEscapes(CharSequence input) {
+		for (int i = 0, end = input.length() - 1; i < end; i++) {
+			if (input.charAt(i) == '\\') {
+				char next = input.charAt(i + 1);
+				if (next == 'u' || next == 'U') {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Records the line starts, following the line counting of {@link JavaCharStream}: a line starts after a line feed,
+	 * and after a carriage return that is not followed by a line feed.
+	 */
+	private void indexLines() {
+		lineStarts = new int[16];
+		lineCount = 1;
+		for (int i = 0; i < length; i++) {
+			char c = input.charAt(i);
+			if (c == '\n' || c == '\r' && (i + 1 == length || input.charAt(i + 1) != '\n')) {
+				if (lineCount == lineStarts.length) {
+					lineStarts = Arrays.copyOf(lineStarts, lineCount * 2);
+				}
+				lineStarts[lineCount++] = i + 1;
+			}
+		}
+	}
+
+	@Override
+	public char readChar() throws IOException {
+		if (pos + 1 >= length) {
+			throw JavaCharStream.IO_EXCEPTION;
+		}
+		return input.charAt(++pos);
+	}
+
+	@Override
+	public char BeginToken() throws IOException {
+		tokenBegin = pos + 1;
+		return readChar();
+	}
+
+	@Override
+	public void backup(int amount) {
+		pos -= amount;
+	}
+
+	/**
+	 * Returns the image of the current token. A short image that equals an image returned before is returned as the
+	 * same string, so that keywords, variables and prefixed names that occur many times in a query do not each create
+	 * a new string.
+	 */
+	@Override
+	public String GetImage() {
+		int end = pos + 1;
+		int imageLength = end - tokenBegin;
+		if (imageLength > MAX_CACHED_IMAGE_LENGTH) {
+			return input.subSequence(tokenBegin, end).toString();
+		}
+
+		// same hash as String.hashCode(), so that a cached image can be rejected by its (cached) hash code
+		int hash = 0;
+		for (int i = tokenBegin; i < end; i++) {
+			hash = 31 * hash + input.charAt(i);
+		}
+		if (images == null) {
+			images = new String[IMAGE_CACHE_SIZE];
+		}
+		int slot = (hash ^ (hash >>> 16)) & (IMAGE_CACHE_SIZE - 1);
+		String image = images[slot];
+		if (image == null || image.hashCode() != hash || !imageEquals(image, imageLength)) {
+			image = input.subSequence(tokenBegin, end).toString();
+			images[slot] = image;
+		}
+		return image;
+	}
+
+	private boolean imageEquals(String image, int imageLength) {
+		if (image.length() != imageLength) {
+			return false;
+		}
+		for (int i = 0; i < imageLength; i++) {
+			if (image.charAt(i) != input.charAt(tokenBegin + i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public char[] GetSuffix(int len) {
+		char[] suffix = new char[len];
+		for (int i = 0; i < len; i++) {
+			suffix[i] = input.charAt(pos - len + 1 + i);
+		}
+		return suffix;
+	}
+
+	@Override
+	public void Done() {
+		// nothing to release
+	}
+
+	@Override
+	@Deprecated
+	public int getColumn() {
+		return getEndColumn();
+	}
+
+	@Override
+	@Deprecated
+	public int getLine() {
+		return getEndLine();
+	}
+
+	@Override
+	public int getEndColumn() {
+		return columnOf(pos);
+	}
+
+	@Override
+	public int getEndLine() {
+		return lineOf(pos);
+	}
+
+	@Override
+	public int getBeginColumn() {
+		return columnOf(tokenBegin);
+	}
+
+	@Override
+	public int getBeginLine() {
+		return lineOf(tokenBegin);
+	}
+
+	/**
+	 * Returns the offset in the input of the first character of the current token.
+	 */
+	public int getBeginOffset() {
+		return tokenBegin;
+	}
+
+	/**
+	 * Returns the (1-based) line of the character at the supplied offset. Offsets past the end of the input refer to
+	 * the last character, as the position reported by {@link JavaCharStream} at the end of the input does. Empty input
+	 * has no lines, so the line is 0.
+	 */
+	private int lineOf(int offset) {
+		if (length == 0) {
+			return 0;
+		}
+		offset = Math.min(offset, length - 1);
+		if (!isOnLine(offset, lastLine)) {
+			// tokens are read front to back, so the next line is the most likely one otherwise
+			if (isOnLine(offset, lastLine + 1)) {
+				lastLine++;
+			} else {
+				int index = Arrays.binarySearch(lineStarts, 0, lineCount, offset);
+				lastLine = index >= 0 ? index : -index - 2;
+			}
+		}
+		return lastLine + 1;
+	}
+
+	private boolean isOnLine(int offset, int line) {
+		return line < lineCount && lineStarts[line] <= offset && (line + 1 == lineCount || offset < lineStarts[line + 1]);
+	}
+
+	/**
+	 * Returns the (1-based) column of the character at the supplied offset, see {@link #lineOf(int)}.
+	 */
+	private int columnOf(int offset) {
+		if (length == 0) {
+			return 0;
+		}
+		offset = Math.min(offset, length - 1);
+		int lineStart = lineStarts[lineOf(offset) - 1];
+		if (tabSize == 1) {
+			return offset - lineStart + 1;
+		}
+		int column = 0;
+		for (int i = lineStart; i <= offset; i++) {
+			column++;
+			if (input.charAt(i) == '\t') {
+				column--;
+				column += tabSize - (column % tabSize);
+			}
+		}
+		return column;
+	}
+
+	@Override
+	public void setTabSize(int i) {
+		tabSize = i;
+	}
+
+	@Override
+	public int getTabSize() {
+		return tabSize;
+	}
+
+	@Override
+	public boolean getTrackLineColumn() {
+		return trackLineColumn;
+	}
+
+	@Override
+	public void setTrackLineColumn(boolean trackLineColumn) {
+		this.trackLineColumn = trackLineColumn;
+	}
+}
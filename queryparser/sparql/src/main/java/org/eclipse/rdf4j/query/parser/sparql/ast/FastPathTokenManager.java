@@ -0,0 +1,266 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.parser.sparql.ast;
+
+import java.io.IOException;
+
+/**
+ * A {@link SyntaxTreeBuilderTokenManager} that recognizes the tokens that make up most of a long query directly, with a
+ * small hand-written DFA per token class, instead of running the generated NFA simulation for them:
+ * <ul>
+ * <li>whitespace, which the grammar skips one character at a time;</li>
+ * <li>variables (<code>VAR1</code> and <code>VAR2</code>) with ASCII names;</li>
+ * <li>IRI references (<code>Q_IRI_REF</code>);</li>
+ * <li>short string literals (<code>STRING_LITERAL1</code> and <code>STRING_LITERAL2</code>);</li>
+ * <li>punctuation.</li>
+ * </ul>
+ * Any other input, including a variable name with non-ASCII characters and a <code>&lt;</code> that does not start an
+ * IRI reference, is pushed back and lexed by the generated token manager, so the tokens produced are exactly those of
+ * {@link SyntaxTreeBuilderTokenManager}. The DFAs mirror the token definitions in <code>sparql.jjt</code> and must be
+ * kept in sync with them.
+ */
+public class FastPathTokenManager extends SyntaxTreeBuilderTokenManager {
+
+	/**
+	 * Marks the ASCII characters that may occur in a variable name, see <code>VARNAME</code> in the grammar.
+	 */
+	private static final boolean[] VAR_CHARS = new boolean[128];
+
+	/**
+	 * Marks the ASCII characters that may occur in an IRI reference, see <code>Q_IRI_REF</code> in the grammar. All
+	 * other characters may occur as well.
+	 */
+	private static final boolean[] IRI_CHARS = new boolean[128];
+
+	static {
+		for (char c = 'a'; c <= 'z'; c++) {
+			VAR_CHARS[c] = true;
+			VAR_CHARS[Character.toUpperCase(c)] = true;
+		}
+		for (char c = '0'; c <= '9'; c++) {
+			VAR_CHARS[c] = true;
+		}
+		VAR_CHARS['_'] = true;
+
+		for (char c = '!'; c < 128; c++) {
+			IRI_CHARS[c] = "<>\"{}|^`\\".indexOf(c) < 0;
+		}
+	}
+
+	public FastPathTokenManager(CharStream stream) {
+		super(stream);
+	}
+
+	@Override
+	public Token getNextToken() {
+		char c;
+		try {
+			do {
+				c = input_stream.BeginToken();
+			} while (isWhitespace(c));
+		} catch (Exception e) {
+			// produce the EOF token as the generated token manager does, the stream must not be read again
+			jjmatchedPos = -1;
+			return fillToken(EOF);
+		}
+
+		int read;
+		switch (c) {
+		case '?':
+		case '$':
+			read = scanVariable();
+			if (read < 0) {
+				return fillToken(c == '?' ? VAR1 : VAR2);
+			}
+			break;
+		case '<':
+			read = scanIRI();
+			if (read < 0) {
+				return fillToken(Q_IRI_REF);
+			}
+			break;
+		case '"':
+		case '\'':
+			read = scanString(c);
+			if (read < 0) {
+				return fillToken(c == '"' ? STRING_LITERAL2 : STRING_LITERAL1);
+			}
+			break;
+		case '(':
+		case '[':
+		case '.':
+			// these start NIL, ANON and numbers respectively
+			read = scanPunctuation(c);
+			if (read < 0) {
+				return fillToken(c == '(' ? LPAREN : c == '[' ? LBRACK : DOT);
+			}
+			break;
+		case ')':
+			return fillToken(RPAREN);
+		case '{':
+			return fillToken(LBRACE);
+		case '}':
+			return fillToken(RBRACE);
+		case ']':
+			return fillToken(RBRACK);
+		case ';':
+			return fillToken(SEMICOLON);
+		case ',':
+			return fillToken(COMMA);
+		case '=':
+			return fillToken(EQ);
+		case '*':
+			return fillToken(STAR);
+		default:
+			read = 0;
+		}
+
+		input_stream.backup(read + 1);
+		return super.getNextToken();
+	}
+
+	/**
+	 * Checks whether a <code>(</code>, <code>[</code> or <code>.</code> that has been read is a token by itself.
+	 *
+	 * @return -1 if it is, or else the number of characters read after it.
+	 */
+	private int scanPunctuation(char first) {
+		char c;
+		try {
+			c = input_stream.readChar();
+		} catch (IOException e) {
+			return -1;
+		}
+		boolean longer;
+		if (first == '.') {
+			longer = c >= '0' && c <= '9';
+		} else {
+			longer = isWhitespace(c) || c == (first == '(' ? ')' : ']');
+		}
+		if (longer) {
+			return 1;
+		}
+		input_stream.backup(1);
+		return -1;
+	}
+
+	private static boolean isWhitespace(char c) {
+		return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f';
+	}
+
+	/**
+	 * Scans a short string literal whose opening quote has been read.
+	 *
+	 * @return -1 if the literal was read up to and including its closing quote, or else the number of characters read
+	 *         after the opening one.
+	 */
+	private int scanString(char quote) {
+		int read = 0;
+		try {
+			char c = input_stream.readChar();
+			read++;
+			if (c == quote) {
+				// an empty literal or the start of a long literal
+				return read;
+			}
+			for (;;) {
+				if (c == quote) {
+					return -1;
+				}
+				if (c == '\r' || c == '\n') {
+					return read;
+				}
+				if (c == '\\') {
+					c = input_stream.readChar();
+					read++;
+					if ("tbnrf\\\"'".indexOf(c) < 0) {
+						return read;
+					}
+				}
+				c = input_stream.readChar();
+				read++;
+			}
+		} catch (IOException e) {
+			return read;
+		}
+	}
+
+	/**
+	 * Scans the name of a variable whose first character has been read.
+	 *
+	 * @return -1 if an ASCII variable name was read, or else the number of characters read after the first one.
+	 */
+	private int scanVariable() {
+		int read = 0;
+		try {
+			char c = input_stream.readChar();
+			read++;
+			if (c >= 128 || !VAR_CHARS[c]) {
+				return read;
+			}
+			for (;;) {
+				c = input_stream.readChar();
+				read++;
+				if (c >= 128) {
+					return read;
+				}
+				if (!VAR_CHARS[c]) {
+					input_stream.backup(1);
+					return -1;
+				}
+			}
+		} catch (IOException e) {
+			// the name ends at the end of the input, unless there is no name
+			return read == 0 ? 0 : -1;
+		}
+	}
+
+	/**
+	 * Scans an IRI reference whose opening <code>&lt;</code> has been read.
+	 *
+	 * @return -1 if the IRI reference was read up to and including its closing <code>&gt;</code>, or else the number
+	 *         of characters read after the opening one.
+	 */
+	private int scanIRI() {
+		int read = 0;
+		try {
+			for (;;) {
+				char c = input_stream.readChar();
+				read++;
+				if (c == '>') {
+					return -1;
+				}
+				if (c < 128 && !IRI_CHARS[c]) {
+					return read;
+				}
+			}
+		} catch (IOException e) {
+			return read;
+		}
+	}
+
+	/**
+	 * Creates the token for the current match, and records its offset when the input is a {@link CharSequenceStream}.
+	 */
+	@Override
+	protected Token jjFillToken() {
+		Token token = super.jjFillToken();
+		if (input_stream instanceof CharSequenceStream) {
+			token.beginOffset = ((CharSequenceStream) input_stream).getBeginOffset();
+		}
+		return token;
+	}
+
+	private Token fillToken(int kind) {
+		jjmatchedKind = kind;
+		return jjFillToken();
+	}
+}
@@ -13,6 +13,7 @@
 package org.eclipse.rdf4j.query.parser.sparql.ast;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 public class SimpleNode implements Node {
@@ -20,19 +21,34 @@ public class SimpleNode implements Node {
 	private static final String LINE_SEPARATOR = System.getProperty("line.separator");
 
 	protected Node parent;
+
+	/**
+	 * The child nodes, in the first {@link #numChildren} elements. The array may be longer while children are being
+	 * appended, it is trimmed when the node is closed and when it is handed out by {@link #jjtGetChildren()}.
+	 */
 	protected Node[] children;
-	protected int id;
+
+	protected int numChildren;
+
+	/**
+	 * The node type, one of the constants of {@link SyntaxTreeBuilderTreeConstants}. A short keeps the node within 32
+	 * bytes with compressed references.
+	 */
+	protected short id;
+
 	protected Object value;
-	protected SyntaxTreeBuilder parser;
 	private boolean isScopeChange;
 
 	public SimpleNode(int i) {
-		id = i;
+		id = (short) i;
 	}
 
+	/**
+	 * Creates a node for the supplied parser. The node does not keep a reference to the parser, so that a syntax tree
+	 * that outlives its parse does not keep the parser and its token chain reachable.
+	 */
 	public SimpleNode(SyntaxTreeBuilder p, int i) {
 		this(i);
-		parser = p;
 	}
 
 	@Override
@@ -41,6 +57,7 @@ public class SimpleNode implements Node {
 
 	@Override
 	public void jjtClose() {
+		trimChildren();
 	}
 
 	@Override
@@ -58,11 +75,19 @@ public class SimpleNode implements Node {
 		if (children == null) {
 			children = new Node[i + 1];
 		} else if (i >= children.length) {
-			Node[] c = new Node[i + 1];
-			System.arraycopy(children, 0, c, 0, children.length);
-			children = c;
+			// at least double the capacity, so that appending n children one by one copies O(n) references
+			children = Arrays.copyOf(children, Math.max(i + 1, 2 * children.length));
 		}
 		children[i] = n;
+		if (i >= numChildren) {
+			numChildren = i + 1;
+		}
+	}
+
+	private void trimChildren() {
+		if (children != null && children.length != numChildren) {
+			children = Arrays.copyOf(children, numChildren);
+		}
 	}
 
 	@Override
@@ -72,7 +97,7 @@ public class SimpleNode implements Node {
 
 	@Override
 	public int jjtGetNumChildren() {
-		return (children == null) ? 0 : children.length;
+		return numChildren;
 	}
 
 	public void jjtSetValue(Object value) {
@@ -96,11 +121,9 @@ public class SimpleNode implements Node {
 	 * Accept the visitor.
 	 **/
 	public Object childrenAccept(SyntaxTreeBuilderVisitor visitor, Object data) throws VisitorException {
-		if (children != null) {
-			for (Node childNode : children) {
-				// Note: modified JavaCC code, child's data no longer ignored
-				data = childNode.jjtAccept(visitor, data);
-			}
+		for (int i = 0; i < numChildren; i++) {
+			// Note: modified JavaCC code, child's data no longer ignored
+			data = children[i].jjtAccept(visitor, data);
 		}
 
 		return data;
@@ -127,7 +150,7 @@ public class SimpleNode implements Node {
 	public void dump(String prefix) {
 		System.out.println(toString(prefix));
 		if (children != null) {
-			for (int i = 0; i < children.length; ++i) {
+			for (int i = 0; i < numChildren; ++i) {
 				SimpleNode n = (SimpleNode) children[i];
 				if (n != null) {
 					n.dump(prefix + " ");
@@ -148,11 +171,9 @@ public class SimpleNode implements Node {
 	 * @return The (first) child node of the specified type, or <var>null</var> if no such child node was found.
 	 */
 	public <T extends Node> T jjtGetChild(Class<T> type) {
-		if (children != null) {
-			for (Node n : children) {
-				if (type.isInstance(n)) {
-					return (T) n;
-				}
+		for (int i = 0; i < numChildren; i++) {
+			if (type.isInstance(children[i])) {
+				return (T) children[i];
 			}
 		}
 
@@ -164,11 +185,11 @@ public class SimpleNode implements Node {
 			return List.of();
 		}
 
-		List<T> result = new ArrayList<>(children.length);
+		List<T> result = new ArrayList<>(numChildren);
 
-		for (Node n : children) {
-			if (type.isInstance(n)) {
-				result.add((T) n);
+		for (int i = 0; i < numChildren; i++) {
+			if (type.isInstance(children[i])) {
+				result.add((T) children[i]);
 			}
 		}
 
@@ -176,6 +197,7 @@ public class SimpleNode implements Node {
 	}
 
 	public Node[] jjtGetChildren() {
+		trimChildren();
 		return children;
 	}
 
@@ -184,16 +206,14 @@ public class SimpleNode implements Node {
 			parent.jjtReplaceChild(this, newNode);
 		}
 
-		if (children != null) {
-			for (Node childNode : children) {
-				childNode.jjtSetParent(newNode);
-			}
+		for (int i = 0; i < numChildren; i++) {
+			children[i].jjtSetParent(newNode);
 		}
 	}
 
 	public void jjtReplaceChild(Node oldNode, Node newNode) {
 		if (children != null) {
-			for (int i = 0; i < children.length; i++) {
+			for (int i = 0; i < numChildren; i++) {
 				if (children[i] == oldNode) {
 					children[i] = newNode;
 				}
@@ -203,7 +223,7 @@ public class SimpleNode implements Node {
 
 	@Override
 	public void jjtAppendChild(Node n) {
-		jjtAddChild(n, children == null ? 0 : children.length);
+		jjtAddChild(n, numChildren);
 	}
 
 	/**
@@ -12,7 +12,6 @@
 /* Generated By:JJTree&JavaCC: Do not edit this line. SyntaxTreeBuilder.java */
 package org.eclipse.rdf4j.query.parser.sparql.ast;
 
-import org.apache.commons.lang3.StringUtils;
 import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.vocabulary.RDF;
 import org.eclipse.rdf4j.model.vocabulary.XSD;
@@ -23,6 +22,11 @@ public class SyntaxTreeBuilder
 		/* @bgen(jjtree) */ implements SyntaxTreeBuilderTreeConstants, SyntaxTreeBuilderConstants {/* @bgen(jjtree) */
 	protected JJTSyntaxTreeBuilderState jjtree = new JJTSyntaxTreeBuilderState();
 
+	/**
+	 * The update sequence being parsed, from which data blocks are sliced, or <var>null</var> if unknown.
+	 */
+	private String sourceString;
+
 	/**
 	 * Parses the supplied SPARQL query and builds a syntax tree from it.
 	 *
@@ -33,95 +37,7 @@ public class SyntaxTreeBuilder
 	 */
 	public static ASTQueryContainer parseQuery(String query)
 			throws TokenMgrError, ParseException {
-
-		int numGraph = StringUtils.countMatches(query.toLowerCase(), "graph ");
-		int numConj = StringUtils.countMatches(query.toLowerCase(), "conj ");
-		int numSett = StringUtils.countMatches(query.toLowerCase(), "sett ");
-
-		int i = 0;
-		int substart = 0;
-		for (i = 0; i < numGraph; i++) {
-			if (query.toLowerCase().contains("graph ") || query.toLowerCase().contains("graph\n")) {
-
-				substart = query.indexOf("graph ", substart) + 6;
-				if (substart == 5)
-					substart = query.indexOf("GRAPH ", substart) + 6;
-
-				int subend = query.indexOf("{", substart);
-
-				String sub = query.substring(substart, subend).trim();
-
-				int lastIndex = query.lastIndexOf("}");
-
-				String endQuery = query.substring(lastIndex + 1, query.length());
-
-				query = query.substring(0, lastIndex);
-				query = query.concat(" filter (!strStarts(str(" + sub + "),\"conj-\"))}\n" + endQuery);
-
-			}
-		}
-
-		i = 0;
-		substart = 0;
-		for (i = 0; i < numConj; i++) {
-			if (query.toLowerCase().contains("conj ") || query.toLowerCase().contains("conj\n")) {
-
-				substart = query.indexOf("conj ", substart) + 5;
-				if (substart == 4)
-					substart = query.indexOf("CONJ ", substart) + 5;
-				int subend = query.indexOf("{", substart);
-
-				String sub = query.substring(substart, subend).trim();
-
-				query = query.replace("conj ", "graph ");
-				query = query.replace("CONJ ", "graph ");
-
-				int lastIndex = query.lastIndexOf("}");
-
-				String endQuery = query.substring(lastIndex + 1, query.length());
-
-				query = query.substring(0, lastIndex);
-
-				query = query.concat(" filter (strStarts(str(" + sub + "),\"conj-\"))}\n" + endQuery);
-
-			}
-		}
-
-		i = 0;
-		substart = 0;
-		for (i = 0; i < numSett; i++) {
-			if (query.toLowerCase().contains("sett ") || query.toLowerCase().contains("sett\n")) {
-
-				query = "prefix conj: <https://w3id.org/conjectures/> " + query;
-				substart = query.indexOf("sett ", substart) + 5;
-				if (substart == 4)
-					substart = query.indexOf("SETT ", substart) + 5;
-				int subend = query.indexOf("{", substart);
-
-				String g = query.substring(substart, subend);
-
-				substart = query.indexOf("{", substart);
-				subend = query.indexOf("}", substart);
-
-				String sub = query.substring(substart, subend);
-
-				query = query.replace("sett ", "graph ");
-				query = query.replace("SETT ", "graph ");
-
-				sub = "graph ?g2 " + sub + " ?g2 conj:settles " + g + ". }";
-
-				int lastIndex = subend + 2;
-
-				String endQuery = query.substring(lastIndex, query.length());
-
-				query = query.substring(0, lastIndex);
-
-				query = query.concat(sub + endQuery);
-			}
-		}
-
-		System.out.println("query post: " + query);
-		SyntaxTreeBuilder stb = new SyntaxTreeBuilder(new UnicodeEscapeStream(query, 1));
+		SyntaxTreeBuilder stb = new SyntaxTreeBuilder(new FastPathTokenManager(createCharStream(query)));
 
 		// Set size of tab to 1 to force tokenmanager to report correct column
 		// index for substring splitting of service graph pattern.
@@ -141,7 +57,8 @@ public class SyntaxTreeBuilder
 	 */
 	public static ASTUpdateSequence parseUpdateSequence(String sequence)
 			throws TokenMgrError, ParseException {
-		SyntaxTreeBuilder stb = new SyntaxTreeBuilder(new UnicodeEscapeStream(sequence, 1));
+		SyntaxTreeBuilder stb = new SyntaxTreeBuilder(new FastPathTokenManager(createCharStream(sequence)));
+		stb.sourceString = sequence;
 
 		// Set size of tab to 1 to force tokenmanager to report correct column
 		// index for substring splitting of service graph pattern.
@@ -151,6 +68,17 @@ public class SyntaxTreeBuilder
 		return seq;
 	}
 
+	/**
+	 * Creates the stream that the token manager reads the supplied input from. Input without unicode escapes is
+	 * read in place by a {@link CharSequenceStream}, other input is decoded by a {@link UnicodeEscapeStream}.
+	 */
+	private static CharStream createCharStream(String input) {
+		if (CharSequenceStream.hasUnicodeEscapes(input)) {
+			return new UnicodeEscapeStream(input, 1);
+		}
+		return new CharSequenceStream(input, 1);
+	}
+
 	/**
 	 * Trims <tt>n</tt> character from the start and end of the supplied string.
 	 */
@@ -161,8 +89,14 @@ public class SyntaxTreeBuilder
 		return s;
 	}
 
+	/**
+	 * Reads the tokens up to the brace that closes the one just consumed, and returns the text between the braces.
+	 * The text is sliced from the source if the token offsets are known, otherwise it is rebuilt from the token
+	 * images.
+	 */
 	private String readToMatchingBrace() throws ParseException {
-		StringBuilder sb = new StringBuilder();
+		Token open = token;
+		StringBuilder sb = (sourceString == null || open.beginOffset < 0) ? new StringBuilder() : null;
 		Token tok;
 		int nesting = 1;
 		boolean previousTokenDtSep = false;
@@ -171,7 +105,7 @@ public class SyntaxTreeBuilder
 			if ("".equals(tok.image)) {
 				throw new ParseException("closing brace missing");
 			}
-			if (!previousTokenDtSep && !tok.image.equals("^^") && !tok.image.startsWith("@")) {
+			if (sb != null && !previousTokenDtSep && !tok.image.equals("^^") && !tok.image.startsWith("@")) {
 				sb.append(" ");
 			}
 			if (tok.kind == LBRACE) {
@@ -183,11 +117,16 @@ public class SyntaxTreeBuilder
 					break;
 				}
 			}
-			sb.append(tok.image);
-			previousTokenDtSep = tok.image.equals("^^");
+			if (sb != null) {
+				sb.append(tok.image);
+				previousTokenDtSep = tok.image.equals("^^");
+			}
 
 			getNextToken();
 		}
+		if (sb == null) {
+			return sourceString.substring(open.beginOffset + 1, tok.beginOffset);
+		}
 		return sb.toString();
 	}
 
@@ -442,11 +381,16 @@ public class SyntaxTreeBuilder
 		jjtree.openNodeScope(jjtn000);
 		try {
 			Select();
-			while (true) {
-				if (((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) != FROM) {
-					jj_la1[5] = jj_gen;
+			label_2: while (true) {
+				switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
+				case FROM:
+				case EXCLUDE: {
 					break;
 				}
+				default:
+					jj_la1[5] = jj_gen;
+					break label_2;
+				}
 				DatasetClause();
 			}
 			WhereClause();
@@ -664,11 +608,16 @@ public class SyntaxTreeBuilder
 		jjtree.openNodeScope(jjtn000);
 		try {
 			Construct();
-			while (true) {
-				if (((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) != FROM) {
-					jj_la1[13] = jj_gen;
+			label_4: while (true) {
+				switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
+				case FROM:
+				case EXCLUDE: {
 					break;
 				}
+				default:
+					jj_la1[13] = jj_gen;
+					break label_4;
+				}
 				DatasetClause();
 			}
 			WhereClause();
@@ -781,11 +730,16 @@ public class SyntaxTreeBuilder
 		jjtree.openNodeScope(jjtn000);
 		try {
 			Describe();
-			while (true) {
-				if (((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) != FROM) {
-					jj_la1[16] = jj_gen;
+			label_5: while (true) {
+				switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
+				case FROM:
+				case EXCLUDE: {
 					break;
 				}
+				default:
+					jj_la1[16] = jj_gen;
+					break label_5;
+				}
 				DatasetClause();
 			}
 			switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -923,11 +877,16 @@ public class SyntaxTreeBuilder
 		jjtree.openNodeScope(jjtn000);
 		try {
 			jj_consume_token(ASK);
-			while (true) {
-				if (((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) != FROM) {
-					jj_la1[22] = jj_gen;
+			label_7: while (true) {
+				switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
+				case FROM:
+				case EXCLUDE: {
 					break;
 				}
+				default:
+					jj_la1[22] = jj_gen;
+					break label_7;
+				}
 				DatasetClause();
 			}
 			WhereClause();
@@ -969,27 +928,63 @@ public class SyntaxTreeBuilder
 		boolean jjtc000 = true;
 		jjtree.openNodeScope(jjtn000);
 		try {
-			jj_consume_token(FROM);
 			switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
-			case NAMED:
-			case Q_IRI_REF:
-			case PNAME_NS:
-			case PNAME_LN: {
-				if (((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) == NAMED) {
-					jj_consume_token(NAMED);
-					jjtn000.setNamed(true);
-				} else {
-					jj_la1[24] = jj_gen;
+			case FROM: {
+				jj_consume_token(FROM);
+				switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
+				case NAMED:
+				case Q_IRI_REF:
+				case PNAME_NS:
+				case PNAME_LN:
+				case CONJ: {
+					if (((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) == NAMED) {
+						jj_consume_token(NAMED);
+						jjtn000.setNamed(true);
+					} else {
+						jj_la1[24] = jj_gen;
+					}
+					switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
+					case Q_IRI_REF:
+					case PNAME_NS:
+					case PNAME_LN: {
+						IRIref();
+						break;
+					}
+					case CONJ: {
+						jj_consume_token(CONJ);
+						jjtree.closeNodeScope(jjtn000, true);
+						jjtc000 = false;
+						jjtn000.setConjectures(true);
+						break;
+					}
+					default:
+						jj_la1[25] = jj_gen;
+						jj_consume_token(-1);
+						throw new ParseException();
+					}
+					break;
+				}
+				case DEFAULT_GRAPH: {
+					jj_consume_token(DEFAULT_GRAPH);
+					break;
+				}
+				default:
+					jj_la1[26] = jj_gen;
+					jj_consume_token(-1);
+					throw new ParseException();
 				}
-				IRIref();
 				break;
 			}
-			case DEFAULT_GRAPH: {
-				jj_consume_token(DEFAULT_GRAPH);
+			case EXCLUDE: {
+				jj_consume_token(EXCLUDE);
+				jj_consume_token(CONJ);
+				jjtree.closeNodeScope(jjtn000, true);
+				jjtc000 = false;
+				jjtn000.setExcludeConjectures(true);
 				break;
 			}
 			default:
-				jj_la1[25] = jj_gen;
+				jj_la1[27] = jj_gen;
 				jj_consume_token(-1);
 				throw new ParseException();
 			}
@@ -1024,7 +1019,7 @@ public class SyntaxTreeBuilder
 			if (((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) == WHERE) {
 				jj_consume_token(WHERE);
 			} else {
-				jj_la1[26] = jj_gen;
+				jj_la1[28] = jj_gen;
 			}
 			GroupGraphPattern();
 		} catch (Throwable jjte000) {
@@ -1070,7 +1065,7 @@ public class SyntaxTreeBuilder
 						break;
 					}
 					default:
-						jj_la1[27] = jj_gen;
+						jj_la1[29] = jj_gen;
 						break label_8;
 					}
 					Var();
@@ -1083,7 +1078,7 @@ public class SyntaxTreeBuilder
 						break;
 					}
 					default:
-						jj_la1[28] = jj_gen;
+						jj_la1[30] = jj_gen;
 						break label_9;
 					}
 					BindingSet();
@@ -1092,7 +1087,7 @@ public class SyntaxTreeBuilder
 				break;
 			}
 			default:
-				jj_la1[29] = jj_gen;
+				jj_la1[31] = jj_gen;
 				jj_consume_token(-1);
 				throw new ParseException();
 			}
@@ -1162,7 +1157,7 @@ public class SyntaxTreeBuilder
 			break;
 		}
 		default:
-			jj_la1[30] = jj_gen;
+			jj_la1[32] = jj_gen;
 			jj_consume_token(-1);
 			throw new ParseException();
 		}
@@ -1196,7 +1191,7 @@ public class SyntaxTreeBuilder
 				break;
 			}
 			default:
-				jj_la1[31] = jj_gen;
+				jj_la1[33] = jj_gen;
 				break label_10;
 			}
 			SimpleBindingSet();
@@ -1219,7 +1214,7 @@ public class SyntaxTreeBuilder
 					break;
 				}
 				default:
-					jj_la1[32] = jj_gen;
+					jj_la1[34] = jj_gen;
 					break label_11;
 				}
 				Var();
@@ -1228,7 +1223,7 @@ public class SyntaxTreeBuilder
 			break;
 		}
 		default:
-			jj_la1[33] = jj_gen;
+			jj_la1[35] = jj_gen;
 			jj_consume_token(-1);
 			throw new ParseException();
 		}
@@ -1240,7 +1235,7 @@ public class SyntaxTreeBuilder
 				break;
 			}
 			default:
-				jj_la1[34] = jj_gen;
+				jj_la1[36] = jj_gen;
 				break label_12;
 			}
 			BindingSet();
@@ -1310,7 +1305,7 @@ public class SyntaxTreeBuilder
 						break;
 					}
 					default:
-						jj_la1[35] = jj_gen;
+						jj_la1[37] = jj_gen;
 						break label_13;
 					}
 					BindingValue();
@@ -1323,7 +1318,7 @@ public class SyntaxTreeBuilder
 				break;
 			}
 			default:
-				jj_la1[36] = jj_gen;
+				jj_la1[38] = jj_gen;
 				jj_consume_token(-1);
 				throw new ParseException();
 			}
@@ -1395,7 +1390,7 @@ public class SyntaxTreeBuilder
 				break;
 			}
 			default:
-				jj_la1[37] = jj_gen;
+				jj_la1[39] = jj_gen;
 				jj_consume_token(-1);
 				throw new ParseException();
 			}
@@ -1426,17 +1421,17 @@ public class SyntaxTreeBuilder
 		if (((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) == GROUP) {
 			GroupClause();
 		} else {
-			jj_la1[38] = jj_gen;
+			jj_la1[40] = jj_gen;
 		}
 		if (((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) == HAVING) {
 			HavingClause();
 		} else {
-			jj_la1[39] = jj_gen;
+			jj_la1[41] = jj_gen;
 		}
 		if (((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) == ORDER) {
 			OrderClause();
 		} else {
-			jj_la1[40] = jj_gen;
+			jj_la1[42] = jj_gen;
 		}
 		switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
 		case LIMIT:
@@ -1445,7 +1440,7 @@ public class SyntaxTreeBuilder
 			break;
 		}
 		default:
-			jj_la1[41] = jj_gen;
+			jj_la1[43] = jj_gen;
 		}
 	}
 
@@ -1521,7 +1516,7 @@ public class SyntaxTreeBuilder
 					break;
 				}
 				default:
-					jj_la1[42] = jj_gen;
+					jj_la1[44] = jj_gen;
 					break label_14;
 				}
 			}
@@ -1622,7 +1617,7 @@ public class SyntaxTreeBuilder
 					break;
 				}
 				default:
-					jj_la1[43] = jj_gen;
+					jj_la1[45] = jj_gen;
 					break label_15;
 				}
 			}
@@ -1724,7 +1719,7 @@ public class SyntaxTreeBuilder
 					jj_consume_token(AS);
 					Var();
 				} else {
-					jj_la1[44] = jj_gen;
+					jj_la1[46] = jj_gen;
 				}
 				jj_consume_token(RPAREN);
 				break;
@@ -1735,7 +1730,7 @@ public class SyntaxTreeBuilder
 				break;
 			}
 			default:
-				jj_la1[45] = jj_gen;
+				jj_la1[47] = jj_gen;
 				jj_consume_token(-1);
 				throw new ParseException();
 			}
@@ -1815,14 +1810,14 @@ public class SyntaxTreeBuilder
 						break;
 					}
 					default:
-						jj_la1[46] = jj_gen;
+						jj_la1[48] = jj_gen;
 						jj_consume_token(-1);
 						throw new ParseException();
 					}
 					break;
 				}
 				default:
-					jj_la1[47] = jj_gen;
+					jj_la1[49] = jj_gen;
 				}
 				BrackettedExpression();
 				break;
@@ -1895,7 +1890,7 @@ public class SyntaxTreeBuilder
 				break;
 			}
 			default:
-				jj_la1[48] = jj_gen;
+				jj_la1[50] = jj_gen;
 				jj_consume_token(-1);
 				throw new ParseException();
 			}
@@ -1929,7 +1924,7 @@ public class SyntaxTreeBuilder
 			if (((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) == OFFSET) {
 				Offset();
 			} else {
-				jj_la1[49] = jj_gen;
+				jj_la1[51] = jj_gen;
 			}
 			break;
 		}
@@ -1938,12 +1933,12 @@ public class SyntaxTreeBuilder
 			if (((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) == LIMIT) {
 				Limit();
 			} else {
-				jj_la1[50] = jj_gen;
+				jj_la1[52] = jj_gen;
 			}
 			break;
 		}
 		default:
-			jj_la1[51] = jj_gen;
+			jj_la1[53] = jj_gen;
 			jj_consume_token(-1);
 			throw new ParseException();
 		}
@@ -1995,7 +1990,7 @@ public class SyntaxTreeBuilder
 			if (((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) == SELECT) {
 				SubSelect();
 			} else {
-				jj_la1[52] = jj_gen;
+				jj_la1[54] = jj_gen;
 				GraphPattern();
 			}
 			endOfPatternToken = jj_consume_token(RBRACE);
@@ -2061,7 +2056,7 @@ public class SyntaxTreeBuilder
 			break;
 		}
 		default:
-			jj_la1[53] = jj_gen;
+			jj_la1[55] = jj_gen;
 		}
 		switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
 		case LBRACE:
@@ -2069,18 +2064,20 @@ public class SyntaxTreeBuilder
 		case GRAPH:
 		case MINUS_SETOPER:
 		case SERVICE:
-		case VALUES: {
+		case VALUES:
+		case CONJ:
+		case SETT: {
 			GraphPatternNotTriples();
 			if (((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) == DOT) {
 				jj_consume_token(DOT);
 			} else {
-				jj_la1[54] = jj_gen;
+				jj_la1[56] = jj_gen;
 			}
 			GraphPattern();
 			break;
 		}
 		default:
-			jj_la1[55] = jj_gen;
+			jj_la1[57] = jj_gen;
 		}
 	}
 
@@ -2124,14 +2121,14 @@ public class SyntaxTreeBuilder
 						break;
 					}
 					default:
-						jj_la1[56] = jj_gen;
+						jj_la1[58] = jj_gen;
 						break label_16;
 					}
 					FilterOrBind();
 					if (((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) == DOT) {
 						jj_consume_token(DOT);
 					} else {
-						jj_la1[57] = jj_gen;
+						jj_la1[59] = jj_gen;
 					}
 					switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
 					case LPAREN:
@@ -2164,7 +2161,7 @@ public class SyntaxTreeBuilder
 						break;
 					}
 					default:
-						jj_la1[58] = jj_gen;
+						jj_la1[60] = jj_gen;
 					}
 				}
 				break;
@@ -2176,7 +2173,7 @@ public class SyntaxTreeBuilder
 					if (((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) == DOT) {
 						jj_consume_token(DOT);
 					} else {
-						jj_la1[59] = jj_gen;
+						jj_la1[61] = jj_gen;
 					}
 					switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
 					case LPAREN:
@@ -2209,7 +2206,7 @@ public class SyntaxTreeBuilder
 						break;
 					}
 					default:
-						jj_la1[60] = jj_gen;
+						jj_la1[62] = jj_gen;
 					}
 					switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
 					case FILTER:
@@ -2217,14 +2214,14 @@ public class SyntaxTreeBuilder
 						break;
 					}
 					default:
-						jj_la1[61] = jj_gen;
+						jj_la1[63] = jj_gen;
 						break label_17;
 					}
 				}
 				break;
 			}
 			default:
-				jj_la1[62] = jj_gen;
+				jj_la1[64] = jj_gen;
 				jj_consume_token(-1);
 				throw new ParseException();
 			}
@@ -2262,7 +2259,7 @@ public class SyntaxTreeBuilder
 			break;
 		}
 		default:
-			jj_la1[63] = jj_gen;
+			jj_la1[65] = jj_gen;
 			jj_consume_token(-1);
 			throw new ParseException();
 		}
@@ -2277,7 +2274,7 @@ public class SyntaxTreeBuilder
 		if (((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) == DOT) {
 			jj_consume_token(DOT);
 		} else {
-			jj_la1[64] = jj_gen;
+			jj_la1[66] = jj_gen;
 		}
 	}
 
@@ -2290,7 +2287,7 @@ public class SyntaxTreeBuilder
 		if (((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) == DOT) {
 			jj_consume_token(DOT);
 		} else {
-			jj_la1[65] = jj_gen;
+			jj_la1[67] = jj_gen;
 		}
 	}
 
@@ -2320,8 +2317,16 @@ public class SyntaxTreeBuilder
 			InlineData();
 			break;
 		}
+		case CONJ: {
+			ConjGraphPattern();
+			break;
+		}
+		case SETT: {
+			SettGraphPattern();
+			break;
+		}
 		default:
-			jj_la1[66] = jj_gen;
+			jj_la1[68] = jj_gen;
 			jj_consume_token(-1);
 			throw new ParseException();
 		}
@@ -2337,7 +2342,7 @@ public class SyntaxTreeBuilder
 			if (((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) == SELECT) {
 				SubSelect();
 			} else {
-				jj_la1[67] = jj_gen;
+				jj_la1[69] = jj_gen;
 				GraphPattern();
 			}
 			jj_consume_token(RBRACE);
@@ -2426,7 +2431,7 @@ public class SyntaxTreeBuilder
 				}
 			}
 		} else {
-			jj_la1[68] = jj_gen;
+			jj_la1[70] = jj_gen;
 		}
 	}
 
@@ -2469,11 +2474,12 @@ public class SyntaxTreeBuilder
 			t = jj_consume_token(SERVICE);
 			jjtn000.setBeginTokenLinePos(t.beginLine);
 			jjtn000.setBeginTokenColumnPos(t.beginColumn);
+			jjtn000.setBeginTokenOffset(t.beginOffset);
 			if (((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) == SILENT) {
 				jj_consume_token(SILENT);
 				jjtn000.setSilent(true);
 			} else {
-				jj_la1[69] = jj_gen;
+				jj_la1[71] = jj_gen;
 			}
 			VarOrIRIref();
 			t = GroupGraphPattern();
@@ -2481,6 +2487,7 @@ public class SyntaxTreeBuilder
 			jjtc000 = false;
 			jjtn000.setEndTokenLinePos(t.beginLine);
 			jjtn000.setEndTokenColumnPos(t.beginColumn);
+			jjtn000.setEndTokenOffset(t.beginOffset);
 		} catch (Throwable jjte000) {
 			if (jjtc000) {
 				jjtree.clearNodeScope(jjtn000);
@@ -2586,7 +2593,7 @@ public class SyntaxTreeBuilder
 				break;
 			}
 			default:
-				jj_la1[70] = jj_gen;
+				jj_la1[72] = jj_gen;
 				jj_consume_token(-1);
 				throw new ParseException();
 			}
@@ -2626,12 +2633,12 @@ public class SyntaxTreeBuilder
 					jj_consume_token(DISTINCT);
 					jjtn000.setDistinct(true);
 				} else {
-					jj_la1[71] = jj_gen;
+					jj_la1[73] = jj_gen;
 				}
 				Expression();
 				while (true) {
 					if (((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) != COMMA) {
-						jj_la1[72] = jj_gen;
+						jj_la1[74] = jj_gen;
 						break;
 					}
 					jj_consume_token(COMMA);
@@ -2643,7 +2650,7 @@ public class SyntaxTreeBuilder
 				jj_consume_token(NIL);
 				break;
 			default:
-				jj_la1[73] = jj_gen;
+				jj_la1[75] = jj_gen;
 				jj_consume_token(-1);
 				throw new ParseException();
 			}
@@ -2680,7 +2687,7 @@ public class SyntaxTreeBuilder
 			Expression();
 			while (true) {
 				if (((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) != COMMA) {
-					jj_la1[74] = jj_gen;
+					jj_la1[76] = jj_gen;
 					break;
 				}
 				jj_consume_token(COMMA);
@@ -2689,7 +2696,7 @@ public class SyntaxTreeBuilder
 			jj_consume_token(RPAREN);
 			break;
 		default:
-			jj_la1[75] = jj_gen;
+			jj_la1[77] = jj_gen;
 			jj_consume_token(-1);
 			throw new ParseException();
 		}
@@ -2743,12 +2750,12 @@ public class SyntaxTreeBuilder
 					break;
 				}
 				default:
-					jj_la1[76] = jj_gen;
+					jj_la1[78] = jj_gen;
 				}
 				break;
 			}
 			default:
-				jj_la1[77] = jj_gen;
+				jj_la1[79] = jj_gen;
 				jj_consume_token(-1);
 				throw new ParseException();
 			}
@@ -2795,10 +2802,10 @@ public class SyntaxTreeBuilder
 					break;
 				}
 				default:
-					jj_la1[78] = jj_gen;
+					jj_la1[80] = jj_gen;
 				}
 			} else {
-				jj_la1[79] = jj_gen;
+				jj_la1[81] = jj_gen;
 			}
 		} catch (Throwable jjte000) {
 			jjtree.clearNodeScope(jjtn000);
@@ -2831,7 +2838,7 @@ public class SyntaxTreeBuilder
 			Object();
 			while (true) {
 				if (((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) != COMMA) {
-					jj_la1[80] = jj_gen;
+					jj_la1[82] = jj_gen;
 					break;
 				}
 				jj_consume_token(COMMA);
@@ -2911,12 +2918,12 @@ public class SyntaxTreeBuilder
 					break;
 				}
 				default:
-					jj_la1[81] = jj_gen;
+					jj_la1[83] = jj_gen;
 				}
 				break;
 			}
 			default:
-				jj_la1[82] = jj_gen;
+				jj_la1[84] = jj_gen;
 				jj_consume_token(-1);
 				throw new ParseException();
 			}
@@ -2965,7 +2972,7 @@ public class SyntaxTreeBuilder
 				break;
 			}
 			default:
-				jj_la1[83] = jj_gen;
+				jj_la1[85] = jj_gen;
 				jj_consume_token(-1);
 				throw new ParseException();
 			}
@@ -2986,10 +2993,10 @@ public class SyntaxTreeBuilder
 					break;
 				}
 				default:
-					jj_la1[84] = jj_gen;
+					jj_la1[86] = jj_gen;
 				}
 			} else {
-				jj_la1[85] = jj_gen;
+				jj_la1[87] = jj_gen;
 			}
 		} catch (Throwable jjte000) {
 			jjtree.clearNodeScope(jjtn000);
@@ -3022,7 +3029,7 @@ public class SyntaxTreeBuilder
 			ObjectPath();
 			while (true) {
 				if (((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) != COMMA) {
-					jj_la1[86] = jj_gen;
+					jj_la1[88] = jj_gen;
 					break;
 				}
 				jj_consume_token(COMMA);
@@ -3067,7 +3074,7 @@ public class SyntaxTreeBuilder
 			PathSequence();
 			while (true) {
 				if (((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) != PIPE) {
-					jj_la1[87] = jj_gen;
+					jj_la1[89] = jj_gen;
 					break;
 				}
 				jj_consume_token(PIPE);
@@ -3104,7 +3111,7 @@ public class SyntaxTreeBuilder
 			PathElt();
 			while (true) {
 				if (((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) != SLASH) {
-					jj_la1[88] = jj_gen;
+					jj_la1[90] = jj_gen;
 					break;
 				}
 				jj_consume_token(SLASH);
@@ -3142,7 +3149,7 @@ public class SyntaxTreeBuilder
 				jj_consume_token(INVERSE);
 				jjtn000.setInverse(true);
 			} else {
-				jj_la1[89] = jj_gen;
+				jj_la1[91] = jj_gen;
 			}
 			PathPrimary();
 			switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -3153,7 +3160,7 @@ public class SyntaxTreeBuilder
 				break;
 			}
 			default:
-				jj_la1[90] = jj_gen;
+				jj_la1[92] = jj_gen;
 			}
 		} catch (Throwable jjte000) {
 			jjtree.clearNodeScope(jjtn000);
@@ -3214,7 +3221,7 @@ public class SyntaxTreeBuilder
 			break;
 		}
 		default:
-			jj_la1[91] = jj_gen;
+			jj_la1[93] = jj_gen;
 			jj_consume_token(-1);
 			throw new ParseException();
 		}
@@ -3241,7 +3248,7 @@ public class SyntaxTreeBuilder
 				PathOneInPropertySet();
 				while (true) {
 					if (((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) != PIPE) {
-						jj_la1[92] = jj_gen;
+						jj_la1[94] = jj_gen;
 						break;
 					}
 					jj_consume_token(PIPE);
@@ -3250,13 +3257,13 @@ public class SyntaxTreeBuilder
 				break;
 			}
 			default:
-				jj_la1[93] = jj_gen;
+				jj_la1[95] = jj_gen;
 			}
 			jj_consume_token(RPAREN);
 			break;
 		}
 		default:
-			jj_la1[94] = jj_gen;
+			jj_la1[96] = jj_gen;
 			jj_consume_token(-1);
 			throw new ParseException();
 		}
@@ -3317,14 +3324,14 @@ public class SyntaxTreeBuilder
 					break;
 				}
 				default:
-					jj_la1[95] = jj_gen;
+					jj_la1[97] = jj_gen;
 					jj_consume_token(-1);
 					throw new ParseException();
 				}
 				break;
 			}
 			default:
-				jj_la1[96] = jj_gen;
+				jj_la1[98] = jj_gen;
 				jj_consume_token(-1);
 				throw new ParseException();
 			}
@@ -3382,7 +3389,7 @@ public class SyntaxTreeBuilder
 				break;
 			}
 			default:
-				jj_la1[97] = jj_gen;
+				jj_la1[99] = jj_gen;
 				jj_consume_token(-1);
 				throw new ParseException();
 			}
@@ -3432,7 +3439,7 @@ public class SyntaxTreeBuilder
 			break;
 		}
 		default:
-			jj_la1[98] = jj_gen;
+			jj_la1[100] = jj_gen;
 			jj_consume_token(-1);
 			throw new ParseException();
 		}
@@ -3449,7 +3456,7 @@ public class SyntaxTreeBuilder
 			break;
 		}
 		default:
-			jj_la1[99] = jj_gen;
+			jj_la1[101] = jj_gen;
 			jj_consume_token(-1);
 			throw new ParseException();
 		}
@@ -3466,7 +3473,7 @@ public class SyntaxTreeBuilder
 			break;
 		}
 		default:
-			jj_la1[100] = jj_gen;
+			jj_la1[102] = jj_gen;
 			jj_consume_token(-1);
 			throw new ParseException();
 		}
@@ -3572,7 +3579,7 @@ public class SyntaxTreeBuilder
 					break;
 				}
 				default:
-					jj_la1[101] = jj_gen;
+					jj_la1[103] = jj_gen;
 					break label_27;
 				}
 			}
@@ -3638,7 +3645,7 @@ public class SyntaxTreeBuilder
 					break;
 				}
 				default:
-					jj_la1[102] = jj_gen;
+					jj_la1[104] = jj_gen;
 					break label_28;
 				}
 			}
@@ -3701,7 +3708,7 @@ public class SyntaxTreeBuilder
 			break;
 		}
 		default:
-			jj_la1[103] = jj_gen;
+			jj_la1[105] = jj_gen;
 			jj_consume_token(-1);
 			throw new ParseException();
 		}
@@ -3742,7 +3749,7 @@ public class SyntaxTreeBuilder
 			break;
 		}
 		default:
-			jj_la1[104] = jj_gen;
+			jj_la1[106] = jj_gen;
 			jj_consume_token(-1);
 			throw new ParseException();
 		}
@@ -3781,7 +3788,7 @@ public class SyntaxTreeBuilder
 			break;
 		}
 		default:
-			jj_la1[105] = jj_gen;
+			jj_la1[107] = jj_gen;
 			jj_consume_token(-1);
 			throw new ParseException();
 		}
@@ -3801,7 +3808,7 @@ public class SyntaxTreeBuilder
 			break;
 		}
 		default:
-			jj_la1[106] = jj_gen;
+			jj_la1[108] = jj_gen;
 			jj_consume_token(-1);
 			throw new ParseException();
 		}
@@ -3823,7 +3830,7 @@ public class SyntaxTreeBuilder
 				break;
 			}
 			default:
-				jj_la1[107] = jj_gen;
+				jj_la1[109] = jj_gen;
 				jj_consume_token(-1);
 				throw new ParseException();
 			}
@@ -3895,7 +3902,7 @@ public class SyntaxTreeBuilder
 			break;
 		}
 		default:
-			jj_la1[108] = jj_gen;
+			jj_la1[110] = jj_gen;
 			jj_consume_token(-1);
 			throw new ParseException();
 		}
@@ -3939,7 +3946,7 @@ public class SyntaxTreeBuilder
 				break;
 			}
 			default:
-				jj_la1[109] = jj_gen;
+				jj_la1[111] = jj_gen;
 				jj_consume_token(-1);
 				throw new ParseException();
 			}
@@ -3956,7 +3963,7 @@ public class SyntaxTreeBuilder
 				break;
 			}
 			default:
-				jj_la1[110] = jj_gen;
+				jj_la1[112] = jj_gen;
 				jj_consume_token(-1);
 				throw new ParseException();
 			}
@@ -3992,7 +3999,7 @@ public class SyntaxTreeBuilder
 				break;
 			}
 			default:
-				jj_la1[111] = jj_gen;
+				jj_la1[113] = jj_gen;
 				jj_consume_token(-1);
 				throw new ParseException();
 			}
@@ -4038,7 +4045,7 @@ public class SyntaxTreeBuilder
 				break;
 			}
 			default:
-				jj_la1[112] = jj_gen;
+				jj_la1[114] = jj_gen;
 				jj_consume_token(-1);
 				throw new ParseException();
 			}
@@ -4079,7 +4086,7 @@ public class SyntaxTreeBuilder
 				break;
 			}
 			default:
-				jj_la1[113] = jj_gen;
+				jj_la1[115] = jj_gen;
 				jj_consume_token(-1);
 				throw new ParseException();
 			}
@@ -4201,7 +4208,7 @@ public class SyntaxTreeBuilder
 			break;
 		}
 		default:
-			jj_la1[114] = jj_gen;
+			jj_la1[116] = jj_gen;
 			jj_consume_token(-1);
 			throw new ParseException();
 		}
@@ -4238,7 +4245,7 @@ public class SyntaxTreeBuilder
 				}
 			}
 		} else {
-			jj_la1[115] = jj_gen;
+			jj_la1[117] = jj_gen;
 		}
 	}
 
@@ -4273,7 +4280,7 @@ public class SyntaxTreeBuilder
 				}
 			}
 		} else {
-			jj_la1[116] = jj_gen;
+			jj_la1[118] = jj_gen;
 		}
 	}
 
@@ -4454,14 +4461,14 @@ public class SyntaxTreeBuilder
 				break;
 			}
 			default:
-				jj_la1[117] = jj_gen;
+				jj_la1[119] = jj_gen;
 				jj_consume_token(-1);
 				throw new ParseException();
 			}
 			break;
 		}
 		default:
-			jj_la1[118] = jj_gen;
+			jj_la1[120] = jj_gen;
 		}
 	}
 
@@ -4484,7 +4491,7 @@ public class SyntaxTreeBuilder
 				break;
 			}
 			default:
-				jj_la1[119] = jj_gen;
+				jj_la1[121] = jj_gen;
 				break label_29;
 			}
 			switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -4559,7 +4566,7 @@ public class SyntaxTreeBuilder
 				break;
 			}
 			default:
-				jj_la1[120] = jj_gen;
+				jj_la1[122] = jj_gen;
 				jj_consume_token(-1);
 				throw new ParseException();
 			}
@@ -4575,7 +4582,7 @@ public class SyntaxTreeBuilder
 				break;
 			}
 			default:
-				jj_la1[121] = jj_gen;
+				jj_la1[123] = jj_gen;
 				break label_30;
 			}
 			switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -4614,7 +4621,7 @@ public class SyntaxTreeBuilder
 				break;
 			}
 			default:
-				jj_la1[122] = jj_gen;
+				jj_la1[124] = jj_gen;
 				jj_consume_token(-1);
 				throw new ParseException();
 			}
@@ -4738,7 +4745,7 @@ public class SyntaxTreeBuilder
 			if (((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) == PLUS) {
 				jj_consume_token(PLUS);
 			} else {
-				jj_la1[123] = jj_gen;
+				jj_la1[125] = jj_gen;
 			}
 			PrimaryExpression();
 			break;
@@ -4761,7 +4768,7 @@ public class SyntaxTreeBuilder
 			break;
 		}
 		default:
-			jj_la1[124] = jj_gen;
+			jj_la1[126] = jj_gen;
 			jj_consume_token(-1);
 			throw new ParseException();
 		}
@@ -4847,7 +4854,7 @@ public class SyntaxTreeBuilder
 			break;
 		}
 		default:
-			jj_la1[125] = jj_gen;
+			jj_la1[127] = jj_gen;
 			if (jj_2_4()) {
 				FunctionCall();
 			} else {
@@ -4898,7 +4905,7 @@ public class SyntaxTreeBuilder
 					break;
 				}
 				default:
-					jj_la1[126] = jj_gen;
+					jj_la1[128] = jj_gen;
 					jj_consume_token(-1);
 					throw new ParseException();
 				}
@@ -4937,7 +4944,7 @@ public class SyntaxTreeBuilder
 			break;
 		}
 		default:
-			jj_la1[127] = jj_gen;
+			jj_la1[129] = jj_gen;
 			jj_consume_token(-1);
 			throw new ParseException();
 		}
@@ -4954,7 +4961,7 @@ public class SyntaxTreeBuilder
 				jj_consume_token(DISTINCT);
 				jjtn000.setDistinct(true);
 			} else {
-				jj_la1[128] = jj_gen;
+				jj_la1[130] = jj_gen;
 			}
 			switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
 			case STAR: {
@@ -5051,7 +5058,7 @@ public class SyntaxTreeBuilder
 				break;
 			}
 			default:
-				jj_la1[129] = jj_gen;
+				jj_la1[131] = jj_gen;
 				jj_consume_token(-1);
 				throw new ParseException();
 			}
@@ -5088,7 +5095,7 @@ public class SyntaxTreeBuilder
 				jj_consume_token(DISTINCT);
 				jjtn000.setDistinct(true);
 			} else {
-				jj_la1[130] = jj_gen;
+				jj_la1[132] = jj_gen;
 			}
 			Expression();
 			jj_consume_token(RPAREN);
@@ -5126,7 +5133,7 @@ public class SyntaxTreeBuilder
 				jj_consume_token(DISTINCT);
 				jjtn000.setDistinct(true);
 			} else {
-				jj_la1[131] = jj_gen;
+				jj_la1[133] = jj_gen;
 			}
 			Expression();
 			jj_consume_token(RPAREN);
@@ -5164,7 +5171,7 @@ public class SyntaxTreeBuilder
 				jj_consume_token(DISTINCT);
 				jjtn000.setDistinct(true);
 			} else {
-				jj_la1[132] = jj_gen;
+				jj_la1[134] = jj_gen;
 			}
 			Expression();
 			jj_consume_token(RPAREN);
@@ -5202,7 +5209,7 @@ public class SyntaxTreeBuilder
 				jj_consume_token(DISTINCT);
 				jjtn000.setDistinct(true);
 			} else {
-				jj_la1[133] = jj_gen;
+				jj_la1[135] = jj_gen;
 			}
 			Expression();
 			jj_consume_token(RPAREN);
@@ -5240,7 +5247,7 @@ public class SyntaxTreeBuilder
 				jj_consume_token(DISTINCT);
 				jjtn000.setDistinct(true);
 			} else {
-				jj_la1[134] = jj_gen;
+				jj_la1[136] = jj_gen;
 			}
 			Expression();
 			jj_consume_token(RPAREN);
@@ -5278,7 +5285,7 @@ public class SyntaxTreeBuilder
 				jj_consume_token(DISTINCT);
 				jjtn000.setDistinct(true);
 			} else {
-				jj_la1[135] = jj_gen;
+				jj_la1[137] = jj_gen;
 			}
 			Expression();
 			if (((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) == SEMICOLON) {
@@ -5287,7 +5294,7 @@ public class SyntaxTreeBuilder
 				jj_consume_token(EQ);
 				Expression();
 			} else {
-				jj_la1[136] = jj_gen;
+				jj_la1[138] = jj_gen;
 			}
 			jj_consume_token(RPAREN);
 		} catch (Throwable jjte000) {
@@ -5408,7 +5415,7 @@ public class SyntaxTreeBuilder
 			break;
 		}
 		default:
-			jj_la1[137] = jj_gen;
+			jj_la1[139] = jj_gen;
 			jj_consume_token(-1);
 			throw new ParseException();
 		}
@@ -5473,7 +5480,7 @@ public class SyntaxTreeBuilder
 			break;
 		}
 		default:
-			jj_la1[138] = jj_gen;
+			jj_la1[140] = jj_gen;
 			jj_consume_token(-1);
 			throw new ParseException();
 		}
@@ -5502,7 +5509,7 @@ public class SyntaxTreeBuilder
 			break;
 		}
 		default:
-			jj_la1[139] = jj_gen;
+			jj_la1[141] = jj_gen;
 			jj_consume_token(-1);
 			throw new ParseException();
 		}
@@ -5563,7 +5570,7 @@ public class SyntaxTreeBuilder
 			break;
 		}
 		default:
-			jj_la1[140] = jj_gen;
+			jj_la1[142] = jj_gen;
 			jj_consume_token(-1);
 			throw new ParseException();
 		}
@@ -5608,7 +5615,7 @@ public class SyntaxTreeBuilder
 			break;
 		}
 		default:
-			jj_la1[141] = jj_gen;
+			jj_la1[143] = jj_gen;
 			jj_consume_token(-1);
 			throw new ParseException();
 		}
@@ -5641,7 +5648,7 @@ public class SyntaxTreeBuilder
 			break;
 		}
 		default:
-			jj_la1[142] = jj_gen;
+			jj_la1[144] = jj_gen;
 			jj_consume_token(-1);
 			throw new ParseException();
 		}
@@ -6259,7 +6266,7 @@ public class SyntaxTreeBuilder
 				jj_consume_token(COMMA);
 				Expression();
 			} else {
-				jj_la1[143] = jj_gen;
+				jj_la1[145] = jj_gen;
 			}
 			jj_consume_token(RPAREN);
 		} catch (Throwable jjte000) {
@@ -6533,7 +6540,7 @@ public class SyntaxTreeBuilder
 				jj_consume_token(COMMA);
 				Expression();
 			} else {
-				jj_la1[144] = jj_gen;
+				jj_la1[146] = jj_gen;
 			}
 			jj_consume_token(RPAREN);
 		} catch (Throwable jjte000) {
@@ -6762,7 +6769,7 @@ public class SyntaxTreeBuilder
 			Expression();
 			while (true) {
 				if (((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) != COMMA) {
-					jj_la1[145] = jj_gen;
+					jj_la1[147] = jj_gen;
 					break;
 				}
 				jj_consume_token(COMMA);
@@ -7134,7 +7141,7 @@ public class SyntaxTreeBuilder
 				break;
 			}
 			default:
-				jj_la1[146] = jj_gen;
+				jj_la1[148] = jj_gen;
 				jj_consume_token(-1);
 				throw new ParseException();
 			}
@@ -7331,7 +7338,7 @@ public class SyntaxTreeBuilder
 				jj_consume_token(COMMA);
 				Expression();
 			} else {
-				jj_la1[147] = jj_gen;
+				jj_la1[149] = jj_gen;
 			}
 			jj_consume_token(RPAREN);
 		} catch (Throwable jjte000) {
@@ -7440,14 +7447,14 @@ public class SyntaxTreeBuilder
 					break;
 				}
 				default:
-					jj_la1[148] = jj_gen;
+					jj_la1[150] = jj_gen;
 					jj_consume_token(-1);
 					throw new ParseException();
 				}
 				break;
 			}
 			default:
-				jj_la1[149] = jj_gen;
+				jj_la1[151] = jj_gen;
 			}
 		} catch (Throwable jjte000) {
 			jjtree.clearNodeScope(jjtn000);
@@ -7493,7 +7500,7 @@ public class SyntaxTreeBuilder
 			break;
 		}
 		default:
-			jj_la1[150] = jj_gen;
+			jj_la1[152] = jj_gen;
 			jj_consume_token(-1);
 			throw new ParseException();
 		}
@@ -7523,7 +7530,7 @@ public class SyntaxTreeBuilder
 				break;
 			}
 			default:
-				jj_la1[151] = jj_gen;
+				jj_la1[153] = jj_gen;
 				jj_consume_token(-1);
 				throw new ParseException();
 			}
@@ -7562,7 +7569,7 @@ public class SyntaxTreeBuilder
 				break;
 			}
 			default:
-				jj_la1[152] = jj_gen;
+				jj_la1[154] = jj_gen;
 				jj_consume_token(-1);
 				throw new ParseException();
 			}
@@ -7601,7 +7608,7 @@ public class SyntaxTreeBuilder
 				break;
 			}
 			default:
-				jj_la1[153] = jj_gen;
+				jj_la1[155] = jj_gen;
 				jj_consume_token(-1);
 				throw new ParseException();
 			}
@@ -7639,7 +7646,7 @@ public class SyntaxTreeBuilder
 			break;
 		}
 		default:
-			jj_la1[154] = jj_gen;
+			jj_la1[156] = jj_gen;
 			jj_consume_token(-1);
 			throw new ParseException();
 		}
@@ -7664,7 +7671,7 @@ public class SyntaxTreeBuilder
 					break;
 				}
 				default:
-					jj_la1[155] = jj_gen;
+					jj_la1[157] = jj_gen;
 					jj_consume_token(-1);
 					throw new ParseException();
 				}
@@ -7685,7 +7692,7 @@ public class SyntaxTreeBuilder
 					break;
 				}
 				default:
-					jj_la1[156] = jj_gen;
+					jj_la1[158] = jj_gen;
 					jj_consume_token(-1);
 					throw new ParseException();
 				}
@@ -7695,7 +7702,7 @@ public class SyntaxTreeBuilder
 				break;
 			}
 			default:
-				jj_la1[157] = jj_gen;
+				jj_la1[159] = jj_gen;
 				jj_consume_token(-1);
 				throw new ParseException();
 			}
@@ -7718,7 +7725,7 @@ public class SyntaxTreeBuilder
 			break;
 		}
 		default:
-			jj_la1[158] = jj_gen;
+			jj_la1[160] = jj_gen;
 			jj_consume_token(-1);
 			throw new ParseException();
 		}
@@ -7740,7 +7747,7 @@ public class SyntaxTreeBuilder
 				break;
 			}
 			default:
-				jj_la1[159] = jj_gen;
+				jj_la1[161] = jj_gen;
 				jj_consume_token(-1);
 				throw new ParseException();
 			}
@@ -7773,7 +7780,7 @@ public class SyntaxTreeBuilder
 				break;
 			}
 			default:
-				jj_la1[160] = jj_gen;
+				jj_la1[162] = jj_gen;
 				jj_consume_token(-1);
 				throw new ParseException();
 			}
@@ -7831,7 +7838,7 @@ public class SyntaxTreeBuilder
 				break;
 			}
 			default:
-				jj_la1[161] = jj_gen;
+				jj_la1[163] = jj_gen;
 				jj_consume_token(-1);
 				throw new ParseException();
 			}
@@ -7879,13 +7886,13 @@ public class SyntaxTreeBuilder
 				if (((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) == GRAPH) {
 					jj_consume_token(GRAPH);
 				} else {
-					jj_la1[162] = jj_gen;
+					jj_la1[164] = jj_gen;
 				}
 				IRIref();
 				break;
 			}
 			default:
-				jj_la1[163] = jj_gen;
+				jj_la1[165] = jj_gen;
 				jj_consume_token(-1);
 				throw new ParseException();
 			}
@@ -7922,6 +7929,7 @@ public class SyntaxTreeBuilder
 		jjtree.openNodeScope(jjtn000);
 		try {
 			jj_consume_token(LBRACE);
+			jjtn000.setBeginLine(token.beginLine);
 			jjtn000.setDataBlock(readToMatchingBrace());
 			jj_consume_token(RBRACE);
 		} finally {
@@ -7967,18 +7975,18 @@ public class SyntaxTreeBuilder
 			break;
 		}
 		default:
-			jj_la1[164] = jj_gen;
+			jj_la1[166] = jj_gen;
 		}
 		while (true) {
 			if (((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) != GRAPH) {
-				jj_la1[165] = jj_gen;
+				jj_la1[167] = jj_gen;
 				break;
 			}
 			QuadsNotTriples();
 			if (((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) == DOT) {
 				jj_consume_token(DOT);
 			} else {
-				jj_la1[166] = jj_gen;
+				jj_la1[168] = jj_gen;
 			}
 			switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
 			case LPAREN:
@@ -8011,7 +8019,7 @@ public class SyntaxTreeBuilder
 				break;
 			}
 			default:
-				jj_la1[167] = jj_gen;
+				jj_la1[169] = jj_gen;
 			}
 		}
 	}
@@ -8055,7 +8063,7 @@ public class SyntaxTreeBuilder
 				break;
 			}
 			default:
-				jj_la1[168] = jj_gen;
+				jj_la1[170] = jj_gen;
 			}
 			jj_consume_token(RBRACE);
 		} catch (Throwable jjte000) {
@@ -8112,7 +8120,7 @@ public class SyntaxTreeBuilder
 			break;
 		}
 		default:
-			jj_la1[169] = jj_gen;
+			jj_la1[171] = jj_gen;
 			if (jj_2_5()) {
 				InsertData();
 			} else if (jj_2_6()) {
@@ -8128,7 +8136,7 @@ public class SyntaxTreeBuilder
 					break;
 				}
 				default:
-					jj_la1[170] = jj_gen;
+					jj_la1[172] = jj_gen;
 					jj_consume_token(-1);
 					throw new ParseException();
 				}
@@ -8146,14 +8154,14 @@ public class SyntaxTreeBuilder
 				jj_consume_token(SILENT);
 				jjtn000.setSilent(true);
 			} else {
-				jj_la1[171] = jj_gen;
+				jj_la1[173] = jj_gen;
 			}
 			IRIref();
 			if (((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) == INTO) {
 				jj_consume_token(INTO);
 				GraphRef();
 			} else {
-				jj_la1[172] = jj_gen;
+				jj_la1[174] = jj_gen;
 			}
 		} catch (Throwable jjte000) {
 			jjtree.clearNodeScope(jjtn000);
@@ -8188,7 +8196,7 @@ public class SyntaxTreeBuilder
 				jj_consume_token(SILENT);
 				jjtn000.setSilent(true);
 			} else {
-				jj_la1[173] = jj_gen;
+				jj_la1[175] = jj_gen;
 			}
 			GraphRefAll();
 		} catch (Throwable jjte000) {
@@ -8224,7 +8232,7 @@ public class SyntaxTreeBuilder
 				jj_consume_token(SILENT);
 				jjtn000.setSilent(true);
 			} else {
-				jj_la1[174] = jj_gen;
+				jj_la1[176] = jj_gen;
 			}
 			GraphRefAll();
 		} catch (Throwable jjte000) {
@@ -8260,7 +8268,7 @@ public class SyntaxTreeBuilder
 				jj_consume_token(SILENT);
 				jjtn000.setSilent(true);
 			} else {
-				jj_la1[175] = jj_gen;
+				jj_la1[177] = jj_gen;
 			}
 			GraphOrDefault();
 			jj_consume_token(TO);
@@ -8298,7 +8306,7 @@ public class SyntaxTreeBuilder
 				jj_consume_token(SILENT);
 				jjtn000.setSilent(true);
 			} else {
-				jj_la1[176] = jj_gen;
+				jj_la1[178] = jj_gen;
 			}
 			GraphOrDefault();
 			jj_consume_token(TO);
@@ -8336,7 +8344,7 @@ public class SyntaxTreeBuilder
 				jj_consume_token(SILENT);
 				jjtn000.setSilent(true);
 			} else {
-				jj_la1[177] = jj_gen;
+				jj_la1[179] = jj_gen;
 			}
 			GraphOrDefault();
 			jj_consume_token(TO);
@@ -8374,7 +8382,7 @@ public class SyntaxTreeBuilder
 				jj_consume_token(SILENT);
 				jjtn000.setSilent(true);
 			} else {
-				jj_la1[178] = jj_gen;
+				jj_la1[180] = jj_gen;
 			}
 			GraphRef();
 		} catch (Throwable jjte000) {
@@ -8563,7 +8571,7 @@ public class SyntaxTreeBuilder
 				jj_consume_token(NAMED);
 				jjtn000.setNamed(true);
 			} else {
-				jj_la1[179] = jj_gen;
+				jj_la1[181] = jj_gen;
 			}
 			IRIref();
 		} catch (Throwable jjte000) {
@@ -8660,7 +8668,7 @@ public class SyntaxTreeBuilder
 			if (((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) == WITH) {
 				WithClause();
 			} else {
-				jj_la1[180] = jj_gen;
+				jj_la1[182] = jj_gen;
 			}
 			switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
 			case DELETE: {
@@ -8668,7 +8676,7 @@ public class SyntaxTreeBuilder
 				if (((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) == INSERT) {
 					InsertClause();
 				} else {
-					jj_la1[181] = jj_gen;
+					jj_la1[183] = jj_gen;
 				}
 				break;
 			}
@@ -8677,13 +8685,13 @@ public class SyntaxTreeBuilder
 				break;
 			}
 			default:
-				jj_la1[182] = jj_gen;
+				jj_la1[184] = jj_gen;
 				jj_consume_token(-1);
 				throw new ParseException();
 			}
 			while (true) {
 				if (((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) != USING) {
-					jj_la1[183] = jj_gen;
+					jj_la1[185] = jj_gen;
 					break;
 				}
 				UsingClause();
@@ -8712,6 +8720,68 @@ public class SyntaxTreeBuilder
 		}
 	}
 
+	final public void ConjGraphPattern() throws ParseException {/* @bgen(jjtree) ConjGraphPattern */
+		ASTConjGraphPattern jjtn000 = new ASTConjGraphPattern(JJTCONJGRAPHPATTERN);
+		boolean jjtc000 = true;
+		jjtree.openNodeScope(jjtn000);
+		try {
+			jj_consume_token(CONJ);
+			VarOrIRIref();
+			GroupGraphPattern();
+		} catch (Throwable jjte000) {
+			jjtree.clearNodeScope(jjtn000);
+			jjtc000 = false;
+			if (jjte000 instanceof RuntimeException) {
+				{
+					throw (RuntimeException) jjte000;
+				}
+			}
+			if (jjte000 instanceof ParseException) {
+				{
+					throw (ParseException) jjte000;
+				}
+			}
+			{
+				throw (Error) jjte000;
+			}
+		} finally {
+			if (jjtc000) {
+				jjtree.closeNodeScope(jjtn000, true);
+			}
+		}
+	}
+
+	final public void SettGraphPattern() throws ParseException {/* @bgen(jjtree) SettGraphPattern */
+		ASTSettGraphPattern jjtn000 = new ASTSettGraphPattern(JJTSETTGRAPHPATTERN);
+		boolean jjtc000 = true;
+		jjtree.openNodeScope(jjtn000);
+		try {
+			jj_consume_token(SETT);
+			VarOrIRIref();
+			GroupGraphPattern();
+		} catch (Throwable jjte000) {
+			jjtree.clearNodeScope(jjtn000);
+			jjtc000 = false;
+			if (jjte000 instanceof RuntimeException) {
+				{
+					throw (RuntimeException) jjte000;
+				}
+			}
+			if (jjte000 instanceof ParseException) {
+				{
+					throw (ParseException) jjte000;
+				}
+			}
+			{
+				throw (Error) jjte000;
+			}
+		} finally {
+			if (jjtc000) {
+				jjtree.closeNodeScope(jjtn000, true);
+			}
+		}
+	}
+
 	private boolean jj_2_1() {
 		int xla = 2;
 		jj_la = xla;
@@ -9282,7 +9352,7 @@ public class SyntaxTreeBuilder
 	private Token jj_scanpos, jj_lastpos;
 	private int jj_la;
 	private int jj_gen;
-	final private int[] jj_la1 = new int[184];
+	final private int[] jj_la1 = new int[186];
 	static private int[] jj_la1_0;
 	static private int[] jj_la1_1;
 	static private int[] jj_la1_2;
@@ -9301,95 +9371,96 @@ public class SyntaxTreeBuilder
 
 	private static void jj_la1_init_0() {
 		jj_la1_0 = new int[] { 0x400, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x10, 0x1000010, 0x10, 0x0, 0x0,
-				0xc0000110, 0x0, 0x40, 0x0, 0x0, 0x0, 0x1000000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x40000010, 0x0,
-				0x40000010, 0x0, 0x0, 0x40000010, 0x40000010, 0x0, 0x40000010, 0x0, 0x0, 0x0, 0x0, 0x0, 0x10, 0x10, 0x0,
-				0x10, 0x0, 0x0, 0x10, 0x0, 0x0, 0x0, 0x0, 0xc0000110, 0x1000, 0x40, 0x0, 0x1000, 0xc0000110, 0x1000,
-				0xc0000110, 0x0, 0xc0000110, 0x0, 0x1000, 0x1000, 0x40, 0x0, 0x0, 0x0, 0x10, 0x0, 0x800, 0x40000010,
-				0x800, 0x40000010, 0x0, 0xc0000110, 0x0, 0x400, 0x800, 0x10080010, 0xc0000110, 0x10080010, 0x10080010,
-				0x400, 0x800, 0x8000000, 0x4000000, 0x10000000, 0x3400000, 0x80010, 0x8000000, 0x10000000, 0x10000010,
-				0x0, 0x10000000, 0x3400000, 0x0, 0x110, 0x110, 0xc0000110, 0xc0000110, 0xc0000110, 0xc0000110,
-				0xc0000000, 0x0, 0x0, 0xc0000000, 0xc0000000, 0x0, 0xc0000000, 0x0, 0x0, 0xc80010, 0x100000, 0x200000,
-				0x7e000, 0x7e000, 0xc00000, 0xc00000, 0x5000000, 0x5000000, 0x400000, 0xc80010, 0x10, 0x0, 0x0, 0x0,
-				0x1c80010, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x400, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x800, 0x800, 0x800,
-				0x40000010, 0x800, 0x20000000, 0x20000000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x80000000,
-				0x0, 0x0, 0x0, 0xc0000110, 0x0, 0x1000, 0xc0000110, 0xc0000110, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-				0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, };
+				0xc0000110, 0x0, 0x40, 0x0, 0x0, 0x0, 0x1000000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x40000010,
+				0x0, 0x40000010, 0x0, 0x0, 0x40000010, 0x40000010, 0x0, 0x40000010, 0x0, 0x0, 0x0, 0x0, 0x0, 0x10, 0x10,
+				0x0, 0x10, 0x0, 0x0, 0x10, 0x0, 0x0, 0x0, 0x0, 0xc0000110, 0x1000, 0x40, 0x0, 0x1000, 0xc0000110,
+				0x1000, 0xc0000110, 0x0, 0xc0000110, 0x0, 0x1000, 0x1000, 0x40, 0x0, 0x0, 0x0, 0x10, 0x0, 0x800,
+				0x40000010, 0x800, 0x40000010, 0x0, 0xc0000110, 0x0, 0x400, 0x800, 0x10080010, 0xc0000110, 0x10080010,
+				0x10080010, 0x400, 0x800, 0x8000000, 0x4000000, 0x10000000, 0x3400000, 0x80010, 0x8000000, 0x10000000,
+				0x10000010, 0x0, 0x10000000, 0x3400000, 0x0, 0x110, 0x110, 0xc0000110, 0xc0000110, 0xc0000110,
+				0xc0000110, 0xc0000000, 0x0, 0x0, 0xc0000000, 0xc0000000, 0x0, 0xc0000000, 0x0, 0x0, 0xc80010, 0x100000,
+				0x200000, 0x7e000, 0x7e000, 0xc00000, 0xc00000, 0x5000000, 0x5000000, 0x400000, 0xc80010, 0x10, 0x0,
+				0x0, 0x0, 0x1c80010, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x400, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x800, 0x800,
+				0x800, 0x40000010, 0x800, 0x20000000, 0x20000000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+				0x80000000, 0x0, 0x0, 0x0, 0xc0000110, 0x0, 0x1000, 0xc0000110, 0xc0000110, 0x0, 0x0, 0x0, 0x0, 0x0,
+				0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, };
 	}
 
 	private static void jj_la1_init_1() {
 		jj_la1_1 = new int[] { 0x0, 0x0, 0x6, 0x6, 0x78, 0x400, 0x0, 0x0, 0x180, 0x180, 0x0, 0x0, 0x0, 0x400, 0x0, 0x0,
-				0x400, 0x1000, 0x0, 0x0, 0x0, 0x0, 0x400, 0x0, 0x800, 0x800, 0x1000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-				0x0, 0x0, 0x0, 0x0, 0x4000, 0x2000000, 0x2000, 0xc0000, 0xfc000000, 0xfc030000, 0x200, 0xfc000000,
-				0x30000, 0x30000, 0xfc030000, 0x80000, 0x40000, 0xc0000, 0x8, 0x1000000, 0x0, 0xb00000, 0x1000000, 0x0,
-				0x0, 0x0, 0x0, 0x1000000, 0x1000000, 0x1000000, 0x0, 0x0, 0xb00000, 0x8, 0x400000, 0x0, 0xfc000000,
-				0x80, 0x0, 0x0, 0x0, 0x0, 0x1, 0x0, 0x1, 0x0, 0x0, 0x1, 0x0, 0x1, 0x1, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-				0x1, 0x0, 0x1, 0x1, 0x1, 0x1, 0x0, 0x1, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-				0x0, 0x0, 0xfc000000, 0x0, 0x0, 0x4000000, 0x4000000, 0x0, 0x0, 0x0, 0x0, 0x0, 0xfc000000, 0xfc000000,
-				0x0, 0x0, 0x80, 0xfc000000, 0x80, 0x80, 0x80, 0x80, 0x80, 0x80, 0x0, 0xfc000000, 0x40000000, 0x0,
-				0xb0000000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-				0x0, 0x0, 0x200800, 0x200000, 0x200000, 0x0, 0x200000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-				0x0, 0x0, 0x0, 0x800, 0x0, 0x0, 0x0, 0x0, };
+				0x400, 0x1000, 0x0, 0x0, 0x0, 0x0, 0x400, 0x0, 0x800, 0x0, 0x800, 0x400, 0x1000, 0x0, 0x0, 0x0, 0x0,
+				0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x4000, 0x2000000, 0x2000, 0xc0000, 0xfc000000, 0xfc030000, 0x200,
+				0xfc000000, 0x30000, 0x30000, 0xfc030000, 0x80000, 0x40000, 0xc0000, 0x8, 0x1000000, 0x0, 0xb00000,
+				0x1000000, 0x0, 0x0, 0x0, 0x0, 0x1000000, 0x1000000, 0x1000000, 0x0, 0x0, 0xb00000, 0x8, 0x400000, 0x0,
+				0xfc000000, 0x80, 0x0, 0x0, 0x0, 0x0, 0x1, 0x0, 0x1, 0x0, 0x0, 0x1, 0x0, 0x1, 0x1, 0x0, 0x0, 0x0, 0x0,
+				0x0, 0x0, 0x1, 0x0, 0x1, 0x1, 0x1, 0x1, 0x0, 0x1, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+				0x0, 0x0, 0x0, 0x0, 0xfc000000, 0x0, 0x0, 0x4000000, 0x4000000, 0x0, 0x0, 0x0, 0x0, 0x0, 0xfc000000,
+				0xfc000000, 0x0, 0x0, 0x80, 0xfc000000, 0x80, 0x80, 0x80, 0x80, 0x80, 0x80, 0x0, 0xfc000000, 0x40000000,
+				0x0, 0xb0000000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+				0x0, 0x0, 0x0, 0x200800, 0x200000, 0x200000, 0x0, 0x200000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+				0x0, 0x0, 0x0, 0x0, 0x800, 0x0, 0x0, 0x0, 0x0, };
 	}
 
 	private static void jj_la1_init_2() {
 		jj_la1_2 = new int[] { 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x30000000, 0x30000000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
 				0x30000000, 0x3000000, 0x0, 0x0, 0x30000000, 0x0, 0x0, 0x0, 0x0, 0x30000000, 0x0, 0x0, 0x0, 0x0, 0x0,
-				0x30000000, 0x0, 0x43000000, 0x0, 0x0, 0x0, 0x43000000, 0x0, 0x43000000, 0x0, 0x0, 0x0, 0x0, 0x80803fff,
-				0x80803fff, 0x0, 0x80803fff, 0x0, 0x0, 0x80803fff, 0x0, 0x0, 0x0, 0x0, 0x7000000, 0x0, 0x28000000,
-				0x4000000, 0x0, 0x3000000, 0x0, 0x3000000, 0x4000000, 0x7000000, 0x4000000, 0x0, 0x0, 0x28000000, 0x0,
-				0x0, 0x0, 0x80803fff, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x3000000, 0x0, 0x0, 0x0, 0x0, 0x3000000, 0x0, 0x0,
-				0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x3000000, 0x3000000,
-				0x3000000, 0x3000000, 0x3000000, 0x0, 0x0, 0x3000000, 0x3000000, 0x0, 0x3000000, 0x0, 0x3000000,
-				0x83bfbfff, 0x0, 0x0, 0x4000, 0x4000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x83bfbfff, 0x80803fff, 0x33f8000,
-				0x3f8000, 0x0, 0x83bfbfff, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x80803fff, 0x80800000, 0x0, 0x1fbc, 0x0,
-				0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x3000000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-				0x0, 0x0, 0x0, 0x3000000, 0x0, 0x0, 0x3000000, 0x3000000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-				0x0, 0x0, 0x0, 0x0, 0x0, 0x0, };
+				0x0, 0x0, 0x30000000, 0x0, 0x43000000, 0x0, 0x0, 0x0, 0x43000000, 0x0, 0x43000000, 0x0, 0x0, 0x0, 0x0,
+				0x80803fff, 0x80803fff, 0x0, 0x80803fff, 0x0, 0x0, 0x80803fff, 0x0, 0x0, 0x0, 0x0, 0x7000000, 0x0,
+				0x28000000, 0x4000000, 0x0, 0x3000000, 0x0, 0x3000000, 0x4000000, 0x7000000, 0x4000000, 0x0, 0x0,
+				0x28000000, 0x0, 0x0, 0x0, 0x80803fff, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x3000000, 0x0, 0x0, 0x0, 0x0,
+				0x3000000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+				0x3000000, 0x3000000, 0x3000000, 0x3000000, 0x3000000, 0x0, 0x0, 0x3000000, 0x3000000, 0x0, 0x3000000,
+				0x0, 0x3000000, 0x83bfbfff, 0x0, 0x0, 0x4000, 0x4000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x83bfbfff, 0x80803fff,
+				0x33f8000, 0x3f8000, 0x0, 0x83bfbfff, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x80803fff, 0x80800000, 0x0,
+				0x1fbc, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x3000000, 0x0, 0x0, 0x0, 0x0,
+				0x0, 0x0, 0x0, 0x0, 0x0, 0x3000000, 0x0, 0x0, 0x3000000, 0x3000000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+				0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, };
 	}
 
 	private static void jj_la1_init_3() {
 		jj_la1_3 = new int[] { 0x0, 0x80000000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
 				0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-				0x0, 0x0, 0x0, 0x0, 0x0, 0x7fffffff, 0x7fffffff, 0x0, 0x7fffffff, 0x0, 0x0, 0x7fffffff, 0x0, 0x0, 0x0,
-				0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x7fffffff,
-				0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-				0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-				0x0, 0x7fffffff, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x7fffffff, 0x7fffffff, 0x0, 0x0, 0x0,
-				0x7fffffff, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x7fffffff, 0x7ff, 0xf800, 0x0, 0x1ff0000, 0x7e000000,
+				0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x7fffffff, 0x7fffffff, 0x0, 0x7fffffff, 0x0, 0x0, 0x7fffffff, 0x0,
+				0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+				0x7fffffff, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
 				0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-				0x0, 0x0, 0x0, 0x0, 0x0, 0x80000000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-				0x0, };
+				0x0, 0x0, 0x0, 0x0, 0x7fffffff, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x7fffffff, 0x7fffffff,
+				0x0, 0x0, 0x0, 0x7fffffff, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x7fffffff, 0x7ff, 0xf800, 0x0, 0x1ff0000,
+				0x7e000000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+				0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x80000000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+				0x0, 0x0, 0x0, 0x0, };
 	}
 
 	private static void jj_la1_init_4() {
 		jj_la1_4 = new int[] { 0x0, 0x37f, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x300000, 0x300000, 0x300000, 0x0,
-				0x0, 0x3fbf0000, 0x0, 0x0, 0x0, 0x370000, 0x370000, 0x370000, 0x0, 0x0, 0x0, 0x70800, 0x0, 0x300000,
-				0x0, 0x0, 0x300000, 0x3f870000, 0x300000, 0x0, 0x0, 0x3f870000, 0x0, 0x3f870000, 0x0, 0x0, 0x0, 0x0,
-				0x370000, 0x370000, 0x0, 0x370000, 0x0, 0x0, 0x370000, 0x0, 0x0, 0x0, 0x0, 0x3fbf0000, 0x0, 0x0, 0x0,
-				0x0, 0x3fbf0000, 0x0, 0x3fbf0000, 0x0, 0x3fbf0000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x400, 0x70000, 0x0,
-				0x0, 0x0, 0x0, 0x0, 0x370000, 0x3fbf0000, 0x370000, 0x0, 0x0, 0x370000, 0x3fbf0000, 0x370000, 0x370000,
-				0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x70000, 0x0, 0x70000, 0x70000, 0x70000, 0x70000, 0x0, 0x370000, 0x0, 0x0,
-				0x3fbf0000, 0x3fbf0000, 0x3fbf0000, 0x3fbf0000, 0x3fbf0000, 0x370000, 0x300000, 0x3f8f0000, 0x3fbf0000,
-				0x370000, 0x3fbf0000, 0x70000, 0x3f870000, 0x3fb70000, 0x0, 0x0, 0x0, 0x0, 0x1b000000, 0x1b000000, 0x0,
-				0x0, 0x0, 0x3fb70000, 0x0, 0x3fb70000, 0x0, 0x0, 0x3fb70000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-				0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x400000, 0x400000, 0x3f800000, 0x24800000, 0x9000000,
-				0x12000000, 0x0, 0x0, 0x0, 0x0, 0x70000, 0x60000, 0x80000, 0x1800, 0x0, 0x70800, 0x3fbf0000, 0x0, 0x0,
-				0x3fbf0000, 0x3fbf0000, 0x3f, 0x340, 0x400, 0x2000, 0x400, 0x400, 0x400, 0x400, 0x400, 0x400, 0x0,
-				0x200, 0x40, 0x140, 0x8000, };
+				0x0, 0x3fbf0000, 0x0, 0x0, 0x0, 0x370000, 0x370000, 0x370000, 0x0, 0x0, 0x0, 0x70000, 0x70800, 0x0, 0x0,
+				0x300000, 0x0, 0x0, 0x300000, 0x3f870000, 0x300000, 0x0, 0x0, 0x3f870000, 0x0, 0x3f870000, 0x0, 0x0,
+				0x0, 0x0, 0x370000, 0x370000, 0x0, 0x370000, 0x0, 0x0, 0x370000, 0x0, 0x0, 0x0, 0x0, 0x3fbf0000, 0x0,
+				0x0, 0x0, 0x0, 0x3fbf0000, 0x0, 0x3fbf0000, 0x0, 0x3fbf0000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x400,
+				0x70000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x370000, 0x3fbf0000, 0x370000, 0x0, 0x0, 0x370000, 0x3fbf0000,
+				0x370000, 0x370000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x70000, 0x0, 0x70000, 0x70000, 0x70000, 0x70000, 0x0,
+				0x370000, 0x0, 0x0, 0x3fbf0000, 0x3fbf0000, 0x3fbf0000, 0x3fbf0000, 0x3fbf0000, 0x370000, 0x300000,
+				0x3f8f0000, 0x3fbf0000, 0x370000, 0x3fbf0000, 0x70000, 0x3f870000, 0x3fb70000, 0x0, 0x0, 0x0, 0x0,
+				0x1b000000, 0x1b000000, 0x0, 0x0, 0x0, 0x3fb70000, 0x0, 0x3fb70000, 0x0, 0x0, 0x3fb70000, 0x0, 0x0, 0x0,
+				0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x400000, 0x400000,
+				0x3f800000, 0x24800000, 0x9000000, 0x12000000, 0x0, 0x0, 0x0, 0x0, 0x70000, 0x60000, 0x80000, 0x1800,
+				0x0, 0x70800, 0x3fbf0000, 0x0, 0x0, 0x3fbf0000, 0x3fbf0000, 0x3f, 0x340, 0x400, 0x2000, 0x400, 0x400,
+				0x400, 0x400, 0x400, 0x400, 0x0, 0x200, 0x40, 0x140, 0x8000, };
 	}
 
 	private static void jj_la1_init_5() {
-		jj_la1_5 = new int[] { 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x40000fc,
-				0x0, 0x0, 0x0, 0x4000000, 0x4000000, 0x4000000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x40000fc,
-				0x0, 0x0, 0x0, 0x40000fc, 0x0, 0x40000fc, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-				0x0, 0x0, 0x0, 0x40000fc, 0x0, 0x0, 0x0, 0x0, 0x40000fc, 0x0, 0x40000fc, 0x0, 0x40000fc, 0x0, 0x0, 0x0,
-				0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x40000fc, 0x0, 0x0, 0x0, 0x0, 0x40000fc, 0x0,
-				0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x40000fc,
-				0x40000fc, 0x40000fc, 0x40000fc, 0x40000fc, 0x0, 0x0, 0x40000fc, 0x40000fc, 0x0, 0x40000fc, 0x4000000,
-				0x40000fc, 0x40000fc, 0x0, 0x0, 0x0, 0x0, 0xc, 0xc, 0x0, 0x0, 0x0, 0xfc, 0x0, 0xfc, 0x0, 0x0, 0x40000fc,
-				0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0xc,
-				0x0, 0x4, 0x8, 0x0, 0x30, 0xc0, 0xf0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x40000fc, 0x0, 0x0, 0x40000fc,
-				0x40000fc, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, };
+		jj_la1_5 = new int[] { 0x0, 0x0, 0x0, 0x0, 0x0, 0x40000000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x40000000, 0x0,
+				0x40000fc, 0x40000000, 0x0, 0x0, 0x4000000, 0x4000000, 0x4000000, 0x40000000, 0x0, 0x0, 0x10000000,
+				0x10000000, 0x40000000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x40000fc, 0x0, 0x0, 0x0, 0x40000fc, 0x0, 0x40000fc,
+				0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x40000fc, 0x0, 0x30000000,
+				0x0, 0x0, 0x40000fc, 0x0, 0x40000fc, 0x0, 0x40000fc, 0x0, 0x0, 0x0, 0x30000000, 0x0, 0x0, 0x0, 0x0, 0x0,
+				0x0, 0x0, 0x0, 0x0, 0x0, 0x40000fc, 0x0, 0x0, 0x0, 0x0, 0x40000fc, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+				0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x40000fc, 0x40000fc, 0x40000fc, 0x40000fc,
+				0x40000fc, 0x0, 0x0, 0x40000fc, 0x40000fc, 0x0, 0x40000fc, 0x4000000, 0x40000fc, 0x40000fc, 0x0, 0x0,
+				0x0, 0x0, 0xc, 0xc, 0x0, 0x0, 0x0, 0xfc, 0x0, 0xfc, 0x0, 0x0, 0x40000fc, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+				0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0xc, 0x0, 0x4, 0x8, 0x0, 0x30,
+				0xc0, 0xf0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x40000fc, 0x0, 0x0, 0x40000fc, 0x40000fc, 0x0, 0x0, 0x0, 0x0,
+				0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, };
 	}
 
 	final private JJCalls[] jj_2_rtns = new JJCalls[7];
@@ -9404,7 +9475,7 @@ public class SyntaxTreeBuilder
 		token = new Token();
 		jj_ntk = -1;
 		jj_gen = 0;
-		for (int i = 0; i < 184; i++) {
+		for (int i = 0; i < 186; i++) {
 			jj_la1[i] = -1;
 		}
 		for (int i = 0; i < jj_2_rtns.length; i++) {
@@ -9421,7 +9492,7 @@ public class SyntaxTreeBuilder
 		jj_ntk = -1;
 		jjtree.reset();
 		jj_gen = 0;
-		for (int i = 0; i < 184; i++) {
+		for (int i = 0; i < 186; i++) {
 			jj_la1[i] = -1;
 		}
 		for (int i = 0; i < jj_2_rtns.length; i++) {
@@ -9437,7 +9508,7 @@ public class SyntaxTreeBuilder
 		token = new Token();
 		jj_ntk = -1;
 		jj_gen = 0;
-		for (int i = 0; i < 184; i++) {
+		for (int i = 0; i < 186; i++) {
 			jj_la1[i] = -1;
 		}
 		for (int i = 0; i < jj_2_rtns.length; i++) {
@@ -9454,7 +9525,7 @@ public class SyntaxTreeBuilder
 		jj_ntk = -1;
 		jjtree.reset();
 		jj_gen = 0;
-		for (int i = 0; i < 184; i++) {
+		for (int i = 0; i < 186; i++) {
 			jj_la1[i] = -1;
 		}
 		for (int i = 0; i < jj_2_rtns.length; i++) {
@@ -9614,12 +9685,12 @@ public class SyntaxTreeBuilder
 	 */
 	public ParseException generateParseException() {
 		jj_expentries.clear();
-		boolean[] la1tokens = new boolean[188];
+		boolean[] la1tokens = new boolean[191];
 		if (jj_kind >= 0) {
 			la1tokens[jj_kind] = true;
 			jj_kind = -1;
 		}
-		for (int i = 0; i < 184; i++) {
+		for (int i = 0; i < 186; i++) {
 			if (jj_la1[i] == jj_gen) {
 				for (int j = 0; j < 32; j++) {
 					if ((jj_la1_0[i] & (1 << j)) != 0) {
@@ -9643,7 +9714,7 @@ public class SyntaxTreeBuilder
 				}
 			}
 		}
-		for (int i = 0; i < 188; i++) {
+		for (int i = 0; i < 191; i++) {
 			if (la1tokens[i]) {
 				jj_expentry = new int[1];
 				jj_expentry[0] = i;
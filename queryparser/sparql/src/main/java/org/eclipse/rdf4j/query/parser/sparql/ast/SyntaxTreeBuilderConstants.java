@@ -392,6 +392,12 @@ public interface SyntaxTreeBuilderConstants {
 	int TRIPLE_OPEN = 186;
 	/** RegularExpression Id. */
 	int TRIPLE_CLOSE = 187;
+	/** RegularExpression Id. */
+	int CONJ = 188;
+	/** RegularExpression Id. */
+	int SETT = 189;
+	/** RegularExpression Id. */
+	int EXCLUDE = 190;
 
 	/** Lexical state. */
 	int DEFAULT = 0;
@@ -586,6 +592,9 @@ public interface SyntaxTreeBuilderConstants {
 			"<VARNAME>",
 			"\"<<\"",
 			"\">>\"",
+			"\"conj\"",
+			"\"sett\"",
+			"\"exclude\"",
 	};
 
 }
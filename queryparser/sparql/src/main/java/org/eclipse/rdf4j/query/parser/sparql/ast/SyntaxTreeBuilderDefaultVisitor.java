@@ -596,5 +596,13 @@ public class SyntaxTreeBuilderDefaultVisitor implements SyntaxTreeBuilderVisitor
 	public Object visit(ASTModify node, Object data) throws VisitorException {
 		return defaultVisit(node, data);
 	}
+
+	public Object visit(ASTConjGraphPattern node, Object data) throws VisitorException {
+		return defaultVisit(node, data);
+	}
+
+	public Object visit(ASTSettGraphPattern node, Object data) throws VisitorException {
+		return defaultVisit(node, data);
+	}
 }
 /* JavaCC - OriginalChecksum=036e1b73d00ab5e63cd04ddbfdb54c3b (do not edit this line) */
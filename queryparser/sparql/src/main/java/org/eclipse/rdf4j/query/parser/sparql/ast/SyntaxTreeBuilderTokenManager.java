@@ -89,13 +89,13 @@ public class SyntaxTreeBuilderTokenManager implements SyntaxTreeBuilderConstants
 			return jjMoveStringLiteralDfa1_0(0x800200000000L, 0x14000081L, 0x0L);
 		case 67:
 		case 99:
-			return jjMoveStringLiteralDfa1_0(0x1000000000L, 0x230000008040L, 0x31L);
+			return jjMoveStringLiteralDfa1_0(0x1000000000L, 0x230000008040L, 0x1000000000000031L);
 		case 68:
 		case 100:
 			return jjMoveStringLiteralDfa1_0(0x800200a000000000L, 0x8000000000000L, 0x982L);
 		case 69:
 		case 101:
-			return jjMoveStringLiteralDfa1_0(0x800000000000000L, 0x40000000000L, 0x0L);
+			return jjMoveStringLiteralDfa1_0(0x800000000000000L, 0x40000000000L, 0x4000000000000000L);
 		case 70:
 			return jjMoveStringLiteralDfa1_0(0x100040000000000L, 0x400002000000L, 0x0L);
 		case 71:
@@ -117,7 +117,7 @@ public class SyntaxTreeBuilderTokenManager implements SyntaxTreeBuilderConstants
 		case 82:
 			return jjMoveStringLiteralDfa1_0(0x10000000000L, 0x882000800000L, 0x0L);
 		case 83:
-			return jjMoveStringLiteralDfa1_0(0x1000000800000000L, 0x7c40001f88510b02L, 0x400L);
+			return jjMoveStringLiteralDfa1_0(0x1000000800000000L, 0x7c40001f88510b02L, 0x2000000000000400L);
 		case 84:
 			return jjMoveStringLiteralDfa1_0(0x0L, 0x180000001000000L, 0x4000L);
 		case 85:
@@ -161,7 +161,7 @@ public class SyntaxTreeBuilderTokenManager implements SyntaxTreeBuilderConstants
 		case 114:
 			return jjMoveStringLiteralDfa1_0(0x10000000000L, 0x882000800000L, 0x0L);
 		case 115:
-			return jjMoveStringLiteralDfa1_0(0x1000000800000000L, 0x7c40001f88510b02L, 0x400L);
+			return jjMoveStringLiteralDfa1_0(0x1000000800000000L, 0x7c40001f88510b02L, 0x2000000000000400L);
 		case 116:
 			return jjMoveStringLiteralDfa1_0(0x0L, 0x180000001000000L, 0x4000L);
 		case 117:
@@ -237,7 +237,7 @@ public class SyntaxTreeBuilderTokenManager implements SyntaxTreeBuilderConstants
 			return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x200000000000000L, active2, 0x4L);
 		case 69:
 		case 101:
-			return jjMoveStringLiteralDfa2_0(active0, 0x2012800000000L, active1, 0x42202008c00000L, active2, 0x900L);
+			return jjMoveStringLiteralDfa2_0(active0, 0x2012800000000L, active1, 0x42202008c00000L, active2, 0x2000000000000900L);
 		case 70:
 		case 102:
 			if ((active1 & 0x2000L) != 0L) {
@@ -267,7 +267,7 @@ public class SyntaxTreeBuilderTokenManager implements SyntaxTreeBuilderConstants
 				jjmatchedKind = 142;
 				jjmatchedPos = 1;
 			}
-			return jjMoveStringLiteralDfa2_0(active0, 0x400001000000000L, active1, 0x8015830000008041L, active2, 0x18L);
+			return jjMoveStringLiteralDfa2_0(active0, 0x400001000000000L, active1, 0x8015830000008041L, active2, 0x1000000000000018L);
 		case 80:
 		case 112:
 			return jjMoveStringLiteralDfa2_0(active0, 0x10000000000000L, active1, 0L, active2, 0L);
@@ -292,7 +292,7 @@ public class SyntaxTreeBuilderTokenManager implements SyntaxTreeBuilderConstants
 			return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x80000L, active2, 0L);
 		case 88:
 		case 120:
-			return jjMoveStringLiteralDfa2_0(active0, 0x800000000000000L, active1, 0L, active2, 0L);
+			return jjMoveStringLiteralDfa2_0(active0, 0x800000000000000L, active1, 0L, active2, 0x4000000000000000L);
 		case 89:
 		case 121:
 			if ((active0 & 0x800000000000L) != 0L) {
@@ -353,7 +353,7 @@ public class SyntaxTreeBuilderTokenManager implements SyntaxTreeBuilderConstants
 				jjmatchedKind = 48;
 				jjmatchedPos = 2;
 			}
-			return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x40040000000000L, active2, 0L);
+			return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x40040000000000L, active2, 0x4000000000000000L);
 		case 68:
 		case 100:
 			if ((active2 & 0x4L) != 0L) {
@@ -404,7 +404,7 @@ public class SyntaxTreeBuilderTokenManager implements SyntaxTreeBuilderConstants
 				jjmatchedKind = 81;
 				jjmatchedPos = 2;
 			}
-			return jjMoveStringLiteralDfa3_0(active0, 0x6080001000000000L, active1, 0x240b0014000020L, active2, 0L);
+			return jjMoveStringLiteralDfa3_0(active0, 0x6080001000000000L, active1, 0x240b0014000020L, active2, 0x1000000000000000L);
 		case 79:
 		case 111:
 			return jjMoveStringLiteralDfa3_0(active0, 0x440000000000L, active1, 0x400000200080L, active2, 0x2L);
@@ -431,7 +431,7 @@ public class SyntaxTreeBuilderTokenManager implements SyntaxTreeBuilderConstants
 				jjmatchedKind = 58;
 				jjmatchedPos = 2;
 			}
-			return jjMoveStringLiteralDfa3_0(active0, 0x8010000000000000L, active1, 0L, active2, 0x2280L);
+			return jjMoveStringLiteralDfa3_0(active0, 0x8010000000000000L, active1, 0L, active2, 0x2000000000002280L);
 		case 85:
 		case 117:
 			return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x10800001008001L, active2, 0L);
@@ -553,13 +553,20 @@ public class SyntaxTreeBuilderTokenManager implements SyntaxTreeBuilderConstants
 		case 73:
 		case 105:
 			return jjMoveStringLiteralDfa4_0(active0, 0x214000000000000L, active1, 0x10L, active2, 0L);
+		case 74:
+		case 106:
+			if ((active2 & 0x1000000000000000L) != 0L) {
+				jjmatchedKind = 188;
+				jjmatchedPos = 3;
+			}
+			break;
 		case 76:
 		case 108:
 			if ((active1 & 0x200000000000L) != 0L) {
 				jjmatchedKind = 109;
 				jjmatchedPos = 3;
 			}
-			return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0x2080000248L, active2, 0L);
+			return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0x2080000248L, active2, 0x4000000000000000L);
 		case 77:
 		case 109:
 			if ((active0 & 0x40000000000L) != 0L) {
@@ -596,6 +603,10 @@ public class SyntaxTreeBuilderTokenManager implements SyntaxTreeBuilderConstants
 			return jjMoveStringLiteralDfa4_0(active0, 0x808001000000000L, active1, 0xc302000000L, active2, 0L);
 		case 84:
 		case 116:
+			if ((active2 & 0x2000000000000000L) != 0L) {
+				jjmatchedKind = 189;
+				jjmatchedPos = 3;
+			}
 			return jjMoveStringLiteralDfa4_0(active0, 0x100008000000000L, active1, 0x4020000000000L, active2, 0L);
 		case 85:
 		case 117:
@@ -760,7 +771,7 @@ public class SyntaxTreeBuilderTokenManager implements SyntaxTreeBuilderConstants
 			return jjMoveStringLiteralDfa5_0(active0, 0x8800001000000000L, active1, 0x20000300000012L, active2, 0x120L);
 		case 85:
 		case 117:
-			return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0x800L, active2, 0x800L);
+			return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0x800L, active2, 0x4000000000000800L);
 		case 88:
 		case 120:
 			if ((active1 & 0x800000L) != 0L) {
@@ -816,7 +827,7 @@ public class SyntaxTreeBuilderTokenManager implements SyntaxTreeBuilderConstants
 			return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0x2008000000L, active2, 0L);
 		case 68:
 		case 100:
-			return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0x40000400000000L, active2, 0L);
+			return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0x40000400000000L, active2, 0x4000000000000000L);
 		case 69:
 		case 101:
 			if ((active1 & 0x100000L) != 0L) {
@@ -950,6 +961,9 @@ public class SyntaxTreeBuilderTokenManager implements SyntaxTreeBuilderConstants
 			} else if ((active1 & 0x2000000000L) != 0L) {
 				jjmatchedKind = 101;
 				jjmatchedPos = 6;
+			} else if ((active2 & 0x4000000000000000L) != 0L) {
+				jjmatchedKind = 190;
+				jjmatchedPos = 6;
 			}
 			return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0x1000000000L, active2);
 		case 71:
@@ -2740,7 +2754,7 @@ public class SyntaxTreeBuilderTokenManager implements SyntaxTreeBuilderConstants
 			null, null, null, null, null, null, null, null, null, null, null, null, null, null,
 			null, null, null, null, null, null, null, null, null, null, null, null, null, null,
 			null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-			"\74\74", "\76\76", };
+			"\74\74", "\76\76", null, null, null, };
 
 	protected Token jjFillToken() {
 		final Token t;
@@ -3011,10 +3025,10 @@ public class SyntaxTreeBuilderTokenManager implements SyntaxTreeBuilderConstants
 			-1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1,
 			-1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1,
 			-1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1,
-			-1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1,
+			-1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1,
 	};
 	static final long[] jjtoToken = {
-			0xfffffffffffffff1L, 0xffffffffffffffffL, 0xc0000fc3fffffffL,
+			0xfffffffffffffff1L, 0xffffffffffffffffL, 0x7c0000fc3fffffffL,
 	};
 	static final long[] jjtoSkip = {
 			0xcL, 0x0L, 0x0L,
@@ -157,6 +157,8 @@ public interface SyntaxTreeBuilderTreeConstants {
 	public int JJTDELETECLAUSE = 142;
 	public int JJTINSERTCLAUSE = 143;
 	public int JJTMODIFY = 144;
+	public int JJTCONJGRAPHPATTERN = 145;
+	public int JJTSETTGRAPHPATTERN = 146;
 
 	public String[] jjtNodeName = {
 			"UpdateSequence",
@@ -304,6 +306,8 @@ public interface SyntaxTreeBuilderTreeConstants {
 			"DeleteClause",
 			"InsertClause",
 			"Modify",
+			"ConjGraphPattern",
+			"SettGraphPattern",
 	};
 }
 /* JavaCC - OriginalChecksum=c1140ec61eef88fc83def974a6deba48 (do not edit this line) */
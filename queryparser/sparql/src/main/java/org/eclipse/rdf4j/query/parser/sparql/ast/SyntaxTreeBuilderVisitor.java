@@ -301,5 +301,9 @@ public interface SyntaxTreeBuilderVisitor {
 	public Object visit(ASTInsertClause node, Object data) throws VisitorException;
 
 	public Object visit(ASTModify node, Object data) throws VisitorException;
+
+	public Object visit(ASTConjGraphPattern node, Object data) throws VisitorException;
+
+	public Object visit(ASTSettGraphPattern node, Object data) throws VisitorException;
 }
 /* JavaCC - OriginalChecksum=daffbeaaacea4dca824eb7969ebdb172 (do not edit this line) */
@@ -38,6 +38,11 @@ public class Token implements java.io.Serializable {
 	public int endLine;
 	/** The column number of the last character of this Token. */
 	public int endColumn;
+	/**
+	 * The offset of the first character of this Token in the source string, or -1 if the token manager does not know
+	 * it.
+	 */
+	public int beginOffset = -1;
 
 	/**
 	 * The string image of the token.
@@ -106,7 +106,11 @@ public class UnicodeEscapeStream extends JavaCharStream {
 					column += hex.length();
 				}
 			} catch (java.io.IOException | IllegalArgumentException e) {
-				throw new Error("Invalid escape character at line " + line + " column " + column + ".", e);
+				TokenMgrError error = new TokenMgrError(
+						"Invalid escape character at line " + line + " column " + column + ".",
+						TokenMgrError.LEXICAL_ERROR);
+				error.initCause(e);
+				throw error;
 			}
 
 			if (backSlashCnt == 1) {
@@ -0,0 +1,471 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.parser.sparql.ast;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Splits a SPARQL update sequence that is read from a {@link Reader} into the texts of its operations, one operation
+ * at a time, so that a sequence of any length can be parsed with memory bounded by its largest operation.
+ * <p>
+ * The input is tokenized with the token manager of the grammar, and an operation ends at a semicolon that is not
+ * nested in braces. Only the text of the operation that is being read, and the characters the token manager has read
+ * ahead, are kept in memory. Each operation text can be parsed with
+ * {@link SyntaxTreeBuilder#parseUpdateSequence(String)}.
+ */
+public class UpdateSequenceSplitter {
+
+	private final RecordingReader input;
+
+	private final OffsetTrackingStream stream;
+
+	private final SyntaxTreeBuilderTokenManager tokenManager;
+
+	/**
+	 * The characters that were read but do not belong to an operation that was returned yet.
+	 */
+	private final StringBuilder text = new StringBuilder();
+
+	/**
+	 * The offset in the update sequence of the first character in {@link #text}.
+	 */
+	private long textOffset;
+
+	/**
+	 * The line of the update sequence on which the first character in {@link #text} is.
+	 */
+	private int textLine = 1;
+
+	private int operationLine;
+
+	private boolean finished;
+
+	/**
+	 * @param reader The reader to read the update sequence from. It is not closed by the splitter.
+	 */
+	public UpdateSequenceSplitter(Reader reader) {
+		input = new RecordingReader(reader, text);
+		stream = new OffsetTrackingStream(input);
+		tokenManager = new FastPathTokenManager(stream);
+	}
+
+	/**
+	 * Reads the next operation of the update sequence.
+	 *
+	 * @return The text of the operation, without the semicolon that separates it from the next operation, or
+	 *         <var>null</var> if all operations have been read. The text of an operation may be empty, or consist of a
+	 *         prologue only.
+	 * @throws IOException   If the update sequence could not be read.
+	 * @throws TokenMgrError If the update sequence contains a character sequence that is not a token.
+	 */
+	public String nextOperation() throws IOException, TokenMgrError {
+		if (finished) {
+			return null;
+		}
+		operationLine = textLine;
+
+		int nesting = 0;
+		while (true) {
+			Token token = tokenManager.getNextToken();
+			switch (token.kind) {
+			case SyntaxTreeBuilderConstants.LBRACE:
+				nesting++;
+				break;
+			case SyntaxTreeBuilderConstants.RBRACE:
+				if (nesting > 0) {
+					nesting--;
+				}
+				break;
+			case SyntaxTreeBuilderConstants.SEMICOLON:
+				if (nesting == 0) {
+					return cutOperation(token);
+				}
+				break;
+			case SyntaxTreeBuilderConstants.EOF:
+				// the char stream reports a failing reader as the end of the input
+				input.rethrowFailure();
+				finished = true;
+				String operation = text.toString();
+				text.setLength(0);
+				return operation;
+			default:
+				break;
+			}
+		}
+	}
+
+	/**
+	 * @return <var>true</var> if the update sequence has operations that were not read yet.
+	 */
+	public boolean hasMoreOperations() {
+		return !finished;
+	}
+
+	/**
+	 * @return The line of the update sequence on which the text of the operation that was read last starts.
+	 */
+	public int getOperationLine() {
+		return operationLine;
+	}
+
+	/**
+	 * Removes the text up to and including the current token of the char stream, which is a separator, and returns it
+	 * without the separator. The separator is located by the offsets of the characters it was decoded from, as it may
+	 * have been written as a unicode escape.
+	 */
+	private String cutOperation(Token separator) {
+		int begin = (int) (stream.getBeginOffset() - textOffset);
+		int end = (int) (stream.getEndOffset() - textOffset);
+		String operation = text.substring(0, begin);
+
+		text.delete(0, end);
+		textOffset += end;
+		textLine = separator.endLine;
+		return operation;
+	}
+
+	/**
+	 * Appends the characters read from a reader to a buffer, and keeps the exception if reading fails.
+	 */
+	private static final class RecordingReader extends FilterReader {
+
+		private final StringBuilder buffer;
+
+		private IOException failure;
+
+		RecordingReader(Reader in, StringBuilder buffer) {
+			super(in);
+			this.buffer = buffer;
+		}
+
+		@Override
+		public int read(char[] cbuf, int off, int len) throws IOException {
+			int read;
+			try {
+				read = in.read(cbuf, off, len);
+			} catch (IOException e) {
+				failure = e;
+				throw e;
+			}
+			if (read > 0) {
+				buffer.append(cbuf, off, read);
+			}
+			return read;
+		}
+
+		@Override
+		public int read() throws IOException {
+			char[] c = new char[1];
+			return read(c, 0, 1) == 1 ? c[0] : -1;
+		}
+
+		void rethrowFailure() throws IOException {
+			if (failure != null) {
+				throw failure;
+			}
+		}
+	}
+
+	/**
+	 * A {@link CharStream} that decodes <code>\\u</code> and <code>\\U</code> escapes as {@link UnicodeEscapeStream}
+	 * does, and records for each decoded character the offsets in the input of the characters it was decoded from.
+	 * Lines and columns are counted as {@link JavaCharStream} counts them with a tab size of 1, on the input
+	 * characters.
+	 * <p>
+	 * Only the characters of the current token, and the characters read ahead of it, are kept.
+	 */
+	private static final class OffsetTrackingStream implements CharStream {
+
+		private final Reader in;
+
+		private final char[] inputBuffer = new char[8192];
+
+		private int inputIndex;
+
+		private int inputLength;
+
+		/**
+		 * The offset in the input of the next input character.
+		 */
+		private long offset;
+
+		/**
+		 * The line and column of the last input character, and whether it is a line break.
+		 */
+		private int line = 1;
+
+		private int column;
+
+		private boolean prevCharIsCR;
+
+		private boolean prevCharIsLF;
+
+		/**
+		 * The decoded characters, with the offsets of the first and after the last input character of each, and the
+		 * line and column of the first. The first <var>count</var> entries are used.
+		 */
+		private char[] chars = new char[64];
+
+		private long[] beginOffsets = new long[64];
+
+		private long[] endOffsets = new long[64];
+
+		private int[] lines = new int[64];
+
+		private int[] columns = new int[64];
+
+		private int count;
+
+		/**
+		 * The index of the last character read, or -1.
+		 */
+		private int pos = -1;
+
+		/**
+		 * The index of the first character of the current token.
+		 */
+		private int tokenBegin;
+
+		private boolean trackLineColumn = true;
+
+		OffsetTrackingStream(Reader in) {
+			this.in = in;
+		}
+
+		@Override
+		public char readChar() throws IOException {
+			if (pos + 1 == count) {
+				decode();
+			}
+			return chars[++pos];
+		}
+
+		@Override
+		public char BeginToken() throws IOException {
+			// the token manager does not back up past the beginning of a token
+			int discarded = pos + 1;
+			if (discarded > 0) {
+				int kept = count - discarded;
+				System.arraycopy(chars, discarded, chars, 0, kept);
+				System.arraycopy(beginOffsets, discarded, beginOffsets, 0, kept);
+				System.arraycopy(endOffsets, discarded, endOffsets, 0, kept);
+				System.arraycopy(lines, discarded, lines, 0, kept);
+				System.arraycopy(columns, discarded, columns, 0, kept);
+				count = kept;
+				pos = -1;
+			}
+			tokenBegin = 0;
+			return readChar();
+		}
+
+		/**
+		 * Decodes the next one or two characters from the input. A backslash starts an escape if it is followed by
+		 * <code>u</code> or <code>U</code> and preceded by an even number of backslashes, so backslashes are decoded in
+		 * pairs.
+		 */
+		private void decode() throws IOException {
+			long begin = offset;
+			int c = read();
+			if (c == -1) {
+				throw JavaCharStream.IO_EXCEPTION;
+			}
+			int beginLine = line;
+			int beginColumn = column;
+			if (c != '\\') {
+				append((char) c, begin, beginLine, beginColumn);
+				return;
+			}
+
+			int next = peek();
+			if (next == '\\') {
+				append('\\', begin, beginLine, beginColumn);
+				begin = offset;
+				read();
+				append('\\', begin, line, column);
+			} else if (next == 'u' || next == 'U') {
+				read();
+				if (peek() == 'u') {
+					// JavaCharStream skips repeated u's as Java does, but the parser decodes escapes as
+					// UnicodeEscapeStream does, which rejects them
+					throw new TokenMgrError("Invalid escape character at line " + line + " column " + column
+							+ ": repeated u in unicode escape.", TokenMgrError.LEXICAL_ERROR);
+				}
+				int codePoint = 0;
+				try {
+					for (int i = next == 'u' ? 4 : 8; i > 0; i--) {
+						codePoint = codePoint << 4 | JavaCharStream.hexval((char) read());
+					}
+					for (char decoded : Character.toChars(codePoint)) {
+						append(decoded, begin, beginLine, beginColumn);
+					}
+				} catch (IOException | IllegalArgumentException e) {
+					throw new TokenMgrError("Invalid escape character at line " + line + " column " + column + ".",
+							TokenMgrError.LEXICAL_ERROR);
+				}
+			} else {
+				append('\\', begin, beginLine, beginColumn);
+			}
+		}
+
+		private void append(char c, long begin, int beginLine, int beginColumn) {
+			if (count == chars.length) {
+				int capacity = count * 2;
+				chars = Arrays.copyOf(chars, capacity);
+				beginOffsets = Arrays.copyOf(beginOffsets, capacity);
+				endOffsets = Arrays.copyOf(endOffsets, capacity);
+				lines = Arrays.copyOf(lines, capacity);
+				columns = Arrays.copyOf(columns, capacity);
+			}
+			chars[count] = c;
+			beginOffsets[count] = begin;
+			endOffsets[count] = offset;
+			lines[count] = beginLine;
+			columns[count] = beginColumn;
+			count++;
+		}
+
+		/**
+		 * Reads the next input character and updates the line and column.
+		 *
+		 * @return The character, or -1 at the end of the input.
+		 */
+		private int read() throws IOException {
+			int c = peek();
+			if (c == -1) {
+				return -1;
+			}
+			inputIndex++;
+			offset++;
+
+			column++;
+			if (prevCharIsLF) {
+				prevCharIsLF = false;
+				line++;
+				column = 1;
+			} else if (prevCharIsCR) {
+				prevCharIsCR = false;
+				if (c == '\n') {
+					prevCharIsLF = true;
+				} else {
+					line++;
+					column = 1;
+				}
+			}
+			if (c == '\r') {
+				prevCharIsCR = true;
+			} else if (c == '\n') {
+				prevCharIsLF = true;
+			}
+			return c;
+		}
+
+		private int peek() throws IOException {
+			if (inputIndex == inputLength) {
+				int read = in.read(inputBuffer, 0, inputBuffer.length);
+				if (read <= 0) {
+					return -1;
+				}
+				inputIndex = 0;
+				inputLength = read;
+			}
+			return inputBuffer[inputIndex];
+		}
+
+		/**
+		 * @return The offset in the input of the first character of the current token.
+		 */
+		long getBeginOffset() {
+			return beginOffsets[tokenBegin];
+		}
+
+		/**
+		 * @return The offset in the input after the last character of the current token.
+		 */
+		long getEndOffset() {
+			return endOffsets[pos];
+		}
+
+		@Override
+		public void backup(int amount) {
+			pos -= amount;
+		}
+
+		@Override
+		public String GetImage() {
+			return new String(chars, tokenBegin, Math.max(0, pos - tokenBegin + 1));
+		}
+
+		@Override
+		public char[] GetSuffix(int len) {
+			return Arrays.copyOfRange(chars, pos - len + 1, pos + 1);
+		}
+
+		@Override
+		public void Done() {
+			// nothing to release
+		}
+
+		@Override
+		@Deprecated
+		public int getColumn() {
+			return getEndColumn();
+		}
+
+		@Override
+		@Deprecated
+		public int getLine() {
+			return getEndLine();
+		}
+
+		@Override
+		public int getEndColumn() {
+			return pos >= 0 && pos < count ? columns[pos] : column;
+		}
+
+		@Override
+		public int getEndLine() {
+			return pos >= 0 && pos < count ? lines[pos] : line;
+		}
+
+		@Override
+		public int getBeginColumn() {
+			return tokenBegin < count ? columns[tokenBegin] : column;
+		}
+
+		@Override
+		public int getBeginLine() {
+			return tokenBegin < count ? lines[tokenBegin] : line;
+		}
+
+		@Override
+		public void setTabSize(int i) {
+			// columns are counted with a tab size of 1
+		}
+
+		@Override
+		public int getTabSize() {
+			return 1;
+		}
+
+		@Override
+		public boolean getTrackLineColumn() {
+			return trackLineColumn;
+		}
+
+		@Override
+		public void setTrackLineColumn(boolean trackLineColumn) {
+			this.trackLineColumn = trackLineColumn;
+		}
+	}
+}
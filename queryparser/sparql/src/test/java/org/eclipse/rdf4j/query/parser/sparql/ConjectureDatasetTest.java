@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.parser.sparql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.query.Dataset;
+import org.eclipse.rdf4j.query.MalformedQueryException;
+import org.eclipse.rdf4j.query.algebra.Filter;
+import org.eclipse.rdf4j.query.algebra.Not;
+import org.eclipse.rdf4j.query.algebra.SameTerm;
+import org.eclipse.rdf4j.query.algebra.StatementPattern;
+import org.eclipse.rdf4j.query.algebra.StatementPattern.Scope;
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
+import org.eclipse.rdf4j.query.algebra.ValueConstant;
+import org.eclipse.rdf4j.query.algebra.helpers.collectors.StatementPatternCollector;
+import org.eclipse.rdf4j.query.parser.sparql.PartitionedStatementPattern.Partition;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the conjecture dataset clauses and {@link ConjectureDataset}.
+ */
+public class ConjectureDatasetTest {
+
+	private static final IRI GRAPH = SimpleValueFactory.getInstance().createIRI("http://example.org/g");
+
+	@Test
+	public void testFromConj() {
+		ConjectureDataset dataset = parse("SELECT * FROM CONJ WHERE { ?s ?p ?o }");
+
+		assertThat(dataset.getDefaultGraphPartition()).isEqualTo(Partition.CONJECTURES);
+		assertThat(dataset.getNamedGraphPartition()).isNull();
+		assertThat(dataset.getDefaultGraphs()).isEmpty();
+		assertThat(dataset.toString()).isEqualTo("FROM CONJ\n");
+	}
+
+	@Test
+	public void testFromNamedConj() {
+		ConjectureDataset dataset = parse(
+				"SELECT * FROM <http://example.org/g> FROM NAMED conj WHERE { GRAPH ?g { ?s ?p ?o } }");
+
+		assertThat(dataset.getDefaultGraphPartition()).isNull();
+		assertThat(dataset.getNamedGraphPartition()).isEqualTo(Partition.CONJECTURES);
+		assertThat(dataset.getListedDefaultGraphs()).containsExactly(GRAPH);
+		assertThat(dataset.getListedNamedGraphs()).isEmpty();
+		assertThat(dataset.getDefaultGraphs()).isEmpty();
+		assertThat(dataset.toString()).isEqualTo("FROM <http://example.org/g>\nFROM NAMED CONJ\n");
+	}
+
+	@Test
+	public void testExcludeConj() {
+		ConjectureDataset dataset = parse("ASK EXCLUDE CONJ { ?s ?p ?o }");
+
+		assertThat(dataset.getDefaultGraphPartition()).isEqualTo(Partition.ASSERTED);
+		assertThat(dataset.getNamedGraphPartition()).isEqualTo(Partition.ASSERTED);
+		assertThat(dataset.toString()).isEqualTo("EXCLUDE CONJ\n");
+	}
+
+	@Test
+	public void testExcludeConjIsRestrictedInQueryModel() {
+		TupleExpr expr = new SPARQLParser().parseQuery("ASK EXCLUDE CONJ { ?s ?p ?o }", null).getTupleExpr();
+
+		// a store that does not know about partitions sees no restriction, so the query model has to restrict
+		List<StatementPattern> patterns = StatementPatternCollector.process(expr);
+		assertThat(patterns).singleElement().satisfies(pattern -> {
+			assertThat(pattern.getScope()).isEqualTo(Scope.NAMED_CONTEXTS);
+			assertThat(((PartitionedStatementPattern) pattern).getPartition()).isEqualTo(Partition.ASSERTED);
+			assertThat(pattern.getParentNode()).isInstanceOf(Filter.class);
+			assertThat(((Filter) pattern.getParentNode()).getCondition()).isInstanceOf(Not.class);
+		});
+	}
+
+	@Test
+	public void testListedGraphsAreRestrictedInQueryModel() {
+		String query = "SELECT * FROM <http://example.org/g> FROM NAMED CONJ "
+				+ "WHERE { ?s ?p ?o CONJ ?g { ?s ?p ?o } }";
+		TupleExpr expr = new SPARQLParser().parseQuery(query, null).getTupleExpr();
+
+		List<StatementPattern> patterns = StatementPatternCollector.process(expr);
+		assertThat(patterns).hasSize(2).allSatisfy(pattern -> {
+			assertThat(pattern.getScope()).isEqualTo(Scope.NAMED_CONTEXTS);
+			assertThat(pattern.getParentNode()).isInstanceOf(Filter.class);
+		});
+		assertThat(patterns.get(0)).isNotInstanceOf(PartitionedStatementPattern.class);
+		assertThat(((Filter) patterns.get(0).getParentNode()).getCondition())
+				.isEqualTo(new SameTerm(patterns.get(0).getContextVar(), new ValueConstant(GRAPH)));
+		assertThat(((Filter) patterns.get(1).getParentNode()).getCondition())
+				.isEqualTo(TupleExprBuilder.createConjectureCondition(patterns.get(1).getContextVar()));
+	}
+
+	@Test
+	public void testFromDefaultWithConj() {
+		assertThatThrownBy(() -> parse("SELECT * FROM DEFAULT FROM CONJ WHERE { ?s ?p ?o }"))
+				.isInstanceOf(MalformedQueryException.class);
+	}
+
+	@Test
+	public void testExcludeConjWithOtherClauses() {
+		assertThatThrownBy(() -> parse("SELECT * FROM <http://example.org/g> EXCLUDE CONJ WHERE { ?s ?p ?o }"))
+				.isInstanceOf(MalformedQueryException.class);
+	}
+
+	@Test
+	public void testPlainDataset() {
+		Dataset dataset = new SPARQLParser()
+				.parseQuery("PREFIX conj: <http://example.org/> SELECT * FROM conj:g WHERE { ?s ?p ?o }", null)
+				.getDataset();
+
+		assertThat(dataset).isNotInstanceOf(ConjectureDataset.class);
+		assertThat(dataset.getDefaultGraphs()).containsExactly(GRAPH);
+	}
+
+	private ConjectureDataset parse(String query) {
+		Dataset dataset = new SPARQLParser().parseQuery(query, null).getDataset();
+		assertThat(dataset).isInstanceOf(ConjectureDataset.class);
+		return (ConjectureDataset) dataset;
+	}
+}
@@ -0,0 +1,275 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.parser.sparql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.query.algebra.Exists;
+import org.eclipse.rdf4j.query.algebra.Filter;
+import org.eclipse.rdf4j.query.algebra.FunctionCall;
+import org.eclipse.rdf4j.query.algebra.Not;
+import org.eclipse.rdf4j.query.algebra.StatementPattern;
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
+import org.eclipse.rdf4j.query.algebra.Var;
+import org.eclipse.rdf4j.query.algebra.helpers.AbstractQueryModelVisitor;
+import org.eclipse.rdf4j.query.algebra.helpers.collectors.StatementPatternCollector;
+import org.eclipse.rdf4j.query.parser.sparql.PartitionedStatementPattern.Partition;
+import org.eclipse.rdf4j.query.parser.sparql.ast.ParseException;
+import org.eclipse.rdf4j.query.parser.sparql.ast.SyntaxTreeBuilder;
+import org.eclipse.rdf4j.rio.helpers.StatementCollector;
+import org.eclipse.rdf4j.rio.trig.TriGParser;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the CONJ and SETT graph patterns and the conjecture condition of GRAPH.
+ */
+public class ConjectureGraphPatternTest {
+
+	@Test
+	public void testGraphConditionIsScopedToBlock() {
+		TupleExpr expr = build("SELECT * WHERE { ?s ?p ?o . GRAPH ?g { ?s ?q ?v } }");
+
+		List<Filter> filters = getFilters(expr);
+		assertThat(filters).hasSize(1);
+		assertThat(filters.get(0).getCondition()).isInstanceOf(Not.class);
+
+		List<StatementPattern> patterns = StatementPatternCollector.process(filters.get(0).getArg());
+		assertThat(patterns).hasSize(1);
+		assertThat(patterns.get(0).getContextVar().getName()).isEqualTo("g");
+		assertThat(StatementPatternCollector.process(expr)).hasSize(2);
+	}
+
+	@Test
+	public void testConjWithVariable() {
+		TupleExpr expr = build("SELECT * WHERE { conj ?g { ?s ?p ?o } }");
+
+		List<Filter> filters = getFilters(expr);
+		assertThat(filters).hasSize(1);
+		assertThat(filters.get(0).getCondition()).isInstanceOf(FunctionCall.class);
+
+		StatementPattern pattern = StatementPatternCollector.process(expr).get(0);
+		assertThat(pattern.getScope()).isEqualTo(StatementPattern.Scope.NAMED_CONTEXTS);
+		assertThat(pattern.getContextVar().getName()).isEqualTo("g");
+	}
+
+	@Test
+	public void testConjWithConstant() {
+		TupleExpr expr = build("SELECT * WHERE { CONJ <http://example.org/g> { ?s ?p ?o } }");
+
+		assertThat(getFilters(expr)).isEmpty();
+		StatementPattern pattern = StatementPatternCollector.process(expr).get(0);
+		assertThat(pattern.getContextVar().getValue().stringValue()).isEqualTo("conj-http://example.org/g");
+	}
+
+	@Test
+	public void testSett() {
+		TupleExpr expr = build("SELECT * WHERE { SETT <http://example.org/g> { ?s ?p ?o } }");
+
+		assertThat(StatementPatternCollector.process(expr)).singleElement()
+				.satisfies(sp -> assertThat(sp.getContextVar().getValue().stringValue())
+						.isEqualTo("http://example.org/g"));
+		Exists exists = (Exists) getFilters(expr).get(0).getCondition();
+		List<StatementPattern> patterns = StatementPatternCollector.process(exists.getSubQuery());
+		assertThat(patterns).hasSize(2);
+		assertThat(patterns.get(0)).satisfies(sp -> {
+			assertThat(sp.getPredicateVar().getValue().stringValue())
+					.isEqualTo("https://w3id.org/conjectures/settles");
+			assertThat(sp.getSubjectVar().getValue().stringValue()).isEqualTo("http://example.org/g");
+			assertThat(sp.getContextVar().getValue().stringValue()).isEqualTo("http://example.org/g");
+		});
+		assertThat(patterns.get(1).getContextVar().getName()).isEqualTo(patterns.get(0).getObjectVar().getName());
+	}
+
+	@Test
+	public void testSettIsSemiJoin() {
+		TupleExpr expr = build("SELECT * WHERE { SETT ?g { ?s ?p ?o } }");
+
+		assertThat(expr.getBindingNames()).containsExactlyInAnyOrder("g", "s", "p", "o");
+		List<Filter> filters = getFilters(expr);
+		assertThat(filters).singleElement().satisfies(filter -> {
+			assertThat(filter.getCondition()).isInstanceOf(Exists.class);
+			List<StatementPattern> settling = StatementPatternCollector
+					.process(((Exists) filter.getCondition()).getSubQuery());
+			assertThat(settling).hasSize(2);
+			assertThat(settling.get(0).getPredicateVar().getValue().stringValue())
+					.isEqualTo("https://w3id.org/conjectures/settles");
+			assertThat(settling.get(0).getSubjectVar().getName()).isEqualTo("g");
+			assertThat(settling.get(0).getContextVar().getName()).isEqualTo("g");
+			assertThat(settling.get(1).getContextVar().getName())
+					.isEqualTo(settling.get(0).getObjectVar().getName());
+		});
+	}
+
+	@Test
+	public void testSettMatchesParsedTriG() throws Exception {
+		Model settled = parseTriG("SETT ex:g { ex:s ex:p ex:o }");
+		Model conjectured = parseTriG("CONJ ex:h { ex:s ex:p ex:o } ex:g { ex:s ex:p ex:o }");
+		SimpleValueFactory vf = SimpleValueFactory.getInstance();
+
+		TupleExpr expr = build("SELECT * WHERE { SETT ?g { ?s <http://example.org/p> ?o } }");
+		assertThat(evaluateSett(expr, settled)).singleElement().satisfies(solution -> {
+			assertThat(solution).containsEntry("g", vf.createIRI("http://example.org/g"));
+			assertThat(solution).containsEntry("s", vf.createIRI("http://example.org/s"));
+			assertThat(solution).containsEntry("o", vf.createIRI("http://example.org/o"));
+		});
+		assertThat(evaluateSett(expr, conjectured)).isEmpty();
+
+		expr = build("SELECT * WHERE { SETT <http://example.org/g> { ?s ?p ?o } }");
+		assertThat(evaluateSett(expr, settled)).hasSize(1);
+		assertThat(evaluateSett(expr, conjectured)).isEmpty();
+	}
+
+	@Test
+	public void testGraphPatternsAreAsserted() {
+		TupleExpr expr = build("SELECT * WHERE { ?s ?p ?o . GRAPH ?g { ?s ?q ?v . ?v <urn:a>/<urn:b> ?w } }");
+
+		List<StatementPattern> patterns = StatementPatternCollector.process(expr);
+		assertThat(patterns).hasSize(4);
+		assertThat(patterns).filteredOn(sp -> sp.getContextVar() != null)
+				.hasSize(3)
+				.allSatisfy(sp -> assertThat(((PartitionedStatementPattern) sp).getPartition())
+						.isEqualTo(Partition.ASSERTED));
+		assertThat(patterns).filteredOn(sp -> sp.getContextVar() == null)
+				.singleElement()
+				.isNotInstanceOf(PartitionedStatementPattern.class);
+	}
+
+	@Test
+	public void testConjPatternsAreConjectures() {
+		TupleExpr expr = build("SELECT * WHERE { CONJ ?c { ?s ?p ?o . GRAPH ?g { ?s ?q ?v } } }");
+
+		List<StatementPattern> patterns = StatementPatternCollector.process(expr);
+		assertThat(patterns).extracting(sp -> ((PartitionedStatementPattern) sp).getPartition())
+				.containsExactlyInAnyOrder(Partition.CONJECTURES, Partition.ASSERTED);
+	}
+
+	@Test
+	public void testGraphWithConstant() {
+		TupleExpr expr = build("SELECT * WHERE { GRAPH <http://example.org/g> { ?s ?p ?o } }");
+
+		assertThat(getFilters(expr)).isEmpty();
+		assertThat(StatementPatternCollector.process(expr)).singleElement()
+				.isNotInstanceOf(PartitionedStatementPattern.class);
+	}
+
+	@Test
+	public void testPartitionContains() {
+		SimpleValueFactory vf = SimpleValueFactory.getInstance();
+
+		assertThat(Partition.ASSERTED.contains(vf.createIRI("http://example.org/g"))).isTrue();
+		assertThat(Partition.ASSERTED.contains(vf.createIRI("conj-http://example.org/g"))).isFalse();
+		assertThat(Partition.CONJECTURES.contains(vf.createIRI("conj-http://example.org/g"))).isTrue();
+		assertThat(Partition.CONJECTURES.contains(null)).isFalse();
+		assertThat(Partition.ASSERTED.contains(null)).isFalse();
+	}
+
+	@Test
+	public void testKeywordsInLiteralsAndComments() {
+		TupleExpr expr = build("SELECT * WHERE { # graph ?g { }\n ?s ?p \"conj ?g { } sett ?g { } graph ?g { }\" }");
+
+		assertThat(getFilters(expr)).isEmpty();
+		assertThat(StatementPatternCollector.process(expr)).hasSize(1);
+	}
+
+	@Test
+	public void testConjPrefix() {
+		TupleExpr expr = build("PREFIX conj: <https://w3id.org/conjectures/> SELECT * WHERE { ?s conj:settles ?o }");
+
+		StatementPattern pattern = StatementPatternCollector.process(expr).get(0);
+		assertThat(pattern.getPredicateVar().getValue().stringValue())
+				.isEqualTo("https://w3id.org/conjectures/settles");
+	}
+
+	@Test
+	public void testMissingGraphPattern() {
+		assertThrows(ParseException.class, () -> SyntaxTreeBuilder.parseQuery("SELECT * WHERE { CONJ ?g }"));
+	}
+
+	private TupleExpr build(String query) {
+		return new SPARQLParser().parseQuery(query, null).getTupleExpr();
+	}
+
+	private Model parseTriG(String data) throws Exception {
+		Model model = new LinkedHashModel();
+		TriGParser parser = new TriGParser();
+		parser.setRDFHandler(new StatementCollector(model));
+		parser.parse(new StringReader("@prefix conj: <https://w3id.org/conjectures/> .\n"
+				+ "@prefix ex: <http://example.org/> .\n" + data), "");
+		return model;
+	}
+
+	/**
+	 * Evaluates the query model of a single SETT block against a model, by matching the statement patterns of the
+	 * block and of its EXISTS condition together. There is no query engine in this module to evaluate it with.
+	 */
+	private List<Map<String, Value>> evaluateSett(TupleExpr expr, Model model) {
+		Filter filter = getFilters(expr).get(0);
+		List<StatementPattern> patterns = new ArrayList<>(StatementPatternCollector.process(filter.getArg()));
+		patterns.addAll(StatementPatternCollector.process(((Exists) filter.getCondition()).getSubQuery()));
+
+		List<Map<String, Value>> solutions = new ArrayList<>();
+		match(patterns, 0, new HashMap<>(), model, solutions);
+		return solutions;
+	}
+
+	private void match(List<StatementPattern> patterns, int index, Map<String, Value> bindings, Model model,
+			List<Map<String, Value>> solutions) {
+		if (index == patterns.size()) {
+			Map<String, Value> solution = new HashMap<>(bindings);
+			solution.keySet().removeIf(name -> name.startsWith("_anon_"));
+			solutions.add(solution);
+			return;
+		}
+		StatementPattern pattern = patterns.get(index);
+		for (Statement st : model) {
+			if (st.getContext() == null) {
+				continue;
+			}
+			Map<String, Value> extended = new HashMap<>(bindings);
+			if (bind(pattern.getSubjectVar(), st.getSubject(), extended)
+					&& bind(pattern.getPredicateVar(), st.getPredicate(), extended)
+					&& bind(pattern.getObjectVar(), st.getObject(), extended)
+					&& bind(pattern.getContextVar(), st.getContext(), extended)) {
+				match(patterns, index + 1, extended, model, solutions);
+			}
+		}
+	}
+
+	private boolean bind(Var var, Value value, Map<String, Value> bindings) {
+		Value bound = var.hasValue() ? var.getValue() : bindings.putIfAbsent(var.getName(), value);
+		return bound == null || bound.equals(value);
+	}
+
+	private List<Filter> getFilters(TupleExpr expr) {
+		List<Filter> filters = new ArrayList<>();
+		expr.visit(new AbstractQueryModelVisitor<RuntimeException>() {
+
+			@Override
+			public void meet(Filter node) {
+				filters.add(node);
+				super.meet(node);
+			}
+		});
+		return filters;
+	}
+}
@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.parser.sparql;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rdf4j.query.parser.ParsedQuery;
+import org.eclipse.rdf4j.query.parser.sparql.ast.ASTQueryContainer;
+import org.eclipse.rdf4j.query.parser.sparql.ast.SyntaxTreeBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarks parsing machine-generated queries with many children per syntax tree node: a VALUES block with many
+ * rows, a long chain of UNION branches, and a wildcard projection over many variables.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 5)
+@BenchmarkMode({ Mode.AverageTime })
+@Fork(value = 1, jvmArgs = { "-Xms2G", "-Xmx2G", "-Xss64m" })
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LargeQueryParseBenchmark {
+
+	@Param({ "values", "union", "wildcard" })
+	public String shape;
+
+	@Param({ "10000" })
+	public int size;
+
+	private String query;
+
+	public static void main(String[] args) throws RunnerException {
+		Options opt = new OptionsBuilder()
+				.include("LargeQueryParseBenchmark.*")
+				.build();
+
+		new Runner(opt).run();
+	}
+
+	@Setup
+	public void setup() {
+		StringBuilder sb = new StringBuilder();
+		switch (shape) {
+		case "values":
+			sb.append("SELECT * WHERE { ?s ?p ?o } VALUES (?s ?o) {\n");
+			for (int i = 0; i < size; i++) {
+				sb.append("\t(<http://example.org/s").append(i).append("> ").append(i).append(")\n");
+			}
+			sb.append("}");
+			break;
+		case "union":
+			sb.append("SELECT * WHERE { { ?s <http://example.org/p0> ?o }");
+			for (int i = 1; i < size; i++) {
+				sb.append(" UNION { ?s <http://example.org/p").append(i).append("> ?o }");
+			}
+			sb.append(" }");
+			break;
+		default:
+			sb.append("SELECT * WHERE {");
+			for (int i = 0; i < size; i++) {
+				sb.append(" ?s <http://example.org/p").append(i).append("> ?o").append(i).append(" .");
+			}
+			sb.append(" }");
+		}
+		query = sb.toString();
+	}
+
+	@Benchmark
+	public ASTQueryContainer syntaxTree() throws Exception {
+		return SyntaxTreeBuilder.parseQuery(query);
+	}
+
+	@Benchmark
+	public ParsedQuery parsedQuery() {
+		return new SPARQLParser().parseQuery(query, null);
+	}
+}
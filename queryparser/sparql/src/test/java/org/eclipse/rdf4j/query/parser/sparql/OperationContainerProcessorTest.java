@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.parser.sparql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.query.MalformedQueryException;
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
+import org.eclipse.rdf4j.query.parser.sparql.ast.ASTQueryContainer;
+import org.eclipse.rdf4j.query.parser.sparql.ast.SyntaxTreeBuilder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests that {@link OperationContainerProcessor} prepares a syntax tree as the separate processors do.
+ */
+public class OperationContainerProcessorTest {
+
+	private static final Pattern GENERATED_NAME = Pattern.compile("_anon_[0-9a-f]{32}\\d+");
+
+	private static final Map<String, String> customPrefixes = Collections.singletonMap("ex",
+			"http://example.org/custom/");
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"SELECT * WHERE { ?s ?p \"a\\tb\\u00e9\" , 'plain' }",
+			"BASE <http://example.org/base/> SELECT * WHERE { <s> ?p <../o> FILTER(?p = IRI(\"rel\")) }",
+			"PREFIX ex: <http://example.org/> SELECT * WHERE { ex:s ex:a\\.b ex:o ; ex:q ex:r }",
+			"BASE <http://example.org/base/> PREFIX rel: <sub/> SELECT * WHERE { rel:s ?p <o> }",
+			"SELECT * WHERE { ?s ex:p _:b1 . _:b1 ex:q [ ex:r ?o ] . ?o ex:list (1 _:b2 ?x) }",
+			"SELECT * WHERE { { SELECT * WHERE { ?s ?p [] } } ?s ?q ?o }",
+			"SELECT * WHERE { SERVICE <http://example.org/sparql> { ?s ex:p \"x\\ny\" } }",
+			"DESCRIBE * WHERE { ?s ex:p ?o }",
+			"CONSTRUCT { ?s ex:p _:new } WHERE { ?s ex:q [] }",
+	})
+	@SuppressWarnings("deprecation")
+	public void testSameAsSeparateProcessors(String query) throws Exception {
+		ASTQueryContainer separate = SyntaxTreeBuilder.parseQuery(query);
+		StringEscapesProcessor.process(separate);
+		BaseDeclProcessor.process(separate, null);
+		Map<String, String> prefixes = PrefixDeclProcessor.process(separate, customPrefixes);
+		WildcardProjectionProcessor.process(separate);
+		BlankNodeVarProcessor.process(separate);
+
+		ASTQueryContainer fused = SyntaxTreeBuilder.parseQuery(query);
+		OperationContainerProcessor processor = new OperationContainerProcessor(null, customPrefixes);
+		processor.process(fused);
+
+		assertThat(processor.getPrefixes()).containsExactlyEntriesOf(prefixes);
+		assertThat(buildQueryModel(fused)).isEqualTo(buildQueryModel(separate));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"SELECT * WHERE { ?s undefined:p ?o }",
+			"PREFIX ex: <urn:a> PREFIX ex: <urn:b> SELECT * WHERE { ?s ?p ?o }",
+			"SELECT * WHERE { ?s ?p _:b1 OPTIONAL { ?s ?q _:b1 } }",
+			"BASE <relative> SELECT * WHERE { ?s ?p ?o }",
+	})
+	public void testMalformed(String query) throws Exception {
+		ASTQueryContainer qc = SyntaxTreeBuilder.parseQuery(query);
+
+		assertThatThrownBy(() -> new OperationContainerProcessor(null, customPrefixes).process(qc))
+				.isInstanceOf(MalformedQueryException.class);
+	}
+
+	/**
+	 * Builds the query model of the supplied syntax tree, and returns its string representation with the variable
+	 * names that the builder generates, which are unique to each builder, numbered in order of appearance.
+	 */
+	private String buildQueryModel(ASTQueryContainer qc) throws Exception {
+		TupleExpr tupleExpr = (TupleExpr) qc.jjtAccept(new TupleExprBuilder(SimpleValueFactory.getInstance()), null);
+
+		Map<String, String> names = new HashMap<>();
+		Matcher m = GENERATED_NAME.matcher(tupleExpr.toString());
+		StringBuilder sb = new StringBuilder();
+		while (m.find()) {
+			m.appendReplacement(sb, names.computeIfAbsent(m.group(), name -> "_generated_" + names.size()));
+		}
+		m.appendTail(sb);
+		return sb.toString();
+	}
+}
@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.parser.sparql;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rdf4j.query.parser.ParsedQuery;
+import org.eclipse.rdf4j.query.parser.ParsedQueryCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarks parsing queries that only differ in their constants, as built by string concatenation, with a cache of
+ * parsed queries that is keyed on the <code>exact</code> query string and with one that shares the query model of
+ * queries with <code>lifted</code> constants.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 5)
+@BenchmarkMode({ Mode.AverageTime })
+@Fork(value = 1, jvmArgs = { "-Xms1G", "-Xmx1G" })
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SPARQLConstantLiftingBenchmark {
+
+	private static final String QUERY = String.join("\n", "",
+			"PREFIX ex: <http://example.org/>",
+			"PREFIX rdfs: <http://www.w3.org/2000/01/rdf-schema#>",
+			"SELECT ?s ?label ?email WHERE {",
+			"  ?s a ex:Person ; rdfs:label ?label ; ex:knows <http://example.org/person/%d> .",
+			"  OPTIONAL { ?s ex:email ?email FILTER(STRSTARTS(?email, \"mailto:%d\")) }",
+			"  GRAPH <http://example.org/graph/%d> { ?s ex:age ?age FILTER(?age > %d) }",
+			"  FILTER(LANG(?label) = \"en\" && ?label != \"person %d\")",
+			"}",
+			"ORDER BY ?label",
+			"LIMIT 100");
+
+	@Param({ "exact", "lifted" })
+	public String cache;
+
+	private SPARQLParser parser;
+
+	private int count;
+
+	public static void main(String[] args) throws RunnerException {
+		Options opt = new OptionsBuilder()
+				.include("SPARQLConstantLiftingBenchmark.*")
+				.build();
+
+		new Runner(opt).run();
+	}
+
+	@Setup
+	public void setUp() {
+		parser = new SPARQLParser(Collections.emptySet(), new ParsedQueryCache(1000), "lifted".equals(cache));
+	}
+
+	@Benchmark
+	public ParsedQuery concatenatedQuery() {
+		int i = count++;
+		return parser.parseQuery(String.format(QUERY, i, i, i, i, i), null);
+	}
+}
@@ -0,0 +1,208 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.parser.sparql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.eclipse.rdf4j.query.MalformedQueryException;
+import org.eclipse.rdf4j.query.parser.ParsedQuery;
+import org.eclipse.rdf4j.query.parser.ParsedQueryCache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Tests that queries that only differ in their constants share a query model when the parser lifts constants, and
+ * that the query model is the one that the parser creates for each query.
+ */
+public class SPARQLConstantLiftingTest {
+
+	private static final Pattern GENERATED_NAME = Pattern.compile("_(anon|describe)_[0-9a-f]{32}\\d+");
+
+	private final ParsedQueryCache cache = new ParsedQueryCache(100);
+
+	private final SPARQLParser parser = new SPARQLParser(Collections.emptySet(), cache, true);
+
+	static Stream<Arguments> sharedTemplates() {
+		return Stream.of(
+				Arguments.of("SELECT * WHERE { ?s <http://example.org/p> <http://example.org/a> }",
+						"SELECT * WHERE { ?s <http://example.org/p> <http://example.org/b> }"),
+				Arguments.of("SELECT ?s WHERE { ?s ?p \"a\" ; ?q 1 . FILTER(?s != <http://example.org/a>) }",
+						"SELECT ?s WHERE { ?s ?p 'b' ; ?q 2 . FILTER(?s != <http://example.org/b>) }"),
+				Arguments.of("SELECT ?s WHERE { ?s ?p \"a\"@en FILTER(?o > 1.5 || ?o < 2e3) }",
+						"SELECT ?s WHERE { ?s ?p \"b\\n\"@de FILTER(?o > 3.5 || ?o < 4e3) }"),
+				Arguments.of("SELECT ?s WHERE { ?s ?p \"1\"^^<http://www.w3.org/2001/XMLSchema#int> }",
+						"SELECT ?s WHERE { ?s ?p \"2\"^^<http://example.org/type> }"),
+				Arguments.of("ASK { GRAPH <http://example.org/g> { ?s ?p ?o } }",
+						"ASK { GRAPH <conj-http://example.org/g> { ?s ?p ?o } }"),
+				Arguments.of("SELECT ?s WHERE { CONJ <http://example.org/g> { ?s ?p ?o } }",
+						"SELECT ?s WHERE { CONJ <http://example.org/h> { ?s ?p ?o } }"),
+				Arguments.of("SELECT ?s WHERE { SETT <http://example.org/g> { ?s ?p ?o } }",
+						"SELECT ?s WHERE { SETT <http://example.org/h> { ?s ?p ?o } }"),
+				Arguments.of(
+						"PREFIX ex: <http://example.org/> SELECT (COUNT(?s) AS ?n) WHERE { ?s ex:p/ex:q \"a\" } "
+								+ "GROUP BY ?o HAVING (COUNT(?s) > 1) ORDER BY ?n LIMIT 10",
+						"PREFIX  ex: <http://example.org/>\nSELECT (COUNT(?s) AS ?n)\nWHERE { # comment\n"
+								+ "  ?s ex:p/ex:q \"b\" } GROUP BY ?o HAVING (COUNT(?s) > 2) ORDER BY ?n LIMIT 10"),
+				Arguments.of(
+						"CONSTRUCT { ?s <http://example.org/p> \"x\" } WHERE { ?s ?p <http://example.org/a> "
+								+ "VALUES ?p { <http://example.org/p> } }",
+						"CONSTRUCT { ?s <http://example.org/p> \"x\" } WHERE { ?s ?p <http://example.org/b> "
+								+ "VALUES ?p { <http://example.org/p> } }"),
+				Arguments.of(
+						"SELECT * WHERE { ?s ?p <http://example.org/a> "
+								+ "SERVICE <http://example.org/sparql> { ?s ?q \"x\" } }",
+						"SELECT * WHERE { ?s ?p <http://example.org/b> "
+								+ "SERVICE <http://example.org/sparql> { ?s ?q \"x\" } }"),
+				Arguments.of("SELECT * WHERE { { SELECT * WHERE { ?s ?p \"a\" } } BIND(\"c\" AS ?x) }",
+						"SELECT * WHERE { { SELECT * WHERE { ?s ?p \"b\" } } BIND(\"d\" AS ?x) }"));
+	}
+
+	@ParameterizedTest
+	@MethodSource("sharedTemplates")
+	public void testSharedTemplate(String first, String second) {
+		assertSameAsParsed(first);
+		long hitCount = cache.getHitCount();
+
+		assertSameAsParsed(second);
+		assertThat(cache.getHitCount()).isEqualTo(hitCount + 1);
+	}
+
+	@Test
+	public void testStructureIsPartOfKey() {
+		String[] queries = {
+				"SELECT * WHERE { ?s <http://example.org/p> \"a\" }",
+				"SELECT * WHERE { ?s <http://example.org/p> <http://example.org/a> }",
+				"SELECT * WHERE { ?s <http://example.org/p>/<http://example.org/q> \"a\" }",
+				"SELECT * WHERE { ?s <http://example.org/q>/<http://example.org/q> \"a\" }",
+				"SELECT * WHERE { ?s ?p \"a\" } LIMIT 1",
+				"SELECT * WHERE { ?s ?p \"a\" } LIMIT 2",
+				"SELECT * WHERE { ?s ?p \"a\" VALUES ?s { <http://example.org/a> } }",
+				"SELECT * WHERE { ?s ?p \"a\" VALUES ?s { <http://example.org/b> } }",
+				"SELECT * FROM <http://example.org/g> WHERE { ?s ?p \"a\" }",
+				"SELECT * FROM <http://example.org/h> WHERE { ?s ?p \"a\" }" };
+
+		for (String query : queries) {
+			assertSameAsParsed(query);
+		}
+		assertThat(cache.getHitCount()).isZero();
+	}
+
+	@Test
+	public void testRelativeIRIs() {
+		assertSameAsParsed("SELECT * WHERE { ?s ?p <a> }", "http://example.org/x/y");
+		assertSameAsParsed("SELECT * WHERE { ?s ?p <../b> }", "http://example.org/x/y");
+		assertSameAsParsed("BASE <http://example.org/> SELECT * WHERE { ?s ?p <a> }", null);
+		assertSameAsParsed("BASE <http://example.org/> SELECT * WHERE { ?s ?p <b> }", null);
+		assertThat(cache.getHitCount()).isEqualTo(2);
+	}
+
+	@Test
+	public void testConstantsThatCanNotBeLifted() {
+		// the lifted path is not valid SPARQL
+		assertSameAsParsed("SELECT * WHERE { ?s (<http://example.org/p>)+ \"a\" }");
+		assertSameAsParsed("SELECT * WHERE { ?s (<http://example.org/p>)+ \"b\" }");
+
+		// the only constant is the target of the query
+		assertSameAsParsed("DESCRIBE <http://example.org/a>");
+		assertSameAsParsed("DESCRIBE <http://example.org/b>");
+	}
+
+	@Test
+	public void testEachQueryIsCountedOnce() {
+		String[] queries = {
+				"SELECT * WHERE { ?s ?p \"a\" }",
+				"SELECT * WHERE { ?s ?p \"b\" }",
+				"SELECT * WHERE { ?s ?p \"b\" }",
+				"SELECT * WHERE { ?s (<http://example.org/p>)+ \"a\" }",
+				"SELECT * WHERE { ?s (<http://example.org/p>)+ \"b\" }",
+				"SELECT * WHERE { ?s (<http://example.org/p>)+ \"b\" }",
+				"SELECT * WHERE { ?s ?p ?o }",
+				"SELECT * WHERE { ?s ?p ?o }" };
+
+		for (String query : queries) {
+			assertSameAsParsed(query);
+		}
+		assertThat(cache.getHitCount() + cache.getMissCount()).isEqualTo(queries.length);
+		assertThat(cache.getHitCount()).isEqualTo(4);
+	}
+
+	@Test
+	public void testConjectureDatasetClausesAreNotLifted() {
+		String query = "SELECT * FROM CONJ <http://example.org/g> FROM NAMED CONJ <http://example.org/h> "
+				+ "EXCLUDE CONJ <http://example.org/i> WHERE { ?s ?p \"a\" }";
+
+		LiftedQuery lifted = LiftedQuery.lift(query, null);
+		assertThat(lifted.getValues()).hasSize(1);
+		assertThat(lifted.getQuery()).contains("<http://example.org/g>", "<http://example.org/h>",
+				"<http://example.org/i>");
+		assertThat(LiftedQuery.lift("SELECT * WHERE { CONJ <http://example.org/g> { ?s ?p ?o } }", null).getValues())
+				.hasSize(1);
+	}
+
+	@Test
+	public void testMalformedQuery() {
+		assertSameAsParsed("SELECT * WHERE { GRAPH <http://example.org/g> { ?s ?p ?o } }");
+
+		// the lifted query is valid, but the query is not
+		assertThatThrownBy(() -> parser.parseQuery("SELECT * WHERE { GRAPH \"g\" { ?s ?p ?o } }", null))
+				.isInstanceOf(MalformedQueryException.class);
+		assertThatThrownBy(() -> parser.parseQuery("SELECT * WHERE { GRAPH \"g\" { ?s ?p ?o } }", null))
+				.isInstanceOf(MalformedQueryException.class);
+		assertThatThrownBy(() -> parser.parseQuery("SELECT * WHERE { ?s ?p \"a\" ", null))
+				.isInstanceOf(MalformedQueryException.class);
+	}
+
+	@Test
+	public void testVariableNamesOfQueryAreKept() {
+		assertSameAsParsed("SELECT * WHERE { ?_lifted_iri_0 ?p <http://example.org/a> }");
+		assertSameAsParsed("SELECT * WHERE { ?_lifted_iri_0 ?p <http://example.org/b> }");
+		assertThat(cache.getHitCount()).isZero();
+	}
+
+	private void assertSameAsParsed(String query) {
+		assertSameAsParsed(query, null);
+	}
+
+	private void assertSameAsParsed(String query, String baseURI) {
+		ParsedQuery lifted = parser.parseQuery(query, baseURI);
+		ParsedQuery parsed = new SPARQLParser().parseQuery(query, baseURI);
+
+		assertThat(lifted).isExactlyInstanceOf(parsed.getClass());
+		assertThat(lifted.getSourceString()).isEqualTo(query);
+		assertThat(lifted.getDataset()).isEqualTo(parsed.getDataset());
+		assertThat(normalize(lifted)).isEqualTo(normalize(parsed));
+	}
+
+	/**
+	 * Returns the string representation of the query model of the supplied query, with the variable names that the
+	 * builder generates, which are unique to each builder, numbered in order of appearance.
+	 */
+	private static String normalize(ParsedQuery query) {
+		Map<String, String> names = new HashMap<>();
+		Matcher m = GENERATED_NAME.matcher(query.getTupleExpr().toString());
+		StringBuilder sb = new StringBuilder();
+		while (m.find()) {
+			m.appendReplacement(sb, names.computeIfAbsent(m.group(), name -> "_generated_" + names.size()));
+		}
+		m.appendTail(sb);
+		return sb.toString();
+	}
+}
@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.parser.sparql;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rdf4j.query.parser.sparql.ast.CharSequenceStream;
+import org.eclipse.rdf4j.query.parser.sparql.ast.FastPathTokenManager;
+import org.eclipse.rdf4j.query.parser.sparql.ast.SyntaxTreeBuilderConstants;
+import org.eclipse.rdf4j.query.parser.sparql.ast.SyntaxTreeBuilderTokenManager;
+import org.eclipse.rdf4j.query.parser.sparql.ast.Token;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarks tokenizing a long query with the generated {@link SyntaxTreeBuilderTokenManager} and with
+ * {@link FastPathTokenManager}. The setup checks that both produce the same tokens.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 5)
+@BenchmarkMode({ Mode.AverageTime })
+@Fork(value = 1, jvmArgs = { "-Xms1G", "-Xmx1G" })
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SPARQLLexerBenchmark {
+
+	private String query;
+
+	public static void main(String[] args) throws RunnerException {
+		Options opt = new OptionsBuilder()
+				.include("SPARQLLexerBenchmark.*")
+				.build();
+
+		new Runner(opt).run();
+	}
+
+	@Setup
+	public void setup() {
+		StringBuilder sb = new StringBuilder("PREFIX ex: <http://example.org/>\nSELECT * WHERE {\n");
+		for (int i = 0; i < 200; i++) {
+			sb.append("\t?s").append(i).append(" <http://example.org/p").append(i).append("> ?o").append(i);
+			sb.append(" ; ex:q ?v").append(i).append(" .\n");
+			sb.append("\tFILTER(?o").append(i).append(" != \"value ").append(i).append("\")\n");
+		}
+		query = sb.append("}\n").toString();
+
+		if (generated() != fastPath()) {
+			throw new IllegalStateException("token managers disagree");
+		}
+	}
+
+	@Benchmark
+	public int generated() {
+		return tokenize(new SyntaxTreeBuilderTokenManager(new CharSequenceStream(query, 1)));
+	}
+
+	@Benchmark
+	public int fastPath() {
+		return tokenize(new FastPathTokenManager(new CharSequenceStream(query, 1)));
+	}
+
+	private int tokenize(SyntaxTreeBuilderTokenManager tokenManager) {
+		int hash = 0;
+		Token token;
+		do {
+			token = tokenManager.getNextToken();
+			hash = 31 * hash + token.kind * 17 + token.image.hashCode() + token.beginColumn;
+		} while (token.kind != SyntaxTreeBuilderConstants.EOF);
+		return hash;
+	}
+}
@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.parser.sparql;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rdf4j.query.parser.sparql.ast.ASTQueryContainer;
+import org.eclipse.rdf4j.query.parser.sparql.ast.SyntaxTreeBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarks parsing a query into a syntax tree and preparing that tree for building the query algebra. The
+ * <code>separate</code> passes run the processors one after the other, as {@link SPARQLParser} used to, and the
+ * <code>fused</code> pass runs {@link OperationContainerProcessor}.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 5)
+@BenchmarkMode({ Mode.AverageTime })
+@Fork(value = 1, jvmArgs = { "-Xms1G", "-Xmx1G" })
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SPARQLParseBenchmark {
+
+	private static final String SELECT_VALUES_QUERY = String.join("\n", "",
+			"PREFIX ex: <http://example.org/>",
+			"PREFIX rdfs: <http://www.w3.org/2000/01/rdf-schema#>",
+			"SELECT * WHERE {",
+			"  ?s a ex:Person ; rdfs:label ?label ; ex:knows [ rdfs:label ?friend ] .",
+			"  OPTIONAL { ?s ex:email ?email FILTER(STRSTARTS(?email, \"mailto:\")) }",
+			"  FILTER(LANG(?label) = \"en\" || ?label != \"unknown\\tlabel\")",
+			"}",
+			"VALUES (?s ?label) {",
+			"  (ex:alice \"Alice\") (ex:bob \"Bob\") (ex:carol \"Carol\") (ex:dave \"Dave\")",
+			"  (ex:erin \"Erin\") (ex:frank \"Frank\") (ex:grace \"Grace\") (ex:heidi \"Heidi\")",
+			"}");
+
+	private static final String COMPLEX_PATH_EXPRESSION_QUERY = String.join("\n", "",
+			"BASE <http://example.org/base/>",
+			"PREFIX ex: <http://example.org/>",
+			"PREFIX skos: <http://www.w3.org/2004/02/skos/core#>",
+			"SELECT ?concept ?label (COUNT(?narrower) AS ?count) WHERE {",
+			"  ?concept skos:broader+/^skos:narrower* <root> ;",
+			"           (skos:prefLabel|skos:altLabel) ?label ;",
+			"           !(skos:related|^skos:related) _:other .",
+			"  _:other (ex:p/ex:q?)* ?narrower .",
+			"  { SELECT * WHERE { ?narrower ex:weight ?w ; ex:tags (\"a\" \"b\" \"c\") } }",
+			"  FILTER(REGEX(?label, \"^\\\\w+ \\\\w+$\", \"i\"))",
+			"}",
+			"GROUP BY ?concept ?label",
+			"ORDER BY DESC(?count)");
+
+	@Param({ "separate", "fused" })
+	public String passes;
+
+	public static void main(String[] args) throws RunnerException {
+		Options opt = new OptionsBuilder()
+				.include("SPARQLParseBenchmark.*")
+				.build();
+
+		new Runner(opt).run();
+	}
+
+	@Benchmark
+	public ASTQueryContainer selectValuesQuery() throws Exception {
+		return parse(SELECT_VALUES_QUERY);
+	}
+
+	@Benchmark
+	public ASTQueryContainer complexPathExpressionQuery() throws Exception {
+		return parse(COMPLEX_PATH_EXPRESSION_QUERY);
+	}
+
+	@SuppressWarnings("deprecation")
+	private ASTQueryContainer parse(String query) throws Exception {
+		ASTQueryContainer qc = SyntaxTreeBuilder.parseQuery(query);
+		if ("separate".equals(passes)) {
+			StringEscapesProcessor.process(qc);
+			BaseDeclProcessor.process(qc, null);
+			PrefixDeclProcessor.process(qc, Collections.emptyMap());
+			WildcardProjectionProcessor.process(qc);
+			BlankNodeVarProcessor.process(qc);
+		} else {
+			new OperationContainerProcessor(null, Collections.emptyMap()).process(qc);
+		}
+		return qc;
+	}
+}
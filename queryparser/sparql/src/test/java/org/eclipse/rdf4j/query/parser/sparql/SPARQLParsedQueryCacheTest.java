@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.parser.sparql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+
+import org.eclipse.rdf4j.model.impl.SimpleNamespace;
+import org.eclipse.rdf4j.query.QueryLanguage;
+import org.eclipse.rdf4j.query.parser.ParsedGraphQuery;
+import org.eclipse.rdf4j.query.parser.ParsedQuery;
+import org.eclipse.rdf4j.query.parser.ParsedQueryCache;
+import org.eclipse.rdf4j.query.parser.QueryParserUtil;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests parsing queries with a {@link ParsedQueryCache}.
+ */
+public class SPARQLParsedQueryCacheTest {
+
+	@Test
+	public void testParserUsesCache() {
+		ParsedQueryCache cache = new ParsedQueryCache(10);
+		SPARQLParser parser = new SPARQLParser(Collections.emptySet(), cache);
+		String query = "PREFIX ex: <http://example.org/> CONSTRUCT { ?s ex:p ?o } FROM ex:g WHERE { ?s ex:q ?o }";
+
+		ParsedQuery first = parser.parseQuery(query, null);
+		ParsedQuery second = parser.parseQuery(query, null);
+
+		assertThat(second).isInstanceOf(ParsedGraphQuery.class).isEqualTo(new SPARQLParser().parseQuery(query, null));
+		assertThat(second.getTupleExpr()).isNotSameAs(first.getTupleExpr());
+		assertThat(second.getDataset().getDefaultGraphs()).hasSize(1);
+		assertThat(((ParsedGraphQuery) second).getQueryNamespaces()).containsKey("ex");
+		assertThat(cache.getHitCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void testCustomPrefixesAreKey() {
+		ParsedQueryCache cache = new ParsedQueryCache(10);
+		String query = "SELECT * WHERE { ?s ex:p ?o }";
+
+		ParsedQuery a = new SPARQLParser(Collections.singleton(new SimpleNamespace("ex", "http://example.org/a/")),
+				cache).parseQuery(query, null);
+		ParsedQuery b = new SPARQLParser(Collections.singleton(new SimpleNamespace("ex", "http://example.org/b/")),
+				cache).parseQuery(query, null);
+
+		assertThat(a).isNotEqualTo(b);
+		assertThat(cache.getMissCount()).isEqualTo(2);
+	}
+
+	@Test
+	public void testQueryParserUtil() {
+		ParsedQueryCache cache = new ParsedQueryCache(10);
+		String query = "ASK { ?s ?p ?o }";
+
+		QueryParserUtil.parseQuery(QueryLanguage.SPARQL, query, null, cache);
+		QueryParserUtil.parseQuery(QueryLanguage.SPARQL, query, null, cache);
+
+		assertThat(cache.getHitRate()).isEqualTo(0.5);
+	}
+}
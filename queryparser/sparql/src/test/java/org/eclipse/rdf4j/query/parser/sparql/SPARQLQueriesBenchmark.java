@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.parser.sparql;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarks escaping and un-escaping of literal values with {@link SPARQLQueries}. The <code>escapeMultiPass</code>
+ * benchmark replaces one special character per pass, as {@link SPARQLQueries#escape(String)} used to.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 5)
+@BenchmarkMode({ Mode.AverageTime })
+@Fork(value = 1, jvmArgs = { "-Xms1G", "-Xmx1G" })
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SPARQLQueriesBenchmark {
+
+	@Param({ "plain", "special" })
+	public String input;
+
+	private String value;
+
+	public static void main(String[] args) throws RunnerException {
+		Options opt = new OptionsBuilder()
+				.include("SPARQLQueriesBenchmark.*")
+				.build();
+
+		new Runner(opt).run();
+	}
+
+	@Setup
+	public void setup() {
+		if ("plain".equals(input)) {
+			value = "Some plain label without any special characters in it, as most literal values are";
+		} else {
+			value = "A \"quoted\" label\nthat spans two lines and has a \\ backslash";
+		}
+	}
+
+	@Benchmark
+	public String escape() {
+		return SPARQLQueries.escape(value);
+	}
+
+	@Benchmark
+	public String escapeMultiPass() {
+		String s = value;
+		s = s.replace("\\", "\\\\");
+		s = s.replace("\t", "\\t");
+		s = s.replace("\n", "\\n");
+		s = s.replace("\r", "\\r");
+		s = s.replace("\b", "\\b");
+		s = s.replace("\f", "\\f");
+		s = s.replace("\"", "\\\"");
+		s = s.replace("'", "\\'");
+		return s;
+	}
+
+	@Benchmark
+	public String roundTrip() {
+		return SPARQLQueries.unescape(SPARQLQueries.escape(value));
+	}
+}
@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.parser.sparql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for escaping and un-escaping with {@link SPARQLQueries}.
+ */
+public class SPARQLQueriesTest {
+
+	@Test
+	public void testEscapeSpecialCharacters() {
+		assertThat(SPARQLQueries.escape("\\")).isEqualTo("\\\\");
+		assertThat(SPARQLQueries.escape("\t")).isEqualTo("\\t");
+		assertThat(SPARQLQueries.escape("\n")).isEqualTo("\\n");
+		assertThat(SPARQLQueries.escape("\r")).isEqualTo("\\r");
+		assertThat(SPARQLQueries.escape("\b")).isEqualTo("\\b");
+		assertThat(SPARQLQueries.escape("\f")).isEqualTo("\\f");
+		assertThat(SPARQLQueries.escape("\"")).isEqualTo("\\\"");
+		assertThat(SPARQLQueries.escape("'")).isEqualTo("\\'");
+	}
+
+	@Test
+	public void testEscape() {
+		assertThat(SPARQLQueries.escape("A \"quoted\" label\r\nwith a \\ and 'single' quotes\t\b\f"))
+				.isEqualTo("A \\\"quoted\\\" label\\r\\nwith a \\\\ and \\'single\\' quotes\\t\\b\\f");
+		assertThat(SPARQLQueries.escape("\\n")).isEqualTo("\\\\n");
+		assertThat(SPARQLQueries.escape("\\\\\"")).isEqualTo("\\\\\\\\\\\"");
+		assertThat(SPARQLQueries.escape("é😀\u0000\u0007")).isEqualTo("é😀\u0000\u0007");
+		assertThat(SPARQLQueries.escape("plain\n")).isEqualTo("plain\\n");
+		assertThat(SPARQLQueries.escape("\nplain")).isEqualTo("\\nplain");
+	}
+
+	@Test
+	public void testEscapeReturnsStringWithoutSpecialCharacters() {
+		String plain = "A plain label with é and 😀";
+		assertThat(SPARQLQueries.escape(plain)).isSameAs(plain);
+		assertThat(SPARQLQueries.escape("")).isEmpty();
+	}
+
+	@Test
+	public void testEscapeMatchesReplacingEachCharacter() {
+		String alphabet = "ab \\\t\n\r\b\f\"'é😀";
+		Random random = new Random(42);
+		for (int i = 0; i < 1000; i++) {
+			StringBuilder sb = new StringBuilder();
+			int length = random.nextInt(20);
+			for (int j = 0; j < length; j++) {
+				sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+			}
+			String s = sb.toString();
+
+			assertThat(SPARQLQueries.escape(s)).isEqualTo(replaceEachCharacter(s));
+			assertThat(SPARQLQueries.unescape(SPARQLQueries.escape(s))).isEqualTo(s);
+		}
+	}
+
+	@Test
+	public void testUnescape() {
+		assertThat(SPARQLQueries.unescape("a\\tb\\nc\\rd\\be\\ff\\\"g\\'h\\\\i")).isEqualTo("a\tb\nc\rd\be\ff\"g'h\\i");
+		String plain = "no escapes";
+		assertThat(SPARQLQueries.unescape(plain)).isSameAs(plain);
+	}
+
+	/**
+	 * Escapes the supplied string by replacing one special character at a time, as
+	 * {@link SPARQLQueries#escape(String)} used to.
+	 */
+	private static String replaceEachCharacter(String s) {
+		s = s.replace("\\", "\\\\");
+		s = s.replace("\t", "\\t");
+		s = s.replace("\n", "\\n");
+		s = s.replace("\r", "\\r");
+		s = s.replace("\b", "\\b");
+		s = s.replace("\f", "\\f");
+		s = s.replace("\"", "\\\"");
+		s = s.replace("'", "\\'");
+		return s;
+	}
+}
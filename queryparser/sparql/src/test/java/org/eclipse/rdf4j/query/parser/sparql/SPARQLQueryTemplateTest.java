@@ -0,0 +1,221 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.parser.sparql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.query.QueryLanguage;
+import org.eclipse.rdf4j.query.algebra.ProjectionElem;
+import org.eclipse.rdf4j.query.algebra.helpers.AbstractQueryModelVisitor;
+import org.eclipse.rdf4j.query.parser.ParsedBooleanQuery;
+import org.eclipse.rdf4j.query.parser.ParsedGraphQuery;
+import org.eclipse.rdf4j.query.parser.ParsedQuery;
+import org.eclipse.rdf4j.query.parser.ParsedQueryTemplate;
+import org.eclipse.rdf4j.query.parser.QueryParserUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Tests that binding the parameters of a {@link SPARQLQueryTemplate} produces the query model of the query with the
+ * values written in place of the parameters.
+ */
+public class SPARQLQueryTemplateTest {
+
+	private static final Pattern GENERATED_NAME = Pattern.compile("_anon_[0-9a-f]{32}\\d+");
+
+	private static final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	private static final IRI EX_A = vf.createIRI("http://example.org/a");
+
+	private static final IRI EX_G = vf.createIRI("http://example.org/g");
+
+	private static final IRI CONJ_G = vf.createIRI("conj-http://example.org/g");
+
+	private final SPARQLParser parser = new SPARQLParser();
+
+	static Stream<Arguments> templates() {
+		return Stream.of(
+				Arguments.of("SELECT * WHERE { ?s ex:p ?o }", "s", EX_A, "SELECT * WHERE { ex:a ex:p ?o }"),
+				Arguments.of("SELECT ?o WHERE { ?s ex:p ?o }", "s", EX_A, "SELECT ?o WHERE { ex:a ex:p ?o }"),
+				Arguments.of("SELECT ?s WHERE { ?s ex:p ?o FILTER(?o > ?min) }", "min",
+						vf.createLiteral(BigInteger.valueOf(5)), "SELECT ?s WHERE { ?s ex:p ?o FILTER(?o > 5) }"),
+				Arguments.of("SELECT ?s WHERE { ?s ex:p/ex:q* ?o }", "o", EX_A,
+						"SELECT ?s WHERE { ?s ex:p/ex:q* ex:a }"),
+				Arguments.of("SELECT ?s WHERE { ?s ex:p ?o OPTIONAL { ?o ex:q ?v } }", "v", vf.createLiteral("v"),
+						"SELECT ?s WHERE { ?s ex:p ?o OPTIONAL { ?o ex:q \"v\" } }"),
+				Arguments.of("ASK { ?s ex:p ?o }", "o", EX_A, "ASK { ?s ex:p ex:a }"),
+				Arguments.of("CONSTRUCT { ?s ex:p ?o } WHERE { ?s ex:q ?o . ?o ex:r ?v }", "v", EX_A,
+						"CONSTRUCT { ?s ex:p ?o } WHERE { ?s ex:q ?o . ?o ex:r ex:a }"),
+				Arguments.of("SELECT ?s WHERE { GRAPH ?g { ?s ex:p ?o } }", "g", EX_G,
+						"SELECT ?s WHERE { GRAPH ex:g { ?s ex:p ?o } }"),
+				Arguments.of("SELECT ?s WHERE { CONJ ?g { ?s ex:p ?o } }", "g", EX_G,
+						"SELECT ?s WHERE { CONJ ex:g { ?s ex:p ?o } }"),
+				Arguments.of("SELECT ?s WHERE { CONJ ?g { ?s ex:p ?o } }", "g", CONJ_G,
+						"SELECT ?s WHERE { CONJ <conj-http://example.org/g> { ?s ex:p ?o } }"),
+				Arguments.of("SELECT ?s WHERE { CONJ ?g { ?s ex:p/ex:q+ ?o } }", "g", EX_G,
+						"SELECT ?s WHERE { CONJ ex:g { ?s ex:p/ex:q+ ?o } }"),
+				Arguments.of("SELECT ?s WHERE { ?s ex:p ?o . SETT ?g { ?s ex:q ?o } }", "g", EX_G,
+						"SELECT ?s WHERE { ?s ex:p ?o . SETT ex:g { ?s ex:q ?o } }"));
+	}
+
+	@ParameterizedTest
+	@MethodSource("templates")
+	public void testBind(String query, String parameter, Value value, String expected) {
+		String prefix = "PREFIX ex: <http://example.org/> ";
+		ParsedQueryTemplate template = parser.parseQueryTemplate(prefix + query, null,
+				Collections.singleton(parameter));
+
+		ParsedQuery bound = template.bind(Collections.singletonMap(parameter, value));
+
+		ParsedQuery reference = parser.parseQuery(prefix + expected, null);
+		assertThat(bound).isExactlyInstanceOf(reference.getClass());
+		assertThat(normalize(bound)).isEqualTo(normalize(reference));
+		assertThat(bound.getSourceString()).isEqualTo(prefix + query);
+	}
+
+	@Test
+	public void testBindZeroOrOnePath() {
+		String prefix = "PREFIX ex: <http://example.org/> ";
+		ParsedQueryTemplate template = parser.parseQueryTemplate(
+				prefix + "SELECT ?s WHERE { CONJ ?g { ?s ex:p? ?o } }", null, Collections.singleton("g"));
+
+		ParsedQuery bound = template.bind(Collections.singletonMap("g", EX_G));
+
+		// the order of the projection of the path is not defined
+		ParsedQuery reference = parser.parseQuery(prefix + "SELECT ?s WHERE { CONJ ex:g { ?s ex:p? ?o } }", null);
+		assertThat(getProjected(bound)).containsExactlyInAnyOrderElementsOf(getProjected(reference));
+		assertThat(sortLines(normalize(bound))).isEqualTo(sortLines(normalize(reference)));
+	}
+
+	@Test
+	public void testTemplateIsNotModified() {
+		String query = "SELECT ?s WHERE { ?s ?p ?o . CONJ ?g { ?s ?q ?v } }";
+		ParsedQuery unbound = parser.parseQuery(query, null);
+		ParsedQueryTemplate template = parser.parseQueryTemplate(query, null,
+				new LinkedHashSet<>(Arrays.asList("p", "g")));
+
+		ParsedQuery first = template.bind(Collections.singletonMap("g", EX_G));
+		ParsedQuery second = template.bind(Collections.singletonMap("p", EX_A));
+
+		assertThat(first.getTupleExpr()).isNotEqualTo(second.getTupleExpr());
+		assertThat(normalize(template.bind(Collections.emptyMap()))).isEqualTo(normalize(unbound));
+		assertThat(template.getParameterNames()).containsExactly("p", "g");
+	}
+
+	@Test
+	public void testBindMultipleParameters() {
+		String prefix = "PREFIX ex: <http://example.org/> ";
+		ParsedQueryTemplate template = parser.parseQueryTemplate(
+				prefix + "SELECT * WHERE { ?s ex:p ?o . ?o ex:q ?v FILTER(?v != ?s) }", null,
+				new LinkedHashSet<>(Arrays.asList("s", "v")));
+
+		Map<String, Value> values = new HashMap<>();
+		values.put("s", EX_A);
+		values.put("v", EX_G);
+
+		assertThat(normalize(template.bind(values))).isEqualTo(normalize(
+				parser.parseQuery(prefix + "SELECT * WHERE { ex:a ex:p ?o . ?o ex:q ex:g FILTER(ex:g != ex:a) }",
+						null)));
+	}
+
+	@Test
+	public void testGraphQueryKeepsNamespacesAndDataset() {
+		ParsedQueryTemplate template = parser.parseQueryTemplate(
+				"PREFIX ex: <http://example.org/> CONSTRUCT { ?s ex:p ?o } FROM ex:g WHERE { ?s ex:q ?o . ?o ex:r ?v }",
+				null, Collections.singleton("v"));
+
+		ParsedQuery bound = template.bind(Collections.singletonMap("v", EX_A));
+
+		assertThat(((ParsedGraphQuery) bound).getQueryNamespaces()).containsKey("ex");
+		assertThat(bound.getDataset().getDefaultGraphs()).containsExactly(EX_G);
+	}
+
+	@Test
+	public void testInvalidParameters() {
+		assertThatThrownBy(() -> parser.parseQueryTemplate("SELECT * WHERE { ?s ?p ?o }", null,
+				Collections.singleton("x"))).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> parser.parseQueryTemplate("SELECT * WHERE { ?s ?p ?o BIND(?o AS ?x) }", null,
+				Collections.singleton("x"))).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> parser.parseQueryTemplate("SELECT * WHERE { ?s ?p ?o VALUES ?o { 1 2 } }", null,
+				Collections.singleton("o"))).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> parser.parseQueryTemplate("SELECT ?o (COUNT(?s) AS ?n) WHERE { ?s ?p ?o } GROUP BY ?o",
+				null, Collections.singleton("o"))).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> parser.parseQueryTemplate("CONSTRUCT { ?s ?p ?o } WHERE { ?s ?p ?o }", null,
+				Collections.singleton("o"))).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> parser.parseQueryTemplate(
+				"SELECT * WHERE { SERVICE <http://example.org/sparql> { ?s ?p ?o } }", null,
+				Collections.singleton("o"))).isInstanceOf(IllegalArgumentException.class);
+
+		ParsedQueryTemplate template = parser.parseQueryTemplate("SELECT * WHERE { ?s ?p ?o }", null,
+				Collections.singleton("s"));
+		assertThatThrownBy(() -> template.bind(Collections.singletonMap("o", EX_A)))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	public void testQueryParserUtil() {
+		ParsedQueryTemplate template = QueryParserUtil.parseQueryTemplate(QueryLanguage.SPARQL,
+				"ASK { ?s ?p ?o }", null, "s", "o");
+
+		assertThat(template.getParameterNames()).containsExactly("s", "o");
+		assertThat(template.bind(Collections.singletonMap("s", EX_A))).isInstanceOf(ParsedBooleanQuery.class);
+	}
+
+	private static List<String> getProjected(ParsedQuery query) {
+		List<String> names = new ArrayList<>();
+		query.getTupleExpr().visit(new AbstractQueryModelVisitor<RuntimeException>() {
+			@Override
+			public void meet(ProjectionElem node) {
+				names.add(node.getName());
+			}
+		});
+		return names;
+	}
+
+	private static List<String> sortLines(String s) {
+		return Arrays.stream(s.split("\n")).sorted().collect(Collectors.toList());
+	}
+
+	/**
+	 * Returns the string representation of the query model of the supplied query, with the variable names that the
+	 * builder generates, which are unique to each builder, numbered in order of appearance.
+	 */
+	private static String normalize(ParsedQuery query) {
+		Map<String, String> names = new HashMap<>();
+		Matcher m = GENERATED_NAME.matcher(query.getTupleExpr().toString());
+		StringBuilder sb = new StringBuilder();
+		while (m.find()) {
+			m.appendReplacement(sb, names.computeIfAbsent(m.group(), name -> "_generated_" + names.size()));
+		}
+		m.appendTail(sb);
+		return sb.toString();
+	}
+}
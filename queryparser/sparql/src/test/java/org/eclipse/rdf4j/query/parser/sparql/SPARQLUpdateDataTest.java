@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.parser.sparql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.rdf4j.model.BNode;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Triple;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.XSD;
+import org.eclipse.rdf4j.query.MalformedQueryException;
+import org.eclipse.rdf4j.query.algebra.DeleteData;
+import org.eclipse.rdf4j.query.algebra.InsertData;
+import org.eclipse.rdf4j.query.algebra.UpdateExpr;
+import org.eclipse.rdf4j.query.parser.ParsedUpdate;
+import org.eclipse.rdf4j.rio.RDFParseException;
+import org.eclipse.rdf4j.rio.helpers.StatementCollector;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that {@link SPARQLParser} keeps the statements of INSERT DATA and DELETE DATA operations.
+ */
+public class SPARQLUpdateDataTest {
+
+	private static final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	@Test
+	public void testDataIsMapped() {
+		ParsedUpdate update = keepingParser().parseUpdate("PREFIX ex: <http://example.org/>\n"
+				+ "INSERT DATA { ex:s ex:p \"o\" . GRAPH ex:g { ex:s ex:p 1 } } ;\n"
+				+ "DELETE DATA { ex:s ex:p ex:o } ;\n"
+				+ "DELETE WHERE { ?s ?p ?o }", null);
+
+		List<UpdateExpr> updateExprs = update.getUpdateExprs();
+		IRI s = vf.createIRI("http://example.org/s");
+		IRI p = vf.createIRI("http://example.org/p");
+
+		assertThat(update.getData(updateExprs.get(0))).containsExactly(
+				vf.createStatement(s, p, vf.createLiteral("o")),
+				vf.createStatement(s, p, vf.createLiteral("1", XSD.INTEGER), vf.createIRI("http://example.org/g")));
+		assertThat(update.getData(updateExprs.get(1)))
+				.containsExactly(vf.createStatement(s, p, vf.createIRI("http://example.org/o")));
+		assertThat(update.getData(updateExprs.get(2))).isNull();
+	}
+
+	@Test
+	public void testDataIsNotKeptByDefault() {
+		SPARQLParser parser = new SPARQLParser();
+		ParsedUpdate update = parser.parseUpdate("INSERT DATA { <urn:s> <urn:p> <urn:o> }", null);
+
+		assertThat(parser.isKeepUpdateData()).isFalse();
+		assertThat(update.getData(update.getUpdateExprs().get(0))).isNull();
+	}
+
+	@Test
+	public void testPrefixesAndBaseAreApplied() {
+		ParsedUpdate update = keepingParser().parseUpdate("BASE <http://example.org/base/>\n"
+				+ "PREFIX ex: <http://example.org/>\nPREFIX rdf: <http://example.org/rdf#>\n"
+				+ "INSERT DATA { ex:s rdf:type <c> }", null);
+
+		InsertData insertData = (InsertData) update.getUpdateExprs().get(0);
+
+		assertThat(update.getData(insertData)).containsExactly(vf.createStatement(vf.createIRI("http://example.org/s"),
+				vf.createIRI("http://example.org/rdf#type"), vf.createIRI("http://example.org/base/c")));
+		// the data block of the algebra declares its prefixes and base IRI
+		assertThat(insertData.getDataBlock()).startsWith("PREFIX ex: <http://example.org/>\n")
+				.contains("PREFIX rdf: <http://example.org/rdf#>\n", "BASE <http://example.org/base/>\n")
+				.endsWith(" ex:s rdf:type <c> ");
+	}
+
+	@Test
+	public void testDataBlockCanBeParsedOnItsOwn() throws Exception {
+		ParsedUpdate update = keepingParser().parseUpdate("BASE <http://example.org/base/>\n"
+				+ "PREFIX ex: <http://example.org/>\n"
+				+ "INSERT DATA {\n  ex:s ex:p <o> .\n  GRAPH ex:g { ex:s ex:p \"x\" . ex:s ex:q rdf:nil }\n}", null);
+		InsertData insertData = (InsertData) update.getUpdateExprs().get(0);
+
+		List<Statement> statements = new ArrayList<>();
+		SPARQLUpdateDataBlockParser parser = new SPARQLUpdateDataBlockParser();
+		parser.setLineNumberOffset(insertData.getLineNumberOffset());
+		parser.setRDFHandler(new StatementCollector(statements));
+		parser.parse(new StringReader(insertData.getDataBlock()), "");
+
+		assertThat(statements).hasSize(3).isEqualTo(update.getData(insertData));
+	}
+
+	@Test
+	public void testErrorLineIsLineOfUpdate() {
+		String update = "PREFIX ex: <http://example.org/>\n"
+				+ "INSERT DATA { ex:s ex:p ex:o } ;\n"
+				+ "DELETE DATA {\n"
+				+ "  ex:s ex:p ex:o .\n"
+				+ "  ex:s ex:p ex:o ex:x .\n"
+				+ "}";
+
+		assertThatThrownBy(() -> new SPARQLParser().parseUpdate(update, null))
+				.isInstanceOf(MalformedQueryException.class)
+				.hasMessageContaining("line 5");
+
+		// a store that parses the data block again reports the line counted from the opening brace of the block
+		DeleteData deleteData = (DeleteData) new SPARQLParser()
+				.parseUpdate(update.replace(" ex:x", ""), null)
+				.getUpdateExprs()
+				.get(1);
+		assertThat(deleteData.getLineNumberOffset()).isPositive();
+		SPARQLUpdateDataBlockParser parser = new SPARQLUpdateDataBlockParser();
+		parser.setLineNumberOffset(deleteData.getLineNumberOffset());
+		String dataBlock = deleteData.getDataBlock() + "ex:s ex:p ex:o ex:x .";
+		assertThatThrownBy(() -> parser.parse(new StringReader(dataBlock), ""))
+				.isInstanceOf(RDFParseException.class)
+				.extracting(e -> ((RDFParseException) e).getLineNumber())
+				.isEqualTo(4L);
+	}
+
+	@Test
+	public void testBlankNodesAreFreshForEachExecution() {
+		ParsedUpdate update = keepingParser().parseUpdate(
+				"INSERT DATA { _:a <urn:p> _:b . _:b <urn:p> _:a . GRAPH _:a { _:a <urn:q> <<_:b <urn:p> 1>> } }",
+				null);
+		UpdateExpr insertData = update.getUpdateExprs().get(0);
+
+		List<Statement> first = update.getData(insertData);
+		List<Statement> second = update.getData(insertData);
+
+		// the same label denotes the same blank node within one execution
+		BNode a = (BNode) first.get(0).getSubject();
+		BNode b = (BNode) first.get(0).getObject();
+		assertThat(a).isNotEqualTo(b);
+		assertThat(first.get(1).getSubject()).isEqualTo(b);
+		assertThat(first.get(1).getObject()).isEqualTo(a);
+		assertThat(first.get(2).getContext()).isEqualTo(a);
+		assertThat(((Triple) first.get(2).getObject()).getSubject()).isEqualTo(b);
+
+		// and within one view
+		assertThat(first.get(0)).isEqualTo(first.get(0));
+
+		// but not across executions
+		assertThat(second.get(0).getSubject()).isNotEqualTo(a);
+		assertThat(second.get(0).getObject()).isNotEqualTo(b);
+		assertThat(second.get(1).getSubject()).isEqualTo(second.get(0).getObject());
+		assertThat(((Triple) second.get(2).getObject()).getSubject()).isEqualTo(second.get(0).getObject());
+	}
+
+	@Test
+	public void testDataWithoutBlankNodesIsShared() {
+		ParsedUpdate update = keepingParser().parseUpdate("INSERT DATA { <urn:s> <urn:p> <urn:o> }", null);
+		UpdateExpr insertData = update.getUpdateExprs().get(0);
+
+		assertThat(update.getData(insertData)).isSameAs(update.getData(insertData));
+	}
+
+	@Test
+	public void testDataIsUnmodifiable() {
+		ParsedUpdate update = keepingParser().parseUpdate(
+				"INSERT DATA { <urn:s> <urn:p> <urn:o> } ; INSERT DATA { _:b <urn:p> <urn:o> }", null);
+		List<Statement> data = update.getData(update.getUpdateExprs().get(0));
+		List<Statement> dataWithBNodes = update.getData(update.getUpdateExprs().get(1));
+
+		assertThatThrownBy(() -> data.clear()).isInstanceOf(UnsupportedOperationException.class);
+		assertThatThrownBy(() -> dataWithBNodes.clear()).isInstanceOf(UnsupportedOperationException.class);
+	}
+
+	private static SPARQLParser keepingParser() {
+		SPARQLParser parser = new SPARQLParser();
+		parser.setKeepUpdateData(true);
+		return parser;
+	}
+}
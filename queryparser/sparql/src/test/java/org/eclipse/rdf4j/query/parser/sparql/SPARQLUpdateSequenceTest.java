@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.parser.sparql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.eclipse.rdf4j.query.MalformedQueryException;
+import org.eclipse.rdf4j.query.algebra.UpdateExpr;
+import org.eclipse.rdf4j.query.parser.ParsedUpdate;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link SPARQLParser#parseUpdateSequence(java.io.Reader, String)}.
+ */
+public class SPARQLUpdateSequenceTest {
+
+	@Test
+	public void testSameAsParseUpdate() {
+		String sequence = "BASE <http://example.org/base/>\nPREFIX ex: <http://example.org/>\n"
+				+ "INSERT DATA { ex:s ex:p <o> } ;\n"
+				+ "DELETE DATA { ex:s ex:p <o> } ;\n"
+				+ "DELETE { ?s ex:p ?o } INSERT { ?s ex:q ?o } WHERE { ?s ex:p ?o ; ex:r <v> } ;\n"
+				+ "PREFIX ex: <http://example.org/other/> ;\n"
+				+ "WITH <g> DELETE { ?s ex:p ?o } WHERE { ?s ex:p ?o } ;\n"
+				+ "CLEAR GRAPH <g> ;";
+
+		ParsedUpdate expected = new SPARQLParser().parseUpdate(sequence, null);
+
+		List<UpdateExpr> updateExprs = new ArrayList<>();
+		Iterator<ParsedUpdate> operations = new SPARQLParser().parseUpdateSequence(new StringReader(sequence), null);
+		while (operations.hasNext()) {
+			ParsedUpdate operation = operations.next();
+			assertThat(operation.getUpdateExprs()).hasSize(1);
+			UpdateExpr updateExpr = operation.getUpdateExprs().get(0);
+			assertThat(operation.getDatasetMapping()).containsKey(updateExpr);
+			updateExprs.add(updateExpr);
+		}
+
+		assertThat(updateExprs).isEqualTo(expected.getUpdateExprs());
+	}
+
+	@Test
+	public void testEscapesBeforeSeparator() {
+		String insert = "INSERT DATA { <urn:a> <urn:b> \"\\U0001F600\" }";
+		String delete = "DELETE DATA { <urn:a> <urn:b> \"x\" }";
+		assertSameAsParseUpdate(insert + ";" + delete);
+		assertSameAsParseUpdate(insert + " ; " + delete);
+		assertSameAsParseUpdate("INSERT DATA { <urn:a> <urn:b> \"\\u00E9\" };" + delete);
+		assertSameAsParseUpdate("INSERT DATA { <urn:\\u00E9> <urn:b> \"\\U0001F600\\u00E9\" }\n;\n" + delete);
+	}
+
+	@Test
+	public void testRepeatedUInEscape() {
+		String sequence = "CLEAR ALL ; INSERT DATA { <urn:a> <urn:b> \"\\uu0041\" }";
+
+		assertThatThrownBy(() -> new SPARQLParser().parseUpdate(sequence, null))
+				.isInstanceOf(MalformedQueryException.class);
+		Iterator<ParsedUpdate> operations = new SPARQLParser().parseUpdateSequence(new StringReader(sequence), null);
+		assertThatThrownBy(() -> operations.forEachRemaining(operation -> {
+		})).isInstanceOf(MalformedQueryException.class).hasMessageContaining("repeated u");
+	}
+
+	@Test
+	public void testBlankNodesInDeleteData() {
+		assertSameErrorAsParseUpdate("INSERT DATA { _:b <urn:p> <urn:o> } ; DELETE DATA { _:b <urn:p> <urn:o> }");
+	}
+
+	@Test
+	public void testOperationsAreParsedLazily() {
+		Iterator<ParsedUpdate> operations = new SPARQLParser()
+				.parseUpdateSequence(new StringReader("CLEAR ALL ; CLEAR NOT VALID"), null);
+
+		assertThat(operations.next().getUpdateExprs()).hasSize(1);
+		assertThatThrownBy(operations::hasNext).isInstanceOf(MalformedQueryException.class)
+				.hasMessageStartingWith("in update operation at line 1");
+	}
+
+	@Test
+	public void testEmptyOperation() {
+		Iterator<ParsedUpdate> operations = new SPARQLParser()
+				.parseUpdateSequence(new StringReader("CLEAR ALL ; ; CLEAR ALL"), null);
+
+		operations.next();
+		assertThatThrownBy(operations::next).isInstanceOf(MalformedQueryException.class)
+				.hasMessageContaining("empty update in sequence not allowed");
+	}
+
+	private static void assertSameErrorAsParseUpdate(String sequence) {
+		Throwable expected = catchThrowable(() -> new SPARQLParser().parseUpdate(sequence, null));
+		assertThat(expected).isInstanceOf(MalformedQueryException.class);
+
+		Iterator<ParsedUpdate> operations = new SPARQLParser().parseUpdateSequence(new StringReader(sequence), null);
+		operations.next();
+		assertThatThrownBy(operations::next).isInstanceOf(MalformedQueryException.class)
+				.hasMessageEndingWith(expected.getMessage());
+	}
+
+	private static void assertSameAsParseUpdate(String sequence) {
+		ParsedUpdate expected = new SPARQLParser().parseUpdate(sequence, null);
+
+		List<UpdateExpr> updateExprs = new ArrayList<>();
+		new SPARQLParser().parseUpdateSequence(new StringReader(sequence), null)
+				.forEachRemaining(operation -> updateExprs.addAll(operation.getUpdateExprs()));
+
+		assertThat(updateExprs).isEqualTo(expected.getUpdateExprs());
+	}
+}
@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.parser.sparql.ast;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that {@link CharSequenceStream} tokenizes input without escapes like {@link UnicodeEscapeStream}.
+ */
+public class CharSequenceStreamTest {
+
+	@Test
+	public void testSameTokens() {
+		assertSameTokens("SELECT * WHERE { ?s ?p \"o\" . FILTER(?s != <urn:a>) }");
+	}
+
+	@Test
+	public void testLineBreaks() {
+		assertSameTokens("SELECT *\r\nWHERE {\r ?s ?p ?o .\n\n\t?s\t<urn:p>  'x' # comment\r\n}\n");
+	}
+
+	@Test
+	public void testEmptyInput() {
+		assertSameTokens("");
+		assertSameTokens("\n\t ");
+	}
+
+	@Test
+	public void testRepeatedImagesAreShared() {
+		SyntaxTreeBuilderTokenManager tokenManager = new SyntaxTreeBuilderTokenManager(
+				new CharSequenceStream("?x ?y ?x", 1));
+
+		Token first = tokenManager.getNextToken();
+		Token second = tokenManager.getNextToken();
+		Token third = tokenManager.getNextToken();
+
+		assertThat(first.image).isEqualTo("?x");
+		assertThat(second.image).isEqualTo("?y");
+		assertThat(third.image).isSameAs(first.image);
+	}
+
+	@Test
+	public void testImagesWithSameHash() {
+		// "Aa" and "BB" have the same hash code
+		assertSameTokens("?Aa ?BB ?Aa ?BB");
+	}
+
+	@Test
+	public void testHasUnicodeEscapes() {
+		assertThat(CharSequenceStream.hasUnicodeEscapes("SELECT * { ?s ?p \"\\u0041\" }")).isTrue();
+		assertThat(CharSequenceStream.hasUnicodeEscapes("SELECT * { ?s ?p \"\\U00000041\" }")).isTrue();
+		assertThat(CharSequenceStream.hasUnicodeEscapes("SELECT * { ?s ?p \"\\t\\\\\" }")).isFalse();
+		assertThat(CharSequenceStream.hasUnicodeEscapes("\\")).isFalse();
+	}
+
+	@Test
+	public void testServicePatternString() throws Exception {
+		String query = "SELECT * WHERE {\r\n\tSERVICE <urn:s> {\n\t\t?s ?p ?o\r\n\t}\n}";
+
+		ASTServiceGraphPattern expected = findService(parse(query, new UnicodeEscapeStream(query, 1)));
+		ASTServiceGraphPattern actual = findService(parse(query, new CharSequenceStream(query, 1)));
+
+		assertThat(actual.getPatternString()).isEqualTo(expected.getPatternString());
+		assertThat(actual.getPatternString()).contains("?s ?p ?o");
+	}
+
+	@Test
+	public void testServicePatternStringFromOffsets() throws Exception {
+		String query = "SELECT * WHERE {\n\tSERVICE <urn:s> {\n\t\t?s ?p ?o\n\t}\n\tSERVICE <urn:t> { ?s ?q ?v }\n}";
+
+		ASTServiceGraphPattern service = findService(SyntaxTreeBuilder.parseQuery(query));
+
+		assertThat(service.getBeginTokenOffset()).isEqualTo(query.indexOf("SERVICE"));
+		assertThat(service.getPatternString()).isEqualTo("SERVICE <urn:s> {\n\t\t?s ?p ?o\n\t}");
+	}
+
+	@Test
+	public void testServicePatternStringWithEscapes() throws Exception {
+		String query = "SELECT * WHERE {\n\tSERVICE <urn:s> {\n\t\t?s ?p \"\\u0041\"\n\t}\n}";
+
+		ASTServiceGraphPattern service = findService(SyntaxTreeBuilder.parseQuery(query));
+
+		assertThat(service.getBeginTokenOffset()).isEqualTo(-1);
+		assertThat(service.getPatternString()).isEqualTo("SERVICE <urn:s> {\n\t\t?s ?p \"\\u0041\"\n\t}");
+	}
+
+	private void assertSameTokens(String input) {
+		assertThat(tokenize(new CharSequenceStream(input, 1))).isEqualTo(tokenize(new UnicodeEscapeStream(input, 1)));
+	}
+
+	private List<String> tokenize(CharStream stream) {
+		SyntaxTreeBuilderTokenManager tokenManager = new SyntaxTreeBuilderTokenManager(stream);
+		List<String> tokens = new ArrayList<>();
+		Token token;
+		do {
+			token = tokenManager.getNextToken();
+			tokens.add(token.kind + ":" + token.image + "@" + token.beginLine + "," + token.beginColumn + "-"
+					+ token.endLine + "," + token.endColumn);
+		} while (token.kind != SyntaxTreeBuilderConstants.EOF);
+		return tokens;
+	}
+
+	private ASTQueryContainer parse(String query, CharStream stream) throws ParseException {
+		ASTQueryContainer container = new SyntaxTreeBuilder(stream).QueryContainer();
+		container.setSourceString(query);
+		return container;
+	}
+
+	private ASTServiceGraphPattern findService(Node node) {
+		if (node instanceof ASTServiceGraphPattern) {
+			return (ASTServiceGraphPattern) node;
+		}
+		for (int i = 0; i < node.jjtGetNumChildren(); i++) {
+			ASTServiceGraphPattern service = findService(node.jjtGetChild(i));
+			if (service != null) {
+				return service;
+			}
+		}
+		return null;
+	}
+}
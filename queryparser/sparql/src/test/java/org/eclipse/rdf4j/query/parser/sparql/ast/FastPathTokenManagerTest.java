@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.parser.sparql.ast;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests that {@link FastPathTokenManager} produces the same tokens as {@link SyntaxTreeBuilderTokenManager}.
+ */
+public class FastPathTokenManagerTest {
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"SELECT ?s $p WHERE { ?s ?p <http://example.org/o> . FILTER(?s != <urn:a>) }",
+			"PREFIX ex: <http://example.org/>\r\nSELECT *\tWHERE {\n ?s ex:p ?o # comment ?x <urn:y>\n}\n",
+			"SELECT * WHERE { ?s ?p ?o } ORDER BY ?o LIMIT 10",
+			"SELECT * WHERE { ?s <urn:p>? ?o ; <urn:q>* ?x . ?x ?y? ?z }",
+			"SELECT * WHERE { ?s ?p ?o FILTER(?o<10 && ?o > 2 || ?o<=?s) }",
+			"SELECT * WHERE { ?s ?p ?o FILTER(?a<?b&&?c>?d) }",
+			"SELECT * WHERE { << ?s ?p ?o >> ?q ?r }",
+			"SELECT * WHERE { ?s ?p \"<not an iri> ?novar\" }",
+			"SELECT * WHERE { ?s ?p ?café . ?s ?p ?na·me . <http://example.org/é> ?p ?o }",
+			"SELECT * WHERE { ?1 ?_a ?A_1 }",
+			"SELECT ?", "SELECT ?x", "SELECT <urn:a", "SELECT <", "?", "$x", "<>", "",
+			" \t\r\n\f", "# comment only", "ASK { ?s ?p ?o }  # trailing\n  ",
+			"SELECT * WHERE { ?s ?p \"\", '', \"a\\\"b\\n\", 'it\\'s', \"\"\"long \"quoted\" \"\"\", '''x''' }",
+			"SELECT * WHERE { ?s ?p (1 2) , ( ), (), [], [ ], [ ?p ?o ] }",
+			"SELECT * WHERE { ?s ?p .5, 1.5, -2.0e3, +.7 . ?s ?p ?o.}",
+			"SELECT (COUNT(*) AS ?c) { ?s ?p ?o } GROUP BY(?s)", "SELECT * WHERE { ?s ?p ?o. } {}",
+			"(", "[", ".",
+	})
+	public void testSameTokens(String input) {
+		assertThat(tokenize(new FastPathTokenManager(new CharSequenceStream(input, 1))))
+				.isEqualTo(tokenize(new SyntaxTreeBuilderTokenManager(new CharSequenceStream(input, 1))));
+		assertThat(tokenize(new FastPathTokenManager(new UnicodeEscapeStream(input, 1))))
+				.isEqualTo(tokenize(new SyntaxTreeBuilderTokenManager(new UnicodeEscapeStream(input, 1))));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "SELECT * WHERE { ?s ?p ~ }", "SELECT ?s WHERE { ?s ?p \"unterminated }",
+			"SELECT * WHERE { ?s ?p \"line\nbreak\" }", "SELECT * WHERE { ?s ?p 'bad \\q escape' }",
+			"\"", "'", "\"abc", "\"a\\" })
+	public void testSameErrors(String input) {
+		String expected = null;
+		try {
+			tokenize(new SyntaxTreeBuilderTokenManager(new CharSequenceStream(input, 1)));
+		} catch (TokenMgrError e) {
+			expected = e.getMessage();
+		}
+		assertThat(expected).isNotNull();
+		assertThatThrownBy(() -> tokenize(new FastPathTokenManager(new CharSequenceStream(input, 1))))
+				.isInstanceOf(TokenMgrError.class)
+				.hasMessage(expected);
+	}
+
+	private List<String> tokenize(SyntaxTreeBuilderTokenManager tokenManager) {
+		List<String> tokens = new ArrayList<>();
+		Token token;
+		do {
+			token = tokenManager.getNextToken();
+			if (token.specialToken != null) {
+				tokens.add("special " + describe(token.specialToken));
+			}
+			tokens.add(describe(token));
+		} while (token.kind != SyntaxTreeBuilderConstants.EOF);
+		return tokens;
+	}
+
+	private String describe(Token token) {
+		return token.kind + ":" + token.image + "@" + token.beginLine + "," + token.beginColumn + "-" + token.endLine
+				+ "," + token.endColumn;
+	}
+}
@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.parser.sparql.ast;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the child storage of {@link SimpleNode}.
+ */
+public class SimpleNodeTest {
+
+	@Test
+	public void testAppendChildren() {
+		SimpleNode node = new SimpleNode(SyntaxTreeBuilderTreeConstants.JJTSELECT);
+		for (int i = 0; i < 100; i++) {
+			node.jjtAppendChild(new ASTVar(SyntaxTreeBuilderTreeConstants.JJTVAR));
+		}
+		ASTString last = new ASTString(SyntaxTreeBuilderTreeConstants.JJTSTRING);
+		node.jjtAppendChild(last);
+
+		assertThat(node.jjtGetNumChildren()).isEqualTo(101);
+		assertThat(node.jjtGetChild(100)).isSameAs(last);
+		assertThat(node.jjtGetChild(ASTString.class)).isSameAs(last);
+		assertThat(node.jjtGetChildren(ASTVar.class)).hasSize(100);
+		assertThat(node.jjtGetChildren()).hasSize(101).doesNotContainNull();
+	}
+
+	@Test
+	public void testAddChildrenInReverseOrder() {
+		SimpleNode node = new SimpleNode(SyntaxTreeBuilderTreeConstants.JJTSELECT);
+		node.jjtAddChild(new ASTVar(SyntaxTreeBuilderTreeConstants.JJTVAR), 2);
+		node.jjtAddChild(new ASTVar(SyntaxTreeBuilderTreeConstants.JJTVAR), 1);
+		node.jjtAddChild(new ASTVar(SyntaxTreeBuilderTreeConstants.JJTVAR), 0);
+		node.jjtClose();
+
+		assertThat(node.jjtGetNumChildren()).isEqualTo(3);
+		assertThat(node.jjtGetChildren()).hasSize(3).doesNotContainNull();
+	}
+}
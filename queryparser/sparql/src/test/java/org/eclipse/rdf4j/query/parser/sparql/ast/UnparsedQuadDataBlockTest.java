@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.parser.sparql.ast;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the data blocks of INSERT DATA and DELETE DATA operations.
+ */
+public class UnparsedQuadDataBlockTest {
+
+	@Test
+	public void testDataBlockIsSlicedFromSource() throws Exception {
+		String data = "\n\t<urn:s> <urn:p> \"o\"@en, \"1\"^^<urn:t> . # a comment with a }\n"
+				+ "\tGRAPH <urn:g> { <urn:s> <urn:p> <urn:o> }\n";
+		String update = "INSERT DATA {" + data + "};\nDELETE DATA { <urn:s> <urn:p> <urn:o> }";
+
+		ASTUpdateSequence sequence = SyntaxTreeBuilder.parseUpdateSequence(update);
+
+		assertThat(dataBlock(sequence, 0)).isEqualTo(data);
+		assertThat(dataBlock(sequence, 1)).isEqualTo(" <urn:s> <urn:p> <urn:o> ");
+	}
+
+	@Test
+	public void testDataBlockWithEscapesIsRebuiltFromTokens() throws Exception {
+		String update = "INSERT DATA {\n\t<urn:s> <urn:p> \"\\u0041\"@en, \"1\"^^<urn:t> .\n}";
+
+		ASTUpdateSequence sequence = SyntaxTreeBuilder.parseUpdateSequence(update);
+
+		assertThat(dataBlock(sequence, 0)).isEqualTo(" <urn:s> <urn:p> \"A\"@en , \"1\"^^<urn:t> . ");
+	}
+
+	@Test
+	public void testMissingClosingBrace() {
+		assertThatThrownBy(() -> SyntaxTreeBuilder.parseUpdateSequence("INSERT DATA { <urn:a> <urn:b> <urn:c> ."))
+				.isInstanceOf(ParseException.class);
+	}
+
+	private String dataBlock(ASTUpdateSequence sequence, int index) {
+		ASTUpdate update = sequence.getUpdateContainers().get(index).getUpdate();
+		return update.jjtGetChild(ASTUnparsedQuadDataBlock.class).getDataBlock();
+	}
+}
@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.parser.sparql.ast;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link UpdateSequenceSplitter}.
+ */
+public class UpdateSequenceSplitterTest {
+
+	@Test
+	public void testSplitsAtSeparators() throws Exception {
+		String first = "PREFIX ex: <http://example.org/a;b>\nINSERT DATA { ex:s ex:p \"a;b\" ; ex:q 'c;}' }";
+		String second = "\n# a comment; with a semicolon\nDELETE WHERE { ?s ?p ?o ; ?q ?v }";
+		String third = " LOAD <urn:x;y> ";
+
+		assertThat(split(first + ";" + second + ";" + third)).containsExactly(first, second, third);
+	}
+
+	@Test
+	public void testTrailingSeparator() throws Exception {
+		assertThat(split("CLEAR ALL ;\n")).containsExactly("CLEAR ALL ", "\n");
+		assertThat(split("")).containsExactly("");
+	}
+
+	@Test
+	public void testEscapedSeparator() throws Exception {
+		assertThat(split("CLEAR ALL\\u003B CLEAR ALL\\U0000003b CLEAR ALL")).containsExactly("CLEAR ALL", " CLEAR ALL",
+				" CLEAR ALL");
+	}
+
+	@Test
+	public void testEscapesBeforeSeparator() throws Exception {
+		String first = "INSERT DATA { <urn:a> <urn:b> \"\\U0001F600\" }";
+		String second = "DELETE DATA { <urn:a> <urn:b> \"x\" }";
+		assertThat(split(first + ";" + second)).containsExactly(first, second);
+		assertThat(split(first + " ; " + second)).containsExactly(first + " ", " " + second);
+
+		String escaped = "INSERT DATA { <urn:a> <urn:b> \"\\u00E9\\U0001F600\\\\u0041\" }";
+		assertThat(split(escaped + ";" + second + "\\u003B" + escaped)).containsExactly(escaped, second, escaped);
+	}
+
+	@Test
+	public void testInvalidEscape() {
+		assertThatThrownBy(() -> split("CLEAR ALL ; INSERT DATA { <urn:a> <urn:b> \"\\u00G9\" }"))
+				.isInstanceOf(TokenMgrError.class);
+	}
+
+	@Test
+	public void testRepeatedUInEscape() {
+		assertThatThrownBy(() -> split("CLEAR ALL ; INSERT DATA { <urn:a> <urn:b> \"\\uu0041\" }"))
+				.isInstanceOf(TokenMgrError.class);
+	}
+
+	@Test
+	public void testOperationLines() throws Exception {
+		UpdateSequenceSplitter splitter = new UpdateSequenceSplitter(
+				new StringReader("CLEAR ALL ;\r\nCLEAR ALL\r;\n\nCLEAR ALL ;CLEAR ALL"));
+
+		List<Integer> lines = new ArrayList<>();
+		List<String> operations = new ArrayList<>();
+		String operation;
+		while ((operation = splitter.nextOperation()) != null) {
+			operations.add(operation);
+			lines.add(splitter.getOperationLine());
+		}
+
+		assertThat(operations).containsExactly("CLEAR ALL ", "\r\nCLEAR ALL\r", "\n\nCLEAR ALL ", "CLEAR ALL");
+		assertThat(lines).containsExactly(1, 1, 3, 5);
+		assertThat(splitter.hasMoreOperations()).isFalse();
+	}
+
+	@Test
+	public void testSmallReads() throws Exception {
+		StringBuilder sb = new StringBuilder();
+		List<String> expected = new ArrayList<>();
+		for (int i = 0; i < 500; i++) {
+			String operation = "\nINSERT DATA { <urn:s" + i + "> <urn:p> \"" + i + "\" }";
+			expected.add(operation);
+			sb.append(operation).append(i < 499 ? ";" : "");
+		}
+
+		Reader reader = new FilterReader(new StringReader(sb.toString())) {
+			@Override
+			public int read(char[] cbuf, int off, int len) throws IOException {
+				return super.read(cbuf, off, Math.min(len, 7));
+			}
+		};
+
+		assertThat(split(reader)).isEqualTo(expected);
+	}
+
+	@Test
+	public void testReaderFailure() {
+		Reader reader = new FilterReader(new StringReader("CLEAR ALL ; CLEAR ALL")) {
+			@Override
+			public int read(char[] cbuf, int off, int len) throws IOException {
+				throw new IOException("disconnected");
+			}
+		};
+
+		assertThatThrownBy(() -> split(reader)).isInstanceOf(IOException.class).hasMessage("disconnected");
+	}
+
+	private List<String> split(String sequence) throws IOException {
+		return split(new StringReader(sequence));
+	}
+
+	private List<String> split(Reader reader) throws IOException {
+		UpdateSequenceSplitter splitter = new UpdateSequenceSplitter(reader);
+		List<String> operations = new ArrayList<>();
+		String operation;
+		while ((operation = splitter.nextOperation()) != null) {
+			operations.add(operation);
+		}
+		return operations;
+	}
+}
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.rio.binarytrig;
+
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+
+/**
+ * Constants shared by {@link BinaryTriGParser} and {@link BinaryTriGWriter}.
+ */
+class BinaryTriGConstants {
+
+	/**
+	 * Magic number for Binary TriG files.
+	 */
+	static final byte[] MAGIC_NUMBER = "BTRG".getBytes(StandardCharsets.US_ASCII);
+
+	/**
+	 * The version number of the current format.
+	 */
+	static final int FORMAT_VERSION = 1;
+
+	/* RECORD TYPES */
+
+	static final int NAMESPACE_DECL = 1;
+
+	static final int IRI_TERM = 2;
+
+	static final int BNODE_TERM = 3;
+
+	static final int PLAIN_LITERAL_TERM = 4;
+
+	static final int LANG_LITERAL_TERM = 5;
+
+	static final int DATATYPE_LITERAL_TERM = 6;
+
+	static final int TRIPLE_TERM = 7;
+
+	static final int QUAD = 8;
+
+	static final int SETTLES = 9;
+
+	static final int RESET_TERMS = 10;
+
+	static final int COMMENT = 11;
+
+	/* QUAD FLAGS */
+
+	/**
+	 * The quad has a context.
+	 */
+	static final int HAS_CONTEXT = 0x01;
+
+	/**
+	 * The quad belongs to the conjecture graph of its context.
+	 */
+	static final int CONJECTURE = 0x02;
+
+	/**
+	 * The conjecture quad was settled, i.e. it is followed by a copy in the context itself.
+	 */
+	static final int SETTLED = 0x04;
+
+	/**
+	 * The prefix of conjecture graph names, see {@link org.eclipse.rdf4j.rio.trig.TriGParser}.
+	 */
+	static final String CONJ_PREFIX = "conj-";
+
+	/**
+	 * The predicate that links a graph to the conjecture that was settled into it, <code>conj:settles</code> with the
+	 * namespace the writer binds to the <code>conj</code> prefix, see {@link org.eclipse.rdf4j.rio.trig.TriGWriter}.
+	 */
+	static final IRI SETTLES_PREDICATE = SimpleValueFactory.getInstance()
+			.createIRI("https://w3id.org/conjectures/settles");
+
+	private BinaryTriGConstants() {
+	}
+}
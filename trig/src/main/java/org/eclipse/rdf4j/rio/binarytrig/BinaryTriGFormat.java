@@ -0,0 +1,31 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.rio.binarytrig;
+
+import java.util.List;
+
+import org.eclipse.rdf4j.rio.RDFFormat;
+
+/**
+ * The Binary TriG file format.
+ */
+public class BinaryTriGFormat {
+
+	/**
+	 * A binary encoding of TriG datasets that records conjecture graphs and settled statements explicitly, see
+	 * {@link BinaryTriGWriter}.
+	 */
+	public static final RDFFormat BINARY_TRIG = new RDFFormat("Binary TriG", List.of("application/x-binary-trig"),
+			null, List.of("btrig"), null, true, true, true);
+
+	private BinaryTriGFormat() {
+	}
+}
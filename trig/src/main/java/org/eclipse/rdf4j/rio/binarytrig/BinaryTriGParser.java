@@ -0,0 +1,337 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.rio.binarytrig;
+
+import static org.eclipse.rdf4j.rio.binarytrig.BinaryTriGConstants.BNODE_TERM;
+import static org.eclipse.rdf4j.rio.binarytrig.BinaryTriGConstants.COMMENT;
+import static org.eclipse.rdf4j.rio.binarytrig.BinaryTriGConstants.CONJECTURE;
+import static org.eclipse.rdf4j.rio.binarytrig.BinaryTriGConstants.CONJ_PREFIX;
+import static org.eclipse.rdf4j.rio.binarytrig.BinaryTriGConstants.DATATYPE_LITERAL_TERM;
+import static org.eclipse.rdf4j.rio.binarytrig.BinaryTriGConstants.FORMAT_VERSION;
+import static org.eclipse.rdf4j.rio.binarytrig.BinaryTriGConstants.HAS_CONTEXT;
+import static org.eclipse.rdf4j.rio.binarytrig.BinaryTriGConstants.IRI_TERM;
+import static org.eclipse.rdf4j.rio.binarytrig.BinaryTriGConstants.LANG_LITERAL_TERM;
+import static org.eclipse.rdf4j.rio.binarytrig.BinaryTriGConstants.MAGIC_NUMBER;
+import static org.eclipse.rdf4j.rio.binarytrig.BinaryTriGConstants.NAMESPACE_DECL;
+import static org.eclipse.rdf4j.rio.binarytrig.BinaryTriGConstants.PLAIN_LITERAL_TERM;
+import static org.eclipse.rdf4j.rio.binarytrig.BinaryTriGConstants.QUAD;
+import static org.eclipse.rdf4j.rio.binarytrig.BinaryTriGConstants.RESET_TERMS;
+import static org.eclipse.rdf4j.rio.binarytrig.BinaryTriGConstants.SETTLED;
+import static org.eclipse.rdf4j.rio.binarytrig.BinaryTriGConstants.SETTLES;
+import static org.eclipse.rdf4j.rio.binarytrig.BinaryTriGConstants.TRIPLE_TERM;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.RDFHandlerException;
+import org.eclipse.rdf4j.rio.RDFParseException;
+import org.eclipse.rdf4j.rio.helpers.AbstractRDFParser;
+import org.eclipse.rdf4j.rio.trig.ConjectureHandler;
+
+/**
+ * A parser for the Binary TriG format, see {@link BinaryTriGWriter}. The parser reports the statements
+ * {@link org.eclipse.rdf4j.rio.trig.TriGParser} reported when the document was written, including the
+ * <code>conj-</code> graphs, settled copies and <code>conj:settles</code> statements, and reports conjecture events to
+ * handlers that implement {@link ConjectureHandler}.
+ */
+public class BinaryTriGParser extends AbstractRDFParser {
+
+	/*-----------*
+	 * Variables *
+	 *-----------*/
+
+	private InputStream in;
+
+	private final List<Value> terms = new ArrayList<>();
+
+	private final Map<IRI, IRI> conjectures = new HashMap<>();
+
+	private byte[] buffer = new byte[256];
+
+	/*--------------*
+	 * Constructors *
+	 *--------------*/
+
+	/**
+	 * Creates a new BinaryTriGParser that will use a {@link org.eclipse.rdf4j.model.impl.SimpleValueFactory} to create
+	 * RDF model objects.
+	 */
+	public BinaryTriGParser() {
+		super();
+	}
+
+	/**
+	 * Creates a new BinaryTriGParser that will use the supplied ValueFactory to create RDF model objects.
+	 *
+	 * @param valueFactory A ValueFactory.
+	 */
+	public BinaryTriGParser(ValueFactory valueFactory) {
+		super(valueFactory);
+	}
+
+	/*---------*
+	 * Methods *
+	 *---------*/
+
+	@Override
+	public RDFFormat getRDFFormat() {
+		return BinaryTriGFormat.BINARY_TRIG;
+	}
+
+	@Override
+	public void parse(Reader reader, String baseURI) throws IOException, RDFParseException, RDFHandlerException {
+		throw new UnsupportedOperationException("Binary TriG can only be parsed from an InputStream");
+	}
+
+	@Override
+	public void parse(InputStream in, String baseURI) throws IOException, RDFParseException, RDFHandlerException {
+		if (in == null) {
+			throw new IllegalArgumentException("Input stream must not be 'null'");
+		}
+
+		clear();
+
+		try {
+			if (baseURI != null) {
+				setBaseURI(baseURI);
+			}
+			this.in = new BufferedInputStream(in, 64 * 1024);
+
+			byte[] magicNumber = new byte[MAGIC_NUMBER.length];
+			readFully(magicNumber, magicNumber.length);
+			if (!Arrays.equals(magicNumber, MAGIC_NUMBER)) {
+				reportFatalError("File does not contain a Binary TriG document");
+			}
+			int formatVersion = readVarint();
+			if (formatVersion != FORMAT_VERSION) {
+				reportFatalError("Incompatible format version: " + formatVersion);
+			}
+
+			if (rdfHandler != null) {
+				rdfHandler.startRDF();
+			}
+
+			int recordType;
+			while ((recordType = this.in.read()) != -1) {
+				switch (recordType) {
+				case NAMESPACE_DECL:
+					readNamespaceDecl();
+					break;
+				case COMMENT:
+					readComment();
+					break;
+				case IRI_TERM:
+				case BNODE_TERM:
+				case PLAIN_LITERAL_TERM:
+				case LANG_LITERAL_TERM:
+				case DATATYPE_LITERAL_TERM:
+				case TRIPLE_TERM:
+					terms.add(readTerm(recordType));
+					break;
+				case QUAD:
+					readQuad();
+					break;
+				case SETTLES:
+					readSettles();
+					break;
+				case RESET_TERMS:
+					terms.clear();
+					break;
+				default:
+					reportFatalError("Invalid record type: " + recordType);
+				}
+			}
+
+			if (rdfHandler != null) {
+				rdfHandler.endRDF();
+			}
+		} finally {
+			clear();
+		}
+	}
+
+	@Override
+	protected void clear() {
+		super.clear();
+		in = null;
+		terms.clear();
+		conjectures.clear();
+	}
+
+	private void readNamespaceDecl() throws IOException, RDFHandlerException {
+		String prefix = readString();
+		String namespace = readString();
+		setNamespace(prefix, namespace);
+		if (rdfHandler != null) {
+			rdfHandler.handleNamespace(prefix, namespace);
+		}
+	}
+
+	private void readComment() throws IOException, RDFHandlerException {
+		String comment = readString();
+		if (rdfHandler != null) {
+			rdfHandler.handleComment(comment);
+		}
+	}
+
+	private Value readTerm(int termType) throws IOException, RDFParseException {
+		switch (termType) {
+		case IRI_TERM:
+			return valueFactory.createIRI(readString());
+		case BNODE_TERM:
+			return createNode(readString());
+		case PLAIN_LITERAL_TERM:
+			return valueFactory.createLiteral(readString());
+		case LANG_LITERAL_TERM:
+			String label = readString();
+			return valueFactory.createLiteral(label, readString());
+		case DATATYPE_LITERAL_TERM:
+			label = readString();
+			return valueFactory.createLiteral(label, getTerm(IRI.class));
+		default:
+			Resource subj = getTerm(Resource.class);
+			IRI pred = getTerm(IRI.class);
+			Value obj = getTerm(Value.class);
+			return valueFactory.createTriple(subj, pred, obj);
+		}
+	}
+
+	private void readQuad() throws IOException, RDFParseException, RDFHandlerException {
+		int flags = in.read();
+		if (flags == -1) {
+			throw new EOFException();
+		}
+		Resource subj = getTerm(Resource.class);
+		IRI pred = getTerm(IRI.class);
+		Value obj = getTerm(Value.class);
+		Resource context = (flags & HAS_CONTEXT) != 0 ? getTerm(Resource.class) : null;
+
+		if ((flags & CONJECTURE) != 0) {
+			if (!(context instanceof IRI)) {
+				reportFatalError("Conjecture quad without graph");
+			}
+			handleStatement(subj, pred, obj, getConjecture((IRI) context));
+			if ((flags & SETTLED) != 0) {
+				handleStatement(subj, pred, obj, context);
+			}
+		} else {
+			handleStatement(subj, pred, obj, context);
+		}
+	}
+
+	private void readSettles() throws IOException, RDFParseException, RDFHandlerException {
+		IRI graph = getTerm(IRI.class);
+		IRI pred = getTerm(IRI.class);
+		IRI conjecture = getConjecture(graph);
+
+		handleStatement(graph, pred, conjecture, graph);
+		if (rdfHandler instanceof ConjectureHandler) {
+			((ConjectureHandler) rdfHandler).conjectureSettled(conjecture, graph);
+		}
+	}
+
+	/**
+	 * Returns the conjecture graph for the supplied graph, reporting its declaration the first time it is used.
+	 */
+	private IRI getConjecture(IRI graph) throws RDFHandlerException {
+		IRI conjecture = conjectures.get(graph);
+		if (conjecture == null) {
+			conjecture = valueFactory.createIRI(CONJ_PREFIX + graph.stringValue());
+			conjectures.put(graph, conjecture);
+			if (rdfHandler instanceof ConjectureHandler) {
+				((ConjectureHandler) rdfHandler).conjectureDeclared(graph, conjecture);
+			}
+		}
+		return conjecture;
+	}
+
+	private void handleStatement(Resource subj, IRI pred, Value obj, Resource context) throws RDFHandlerException {
+		if (rdfHandler != null) {
+			rdfHandler.handleStatement(createStatement(subj, pred, obj, context));
+		}
+	}
+
+	private <T extends Value> T getTerm(Class<T> type) throws IOException, RDFParseException {
+		int id = readVarint();
+		if (id >= terms.size()) {
+			reportFatalError("Undefined term id: " + id);
+		}
+		Value term = terms.get(id);
+		if (!type.isInstance(term)) {
+			reportFatalError("Unexpected term: " + term);
+		}
+		return type.cast(term);
+	}
+
+	/**
+	 * Reads a string. The buffer grows as the bytes of the string arrive, so that a corrupt length is reported as an
+	 * error rather than allocated.
+	 */
+	private String readString() throws IOException, RDFParseException {
+		int length = readVarint();
+		if (length < 0) {
+			reportFatalError("Invalid string length: " + (length & 0xFFFFFFFFL));
+		}
+
+		int offset = 0;
+		while (offset < length) {
+			if (offset == buffer.length) {
+				buffer = Arrays.copyOf(buffer, (int) Math.min(length, buffer.length * 2L));
+			}
+			int read = in.read(buffer, offset, Math.min(length, buffer.length) - offset);
+			if (read == -1) {
+				reportFatalError("String length exceeds the input: " + length);
+			}
+			offset += read;
+		}
+		return new String(buffer, 0, length, StandardCharsets.UTF_8);
+	}
+
+	private void readFully(byte[] b, int length) throws IOException {
+		int offset = 0;
+		while (offset < length) {
+			int read = in.read(b, offset, length - offset);
+			if (read == -1) {
+				throw new EOFException();
+			}
+			offset += read;
+		}
+	}
+
+	private int readVarint() throws IOException {
+		int value = 0;
+		for (int shift = 0; shift < 32; shift += 7) {
+			int b = in.read();
+			if (b == -1) {
+				throw new EOFException();
+			}
+			value |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw new IOException("Malformed varint");
+	}
+}
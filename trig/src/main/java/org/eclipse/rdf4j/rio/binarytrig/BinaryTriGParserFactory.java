@@ -0,0 +1,37 @@
+/*******************************************************************************
+ * Copyright (c) 2020 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.rio.binarytrig;
+
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.RDFParser;
+import org.eclipse.rdf4j.rio.RDFParserFactory;
+
+/**
+ * An {@link RDFParserFactory} for Binary TriG parsers.
+ */
+public class BinaryTriGParserFactory implements RDFParserFactory {
+
+	/**
+	 * Returns {@link BinaryTriGFormat#BINARY_TRIG}.
+	 */
+	@Override
+	public RDFFormat getRDFFormat() {
+		return BinaryTriGFormat.BINARY_TRIG;
+	}
+
+	/**
+	 * Returns a new instance of {@link BinaryTriGParser}.
+	 */
+	@Override
+	public RDFParser getParser() {
+		return new BinaryTriGParser();
+	}
+}
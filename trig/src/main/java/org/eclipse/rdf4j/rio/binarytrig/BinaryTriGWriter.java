@@ -0,0 +1,335 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.rio.binarytrig;
+
+import static org.eclipse.rdf4j.rio.binarytrig.BinaryTriGConstants.BNODE_TERM;
+import static org.eclipse.rdf4j.rio.binarytrig.BinaryTriGConstants.COMMENT;
+import static org.eclipse.rdf4j.rio.binarytrig.BinaryTriGConstants.CONJECTURE;
+import static org.eclipse.rdf4j.rio.binarytrig.BinaryTriGConstants.CONJ_PREFIX;
+import static org.eclipse.rdf4j.rio.binarytrig.BinaryTriGConstants.DATATYPE_LITERAL_TERM;
+import static org.eclipse.rdf4j.rio.binarytrig.BinaryTriGConstants.FORMAT_VERSION;
+import static org.eclipse.rdf4j.rio.binarytrig.BinaryTriGConstants.HAS_CONTEXT;
+import static org.eclipse.rdf4j.rio.binarytrig.BinaryTriGConstants.IRI_TERM;
+import static org.eclipse.rdf4j.rio.binarytrig.BinaryTriGConstants.LANG_LITERAL_TERM;
+import static org.eclipse.rdf4j.rio.binarytrig.BinaryTriGConstants.MAGIC_NUMBER;
+import static org.eclipse.rdf4j.rio.binarytrig.BinaryTriGConstants.NAMESPACE_DECL;
+import static org.eclipse.rdf4j.rio.binarytrig.BinaryTriGConstants.PLAIN_LITERAL_TERM;
+import static org.eclipse.rdf4j.rio.binarytrig.BinaryTriGConstants.QUAD;
+import static org.eclipse.rdf4j.rio.binarytrig.BinaryTriGConstants.RESET_TERMS;
+import static org.eclipse.rdf4j.rio.binarytrig.BinaryTriGConstants.SETTLED;
+import static org.eclipse.rdf4j.rio.binarytrig.BinaryTriGConstants.SETTLES;
+import static org.eclipse.rdf4j.rio.binarytrig.BinaryTriGConstants.SETTLES_PREDICATE;
+import static org.eclipse.rdf4j.rio.binarytrig.BinaryTriGConstants.TRIPLE_TERM;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.rdf4j.model.BNode;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Triple;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.util.Literals;
+import org.eclipse.rdf4j.model.vocabulary.XSD;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.RDFHandlerException;
+import org.eclipse.rdf4j.rio.RDFWriter;
+import org.eclipse.rdf4j.rio.RioSetting;
+import org.eclipse.rdf4j.rio.helpers.AbstractRDFWriter;
+
+/**
+ * A writer for the Binary TriG format.
+ * <p>
+ * A document starts with the magic number <code>BTRG</code> and a format version, followed by a sequence of records.
+ * Every record starts with a type byte. Terms are defined once in a term dictionary and referenced by their id, the
+ * number of terms defined before them; quads are written as a flags byte followed by the ids of their terms. All
+ * numbers are unsigned varints (7 bits per byte, least significant group first) and strings are UTF-8 bytes prefixed
+ * with their length.
+ * <p>
+ * Conjecture graphs are not stored by their <code>conj-</code> name but as a flag on the quad, with the graph they
+ * conjecture about as context. A conjecture statement that is directly followed by its copy in the target graph, as
+ * {@link org.eclipse.rdf4j.rio.trig.TriGParser} reports settled statements, is written once with a settled flag, and
+ * the <code>conj:settles</code> statement is written as a record of its own. {@link BinaryTriGParser} reports exactly
+ * the statements that were written, in the same order.
+ */
+public class BinaryTriGWriter extends AbstractRDFWriter implements RDFWriter {
+
+	/*-----------*
+	 * Variables *
+	 *-----------*/
+
+	private final OutputStream out;
+
+	private final Map<Value, Integer> terms = new HashMap<>();
+
+	private long maxTerms;
+
+	private Statement pendingConjecture;
+
+	private final byte[] varintBuffer = new byte[5];
+
+	/*--------------*
+	 * Constructors *
+	 *--------------*/
+
+	/**
+	 * Creates a new BinaryTriGWriter that will write to the supplied OutputStream.
+	 *
+	 * @param out The OutputStream to write the Binary TriG document to.
+	 */
+	public BinaryTriGWriter(OutputStream out) {
+		this.out = new BufferedOutputStream(out, 64 * 1024);
+	}
+
+	/*---------*
+	 * Methods *
+	 *---------*/
+
+	@Override
+	public RDFFormat getRDFFormat() {
+		return BinaryTriGFormat.BINARY_TRIG;
+	}
+
+	@Override
+	public Collection<RioSetting<?>> getSupportedSettings() {
+		Set<RioSetting<?>> result = new HashSet<>(super.getSupportedSettings());
+		result.add(BinaryTriGWriterSettings.DICTIONARY_SIZE);
+		return result;
+	}
+
+	@Override
+	public void startRDF() throws RDFHandlerException {
+		super.startRDF();
+
+		maxTerms = Math.max(1, getWriterConfig().get(BinaryTriGWriterSettings.DICTIONARY_SIZE));
+		terms.clear();
+		pendingConjecture = null;
+
+		try {
+			out.write(MAGIC_NUMBER);
+			writeVarint(FORMAT_VERSION);
+		} catch (IOException e) {
+			throw new RDFHandlerException(e);
+		}
+	}
+
+	@Override
+	public void endRDF() throws RDFHandlerException {
+		checkWritingStarted();
+		try {
+			flushPendingConjecture();
+			out.flush();
+		} catch (IOException e) {
+			throw new RDFHandlerException(e);
+		}
+	}
+
+	@Override
+	public void handleNamespace(String prefix, String uri) throws RDFHandlerException {
+		checkWritingStarted();
+		try {
+			flushPendingConjecture();
+			out.write(NAMESPACE_DECL);
+			writeString(prefix);
+			writeString(uri);
+		} catch (IOException e) {
+			throw new RDFHandlerException(e);
+		}
+	}
+
+	@Override
+	public void handleComment(String comment) throws RDFHandlerException {
+		checkWritingStarted();
+		try {
+			flushPendingConjecture();
+			out.write(COMMENT);
+			writeString(comment);
+		} catch (IOException e) {
+			throw new RDFHandlerException(e);
+		}
+	}
+
+	@Override
+	protected void consumeStatement(Statement st) throws RDFHandlerException {
+		try {
+			if (pendingConjecture != null) {
+				Statement conjecture = pendingConjecture;
+				pendingConjecture = null;
+				if (isCopy(conjecture, st)) {
+					writeQuad(conjecture, CONJECTURE | SETTLED);
+					return;
+				}
+				writeQuad(conjecture, CONJECTURE);
+			}
+
+			if (getConjectureTarget(st.getContext()) != null) {
+				pendingConjecture = st;
+			} else if (isSettlesStatement(st)) {
+				writeSettles(st);
+			} else {
+				writeQuad(st, 0);
+			}
+		} catch (IOException e) {
+			throw new RDFHandlerException(e);
+		}
+	}
+
+	private void flushPendingConjecture() throws IOException {
+		if (pendingConjecture != null) {
+			Statement conjecture = pendingConjecture;
+			pendingConjecture = null;
+			writeQuad(conjecture, CONJECTURE);
+		}
+	}
+
+	private void writeQuad(Statement st, int flags) throws IOException {
+		Resource context = (flags & CONJECTURE) != 0 ? getConjectureTarget(st.getContext()) : st.getContext();
+		if (context != null) {
+			flags |= HAS_CONTEXT;
+		}
+
+		ensureTermCapacity();
+		int subj = getTermId(st.getSubject());
+		int pred = getTermId(st.getPredicate());
+		int obj = getTermId(st.getObject());
+		int ctx = context != null ? getTermId(context) : -1;
+
+		out.write(QUAD);
+		out.write(flags);
+		writeVarint(subj);
+		writeVarint(pred);
+		writeVarint(obj);
+		if (ctx >= 0) {
+			writeVarint(ctx);
+		}
+	}
+
+	private void writeSettles(Statement st) throws IOException {
+		ensureTermCapacity();
+		int graph = getTermId(st.getSubject());
+		int pred = getTermId(st.getPredicate());
+
+		out.write(SETTLES);
+		writeVarint(graph);
+		writeVarint(pred);
+	}
+
+	/**
+	 * Starts a new term dictionary if the current one is full. Called before the terms of a record are defined, so
+	 * that a record never refers to terms of a previous dictionary. The terms of a record are all defined in the same
+	 * dictionary, so a dictionary may exceed the maximum size by the number of terms of one record: four, plus the
+	 * terms of any quoted triples.
+	 */
+	private void ensureTermCapacity() throws IOException {
+		if (terms.size() >= maxTerms) {
+			terms.clear();
+			out.write(RESET_TERMS);
+		}
+	}
+
+	private int getTermId(Value value) throws IOException {
+		Integer id = terms.get(value);
+		if (id != null) {
+			return id;
+		}
+
+		if (value instanceof IRI) {
+			out.write(IRI_TERM);
+			writeString(value.stringValue());
+		} else if (value instanceof BNode) {
+			out.write(BNODE_TERM);
+			writeString(((BNode) value).getID());
+		} else if (value instanceof Literal) {
+			Literal lit = (Literal) value;
+			if (Literals.isLanguageLiteral(lit)) {
+				out.write(LANG_LITERAL_TERM);
+				writeString(lit.getLabel());
+				writeString(lit.getLanguage().get());
+			} else if (XSD.STRING.equals(lit.getDatatype())) {
+				out.write(PLAIN_LITERAL_TERM);
+				writeString(lit.getLabel());
+			} else {
+				int datatype = getTermId(lit.getDatatype());
+				out.write(DATATYPE_LITERAL_TERM);
+				writeString(lit.getLabel());
+				writeVarint(datatype);
+			}
+		} else if (value instanceof Triple) {
+			Triple triple = (Triple) value;
+			int subj = getTermId(triple.getSubject());
+			int pred = getTermId(triple.getPredicate());
+			int obj = getTermId(triple.getObject());
+			out.write(TRIPLE_TERM);
+			writeVarint(subj);
+			writeVarint(pred);
+			writeVarint(obj);
+		} else {
+			throw new RDFHandlerException("Unknown value type: " + value);
+		}
+
+		id = terms.size();
+		terms.put(value, id);
+		return id;
+	}
+
+	private void writeString(String s) throws IOException {
+		byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+		writeVarint(bytes.length);
+		out.write(bytes);
+	}
+
+	private void writeVarint(int value) throws IOException {
+		int length = 0;
+		while ((value & ~0x7F) != 0) {
+			varintBuffer[length++] = (byte) ((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		varintBuffer[length++] = (byte) value;
+		out.write(varintBuffer, 0, length);
+	}
+
+	/**
+	 * Returns the graph the supplied context is a conjecture about, or <var>null</var> if it is not a conjecture
+	 * graph.
+	 */
+	static IRI getConjectureTarget(Resource context) {
+		if (context instanceof IRI) {
+			String name = context.stringValue();
+			if (name.startsWith(CONJ_PREFIX) && name.indexOf(':') > CONJ_PREFIX.length()) {
+				return SimpleValueFactory.getInstance().createIRI(name.substring(CONJ_PREFIX.length()));
+			}
+		}
+		return null;
+	}
+
+	private static boolean isCopy(Statement conjecture, Statement st) {
+		return getConjectureTarget(conjecture.getContext()).equals(st.getContext())
+				&& conjecture.getSubject().equals(st.getSubject())
+				&& conjecture.getPredicate().equals(st.getPredicate())
+				&& conjecture.getObject().equals(st.getObject());
+	}
+
+	private static boolean isSettlesStatement(Statement st) {
+		return st.getContext() instanceof IRI && st.getContext().equals(st.getSubject())
+				&& SETTLES_PREDICATE.equals(st.getPredicate()) && st.getObject() instanceof IRI
+				&& st.getObject().stringValue().equals(CONJ_PREFIX + st.getContext().stringValue());
+	}
+}
@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2020 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.rio.binarytrig;
+
+import java.io.OutputStream;
+import java.io.Writer;
+
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.RDFWriter;
+import org.eclipse.rdf4j.rio.RDFWriterFactory;
+
+/**
+ * An {@link RDFWriterFactory} for Binary TriG writers.
+ */
+public class BinaryTriGWriterFactory implements RDFWriterFactory {
+
+	/**
+	 * Returns {@link BinaryTriGFormat#BINARY_TRIG}.
+	 */
+	@Override
+	public RDFFormat getRDFFormat() {
+		return BinaryTriGFormat.BINARY_TRIG;
+	}
+
+	/**
+	 * Returns a new instance of {@link BinaryTriGWriter}.
+	 */
+	@Override
+	public RDFWriter getWriter(OutputStream out) {
+		return new BinaryTriGWriter(out);
+	}
+
+	/**
+	 * Returns a new instance of {@link BinaryTriGWriter}. Binary TriG stores full IRIs, so the base URI is ignored.
+	 */
+	@Override
+	public RDFWriter getWriter(OutputStream out, String baseURI) {
+		return getWriter(out);
+	}
+
+	/**
+	 * throws UnsupportedOperationException
+	 */
+	@Override
+	public RDFWriter getWriter(Writer writer) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * throws UnsupportedOperationException
+	 */
+	@Override
+	public RDFWriter getWriter(Writer writer, String baseURI) {
+		throw new UnsupportedOperationException();
+	}
+}
@@ -0,0 +1,39 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.rio.binarytrig;
+
+import org.eclipse.rdf4j.rio.RioSetting;
+import org.eclipse.rdf4j.rio.helpers.LongRioSetting;
+
+/**
+ * WriterSettings for the Binary TriG writer features.
+ */
+public class BinaryTriGWriterSettings {
+
+	/**
+	 * Setting for the maximum number of terms in the term dictionary. When the dictionary is full, the writer starts
+	 * a new one, so that memory use of both the writer and the parser is bounded. The check is made before each
+	 * record, so a dictionary may exceed this size by the terms of one record.
+	 * <p>
+	 * Defaults to 1048576.
+	 * <p>
+	 * Can be overridden by setting system property {@code org.eclipse.rdf4j.rio.binarytrig.dictionary_size}.
+	 */
+	public static final RioSetting<Long> DICTIONARY_SIZE = new LongRioSetting(
+			"org.eclipse.rdf4j.rio.binarytrig.dictionary_size", "Maximum number of terms in the term dictionary",
+			1L << 20);
+
+	/**
+	 * Private default constructor.
+	 */
+	private BinaryTriGWriterSettings() {
+	}
+}
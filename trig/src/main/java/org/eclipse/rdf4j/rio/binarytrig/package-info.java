@@ -0,0 +1,15 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+/**
+ * Parser/writer for Binary TriG, a compact binary encoding of the statements reported by
+ * {@link org.eclipse.rdf4j.rio.trig.TriGParser}, including conjecture graphs.
+ */
+package org.eclipse.rdf4j.rio.binarytrig;
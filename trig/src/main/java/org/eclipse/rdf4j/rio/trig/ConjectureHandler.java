@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.rio.trig;
+
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.rio.RDFHandler;
+import org.eclipse.rdf4j.rio.RDFHandlerException;
+
+/**
+ * An optional extension of {@link RDFHandler} that is notified by {@link TriGParser} about the conjectures it
+ * encounters. If the handler set on the parser implements this interface, it receives these events in addition to the
+ * statements, which allows a store to maintain an index of conjecture graphs while loading instead of scanning for
+ * <code>conj-</code> contexts afterwards.
+ */
+public interface ConjectureHandler extends RDFHandler {
+
+	/**
+	 * Signals that a resource was declared as a conjecture for the first time, by a CONJ or SETT block. From this point
+	 * on the parser replaces <var>original</var> with <var>conjecture</var>.
+	 *
+	 * @param original   the resource as written in the document.
+	 * @param conjecture the resource the parser uses for the conjecture.
+	 * @throws RDFHandlerException If the handler encounters an unrecoverable error.
+	 */
+	void conjectureDeclared(Resource original, Resource conjecture) throws RDFHandlerException;
+
+	/**
+	 * Signals that a SETT block settled a conjecture, i.e. that its statements were copied into the target graph and
+	 * a <code>conj:settles</code> statement was reported.
+	 *
+	 * @param conjecture  the conjecture graph.
+	 * @param targetGraph the graph the conjecture was settled into.
+	 * @throws RDFHandlerException If the handler encounters an unrecoverable error.
+	 */
+	void conjectureSettled(Resource conjecture, Resource targetGraph) throws RDFHandlerException;
+}
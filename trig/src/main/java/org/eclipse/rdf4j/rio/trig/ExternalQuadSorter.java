@@ -0,0 +1,320 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.rio.trig;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.rio.RDFHandlerException;
+import org.eclipse.rdf4j.rio.helpers.AbstractRDFHandler;
+import org.eclipse.rdf4j.rio.helpers.NTriplesUtil;
+
+/**
+ * An RDF handler that sorts the statements it receives by context, subject, predicate and object using a bounded
+ * amount of memory. Statements are kept in memory as encoded lines until {@link #getMaxBufferedQuads()} is reached, at
+ * which point the buffer is sorted and spilled to a temporary file. {@link #sortedCursor()} merges all spill files
+ * into a single sorted, duplicate-free stream.
+ * <p>
+ * Each quad is encoded as a single line of N-Triples terms separated by tab characters, with the context first (the
+ * default graph is encoded as an empty string and therefore sorts first). Since N-Triples escapes tabs and line breaks
+ * inside literals, the encoding is unambiguous.
+ */
+public class ExternalQuadSorter extends AbstractRDFHandler implements Closeable {
+
+	/**
+	 * The default number of quads kept in memory before the buffer is spilled to disk.
+	 */
+	public static final int DEFAULT_MAX_BUFFERED_QUADS = 250_000;
+
+	private static final char SEPARATOR = '\t';
+
+	/*-----------*
+	 * Variables *
+	 *-----------*/
+
+	private final int maxBufferedQuads;
+
+	private final Path tempDir;
+
+	private final List<String> buffer = new ArrayList<>();
+
+	private final List<Path> spillFiles = new ArrayList<>();
+
+	private long quadCount;
+
+	/*--------------*
+	 * Constructors *
+	 *--------------*/
+
+	/**
+	 * Creates a new ExternalQuadSorter that spills to the default temporary-file directory after
+	 * {@link #DEFAULT_MAX_BUFFERED_QUADS} quads.
+	 */
+	public ExternalQuadSorter() {
+		this(DEFAULT_MAX_BUFFERED_QUADS, null);
+	}
+
+	/**
+	 * Creates a new ExternalQuadSorter.
+	 *
+	 * @param maxBufferedQuads the number of quads kept in memory before spilling to disk.
+	 * @param tempDir          the directory for spill files, or <var>null</var> for the default temporary-file
+	 *                         directory.
+	 */
+	public ExternalQuadSorter(int maxBufferedQuads, Path tempDir) {
+		if (maxBufferedQuads < 1) {
+			throw new IllegalArgumentException("maxBufferedQuads must be positive");
+		}
+		this.maxBufferedQuads = maxBufferedQuads;
+		this.tempDir = tempDir;
+	}
+
+	/*---------*
+	 * Methods *
+	 *---------*/
+
+	public int getMaxBufferedQuads() {
+		return maxBufferedQuads;
+	}
+
+	/**
+	 * @return the number of quads received so far, including duplicates.
+	 */
+	public long getQuadCount() {
+		return quadCount;
+	}
+
+	/**
+	 * @return the number of spill files written so far.
+	 */
+	public int getSpillCount() {
+		return spillFiles.size();
+	}
+
+	@Override
+	public void handleStatement(Statement st) throws RDFHandlerException {
+		buffer.add(encode(st));
+		quadCount++;
+		if (buffer.size() >= maxBufferedQuads) {
+			try {
+				spill();
+			} catch (IOException e) {
+				throw new RDFHandlerException(e);
+			}
+		}
+	}
+
+	/**
+	 * Returns a cursor over all quads received so far, in sorted order and without duplicates. The in-memory buffer is
+	 * sorted in place and merged with the spill files, so no further statements should be added while the cursor is
+	 * in use.
+	 */
+	public Cursor sortedCursor() throws IOException {
+		Collections.sort(buffer);
+		List<Iterator<String>> sources = new ArrayList<>(spillFiles.size() + 1);
+		List<Closeable> resources = new ArrayList<>(spillFiles.size());
+		try {
+			for (Path spillFile : spillFiles) {
+				BufferedReader reader = Files.newBufferedReader(spillFile, StandardCharsets.UTF_8);
+				resources.add(reader);
+				sources.add(reader.lines().iterator());
+			}
+		} catch (IOException e) {
+			closeAll(resources);
+			throw e;
+		}
+		sources.add(buffer.iterator());
+		return new Cursor(sources, resources);
+	}
+
+	/**
+	 * Deletes all spill files and clears the in-memory buffer.
+	 */
+	@Override
+	public void close() throws IOException {
+		buffer.clear();
+		IOException failure = null;
+		for (Path spillFile : spillFiles) {
+			try {
+				Files.deleteIfExists(spillFile);
+			} catch (IOException e) {
+				failure = e;
+			}
+		}
+		spillFiles.clear();
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	private void spill() throws IOException {
+		Collections.sort(buffer);
+		Path spillFile = tempDir == null ? Files.createTempFile("rdf4j-quads", ".spill")
+				: Files.createTempFile(tempDir, "rdf4j-quads", ".spill");
+		spillFiles.add(spillFile);
+		try (BufferedWriter out = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8)) {
+			String previous = null;
+			for (String line : buffer) {
+				if (!line.equals(previous)) {
+					out.write(line);
+					out.write('\n');
+				}
+				previous = line;
+			}
+		}
+		buffer.clear();
+	}
+
+	/**
+	 * Encodes the supplied statement as a single sortable line.
+	 */
+	public static String encode(Statement st) {
+		StringBuilder sb = new StringBuilder(128);
+		if (st.getContext() != null) {
+			sb.append(NTriplesUtil.toNTriplesString(st.getContext()));
+		}
+		sb.append(SEPARATOR).append(NTriplesUtil.toNTriplesString(st.getSubject()));
+		sb.append(SEPARATOR).append(NTriplesUtil.toNTriplesString(st.getPredicate()));
+		sb.append(SEPARATOR).append(NTriplesUtil.toNTriplesString(st.getObject()));
+		return sb.toString();
+	}
+
+	/**
+	 * Decodes a line produced by {@link #encode(Statement)}.
+	 */
+	public static Statement decode(String line, ValueFactory vf) {
+		int s = line.indexOf(SEPARATOR);
+		int p = line.indexOf(SEPARATOR, s + 1);
+		int o = line.indexOf(SEPARATOR, p + 1);
+		if (s < 0 || p < 0 || o < 0) {
+			throw new IllegalArgumentException("Not an encoded quad: " + line);
+		}
+		Resource context = s == 0 ? null : NTriplesUtil.parseResource(line.substring(0, s), vf);
+		Resource subject = NTriplesUtil.parseResource(line.substring(s + 1, p), vf);
+		IRI predicate = NTriplesUtil.parseURI(line.substring(p + 1, o), vf);
+		Value object = NTriplesUtil.parseValue(line.substring(o + 1), vf);
+		return vf.createStatement(subject, predicate, object, context);
+	}
+
+	/**
+	 * Returns the encoded context part of a line produced by {@link #encode(Statement)}.
+	 */
+	public static String contextKey(String line) {
+		return line.substring(0, line.indexOf(SEPARATOR));
+	}
+
+	private static void closeAll(List<Closeable> resources) {
+		for (Closeable resource : resources) {
+			try {
+				resource.close();
+			} catch (IOException e) {
+				// ignore, we are already failing
+			}
+		}
+	}
+
+	/**
+	 * A k-way merge over sorted line sources that skips duplicate lines.
+	 */
+	public static class Cursor implements Closeable {
+
+		private final PriorityQueue<Head> heads = new PriorityQueue<>();
+
+		private final List<Closeable> resources;
+
+		private String next;
+
+		private String last;
+
+		Cursor(List<Iterator<String>> sources, List<Closeable> resources) {
+			this.resources = resources;
+			for (Iterator<String> source : sources) {
+				if (source.hasNext()) {
+					heads.add(new Head(source.next(), source));
+				}
+			}
+			advance();
+		}
+
+		/**
+		 * @return the next line without consuming it, or <var>null</var> if the cursor is exhausted.
+		 */
+		public String peek() {
+			return next;
+		}
+
+		/**
+		 * @return the next line, or <var>null</var> if the cursor is exhausted.
+		 */
+		public String next() {
+			String result = next;
+			if (result != null) {
+				last = result;
+				advance();
+			}
+			return result;
+		}
+
+		private void advance() {
+			next = null;
+			while (!heads.isEmpty()) {
+				Head head = heads.poll();
+				String line = head.line;
+				if (head.source.hasNext()) {
+					head.line = head.source.next();
+					heads.add(head);
+				}
+				if (!line.equals(last)) {
+					next = line;
+					return;
+				}
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			heads.clear();
+			closeAll(resources);
+		}
+
+		private static class Head implements Comparable<Head> {
+
+			private String line;
+
+			private final Iterator<String> source;
+
+			Head(String line, Iterator<String> source) {
+				this.line = line;
+				this.source = source;
+			}
+
+			@Override
+			public int compareTo(Head other) {
+				return line.compareTo(other.line);
+			}
+		}
+	}
+}
@@ -0,0 +1,289 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.rio.trig;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.rio.RDFHandlerException;
+import org.eclipse.rdf4j.rio.RDFParseException;
+import org.eclipse.rdf4j.rio.RDFWriter;
+import org.eclipse.rdf4j.rio.helpers.BasicParserSettings;
+
+/**
+ * Computes the difference between two TriG documents, for instance two snapshots of the same dataset. Both documents
+ * are parsed with {@link TriGParser}, so conjecture graphs and settled copies are compared exactly as they would be
+ * loaded into a store.
+ * <p>
+ * Both inputs are sorted by context with an {@link ExternalQuadSorter} and then merged in a single streaming pass, so
+ * memory use is bounded by {@link #setMaxBufferedQuads(int)} rather than by the size of the documents. Removed and
+ * added quads are reported to a {@link DeltaHandler} grouped by context. Blank node labels are preserved while
+ * parsing, so blank nodes are only considered equal when both snapshots use the same label.
+ */
+public class TriGDelta {
+
+	/**
+	 * Receives the quads that differ between the old and the new document. All quads of a context are reported
+	 * consecutively, ordered by context.
+	 */
+	public interface DeltaHandler {
+
+		/**
+		 * Called for a quad that occurs in the old document but not in the new one.
+		 */
+		void handleRemoved(Statement st) throws RDFHandlerException;
+
+		/**
+		 * Called for a quad that occurs in the new document but not in the old one.
+		 */
+		void handleAdded(Statement st) throws RDFHandlerException;
+	}
+
+	/*-----------*
+	 * Variables *
+	 *-----------*/
+
+	private final ValueFactory valueFactory;
+
+	private int maxBufferedQuads = ExternalQuadSorter.DEFAULT_MAX_BUFFERED_QUADS;
+
+	private Path tempDir;
+
+	private final Map<String, String> namespaces = new LinkedHashMap<>();
+
+	private long removedCount;
+
+	private long addedCount;
+
+	/*--------------*
+	 * Constructors *
+	 *--------------*/
+
+	/**
+	 * Creates a new TriGDelta that will use a {@link SimpleValueFactory} to create RDF model objects.
+	 */
+	public TriGDelta() {
+		this(SimpleValueFactory.getInstance());
+	}
+
+	/**
+	 * Creates a new TriGDelta that will use the supplied ValueFactory to create RDF model objects.
+	 *
+	 * @param valueFactory A ValueFactory.
+	 */
+	public TriGDelta(ValueFactory valueFactory) {
+		this.valueFactory = valueFactory;
+	}
+
+	/*---------*
+	 * Methods *
+	 *---------*/
+
+	/**
+	 * Sets the number of quads per input that are kept in memory before they are spilled to disk.
+	 */
+	public void setMaxBufferedQuads(int maxBufferedQuads) {
+		this.maxBufferedQuads = maxBufferedQuads;
+	}
+
+	/**
+	 * Sets the directory used for spill files, or <var>null</var> for the default temporary-file directory.
+	 */
+	public void setTempDirectory(Path tempDir) {
+		this.tempDir = tempDir;
+	}
+
+	/**
+	 * @return the namespaces declared in the new document of the last computation.
+	 */
+	public Map<String, String> getNamespaces() {
+		return namespaces;
+	}
+
+	/**
+	 * @return the number of removed quads reported by the last computation.
+	 */
+	public long getRemovedCount() {
+		return removedCount;
+	}
+
+	/**
+	 * @return the number of added quads reported by the last computation.
+	 */
+	public long getAddedCount() {
+		return addedCount;
+	}
+
+	/**
+	 * Computes the delta between two TriG documents.
+	 *
+	 * @param oldTriG the old snapshot.
+	 * @param newTriG the new snapshot.
+	 * @param baseURI the base URI used to resolve relative IRIs in both documents.
+	 * @param handler the handler that receives removed and added quads.
+	 */
+	public void compute(Reader oldTriG, Reader newTriG, String baseURI, DeltaHandler handler)
+			throws IOException, RDFParseException, RDFHandlerException {
+		namespaces.clear();
+		removedCount = 0;
+		addedCount = 0;
+
+		try (ExternalQuadSorter oldQuads = new ExternalQuadSorter(maxBufferedQuads, tempDir);
+				ExternalQuadSorter newQuads = new NamespaceRecordingSorter(maxBufferedQuads, tempDir, namespaces)) {
+			parse(oldTriG, baseURI, oldQuads);
+			parse(newTriG, baseURI, newQuads);
+
+			try (ExternalQuadSorter.Cursor oldCursor = oldQuads.sortedCursor();
+					ExternalQuadSorter.Cursor newCursor = newQuads.sortedCursor()) {
+				merge(oldCursor, newCursor, handler);
+			}
+		}
+	}
+
+	private void parse(Reader in, String baseURI, ExternalQuadSorter sorter)
+			throws IOException, RDFParseException, RDFHandlerException {
+		TriGParser parser = new TriGParser(valueFactory);
+		parser.getParserConfig().set(BasicParserSettings.PRESERVE_BNODE_IDS, true);
+		parser.setRDFHandler(sorter);
+		parser.parse(in, baseURI);
+	}
+
+	private void merge(ExternalQuadSorter.Cursor oldCursor, ExternalQuadSorter.Cursor newCursor,
+			DeltaHandler handler) throws RDFHandlerException {
+		String oldLine = oldCursor.next();
+		String newLine = newCursor.next();
+
+		while (oldLine != null || newLine != null) {
+			int cmp;
+			if (oldLine == null) {
+				cmp = 1;
+			} else if (newLine == null) {
+				cmp = -1;
+			} else {
+				cmp = oldLine.compareTo(newLine);
+			}
+
+			if (cmp == 0) {
+				oldLine = oldCursor.next();
+				newLine = newCursor.next();
+			} else if (cmp < 0) {
+				handler.handleRemoved(ExternalQuadSorter.decode(oldLine, valueFactory));
+				removedCount++;
+				oldLine = oldCursor.next();
+			} else {
+				handler.handleAdded(ExternalQuadSorter.decode(newLine, valueFactory));
+				addedCount++;
+				newLine = newCursor.next();
+			}
+		}
+	}
+
+	/**
+	 * Command-line entry point: <code>TriGDelta old.trig new.trig removed.trig added.trig</code>. The removed and
+	 * added quads are written as TriG documents with a single block per graph, using the prefixes of the new document.
+	 */
+	public static void main(String[] args) throws Exception {
+		if (args.length != 4) {
+			System.err.println("Usage: TriGDelta <old.trig> <new.trig> <removed.trig> <added.trig>");
+			System.exit(1);
+		}
+
+		Path removedFile = Paths.get(args[2]);
+		Path addedFile = Paths.get(args[3]);
+		String baseURI = Paths.get(args[1]).toUri().toString();
+
+		TriGDelta delta = new TriGDelta();
+		Path removedTmp = Files.createTempFile("rdf4j-delta-removed", ".nq");
+		Path addedTmp = Files.createTempFile("rdf4j-delta-added", ".nq");
+		try {
+			// the delta is buffered as encoded lines first, since the prefixes to write are only known once the new
+			// document has been parsed completely
+			try (Reader oldIn = Files.newBufferedReader(Paths.get(args[0]), StandardCharsets.UTF_8);
+					Reader newIn = Files.newBufferedReader(Paths.get(args[1]), StandardCharsets.UTF_8);
+					Writer removedOut = Files.newBufferedWriter(removedTmp, StandardCharsets.UTF_8);
+					Writer addedOut = Files.newBufferedWriter(addedTmp, StandardCharsets.UTF_8)) {
+				delta.compute(oldIn, newIn, baseURI, new DeltaHandler() {
+
+					@Override
+					public void handleRemoved(Statement st) {
+						writeLine(removedOut, st);
+					}
+
+					@Override
+					public void handleAdded(Statement st) {
+						writeLine(addedOut, st);
+					}
+				});
+			}
+
+			writeTriG(removedTmp, removedFile, delta.getNamespaces(), delta.valueFactory);
+			writeTriG(addedTmp, addedFile, delta.getNamespaces(), delta.valueFactory);
+		} finally {
+			Files.deleteIfExists(removedTmp);
+			Files.deleteIfExists(addedTmp);
+		}
+
+		System.out.println("removed: " + delta.getRemovedCount() + ", added: " + delta.getAddedCount());
+	}
+
+	private static void writeLine(Writer out, Statement st) {
+		try {
+			out.write(ExternalQuadSorter.encode(st));
+			out.write('\n');
+		} catch (IOException e) {
+			throw new RDFHandlerException(e);
+		}
+	}
+
+	private static void writeTriG(Path lines, Path target, Map<String, String> namespaces, ValueFactory vf)
+			throws IOException {
+		try (Writer out = Files.newBufferedWriter(target, StandardCharsets.UTF_8)) {
+			RDFWriter writer = new TriGWriter(out);
+			writer.startRDF();
+			for (Map.Entry<String, String> namespace : namespaces.entrySet()) {
+				writer.handleNamespace(namespace.getKey(), namespace.getValue());
+			}
+			try (Stream<String> stream = Files.lines(lines, StandardCharsets.UTF_8)) {
+				stream.forEach(line -> writer.handleStatement(ExternalQuadSorter.decode(line, vf)));
+			}
+			writer.endRDF();
+		}
+	}
+
+	/**
+	 * Sorter for the new document that also keeps its namespace declarations.
+	 */
+	private static class NamespaceRecordingSorter extends ExternalQuadSorter {
+
+		private final Map<String, String> namespaces;
+
+		NamespaceRecordingSorter(int maxBufferedQuads, Path tempDir, Map<String, String> namespaces) {
+			super(maxBufferedQuads, tempDir);
+			this.namespaces = namespaces;
+		}
+
+		@Override
+		public void handleNamespace(String prefix, String uri) throws RDFHandlerException {
+			namespaces.put(prefix, uri);
+		}
+	}
+}
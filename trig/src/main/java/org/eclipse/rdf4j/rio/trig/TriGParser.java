@@ -11,6 +11,7 @@
 package org.eclipse.rdf4j.rio.trig;
 
 import java.io.IOException;
+import java.io.Reader;
 import java.sql.Array;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -60,6 +61,12 @@ public class TriGParser extends TurtleParser {
 
 	private Resource contextOrSubjectSett;
 
+	private TriGScanner scanner;
+
+	private int skippedLineFeeds;
+
+	private final StringBuilder stringBuilder = new StringBuilder();
+
 	/*--------------*
 	 * Constructors *
 	 *--------------*/
@@ -286,7 +293,6 @@ public class TriGParser extends TurtleParser {
 			setIsParseConj(true);
 
 			Value value = parseValue();
-			System.out.println("value = " + value);
 
 			if (value instanceof Resource) {
 				contextOrSubject = (Resource) value;
@@ -375,7 +381,6 @@ public class TriGParser extends TurtleParser {
 			setIsParseSett(true);
 
 			Value value = parseValue();
-			System.out.println("value = " + value);
 
 			if (value instanceof Resource) {
 				contextOrSubjectSett = (Resource) value;
@@ -423,6 +428,7 @@ public class TriGParser extends TurtleParser {
 			// aggiungo la tripla che determina se una congettura è collassata
 			setContext(copiedContext);
 			reportStatement(getContext(), createURI(getNamespace("conj") + "settles"), (Value) contextOrSubjectSett);
+			reportConjectureSettled(contextOrSubjectSett, copiedContext);
 		} else {
 			setContext(null);
 
@@ -499,6 +505,117 @@ public class TriGParser extends TurtleParser {
 		}
 	}
 
+	@Override
+	public synchronized void parse(Reader reader, String baseURI)
+			throws IOException, RDFParseException, RDFHandlerException {
+		scanner = reader != null ? new TriGScanner(reader) : null;
+		skippedLineFeeds = 0;
+		try {
+			super.parse(reader, baseURI);
+		} finally {
+			scanner = null;
+		}
+	}
+
+	@Override
+	protected int readCodePoint() throws IOException {
+		if (scanner == null) {
+			return super.readCodePoint();
+		}
+		int next = scanner.read();
+		if (Character.isHighSurrogate((char) next)) {
+			next = Character.toCodePoint((char) next, (char) scanner.read());
+		}
+		return next;
+	}
+
+	@Override
+	protected void unread(int codePoint) throws IOException {
+		if (scanner == null) {
+			super.unread(codePoint);
+		} else if (codePoint != -1) {
+			if (Character.isSupplementaryCodePoint(codePoint)) {
+				scanner.unread(Character.lowSurrogate(codePoint));
+				scanner.unread(Character.highSurrogate(codePoint));
+			} else {
+				scanner.unread((char) codePoint);
+			}
+		}
+	}
+
+	@Override
+	protected void unread(String string) throws IOException {
+		if (scanner == null) {
+			super.unread(string);
+		} else {
+			for (int i = string.length() - 1; i >= 0; i--) {
+				scanner.unread(string.charAt(i));
+			}
+		}
+	}
+
+	/**
+	 * Skips whitespace and comments. Runs of whitespace are consumed in bulk; the line feeds in them are counted by
+	 * {@link #getLineNumber()}.
+	 */
+	@Override
+	protected int skipWSC() throws IOException, RDFHandlerException {
+		if (scanner == null) {
+			return super.skipWSC();
+		}
+		while (true) {
+			int lineFeeds = scanner.skipWhitespace();
+			if (lineFeeds > 0) {
+				skippedLineFeeds += lineFeeds;
+				reportLocation();
+			}
+			int c = readCodePoint();
+			if (c != '#') {
+				unread(c);
+				return c;
+			}
+			processComment();
+		}
+	}
+
+	@Override
+	protected int getLineNumber() {
+		return super.getLineNumber() + skippedLineFeeds;
+	}
+
+	/**
+	 * Parses a string that is delimited by the supplied character, consuming the characters between escapes in bulk.
+	 */
+	@Override
+	protected String parseString(int closingCharacter) throws IOException, RDFParseException {
+		if (scanner == null || (closingCharacter != '"' && closingCharacter != '\'')) {
+			return super.parseString(closingCharacter);
+		}
+		boolean[] delimiters = closingCharacter == '"' ? TriGScanner.DOUBLE_QUOTED_DELIMITERS
+				: TriGScanner.SINGLE_QUOTED_DELIMITERS;
+		StringBuilder sb = stringBuilder;
+		sb.setLength(0);
+		while (true) {
+			scanner.appendUntil(sb, delimiters);
+			int c = scanner.read();
+			if (c == closingCharacter) {
+				return sb.toString();
+			} else if (c == -1) {
+				throwEOFException();
+			} else if (c == '\r' || c == '\n') {
+				reportFatalError("Illegal carriage return or new line in literal");
+			}
+
+			// an escape, which might escape the closing character
+			sb.append((char) c);
+			c = readCodePoint();
+			if (c == -1) {
+				throwEOFException();
+			}
+			appendCodepoint(sb, c);
+		}
+	}
+
 	@Override
 	protected IRI parseURI() throws IOException, RDFParseException {
 		StringBuilder uriBuf;
@@ -516,6 +633,14 @@ public class TriGParser extends TurtleParser {
 		boolean uriIsIllegal = false;
 		// Read up to the next '>' character
 		while (true) {
+			if (scanner != null) {
+				// consume the characters up to the next delimiter at once
+				int start = uriBuf.length();
+				scanner.appendUntil(uriBuf, TriGScanner.IRI_DELIMITERS);
+				if (getIsParseConj()) {
+					trueUriBuf.append(uriBuf, start, uriBuf.length());
+				}
+			}
 			c = readCodePoint();
 
 			if (c == '>') {
@@ -549,9 +674,12 @@ public class TriGParser extends TurtleParser {
 			}
 		}
 
+		boolean declared = false;
 		if (getIsParseConj()) {
-			if (!conjContainer.contains("<" + trueUriBuf.toString() + ">"))
+			if (!conjContainer.contains("<" + trueUriBuf.toString() + ">")) {
 				conjContainer.add("<" + trueUriBuf.toString() + ">");
+				declared = true;
+			}
 			uriBuf = new StringBuilder("conj-" + trueUriBuf.toString());
 		} else if (conjContainer.contains("<" + uriBuf.toString() + ">")) {
 			uriBuf = new StringBuilder("conj-" + trueUriBuf.toString());
@@ -589,7 +717,11 @@ public class TriGParser extends TurtleParser {
 			}
 			if (getIsParseSett())
 				copiedContext = (Resource) super.resolveURI(trueUri);
-			return super.resolveURI(uri);
+			IRI result = super.resolveURI(uri);
+			if (declared) {
+				reportConjectureDeclared(super.resolveURI(trueUri), result);
+			}
+			return result;
 		}
 
 		return null;
@@ -689,6 +821,7 @@ public class TriGParser extends TurtleParser {
 		}
 
 		String localNameString = localName.toString();
+		boolean declared = false;
 
 		if (namespace == "") { // caso :b
 			if (getIsParseConj()) {
@@ -697,6 +830,7 @@ public class TriGParser extends TurtleParser {
 					// se non presente nell'array di tutte le congetture incontrate allora lo aggiungo
 					setNamespace("conj", "conj-" + getNamespace(""));
 					conjContainer.add(namespace + ":" + localNameString);
+					declared = true;
 				}
 				copiedContext = (Resource) createURI(getNamespace(namespace) + localNameString);
 				namespace = "conj";
@@ -711,6 +845,7 @@ public class TriGParser extends TurtleParser {
 					// se non presente nell'array di tutte le congetture incontrate allora lo aggiungo
 					setNamespace("conj-" + namespace, "conj-" + getNamespace(namespace));
 					conjContainer.add(namespace + ":" + localNameString);
+					declared = true;
 				}
 				copiedContext = (Resource) createURI(getNamespace(namespace) + localNameString);
 				namespace = "conj-" + namespace;
@@ -729,7 +864,11 @@ public class TriGParser extends TurtleParser {
 			}
 		}
 
-		return createURI(getNamespace(namespace) + localNameString);
+		IRI result = createURI(getNamespace(namespace) + localNameString);
+		if (declared) {
+			reportConjectureDeclared(copiedContext, result);
+		}
+		return result;
 	}
 
 	@Override
@@ -774,16 +913,36 @@ public class TriGParser extends TurtleParser {
 
 		if (getIsParseConj()) {
 			setIsParseConj(false);
+			Resource conjNode = createNode("_:" + name.toString());
 			if (!conjContainer.contains("_:" + name.toString())) {
 				conjContainer.add("_:" + name.toString());
+				reportConjectureDeclared(createNode(name.toString()), conjNode);
 			}
-			return createNode("_:" + name.toString());
+			return conjNode;
 		} else if (conjContainer.contains("_:" + name.toString())) {
 			return createNode("_:" + name.toString());
 		}
 		return createNode(name.toString());
 	}
 
+	/**
+	 * Notifies the handler that a conjecture was declared, if it is a {@link ConjectureHandler}.
+	 */
+	protected void reportConjectureDeclared(Resource original, Resource conjecture) throws RDFHandlerException {
+		if (rdfHandler instanceof ConjectureHandler) {
+			((ConjectureHandler) rdfHandler).conjectureDeclared(original, conjecture);
+		}
+	}
+
+	/**
+	 * Notifies the handler that a conjecture was settled, if it is a {@link ConjectureHandler}.
+	 */
+	protected void reportConjectureSettled(Resource conjecture, Resource targetGraph) throws RDFHandlerException {
+		if (rdfHandler instanceof ConjectureHandler) {
+			((ConjectureHandler) rdfHandler).conjectureSettled(conjecture, targetGraph);
+		}
+	}
+
 	private static void appendCodepoint(StringBuilder dst, int codePoint) {
 		if (Character.isBmpCodePoint(codePoint)) {
 			dst.append((char) codePoint);
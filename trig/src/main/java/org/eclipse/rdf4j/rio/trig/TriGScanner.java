@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.rio.trig;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * A buffered character source for {@link TriGParser} that supports pushing back characters and scanning ahead in bulk.
+ * Unlike a {@link java.io.PushbackReader}, reads are not synchronized, and runs of uninteresting characters (whitespace,
+ * or the characters of an IRI or string literal up to the next delimiter) are consumed with a single loop over the
+ * buffer instead of one call per character.
+ */
+final class TriGScanner {
+
+	private static final int BUFFER_SIZE = 8192;
+
+	/**
+	 * Characters {@link #skipWhitespace()} skips.
+	 */
+	static final boolean[] WHITESPACE = table(" \t\r\n");
+
+	/**
+	 * Characters that end a run of IRI characters: the closing bracket, escapes and illegal spaces.
+	 */
+	static final boolean[] IRI_DELIMITERS = table("> \\");
+
+	/**
+	 * Characters that end a run of characters in a <code>"</code> delimited string.
+	 */
+	static final boolean[] DOUBLE_QUOTED_DELIMITERS = table("\"\\\r\n");
+
+	/**
+	 * Characters that end a run of characters in a <code>'</code> delimited string.
+	 */
+	static final boolean[] SINGLE_QUOTED_DELIMITERS = table("'\\\r\n");
+
+	private final Reader reader;
+
+	private char[] buffer = new char[BUFFER_SIZE];
+
+	private int position;
+
+	private int limit;
+
+	TriGScanner(Reader reader) {
+		this.reader = reader;
+	}
+
+	/**
+	 * Reads the next character, or -1 at the end of the input.
+	 */
+	int read() throws IOException {
+		if (position == limit && !fill()) {
+			return -1;
+		}
+		return buffer[position++];
+	}
+
+	/**
+	 * Pushes back a character, so it will be returned by the next call to {@link #read()}.
+	 */
+	void unread(char c) {
+		if (position == 0) {
+			// make room in front of the buffered characters
+			int length = limit - position;
+			char[] newBuffer = length + BUFFER_SIZE > buffer.length ? new char[length + BUFFER_SIZE] : buffer;
+			System.arraycopy(buffer, position, newBuffer, BUFFER_SIZE, length);
+			buffer = newBuffer;
+			position = BUFFER_SIZE;
+			limit = position + length;
+		}
+		buffer[--position] = c;
+	}
+
+	/**
+	 * Consumes whitespace characters up to the next non-whitespace character or the end of the input.
+	 *
+	 * @return the number of line feeds that were consumed.
+	 */
+	int skipWhitespace() throws IOException {
+		int lineFeeds = 0;
+		do {
+			char[] buf = buffer;
+			int pos = position;
+			int end = limit;
+			while (pos < end) {
+				char c = buf[pos];
+				if (c >= WHITESPACE.length || !WHITESPACE[c]) {
+					break;
+				}
+				if (c == '\n') {
+					lineFeeds++;
+				}
+				pos++;
+			}
+			position = pos;
+			if (pos < end) {
+				return lineFeeds;
+			}
+		} while (fill());
+		return lineFeeds;
+	}
+
+	/**
+	 * Appends characters to the supplied builder up to, but not including, the next ASCII character that is marked in
+	 * the supplied table, or up to the end of the input.
+	 */
+	void appendUntil(StringBuilder sb, boolean[] delimiters) throws IOException {
+		do {
+			char[] buf = buffer;
+			int start = position;
+			int pos = start;
+			int end = limit;
+			while (pos < end) {
+				char c = buf[pos];
+				if (c < delimiters.length && delimiters[c]) {
+					break;
+				}
+				pos++;
+			}
+			sb.append(buf, start, pos - start);
+			position = pos;
+			if (pos < end) {
+				return;
+			}
+		} while (fill());
+	}
+
+	private boolean fill() throws IOException {
+		if (buffer.length > BUFFER_SIZE) {
+			// drop a buffer that was enlarged for pushed back characters
+			buffer = new char[BUFFER_SIZE];
+		}
+		int read = reader.read(buffer, 0, buffer.length);
+		while (read == 0) {
+			read = reader.read(buffer, 0, buffer.length);
+		}
+		position = 0;
+		limit = Math.max(read, 0);
+		return read > 0;
+	}
+
+	private static boolean[] table(String characters) {
+		boolean[] table = new boolean[128];
+		for (int i = 0; i < characters.length(); i++) {
+			table[characters.charAt(i)] = true;
+		}
+		return table;
+	}
+}
@@ -0,0 +1,347 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.rio.trig;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.rio.RDFHandler;
+import org.eclipse.rdf4j.rio.RDFHandlerException;
+import org.eclipse.rdf4j.rio.RDFParseException;
+import org.eclipse.rdf4j.rio.RDFWriter;
+import org.eclipse.rdf4j.rio.helpers.AbstractRDFHandler;
+import org.eclipse.rdf4j.rio.helpers.BasicParserSettings;
+
+/**
+ * Splits a TriG document into a number of shard documents by graph, so that the shards can be loaded into separate
+ * repositories in parallel.
+ * <p>
+ * The document is parsed twice with {@link TriGParser}. The first pass counts the statements of every graph, the
+ * second pass writes each statement to the shard its graph was assigned to. Since conjectures are resolved once, on
+ * the complete document, every shard contains exactly the statements the parser would have produced for them, and a
+ * shard never depends on CONJ declarations that ended up in another shard. A conjecture graph is assigned to the same
+ * shard as the graph it conjectures about (see {@link #partitionKey(Resource)}), which keeps the copies and the
+ * <code>conj:settles</code> statement produced by a SETT block together with the conjecture graph.
+ * <p>
+ * Graphs are assigned by a hash of their partition key. If that leaves a shard with more than
+ * {@link #setBalanceTolerance(double) tolerance} above the average statement count, its largest graphs are moved to
+ * the least loaded shard. Every shard starts with all namespace declarations of the input document.
+ */
+public class TriGSplitter {
+
+	private static final String CONJ_PREFIX = "conj-";
+
+	/*-----------*
+	 * Variables *
+	 *-----------*/
+
+	private final int shardCount;
+
+	private final ValueFactory valueFactory;
+
+	private double balanceTolerance = 0.1;
+
+	private final Map<String, String> namespaces = new LinkedHashMap<>();
+
+	private final Map<String, Long> partitionSizes = new HashMap<>();
+
+	private final Map<String, Integer> assignment = new HashMap<>();
+
+	private long[] shardSizes;
+
+	/*--------------*
+	 * Constructors *
+	 *--------------*/
+
+	/**
+	 * Creates a new TriGSplitter that will use a {@link SimpleValueFactory} to create RDF model objects.
+	 *
+	 * @param shardCount the number of shards to split into.
+	 */
+	public TriGSplitter(int shardCount) {
+		this(shardCount, SimpleValueFactory.getInstance());
+	}
+
+	/**
+	 * Creates a new TriGSplitter that will use the supplied ValueFactory to create RDF model objects.
+	 *
+	 * @param shardCount   the number of shards to split into.
+	 * @param valueFactory A ValueFactory.
+	 */
+	public TriGSplitter(int shardCount, ValueFactory valueFactory) {
+		if (shardCount < 1) {
+			throw new IllegalArgumentException("shardCount must be positive");
+		}
+		this.shardCount = shardCount;
+		this.valueFactory = valueFactory;
+	}
+
+	/*---------*
+	 * Methods *
+	 *---------*/
+
+	public int getShardCount() {
+		return shardCount;
+	}
+
+	/**
+	 * Sets by how much (as a fraction of the average) a shard may exceed the average statement count before graphs
+	 * are moved away from it. Defaults to <code>0.1</code>.
+	 */
+	public void setBalanceTolerance(double balanceTolerance) {
+		if (balanceTolerance < 0) {
+			throw new IllegalArgumentException("balanceTolerance must not be negative");
+		}
+		this.balanceTolerance = balanceTolerance;
+	}
+
+	public double getBalanceTolerance() {
+		return balanceTolerance;
+	}
+
+	/**
+	 * @return the number of statements written to each shard by the last split.
+	 */
+	public long[] getShardSizes() {
+		return shardSizes == null ? null : shardSizes.clone();
+	}
+
+	/**
+	 * Splits the supplied TriG file into the supplied shard files.
+	 *
+	 * @param input      the TriG document to split.
+	 * @param baseURI    the base URI used to resolve relative IRIs.
+	 * @param shardFiles the files to write the shards to, one per shard.
+	 */
+	public void split(Path input, String baseURI, List<Path> shardFiles)
+			throws IOException, RDFParseException, RDFHandlerException {
+		if (shardFiles.size() != shardCount) {
+			throw new IllegalArgumentException("expected " + shardCount + " shard files, got " + shardFiles.size());
+		}
+
+		try (Reader in = Files.newBufferedReader(input, StandardCharsets.UTF_8)) {
+			plan(in, baseURI);
+		}
+
+		List<Writer> outs = new ArrayList<>(shardCount);
+		try {
+			for (Path shardFile : shardFiles) {
+				outs.add(Files.newBufferedWriter(shardFile, StandardCharsets.UTF_8));
+			}
+			try (Reader in = Files.newBufferedReader(input, StandardCharsets.UTF_8)) {
+				write(in, baseURI, outs);
+			}
+		} finally {
+			IOException failure = null;
+			for (Writer out : outs) {
+				try {
+					out.close();
+				} catch (IOException e) {
+					failure = e;
+				}
+			}
+			if (failure != null) {
+				throw failure;
+			}
+		}
+	}
+
+	/**
+	 * Performs the first pass: counts the statements per partition and assigns every partition to a shard.
+	 *
+	 * @param in      the TriG document.
+	 * @param baseURI the base URI used to resolve relative IRIs.
+	 */
+	public void plan(Reader in, String baseURI) throws IOException, RDFParseException, RDFHandlerException {
+		namespaces.clear();
+		partitionSizes.clear();
+		assignment.clear();
+
+		parse(in, baseURI, new AbstractRDFHandler() {
+
+			@Override
+			public void handleNamespace(String prefix, String uri) {
+				namespaces.put(prefix, uri);
+			}
+
+			@Override
+			public void handleStatement(Statement st) {
+				partitionSizes.merge(partitionKey(st.getContext()), 1L, Long::sum);
+			}
+		});
+
+		long[] loads = new long[shardCount];
+		for (Map.Entry<String, Long> partition : partitionSizes.entrySet()) {
+			int shard = hashShard(partition.getKey(), shardCount);
+			assignment.put(partition.getKey(), shard);
+			loads[shard] += partition.getValue();
+		}
+
+		rebalance(loads);
+		shardSizes = loads;
+	}
+
+	/**
+	 * Performs the second pass: writes every statement of the document to the shard its partition was assigned to by
+	 * {@link #plan(Reader, String)}.
+	 *
+	 * @param in      the same TriG document that was planned.
+	 * @param baseURI the base URI used to resolve relative IRIs.
+	 * @param outs    the writers for the shards, one per shard.
+	 */
+	public void write(Reader in, String baseURI, List<Writer> outs)
+			throws IOException, RDFParseException, RDFHandlerException {
+		RDFWriter[] writers = new RDFWriter[shardCount];
+		for (int i = 0; i < shardCount; i++) {
+			writers[i] = new TriGWriter(outs.get(i));
+			writers[i].startRDF();
+			for (Map.Entry<String, String> namespace : namespaces.entrySet()) {
+				writers[i].handleNamespace(namespace.getKey(), namespace.getValue());
+			}
+		}
+
+		parse(in, baseURI, new AbstractRDFHandler() {
+
+			@Override
+			public void handleStatement(Statement st) throws RDFHandlerException {
+				writers[getShard(st.getContext())].handleStatement(st);
+			}
+		});
+
+		for (RDFWriter writer : writers) {
+			writer.endRDF();
+		}
+	}
+
+	/**
+	 * Returns the shard the supplied context was assigned to by the last {@link #plan(Reader, String)}. Contexts that
+	 * were not seen while planning are assigned by hash.
+	 */
+	public int getShard(Resource context) {
+		String key = partitionKey(context);
+		Integer shard = assignment.get(key);
+		return shard != null ? shard : hashShard(key, shardCount);
+	}
+
+	private void parse(Reader in, String baseURI, RDFHandler handler)
+			throws IOException, RDFParseException, RDFHandlerException {
+		TriGParser parser = new TriGParser(valueFactory);
+		parser.getParserConfig().set(BasicParserSettings.PRESERVE_BNODE_IDS, true);
+		parser.setRDFHandler(handler);
+		parser.parse(in, baseURI);
+	}
+
+	private void rebalance(long[] loads) {
+		long total = 0;
+		for (long load : loads) {
+			total += load;
+		}
+		double limit = (double) total / shardCount * (1 + balanceTolerance);
+
+		// move the largest partitions first, ties broken by key so that the result is deterministic
+		List<Map.Entry<String, Long>> partitions = new ArrayList<>(partitionSizes.entrySet());
+		partitions.sort(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+				.thenComparing(Map.Entry.comparingByKey()));
+
+		for (Map.Entry<String, Long> partition : partitions) {
+			int from = assignment.get(partition.getKey());
+			if (loads[from] <= limit) {
+				continue;
+			}
+			int to = leastLoaded(loads);
+			long size = partition.getValue();
+			// only move if it actually reduces the imbalance between the two shards
+			if (loads[to] + size < loads[from]) {
+				loads[from] -= size;
+				loads[to] += size;
+				assignment.put(partition.getKey(), to);
+			}
+		}
+	}
+
+	private static int leastLoaded(long[] loads) {
+		int result = 0;
+		for (int i = 1; i < loads.length; i++) {
+			if (loads[i] < loads[result]) {
+				result = i;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the key used to partition statements of the supplied context. Conjecture graphs (<code>conj-</code>
+	 * prefixed) share the key of the graph they conjecture about; the default graph has the empty key.
+	 */
+	public static String partitionKey(Resource context) {
+		if (context == null) {
+			return "";
+		}
+		String key = context.stringValue();
+		return key.startsWith(CONJ_PREFIX) ? key.substring(CONJ_PREFIX.length()) : key;
+	}
+
+	/**
+	 * Returns the shard a partition key is assigned to before rebalancing.
+	 */
+	public static int hashShard(String partitionKey, int shardCount) {
+		// spread the bits of String.hashCode, which is stable across JVMs
+		int h = partitionKey.hashCode() * 0x9E3779B9;
+		return Math.floorMod(h ^ (h >>> 16), shardCount);
+	}
+
+	/**
+	 * Command-line entry point: <code>TriGSplitter input.trig shardCount [outputDir]</code>. Shards are written as
+	 * <code>input-0.trig</code>, <code>input-1.trig</code>, and so on.
+	 */
+	public static void main(String[] args) throws Exception {
+		if (args.length < 2 || args.length > 3) {
+			System.err.println("Usage: TriGSplitter <input.trig> <shardCount> [outputDir]");
+			System.exit(1);
+		}
+
+		Path input = Paths.get(args[0]);
+		int shardCount = Integer.parseInt(args[1]);
+		Path outputDir = args.length == 3 ? Paths.get(args[2]) : input.toAbsolutePath().getParent();
+
+		String name = input.getFileName().toString();
+		int dot = name.lastIndexOf('.');
+		String stem = dot > 0 ? name.substring(0, dot) : name;
+
+		List<Path> shardFiles = new ArrayList<>(shardCount);
+		for (int i = 0; i < shardCount; i++) {
+			shardFiles.add(outputDir.resolve(stem + "-" + i + ".trig"));
+		}
+
+		TriGSplitter splitter = new TriGSplitter(shardCount);
+		splitter.split(input, input.toUri().toString(), shardFiles);
+
+		long[] sizes = splitter.getShardSizes();
+		for (int i = 0; i < shardCount; i++) {
+			System.out.println(shardFiles.get(i) + ": " + sizes[i] + " statements");
+		}
+	}
+}
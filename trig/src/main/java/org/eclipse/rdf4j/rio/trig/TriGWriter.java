@@ -12,26 +12,84 @@ package org.eclipse.rdf4j.rio.trig;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.StringWriter;
 import java.io.Writer;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.rdf4j.common.net.ParsedIRI;
+import org.eclipse.rdf4j.common.text.StringUtil;
 import org.eclipse.rdf4j.model.BNode;
 import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Literal;
 import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.util.Literals;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.model.vocabulary.XSD;
 import org.eclipse.rdf4j.rio.RDFFormat;
 import org.eclipse.rdf4j.rio.RDFHandlerException;
+import org.eclipse.rdf4j.rio.RioSetting;
+import org.eclipse.rdf4j.rio.WriterConfig;
+import org.eclipse.rdf4j.rio.helpers.BasicWriterSettings;
+import org.eclipse.rdf4j.rio.helpers.TurtleWriterSettings;
+import org.eclipse.rdf4j.rio.turtle.TurtleUtil;
 import org.eclipse.rdf4j.rio.turtle.TurtleWriter;
 
 /**
  * An extension of {@link TurtleWriter} that writes RDF documents in
  * <a href="http://www.wiwiss.fu-berlin.de/suhl/bizer/TriG/Spec/">TriG</a> format by adding graph scopes to the Turtle
  * document.
+ * <p>
+ * If {@link TriGWriterSettings#WRITE_CONJECTURES} is enabled, conjecture graphs are written as CONJ and SETT blocks,
+ * see {@link TriGParser}.
  *
  * @author Arjohn Kampman
  */
 public class TriGWriter extends TurtleWriter {
 
+	private static final String CONJ_PREFIX = "conj-";
+
+	private static final String CONJ_NAMESPACE = "https://w3id.org/conjectures/";
+
+	private static final IRI SETTLES = SimpleValueFactory.getInstance().createIRI(CONJ_NAMESPACE, "settles");
+
+	private static final String CONJ = "CONJ";
+
+	private static final String SETT = "SETT";
+
+	/**
+	 * The number of statements after which a graph block is split into another formatting task.
+	 */
+	private static final int FORMATTING_BLOCK_SIZE = 1000;
+
+	/**
+	 * The number of seconds after which idle formatter threads are stopped.
+	 */
+	private static final long FORMATTER_KEEP_ALIVE_SECONDS = 10;
+
+	private static final AtomicInteger formatterThreadCount = new AtomicInteger();
+
 	/*-----------*
 	 * Variables *
 	 *-----------*/
@@ -40,6 +98,50 @@ public class TriGWriter extends TurtleWriter {
 
 	private Resource currentContext;
 
+	private ExternalQuadSorter contextSorter;
+
+	private ExecutorService formatter;
+
+	private int maxFormattedBlocks;
+
+	private final Deque<Future<String>> formattedBlocks = new ArrayDeque<>();
+
+	private FormattingBlock formattingBlock;
+
+	private boolean writeConjectures;
+
+	/**
+	 * Whether the statements that are being written were sorted by context, so that every graph has one block.
+	 */
+	private boolean writingSortedStatements;
+
+	/**
+	 * The effective pretty print and inline blank node settings, which are off when conjectures are written.
+	 */
+	private boolean prettyPrint;
+
+	private boolean inlineBNodes;
+
+	private boolean xsdStringToPlainLiteral;
+
+	/**
+	 * A statement of a conjecture graph that is held back until the next statement shows whether it was settled.
+	 */
+	private Statement pendingConjecture;
+
+	/**
+	 * The block keyword (CONJ, SETT or <var>null</var> for a plain graph) for the statement that is being written.
+	 */
+	private String blockKeyword;
+
+	private String activeBlockKeyword;
+
+	/**
+	 * The graphs declared as conjectures so far. From the declaration on, the parser rewrites prefixed names of these
+	 * graphs, so they have to be written as full IRIs.
+	 */
+	private final Set<IRI> declaredConjectures = new HashSet<>();
+
 	/*--------------*
 	 * Constructors *
 	 *--------------*/
@@ -91,16 +193,105 @@ public class TriGWriter extends TurtleWriter {
 		return RDFFormat.TRIG;
 	}
 
+	@Override
+	public Collection<RioSetting<?>> getSupportedSettings() {
+		Set<RioSetting<?>> result = new HashSet<>(super.getSupportedSettings());
+		result.add(TriGWriterSettings.WRITE_CONJECTURES);
+		result.add(TriGWriterSettings.GROUP_BY_CONTEXT);
+		result.add(TriGWriterSettings.GROUP_BY_CONTEXT_BUFFER_SIZE);
+		result.add(TriGWriterSettings.GROUP_BY_CONTEXT_TEMP_DIR);
+		result.add(TriGWriterSettings.FORMATTING_THREADS);
+		return result;
+	}
+
 	@Override
 	public void startRDF() throws RDFHandlerException {
-		super.startRDF();
+		WriterConfig config = getWriterConfig();
+		writeConjectures = config.get(TriGWriterSettings.WRITE_CONJECTURES);
+		// conjectures are reconstructed from the order of the statements, which buffering would destroy
+		prettyPrint = !writeConjectures && config.get(BasicWriterSettings.PRETTY_PRINT);
+		inlineBNodes = !writeConjectures && config.get(BasicWriterSettings.INLINE_BLANK_NODES);
+		xsdStringToPlainLiteral = config.get(BasicWriterSettings.XSD_STRING_TO_PLAIN_LITERAL);
+
+		if (writeConjectures) {
+			// the Turtle writer reads the settings when it starts, so they are only overridden while it does
+			Boolean configuredPrettyPrint = getConfigured(BasicWriterSettings.PRETTY_PRINT);
+			Boolean configuredInlineBNodes = getConfigured(BasicWriterSettings.INLINE_BLANK_NODES);
+			config.set(BasicWriterSettings.PRETTY_PRINT, false);
+			config.set(BasicWriterSettings.INLINE_BLANK_NODES, false);
+			try {
+				super.startRDF();
+			} finally {
+				config.set(BasicWriterSettings.PRETTY_PRINT, configuredPrettyPrint);
+				config.set(BasicWriterSettings.INLINE_BLANK_NODES, configuredInlineBNodes);
+			}
+		} else {
+			super.startRDF();
+		}
 
 		inActiveContext = false;
 		currentContext = null;
+		pendingConjecture = null;
+		blockKeyword = null;
+		activeBlockKeyword = null;
+		declaredConjectures.clear();
+
+		contextSorter = null;
+		if (getWriterConfig().get(TriGWriterSettings.GROUP_BY_CONTEXT)) {
+			long bufferSize = getWriterConfig().get(TriGWriterSettings.GROUP_BY_CONTEXT_BUFFER_SIZE);
+			String tempDir = getWriterConfig().get(TriGWriterSettings.GROUP_BY_CONTEXT_TEMP_DIR);
+			contextSorter = new ExternalQuadSorter((int) Math.min(bufferSize, Integer.MAX_VALUE),
+					tempDir == null ? null : Paths.get(tempDir));
+		}
+
+		if (formatter != null) {
+			// the previous document was abandoned before endRDF
+			shutdownFormatter();
+			formatter = null;
+		}
+		formattingBlock = null;
+		long threads = getWriterConfig().get(TriGWriterSettings.FORMATTING_THREADS);
+		// blocks can only be formatted independently if statements are written in the order they are handled
+		if (threads > 1 && !writeConjectures && !prettyPrint && !inlineBNodes) {
+			int poolSize = (int) Math.min(threads, Integer.MAX_VALUE / 2);
+			maxFormattedBlocks = 2 * poolSize;
+			ThreadPoolExecutor pool = new ThreadPoolExecutor(poolSize, poolSize, FORMATTER_KEEP_ALIVE_SECONDS,
+					TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+						Thread thread = new Thread(runnable,
+								"rdf4j-trig-formatter-" + formatterThreadCount.incrementAndGet());
+						thread.setDaemon(true);
+						return thread;
+					});
+			// the threads of a writer that is abandoned without endRDF do not outlive it
+			pool.allowCoreThreadTimeOut(true);
+			formatter = pool;
+		}
+	}
+
+	/**
+	 * @return the value of a setting in the writer config, or <var>null</var> if it was not set, so that the setting
+	 *         can be restored with {@link WriterConfig#set(RioSetting, Object)}.
+	 */
+	private <T> T getConfigured(RioSetting<T> setting) {
+		return getWriterConfig().isSet(setting) ? getWriterConfig().get(setting) : null;
 	}
 
 	@Override
 	public void endRDF() throws RDFHandlerException {
+		if (contextSorter != null) {
+			writeSortedStatements();
+		}
+		flushPendingConjecture();
+		if (formatter != null) {
+			try {
+				submitFormattingBlock(true);
+				writeFormattedBlocks(0);
+			} finally {
+				shutdownFormatter();
+				formatter = null;
+			}
+		}
+
 		super.endRDF();
 
 		try {
@@ -111,11 +302,394 @@ public class TriGWriter extends TurtleWriter {
 		}
 	}
 
+	@Override
+	public void handleNamespace(String prefix, String name) throws RDFHandlerException {
+		flushPendingConjecture();
+		if (formatter != null && !namespaceTable.containsKey(name)) {
+			// a new namespace declaration ends the current block
+			submitFormattingBlock(true);
+			writeFormattedBlocks(0);
+		}
+		super.handleNamespace(prefix, name);
+	}
+
+	@Override
+	public void handleComment(String comment) throws RDFHandlerException {
+		flushPendingConjecture();
+		if (formatter != null) {
+			checkWritingStarted();
+			getFormattingBlock().events.add(comment);
+			return;
+		}
+		super.handleComment(comment);
+	}
+
+	@Override
+	protected void consumeStatement(Statement st) throws RDFHandlerException {
+		if (contextSorter != null) {
+			contextSorter.handleStatement(st);
+			return;
+		}
+		if (formatter != null) {
+			addToFormattingBlock(st);
+			return;
+		}
+		if (!writeConjectures) {
+			super.consumeStatement(st);
+			return;
+		}
+
+		if (pendingConjecture != null) {
+			Statement conjecture = pendingConjecture;
+			pendingConjecture = null;
+			if (isSettledCopy(conjecture, st)) {
+				// the copy is produced again by the reader
+				writeInBlock(conjecture, SETT);
+				return;
+			}
+			writeConjecture(conjecture);
+		}
+
+		if (getConjectureTarget(st.getContext()) != null) {
+			pendingConjecture = st;
+		} else if (isSettlesStatement(st)) {
+			writeSettles(st);
+		} else {
+			writeInBlock(st, null);
+		}
+	}
+
+	private void writeSortedStatements() throws RDFHandlerException {
+		ExternalQuadSorter sorter = contextSorter;
+		// statements consumed from here on are written directly
+		contextSorter = null;
+		ValueFactory vf = SimpleValueFactory.getInstance();
+		writingSortedStatements = true;
+		try (ExternalQuadSorter quads = sorter; ExternalQuadSorter.Cursor cursor = quads.sortedCursor()) {
+			String line;
+			while ((line = cursor.next()) != null) {
+				consumeStatement(ExternalQuadSorter.decode(line, vf));
+			}
+		} catch (IOException e) {
+			throw new RDFHandlerException(e);
+		} finally {
+			writingSortedStatements = false;
+		}
+	}
+
+	private FormattingBlock getFormattingBlock() {
+		if (formattingBlock == null) {
+			formattingBlock = new FormattingBlock(false, null);
+		}
+		return formattingBlock;
+	}
+
+	private void addToFormattingBlock(Statement st) throws RDFHandlerException {
+		FormattingBlock block = formattingBlock;
+		if (block != null && block.statementCount > 0) {
+			if (!contextsEquals(st.getContext(), block.context)) {
+				submitFormattingBlock(true);
+			} else if (block.statementCount >= FORMATTING_BLOCK_SIZE && !st.getSubject().equals(block.lastSubject)) {
+				// large graphs are split between subjects, where the sequential writer has closed the statement
+				submitFormattingBlock(false);
+				formattingBlock = new FormattingBlock(true, block.context);
+			}
+		}
+
+		block = getFormattingBlock();
+		if (block.statementCount == 0) {
+			block.context = st.getContext();
+		}
+		block.events.add(st);
+		block.statementCount++;
+		block.lastSubject = st.getSubject();
+	}
+
+	private void submitFormattingBlock(boolean closeContext) throws RDFHandlerException {
+		FormattingBlock block = formattingBlock;
+		formattingBlock = null;
+		if (block == null || block.events.isEmpty()) {
+			return;
+		}
+		block.closeContext = closeContext;
+		Map<String, String> namespaces = new LinkedHashMap<>(namespaceTable);
+		try {
+			formattedBlocks.add(formatter.submit(() -> formatBlock(block, namespaces)));
+		} catch (RejectedExecutionException e) {
+			// the formatter has been shut down after an earlier failure
+			throw new RDFHandlerException("Writing was aborted by an earlier error", e);
+		}
+		writeFormattedBlocks(maxFormattedBlocks);
+	}
+
+	/**
+	 * Writes formatted blocks in submission order until at most <var>maxPending</var> blocks are left. Shuts down the
+	 * formatter if a block can not be written, as the document can not be completed after that.
+	 */
+	private void writeFormattedBlocks(int maxPending) throws RDFHandlerException {
+		boolean written = false;
+		try {
+			while (formattedBlocks.size() > maxPending) {
+				writer.write(formattedBlocks.poll().get());
+			}
+			written = true;
+		} catch (IOException e) {
+			throw new RDFHandlerException(e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RDFHandlerException(e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RDFHandlerException) {
+				throw (RDFHandlerException) e.getCause();
+			}
+			throw new RDFHandlerException(e.getCause());
+		} finally {
+			if (!written) {
+				shutdownFormatter();
+			}
+		}
+	}
+
+	/**
+	 * Cancels the blocks that have not been written yet and stops the formatter threads.
+	 */
+	private void shutdownFormatter() {
+		for (Future<String> block : formattedBlocks) {
+			block.cancel(true);
+		}
+		formattedBlocks.clear();
+		formatter.shutdownNow();
+	}
+
+	/**
+	 * Formats a block with a separate writer that starts in the state the sequential writer would be in at the start
+	 * of the block. Runs on a formatter thread.
+	 */
+	private String formatBlock(FormattingBlock block, Map<String, String> namespaces) throws IOException {
+		StringWriter out = new StringWriter(block.statementCount * 80);
+		TriGWriter blockWriter = createBlockWriter(out, baseIRI);
+		blockWriter.getWriterConfig()
+				.set(BasicWriterSettings.XSD_STRING_TO_PLAIN_LITERAL,
+						getWriterConfig().get(BasicWriterSettings.XSD_STRING_TO_PLAIN_LITERAL))
+				.set(TurtleWriterSettings.ABBREVIATE_NUMBERS,
+						getWriterConfig().get(TurtleWriterSettings.ABBREVIATE_NUMBERS))
+				.set(BasicWriterSettings.PRETTY_PRINT, false)
+				.set(BasicWriterSettings.INLINE_BLANK_NODES, false)
+				.set(BasicWriterSettings.BASE_DIRECTIVE, false)
+				.set(TriGWriterSettings.WRITE_CONJECTURES, false)
+				.set(TriGWriterSettings.GROUP_BY_CONTEXT, false)
+				.set(TriGWriterSettings.FORMATTING_THREADS, 0L);
+		blockWriter.startRDF();
+		blockWriter.namespaceTable.putAll(namespaces);
+
+		if (block.continued) {
+			blockWriter.writer.increaseIndentation();
+			blockWriter.currentContext = block.context;
+			blockWriter.inActiveContext = true;
+		}
+
+		for (Object event : block.events) {
+			if (event instanceof Statement) {
+				// statements have already been converted by this writer's statement consumer
+				blockWriter.consumeStatement((Statement) event);
+			} else {
+				blockWriter.handleComment((String) event);
+			}
+		}
+
+		if (block.closeContext) {
+			blockWriter.endRDF();
+		} else {
+			blockWriter.closePreviousStatement();
+			blockWriter.writer.flush();
+		}
+		return out.toString();
+	}
+
+	/**
+	 * Creates the writer used to format a block when {@link TriGWriterSettings#FORMATTING_THREADS} is set. Subclasses
+	 * that change how values are written should return an instance of their own class.
+	 *
+	 * @param writer  The Writer to write the block to.
+	 * @param baseIRI The base IRI of this writer.
+	 * @return A new writer.
+	 */
+	protected TriGWriter createBlockWriter(Writer writer, ParsedIRI baseIRI) {
+		return new TriGWriter(writer, baseIRI);
+	}
+
+	private void flushPendingConjecture() throws RDFHandlerException {
+		if (pendingConjecture != null) {
+			Statement conjecture = pendingConjecture;
+			pendingConjecture = null;
+			writeConjecture(conjecture);
+		}
+	}
+
+	private void writeConjecture(Statement st) throws RDFHandlerException {
+		IRI target = getConjectureTarget(st.getContext());
+		writeInBlock(st, canDeclare(target) ? CONJ : null);
+	}
+
+	private void writeSettles(Statement st) throws RDFHandlerException {
+		try {
+			if (inActiveContext && SETT.equals(activeBlockKeyword) && st.getObject().equals(currentContext)) {
+				// the reader reports the settles statement at the end of the SETT block
+				closePreviousStatement();
+				closeActiveContext();
+				return;
+			}
+
+			IRI target = (IRI) st.getContext();
+			// in sorted output, a SETT block of its own would split the one block of the graph
+			if (writingSortedStatements || !canDeclare(target) || !bindConjPrefix()) {
+				writeInBlock(st, null);
+				return;
+			}
+
+			// an empty SETT block only produces the settles statement
+			closePreviousStatement();
+			closeActiveContext();
+			writer.writeEOL();
+			writeBlockHeader(SETT, target);
+			writer.write("{ }");
+			writer.writeEOL();
+		} catch (IOException e) {
+			throw new RDFHandlerException(e);
+		}
+	}
+
+	private void writeInBlock(Statement st, String keyword) throws RDFHandlerException {
+		blockKeyword = keyword;
+		try {
+			handleStatementInternal(st, false, false, false);
+		} finally {
+			blockKeyword = null;
+		}
+	}
+
+	/**
+	 * Returns the graph the supplied context is a conjecture about, or <var>null</var> if it is not a conjecture
+	 * graph. Blank node conjectures are written as ordinary graphs.
+	 */
+	private static IRI getConjectureTarget(Resource context) {
+		if (context instanceof IRI) {
+			String name = context.stringValue();
+			if (name.startsWith(CONJ_PREFIX) && name.indexOf(':') > CONJ_PREFIX.length()) {
+				return SimpleValueFactory.getInstance().createIRI(name.substring(CONJ_PREFIX.length()));
+			}
+		}
+		return null;
+	}
+
+	private static boolean isSettlesStatement(Statement st) {
+		return st.getContext() instanceof IRI && st.getContext().equals(st.getSubject())
+				&& SETTLES.equals(st.getPredicate()) && st.getObject() instanceof IRI
+				&& st.getObject().stringValue().equals(CONJ_PREFIX + st.getContext().stringValue());
+	}
+
+	private boolean isSettledCopy(Statement conjecture, Statement st) throws RDFHandlerException {
+		IRI target = getConjectureTarget(conjecture.getContext());
+		if (!target.equals(st.getContext()) || !conjecture.getSubject().equals(st.getSubject())
+				|| !conjecture.getPredicate().equals(st.getPredicate())
+				|| !conjecture.getObject().equals(st.getObject())) {
+			return false;
+		}
+		if (!canDeclare(target) || !bindConjPrefix()) {
+			return false;
+		}
+		// the reader resolves the target graph of a SETT block again for every full IRI in it
+		return canWriteInSettBlock(st.getSubject(), target)
+				&& (RDF.TYPE.equals(st.getPredicate()) || canWriteInSettBlock(st.getPredicate(), target))
+				&& canWriteInSettBlock(st.getObject(), target);
+	}
+
+	private boolean canWriteInSettBlock(Value value, IRI target) {
+		if (value instanceof BNode) {
+			return true;
+		} else if (value instanceof IRI) {
+			return !value.equals(target) && !declaredConjectures.contains(value) && getPrefix((IRI) value) != null;
+		} else if (value instanceof Literal) {
+			Literal lit = (Literal) value;
+			if (Literals.isLanguageLiteral(lit) || (xsdStringToPlainLiteral && XSD.STRING.equals(lit.getDatatype()))) {
+				return true;
+			}
+			return canWriteInSettBlock(lit.getDatatype(), target);
+		}
+		return false;
+	}
+
+	/**
+	 * Checks whether the supplied graph can be written as the name of a CONJ or SETT block, declaring a namespace for
+	 * it if necessary. The name has to be a prefixed name with a non-empty prefix, since the reader handles full IRIs
+	 * and the empty prefix differently.
+	 */
+	private boolean canDeclare(IRI target) throws RDFHandlerException {
+		if (target == null) {
+			return false;
+		}
+		if (declaredConjectures.contains(target)) {
+			return true;
+		}
+		String uri = target.stringValue();
+		int splitIdx = TurtleUtil.findURISplitIndex(uri);
+		if (splitIdx <= 0) {
+			return false;
+		}
+		String namespace = uri.substring(0, splitIdx);
+		if (!namespaceTable.containsKey(namespace)) {
+			super.handleNamespace("ns", namespace);
+		}
+		return !namespaceTable.get(namespace).isEmpty();
+	}
+
+	/**
+	 * Makes sure the <code>conj</code> prefix, which the reader uses for the settles statement, is bound to the
+	 * conjectures namespace.
+	 */
+	private boolean bindConjPrefix() throws RDFHandlerException {
+		if (!namespaceTable.containsKey(CONJ_NAMESPACE) && !namespaceTable.containsValue("conj")) {
+			super.handleNamespace("conj", CONJ_NAMESPACE);
+		}
+		return "conj".equals(namespaceTable.get(CONJ_NAMESPACE));
+	}
+
+	private String getPrefix(IRI uri) {
+		String uriString = uri.stringValue();
+		int splitIdx = TurtleUtil.findURISplitIndex(uriString);
+		return splitIdx > 0 ? namespaceTable.get(uriString.substring(0, splitIdx)) : null;
+	}
+
+	private void writeBlockHeader(String keyword, IRI target) throws IOException {
+		String uri = target.stringValue();
+		int splitIdx = TurtleUtil.findURISplitIndex(uri);
+		writer.write(keyword);
+		writer.write(" ");
+		writer.write(namespaceTable.get(uri.substring(0, splitIdx)));
+		writer.write(":");
+		writer.write(uri.substring(splitIdx));
+		writer.write(" ");
+		declaredConjectures.add(target);
+	}
+
+	@Override
+	protected void writeURI(IRI uri) throws IOException {
+		if (declaredConjectures.contains(uri)) {
+			// a prefixed name or the IRI as written in the declaration would be read as the conjecture graph
+			writer.write("<");
+			StringUtil.simpleEscapeIRI(uri.stringValue(), writer, false);
+			writer.write(">");
+		} else {
+			super.writeURI(uri);
+		}
+	}
+
 	@Override
 	protected void writeStatement(Resource subj, IRI pred, Value obj, Resource context, boolean canShortenSubject,
 			boolean canShortenObject) throws IOException {
 		try {
-			if (inActiveContext && !contextsEquals(context, currentContext)) {
+			if (inActiveContext && (!contextsEquals(context, currentContext)
+					|| !Objects.equals(blockKeyword, activeBlockKeyword))) {
 				closePreviousStatement();
 				closeActiveContext();
 			}
@@ -123,7 +697,9 @@ public class TriGWriter extends TurtleWriter {
 			if (!inActiveContext) {
 				writer.writeEOL();
 
-				if (context != null) {
+				if (blockKeyword != null) {
+					writeBlockHeader(blockKeyword, getConjectureTarget(context));
+				} else if (context != null) {
 					boolean canShortenContext = false;
 					if (context instanceof BNode) {
 						if (bufferedStatements != null && !bufferedStatements.contains(context, null, null)
@@ -139,7 +715,11 @@ public class TriGWriter extends TurtleWriter {
 				writer.increaseIndentation();
 
 				currentContext = context;
+				activeBlockKeyword = blockKeyword;
 				inActiveContext = true;
+			} else if (SETT.equals(blockKeyword)) {
+				// the reader only copies the last triple of every statement into the target graph
+				closePreviousStatement();
 			}
 		} catch (IOException e) {
 			throw new RDFHandlerException(e);
@@ -166,6 +746,7 @@ public class TriGWriter extends TurtleWriter {
 
 			inActiveContext = false;
 			currentContext = null;
+			activeBlockKeyword = null;
 		}
 	}
 
@@ -176,4 +757,30 @@ public class TriGWriter extends TurtleWriter {
 			return context1.equals(context2);
 		}
 	}
+
+	/**
+	 * The events between two block boundaries, formatted as one task.
+	 */
+	private static final class FormattingBlock {
+
+		private final List<Object> events = new ArrayList<>();
+
+		/**
+		 * Whether the block continues a graph block that was started by the previous task.
+		 */
+		private final boolean continued;
+
+		private Resource context;
+
+		private Resource lastSubject;
+
+		private int statementCount;
+
+		private boolean closeContext;
+
+		FormattingBlock(boolean continued, Resource context) {
+			this.continued = continued;
+			this.context = context;
+		}
+	}
 }
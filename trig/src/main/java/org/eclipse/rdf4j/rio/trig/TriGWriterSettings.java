@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.rio.trig;
+
+import org.eclipse.rdf4j.rio.RioSetting;
+import org.eclipse.rdf4j.rio.helpers.BooleanRioSetting;
+import org.eclipse.rdf4j.rio.helpers.LongRioSetting;
+import org.eclipse.rdf4j.rio.helpers.StringRioSetting;
+
+/**
+ * WriterSettings for the TriG writer features.
+ */
+public class TriGWriterSettings {
+
+	/**
+	 * Boolean setting for writer to determine whether conjecture graphs (<code>conj-</code> contexts, as reported by
+	 * {@link TriGParser}) are written as CONJ and SETT blocks instead of ordinary graphs. Statements that were copied
+	 * into the target graph by a SETT block are written only once, and the <code>conj:settles</code> statement is
+	 * left to the reader.
+	 * <p>
+	 * The writer works on the statement stream with a lookahead of one statement, so a copy is only collapsed if it
+	 * directly follows its conjecture statement, as in the output of {@link TriGParser}, and settled copies are assumed
+	 * to be followed by the settles statement the reader adds for every SETT block. Since the statements are not
+	 * buffered, this setting implies that {@link org.eclipse.rdf4j.rio.helpers.BasicWriterSettings#PRETTY_PRINT} and
+	 * {@link org.eclipse.rdf4j.rio.helpers.BasicWriterSettings#INLINE_BLANK_NODES} are disabled.
+	 * <p>
+	 * Defaults to false.
+	 * <p>
+	 * Can be overridden by setting system property {@code org.eclipse.rdf4j.rio.trig.write_conjectures}.
+	 */
+	public static final RioSetting<Boolean> WRITE_CONJECTURES = new BooleanRioSetting(
+			"org.eclipse.rdf4j.rio.trig.write_conjectures", "Write conjectures as CONJ and SETT blocks",
+			Boolean.FALSE);
+
+	/**
+	 * Boolean setting for writer to determine whether statements are sorted by context before they are written, so
+	 * that the document contains exactly one block per graph regardless of the order in which the statements are
+	 * handled. Statements are sorted with an {@link ExternalQuadSorter}, which keeps at most
+	 * {@link #GROUP_BY_CONTEXT_BUFFER_SIZE} statements in memory and spills the rest to temporary files, and are only
+	 * written when {@link org.eclipse.rdf4j.rio.RDFHandler#endRDF()} is called. Within a graph, statements are written
+	 * in sorted order and duplicates are dropped.
+	 * <p>
+	 * Since conjecture graphs are sorted apart from the graphs they conjecture about, settled copies are not collapsed
+	 * when this setting is combined with {@link #WRITE_CONJECTURES}, and <code>conj:settles</code> statements are
+	 * written as ordinary statements in the block of their graph.
+	 * <p>
+	 * Defaults to false.
+	 * <p>
+	 * Can be overridden by setting system property {@code org.eclipse.rdf4j.rio.trig.group_by_context}.
+	 */
+	public static final RioSetting<Boolean> GROUP_BY_CONTEXT = new BooleanRioSetting(
+			"org.eclipse.rdf4j.rio.trig.group_by_context", "Write one block per graph", Boolean.FALSE);
+
+	/**
+	 * Setting for the number of statements kept in memory by {@link #GROUP_BY_CONTEXT} before they are spilled to a
+	 * temporary file.
+	 * <p>
+	 * Defaults to {@link ExternalQuadSorter#DEFAULT_MAX_BUFFERED_QUADS}.
+	 * <p>
+	 * Can be overridden by setting system property {@code org.eclipse.rdf4j.rio.trig.group_by_context_buffer_size}.
+	 */
+	public static final RioSetting<Long> GROUP_BY_CONTEXT_BUFFER_SIZE = new LongRioSetting(
+			"org.eclipse.rdf4j.rio.trig.group_by_context_buffer_size",
+			"Number of statements kept in memory while grouping by context",
+			(long) ExternalQuadSorter.DEFAULT_MAX_BUFFERED_QUADS);
+
+	/**
+	 * Setting for the directory {@link #GROUP_BY_CONTEXT} writes its temporary files to.
+	 * <p>
+	 * Defaults to null, the default temporary-file directory.
+	 * <p>
+	 * Can be overridden by setting system property {@code org.eclipse.rdf4j.rio.trig.group_by_context_temp_dir}.
+	 */
+	public static final RioSetting<String> GROUP_BY_CONTEXT_TEMP_DIR = new StringRioSetting(
+			"org.eclipse.rdf4j.rio.trig.group_by_context_temp_dir",
+			"Directory for temporary files while grouping by context", null);
+
+	/**
+	 * Setting for the number of threads used to format graph blocks in parallel. Statements are collected into blocks
+	 * of consecutive statements of the same graph (large graphs are split between subjects), each block is formatted
+	 * into a character buffer on a worker thread, and the buffers are written in the order the blocks were submitted,
+	 * which is the order of the statements. The output is identical to that of a writer without this setting.
+	 * <p>
+	 * Blocks can only be formatted independently if statements are written in the order they are handled, so this
+	 * setting has no effect unless {@link org.eclipse.rdf4j.rio.helpers.BasicWriterSettings#PRETTY_PRINT} and
+	 * {@link org.eclipse.rdf4j.rio.helpers.BasicWriterSettings#INLINE_BLANK_NODES} are disabled, and it is ignored
+	 * together with {@link #WRITE_CONJECTURES}. It can be combined with {@link #GROUP_BY_CONTEXT}.
+	 * <p>
+	 * Defaults to 0, which formats all blocks on the calling thread.
+	 * <p>
+	 * Can be overridden by setting system property {@code org.eclipse.rdf4j.rio.trig.formatting_threads}.
+	 */
+	public static final RioSetting<Long> FORMATTING_THREADS = new LongRioSetting(
+			"org.eclipse.rdf4j.rio.trig.formatting_threads", "Number of threads used to format graph blocks", 0L);
+
+	/**
+	 * Private default constructor.
+	 */
+	private TriGWriterSettings() {
+	}
+}
@@ -77,6 +77,11 @@ public class TriGStarWriter extends TriGWriter {
 		return super.acceptsFileFormat(format) || RDFFormat.TRIG.equals(format);
 	}
 
+	@Override
+	protected TriGWriter createBlockWriter(Writer writer, ParsedIRI baseIRI) {
+		return new TriGStarWriter(writer, baseIRI);
+	}
+
 	@Override
 	protected void writeTriple(Triple triple, boolean canShorten) throws IOException {
 		writeTripleRDFStar(triple, canShorten);
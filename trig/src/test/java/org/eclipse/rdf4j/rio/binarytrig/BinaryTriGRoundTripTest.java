@@ -0,0 +1,205 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.rio.binarytrig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.RDFParseException;
+import org.eclipse.rdf4j.rio.RDFParser;
+import org.eclipse.rdf4j.rio.RDFWriter;
+import org.eclipse.rdf4j.rio.Rio;
+import org.eclipse.rdf4j.rio.helpers.BasicParserSettings;
+import org.eclipse.rdf4j.rio.helpers.StatementCollector;
+import org.eclipse.rdf4j.rio.trig.ConjectureHandler;
+import org.eclipse.rdf4j.rio.trig.TriGParser;
+import org.junit.Test;
+
+/**
+ * Tests that documents written by {@link BinaryTriGWriter} are reported by {@link BinaryTriGParser} exactly as
+ * {@link TriGParser} reported them.
+ */
+public class BinaryTriGRoundTripTest {
+
+	private static final String TRIG = "@prefix conj: <https://w3id.org/conjectures/> .\n"
+			+ "@prefix ex: <http://example.org/> .\n"
+			+ "# a comment\n"
+			+ "ex:s ex:p \"plain\", \"lang\"@en, \"1\"^^ex:type, 2, _:b .\n"
+			+ "ex:g1 { _:b ex:p ex:o ; ex:q \"x\" }\n"
+			+ "CONJ ex:g2 { ex:s ex:p ex:o1 . ex:s ex:p ex:o2 }\n"
+			+ "SETT ex:g3 { ex:s ex:p ex:o3 ; ex:q ex:o4 . ex:t ex:p _:c }\n"
+			+ "SETT ex:g2 { ex:s ex:p ex:o5 }\n"
+			+ "SETT ex:g4 { }\n"
+			+ "ex:x ex:p ex:g2, ex:g3 .\n";
+
+	@Test
+	public void testStatementsAreReportedInOrder() throws Exception {
+		List<Statement> expected = parseTriG(TRIG);
+
+		assertEquals(expected, parseBinary(write(expected, 1 << 20)));
+	}
+
+	@Test
+	public void testDictionaryReset() throws Exception {
+		List<Statement> expected = parseTriG(TRIG);
+
+		assertEquals(expected, parseBinary(write(expected, 2)));
+	}
+
+	@Test
+	public void testRDFStar() throws Exception {
+		String trig = "@prefix ex: <http://example.org/> .\n"
+				+ "ex:g { << ex:s ex:p << _:b ex:q \"o\"@de >> >> ex:r ex:t }\n";
+		List<Statement> expected = new ArrayList<>();
+		RDFParser parser = Rio.createParser(RDFFormat.TRIGSTAR);
+		parser.getParserConfig().set(BasicParserSettings.PRESERVE_BNODE_IDS, true);
+		parser.setRDFHandler(new StatementCollector(expected));
+		parser.parse(new StringReader(trig), "");
+
+		assertEquals(expected, parseBinary(write(expected, 3)));
+	}
+
+	@Test
+	public void testNamespacesAndConjectureEvents() throws Exception {
+		TriGParser trigParser = new TriGParser();
+		trigParser.getParserConfig().set(BasicParserSettings.PRESERVE_BNODE_IDS, true);
+		EventCollector expected = new EventCollector();
+		trigParser.setRDFHandler(expected);
+		trigParser.parse(new StringReader(TRIG), "");
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		trigParser = new TriGParser();
+		trigParser.getParserConfig().set(BasicParserSettings.PRESERVE_BNODE_IDS, true);
+		trigParser.setRDFHandler(Rio.createWriter(BinaryTriGFormat.BINARY_TRIG, out));
+		trigParser.parse(new StringReader(TRIG), "");
+
+		RDFParser parser = Rio.createParser(BinaryTriGFormat.BINARY_TRIG);
+		parser.getParserConfig().set(BasicParserSettings.PRESERVE_BNODE_IDS, true);
+		EventCollector actual = new EventCollector();
+		parser.setRDFHandler(actual);
+		parser.parse(new ByteArrayInputStream(out.toByteArray()), "");
+
+		assertEquals(expected.getNamespaces(), actual.getNamespaces());
+		assertThat(actual.comments).containsExactly(" a comment");
+		assertThat(actual.events).containsExactly("declared http://example.org/g2",
+				"declared http://example.org/g3", "settled http://example.org/g3",
+				"settled http://example.org/g2", "declared http://example.org/g4",
+				"settled http://example.org/g4");
+	}
+
+	@Test
+	public void testSettlesPredicateIsMatchedByIRI() throws Exception {
+		ValueFactory vf = SimpleValueFactory.getInstance();
+		IRI graph = vf.createIRI("http://example.org/g");
+		List<Statement> expected = List.of(vf.createStatement(graph, vf.createIRI("http://example.org/settles"),
+				vf.createIRI("conj-http://example.org/g"), graph));
+
+		RDFParser parser = new BinaryTriGParser();
+		EventCollector actual = new EventCollector();
+		parser.setRDFHandler(actual);
+		parser.parse(new ByteArrayInputStream(write(expected, 1 << 20)), "");
+
+		assertEquals(expected, actual.getStatements());
+		assertThat(actual.events).isEmpty();
+	}
+
+	@Test
+	public void testNegativeStringLength() {
+		// an IRI whose length is the varint of 2^32 - 1
+		byte[] binary = corrupt(0xFF, 0xFF, 0xFF, 0xFF, 0x0F);
+
+		assertThatThrownBy(() -> parseBinary(binary)).isInstanceOf(RDFParseException.class)
+				.hasMessageContaining("Invalid string length");
+	}
+
+	@Test
+	public void testStringLengthExceedsInput() {
+		// an IRI whose length is the varint of 2^31 - 1, followed by three bytes
+		byte[] binary = corrupt(0xFF, 0xFF, 0xFF, 0xFF, 0x07, 'a', 'b', 'c');
+
+		assertThatThrownBy(() -> parseBinary(binary)).isInstanceOf(RDFParseException.class)
+				.hasMessageContaining("String length exceeds the input");
+	}
+
+	private byte[] corrupt(int... iriTerm) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		out.writeBytes(BinaryTriGConstants.MAGIC_NUMBER);
+		out.write(BinaryTriGConstants.FORMAT_VERSION);
+		out.write(BinaryTriGConstants.IRI_TERM);
+		for (int b : iriTerm) {
+			out.write(b);
+		}
+		return out.toByteArray();
+	}
+
+	private List<Statement> parseTriG(String trig) throws Exception {
+		List<Statement> statements = new ArrayList<>();
+		TriGParser parser = new TriGParser();
+		parser.getParserConfig().set(BasicParserSettings.PRESERVE_BNODE_IDS, true);
+		parser.setRDFHandler(new StatementCollector(statements));
+		parser.parse(new StringReader(trig), "");
+		return statements;
+	}
+
+	private byte[] write(List<Statement> statements, long dictionarySize) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		RDFWriter writer = new BinaryTriGWriter(out);
+		writer.getWriterConfig().set(BinaryTriGWriterSettings.DICTIONARY_SIZE, dictionarySize);
+		writer.startRDF();
+		statements.forEach(writer::handleStatement);
+		writer.endRDF();
+		return out.toByteArray();
+	}
+
+	private List<Statement> parseBinary(byte[] binary) throws Exception {
+		List<Statement> statements = new ArrayList<>();
+		BinaryTriGParser parser = new BinaryTriGParser();
+		parser.getParserConfig().set(BasicParserSettings.PRESERVE_BNODE_IDS, true);
+		parser.setRDFHandler(new StatementCollector(statements));
+		parser.parse(new ByteArrayInputStream(binary), "");
+		return statements;
+	}
+
+	private static class EventCollector extends StatementCollector implements ConjectureHandler {
+
+		private final List<String> events = new ArrayList<>();
+
+		@Override
+		public void conjectureDeclared(Resource original, Resource conjecture) {
+			events.add("declared " + original);
+		}
+
+		@Override
+		public void conjectureSettled(Resource conjecture, Resource targetGraph) {
+			events.add("settled " + targetGraph);
+		}
+
+		private final List<String> comments = new ArrayList<>();
+
+		@Override
+		public void handleComment(String comment) {
+			comments.add(comment);
+		}
+	}
+}
@@ -33,7 +33,12 @@ public abstract class AbstractTriGWriterTest extends RDFWriterTest {
 				BasicWriterSettings.PRETTY_PRINT,
 				BasicWriterSettings.INLINE_BLANK_NODES,
 				BasicWriterSettings.BASE_DIRECTIVE,
-				TurtleWriterSettings.ABBREVIATE_NUMBERS
+				TurtleWriterSettings.ABBREVIATE_NUMBERS,
+				TriGWriterSettings.WRITE_CONJECTURES,
+				TriGWriterSettings.GROUP_BY_CONTEXT,
+				TriGWriterSettings.GROUP_BY_CONTEXT_BUFFER_SIZE,
+				TriGWriterSettings.GROUP_BY_CONTEXT_TEMP_DIR,
+				TriGWriterSettings.FORMATTING_THREADS
 		};
 	}
 }
@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.rio.trig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertEquals;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.RDFWriter;
+import org.eclipse.rdf4j.rio.Rio;
+import org.eclipse.rdf4j.rio.helpers.BasicWriterSettings;
+import org.junit.Test;
+
+/**
+ * Tests for writing conjectures with {@link TriGWriterSettings#WRITE_CONJECTURES}.
+ */
+public class TriGConjectureWriterTest {
+
+	private static final String PREFIXES = "@prefix conj: <https://w3id.org/conjectures/> .\n"
+			+ "@prefix ex: <http://example.org/> .\n";
+
+	private static final String BASE = "http://example.org/base";
+
+	private final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	@Test
+	public void testConjectureBlocks() throws Exception {
+		String trig = PREFIXES + "CONJ ex:g1 { ex:s ex:p ex:o1 . ex:s ex:p \"x\"@en }\n"
+				+ "SETT ex:g2 { ex:s ex:p ex:o2 . ex:s a ex:C }\n"
+				+ "ex:g3 { ex:s ex:p ex:o3 }\n";
+
+		String out = rewrite(trig);
+
+		assertThat(out).contains("CONJ ex:g1", "SETT ex:g2").doesNotContain("conj-", "settles");
+		// the settled copies are written once
+		assertThat(out.split("ex:o2", -1)).hasSize(2);
+		assertEquals(parse(trig), parse(out));
+	}
+
+	@Test
+	public void testRepeatedConjecture() throws Exception {
+		String trig = PREFIXES + "CONJ ex:g { ex:s ex:p ex:o1 }\n"
+				+ "<http://example.org/g> { ex:s ex:p ex:o1 }\n"
+				+ "SETT ex:g { ex:s ex:p ex:o2 }\n"
+				+ "SETT ex:g { }\n"
+				+ "ex:x ex:p <http://example.org/g>, ex:g .\n";
+
+		String out = rewrite(trig);
+
+		// the explicit copy of the CONJ statement is collapsed as well
+		assertThat(out).doesNotContain("CONJ").contains("SETT ex:g { }", "<http://example.org/g>");
+		assertEquals(parse(trig), parse(out));
+	}
+
+	@Test
+	public void testFullIRIInSettBlock() throws Exception {
+		// a full IRI changes the target graph of a SETT block to the base IRI, so the copy cannot be collapsed
+		String trig = PREFIXES + "SETT ex:g { ex:s ex:p <urn:o> }\n";
+
+		Model expected = parse(trig, BASE);
+		assertThat(expected.contexts()).contains(vf.createIRI(BASE));
+
+		String out = rewrite(trig, BASE);
+
+		assertThat(out).contains("CONJ ex:g").doesNotContain("SETT");
+		assertEquals(expected, parse(out, BASE));
+	}
+
+	@Test
+	public void testConjectureWithoutPrefix() throws Exception {
+		String trig = "@prefix conj: <https://w3id.org/conjectures/> .\n"
+				+ "CONJ <http://example.org/g> { <urn:s> <urn:p> <urn:o> }\n";
+
+		String out = rewrite(trig);
+
+		// a namespace is declared to name the conjecture
+		assertThat(out).contains("@prefix ns: <http://example.org/>", "CONJ ns:g");
+		assertEquals(parse(trig), parse(out));
+	}
+
+	@Test
+	public void testDisabledByDefault() throws Exception {
+		String trig = PREFIXES + "SETT ex:g { ex:s ex:p ex:o }\n";
+
+		StringWriter out = new StringWriter();
+		TriGParser parser = new TriGParser();
+		parser.setRDFHandler(new TriGWriter(out));
+		parser.parse(new StringReader(trig), "");
+
+		assertThat(out.toString()).doesNotContain("SETT").contains("conj-", "settles");
+		assertEquals(parse(trig), parse(out.toString()));
+	}
+
+	@Test
+	public void testWriterConfigIsNotChanged() throws Exception {
+		String trig = PREFIXES + "SETT ex:g { ex:s ex:p ex:o }\n";
+
+		StringWriter out = new StringWriter();
+		TriGWriter writer = new TriGWriter(out);
+		writer.getWriterConfig()
+				.set(TriGWriterSettings.WRITE_CONJECTURES, true)
+				.set(BasicWriterSettings.PRETTY_PRINT, true);
+		new TriGParser().setRDFHandler(writer).parse(new StringReader(trig), "");
+
+		assertThat(out.toString()).contains("SETT ex:g");
+		assertThat(writer.getWriterConfig().get(BasicWriterSettings.PRETTY_PRINT)).isTrue();
+		assertThat(writer.getWriterConfig().isSet(BasicWriterSettings.INLINE_BLANK_NODES)).isFalse();
+	}
+
+	@Test
+	public void testTriGStarWriter() throws Exception {
+		String trig = PREFIXES + "SETT ex:g { ex:s ex:p ex:o }\n"
+				+ "ex:g { << ex:s ex:p ex:o >> ex:q ex:r }\n";
+
+		StringWriter out = new StringWriter();
+		RDFWriter writer = Rio.createWriter(RDFFormat.TRIGSTAR, out);
+		writer.getWriterConfig().set(TriGWriterSettings.WRITE_CONJECTURES, true);
+		Rio.createParser(RDFFormat.TRIGSTAR).setRDFHandler(writer).parse(new StringReader(trig), "");
+
+		assertThat(out.toString()).contains("SETT ex:g");
+		assertEquals(Rio.parse(new StringReader(trig), "", RDFFormat.TRIGSTAR),
+				Rio.parse(new StringReader(out.toString()), "", RDFFormat.TRIGSTAR));
+	}
+
+	private String rewrite(String trig) throws Exception {
+		return rewrite(trig, "");
+	}
+
+	private String rewrite(String trig, String baseURI) throws Exception {
+		StringWriter out = new StringWriter();
+		TriGWriter writer = new TriGWriter(out);
+		writer.getWriterConfig().set(TriGWriterSettings.WRITE_CONJECTURES, true);
+
+		TriGParser parser = new TriGParser(vf);
+		parser.setRDFHandler(writer);
+		parser.parse(new StringReader(trig), baseURI);
+		return out.toString();
+	}
+
+	private Model parse(String trig) throws Exception {
+		return parse(trig, "");
+	}
+
+	private Model parse(String trig, String baseURI) throws Exception {
+		return Rio.parse(new StringReader(trig), baseURI, RDFFormat.TRIG);
+	}
+}
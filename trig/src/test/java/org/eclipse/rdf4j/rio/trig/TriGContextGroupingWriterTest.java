@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.rio.trig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertEquals;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.Rio;
+import org.eclipse.rdf4j.rio.helpers.BasicWriterSettings;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for writing with {@link TriGWriterSettings#GROUP_BY_CONTEXT}.
+ */
+public class TriGContextGroupingWriterTest {
+
+	@Rule
+	public TemporaryFolder tempDir = new TemporaryFolder();
+
+	private final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	@Test
+	public void testOneBlockPerGraph() throws Exception {
+		Model model = new LinkedHashModel();
+		IRI p = vf.createIRI("urn:p");
+		for (int i = 0; i < 30; i++) {
+			IRI context = i % 3 == 0 ? null : vf.createIRI("urn:g" + i % 3);
+			model.add(vf.createIRI("urn:s" + i), p, vf.createLiteral(i), context);
+		}
+
+		for (boolean prettyPrint : new boolean[] { true, false }) {
+			StringWriter out = new StringWriter();
+			TriGWriter writer = new TriGWriter(out);
+			writer.getWriterConfig()
+					.set(BasicWriterSettings.PRETTY_PRINT, prettyPrint)
+					.set(TriGWriterSettings.GROUP_BY_CONTEXT, true)
+					.set(TriGWriterSettings.GROUP_BY_CONTEXT_BUFFER_SIZE, 4L)
+					.set(TriGWriterSettings.GROUP_BY_CONTEXT_TEMP_DIR, tempDir.getRoot().getPath());
+
+			writer.startRDF();
+			writer.handleNamespace("ex", "urn:x:");
+			model.forEach(writer::handleStatement);
+			// statements are not written before the end of the document
+			assertThat(out.toString()).doesNotContain("urn:s");
+			assertThat(tempDir.getRoot().list()).isNotEmpty();
+			writer.endRDF();
+
+			String trig = out.toString();
+			assertThat(trig.split("<urn:g1>", -1)).hasSize(2);
+			assertThat(trig.split("<urn:g2>", -1)).hasSize(2);
+			assertThat(tempDir.getRoot().list()).isEmpty();
+			assertEquals(model, Rio.parse(new StringReader(trig), "", RDFFormat.TRIG));
+		}
+	}
+
+	@Test
+	public void testConjecturesInUnsortedInput() throws Exception {
+		String input = "@prefix conj: <https://w3id.org/conjectures/> .\n"
+				+ "@prefix ex: <http://example.org/> .\n"
+				+ "ex:g { ex:t ex:p ex:o1 }\n"
+				+ "SETT ex:g { ex:s ex:p ex:o2 }\n"
+				+ "ex:h { ex:s ex:p ex:o3 }\n"
+				+ "ex:g { ex:u ex:p ex:o4 }\n";
+
+		StringWriter out = new StringWriter();
+		TriGWriter writer = new TriGWriter(out);
+		writer.getWriterConfig()
+				.set(TriGWriterSettings.WRITE_CONJECTURES, true)
+				.set(TriGWriterSettings.GROUP_BY_CONTEXT, true)
+				.set(TriGWriterSettings.GROUP_BY_CONTEXT_BUFFER_SIZE, 2L)
+				.set(TriGWriterSettings.GROUP_BY_CONTEXT_TEMP_DIR, tempDir.getRoot().getPath());
+		new TriGParser().setRDFHandler(writer).parse(new StringReader(input), "");
+
+		String trig = out.toString();
+		// the settles statement is written in the one block of its graph
+		assertThat(trig).doesNotContain("SETT").contains("CONJ ex:g");
+		assertThat(trig.split("<http://example.org/g> \\{", -1)).hasSize(2);
+		assertEquals(Rio.parse(new StringReader(input), "", RDFFormat.TRIG),
+				Rio.parse(new StringReader(trig), "", RDFFormat.TRIG));
+	}
+
+	@Test
+	public void testDuplicatesAreDropped() throws Exception {
+		StringWriter out = new StringWriter();
+		TriGWriter writer = new TriGWriter(out);
+		writer.getWriterConfig().set(TriGWriterSettings.GROUP_BY_CONTEXT, true);
+
+		IRI g = vf.createIRI("urn:g");
+		writer.startRDF();
+		writer.handleStatement(vf.createStatement(vf.createIRI("urn:b"), vf.createIRI("urn:p"), vf.createBNode("x"), g));
+		writer.handleStatement(vf.createStatement(vf.createIRI("urn:a"), vf.createIRI("urn:p"), vf.createLiteral("y")));
+		writer.handleStatement(vf.createStatement(vf.createIRI("urn:b"), vf.createIRI("urn:p"), vf.createBNode("x"), g));
+		writer.endRDF();
+
+		Model parsed = Rio.parse(new StringReader(out.toString()), "", RDFFormat.TRIG);
+		assertThat(parsed).hasSize(2);
+		assertThat(out.toString().indexOf("<urn:a>")).isLessThan(out.toString().indexOf("<urn:g>"));
+	}
+}
@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.rio.trig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertEquals;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link TriGDelta}.
+ */
+public class TriGDeltaTest {
+
+	private ValueFactory vf;
+
+	private List<Statement> removed;
+
+	private List<Statement> added;
+
+	private TriGDelta.DeltaHandler handler;
+
+	@Before
+	public void setUp() {
+		vf = SimpleValueFactory.getInstance();
+		removed = new ArrayList<>();
+		added = new ArrayList<>();
+		handler = new TriGDelta.DeltaHandler() {
+
+			@Override
+			public void handleRemoved(Statement st) {
+				removed.add(st);
+			}
+
+			@Override
+			public void handleAdded(Statement st) {
+				added.add(st);
+			}
+		};
+	}
+
+	@Test
+	public void testIdenticalSnapshots() throws Exception {
+		String trig = "<urn:g1> { <urn:a> <urn:p> \"x\" . <urn:b> <urn:p> \"y\" }\n<urn:c> <urn:p> <urn:d> .";
+
+		TriGDelta delta = new TriGDelta();
+		delta.compute(new StringReader(trig), new StringReader(trig), "", handler);
+
+		assertThat(removed).isEmpty();
+		assertThat(added).isEmpty();
+	}
+
+	@Test
+	public void testAddedAndRemovedPerContext() throws Exception {
+		String oldTrig = "<urn:g1> { <urn:a> <urn:p> \"x\" . <urn:b> <urn:p> \"y\" }\n"
+				+ "<urn:g2> { <urn:a> <urn:p> \"z\" }";
+		String newTrig = "<urn:g2> { <urn:a> <urn:p> \"z\" . <urn:a> <urn:p> \"w\" }\n"
+				+ "<urn:g1> { <urn:b> <urn:p> \"y\" }";
+
+		TriGDelta delta = new TriGDelta();
+		delta.setMaxBufferedQuads(1);
+		delta.compute(new StringReader(oldTrig), new StringReader(newTrig), "", handler);
+
+		assertThat(removed).containsExactly(vf.createStatement(vf.createIRI("urn:a"), vf.createIRI("urn:p"),
+				vf.createLiteral("x"), vf.createIRI("urn:g1")));
+		assertThat(added).containsExactly(vf.createStatement(vf.createIRI("urn:a"), vf.createIRI("urn:p"),
+				vf.createLiteral("w"), vf.createIRI("urn:g2")));
+		assertEquals(1, delta.getRemovedCount());
+		assertEquals(1, delta.getAddedCount());
+	}
+
+	@Test
+	public void testConjectureContexts() throws Exception {
+		String oldTrig = "@prefix ex: <http://example.org/> .\n";
+		String newTrig = oldTrig + "CONJ ex:g { ex:a ex:p ex:b }";
+
+		TriGDelta delta = new TriGDelta();
+		delta.compute(new StringReader(oldTrig), new StringReader(newTrig), "", handler);
+
+		assertThat(removed).isEmpty();
+		assertThat(added).hasSize(1);
+		assertEquals("conj-http://example.org/g", added.get(0).getContext().stringValue());
+		assertThat(delta.getNamespaces()).containsEntry("ex", "http://example.org/");
+	}
+
+	@Test
+	public void testDuplicatesAreIgnored() throws Exception {
+		String oldTrig = "<urn:a> <urn:p> \"x\" . <urn:a> <urn:p> \"x\" .";
+		String newTrig = "<urn:a> <urn:p> \"x\" . <urn:a> <urn:p> \"y\" . <urn:a> <urn:p> \"y\" .";
+
+		TriGDelta delta = new TriGDelta();
+		delta.setMaxBufferedQuads(2);
+		delta.compute(new StringReader(oldTrig), new StringReader(newTrig), "", handler);
+
+		assertThat(removed).isEmpty();
+		assertThat(added).containsExactly(
+				vf.createStatement(vf.createIRI("urn:a"), vf.createIRI("urn:p"), vf.createLiteral("y")));
+	}
+}
@@ -0,0 +1,210 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.rio.trig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.eclipse.rdf4j.common.net.ParsedIRI;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.XSD;
+import org.eclipse.rdf4j.rio.RDFHandlerException;
+import org.eclipse.rdf4j.rio.helpers.BasicWriterSettings;
+import org.eclipse.rdf4j.rio.trigstar.TriGStarWriter;
+import org.junit.Test;
+
+/**
+ * Tests for writing with {@link TriGWriterSettings#FORMATTING_THREADS}.
+ */
+public class TriGParallelFormattingTest {
+
+	private final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	@Test
+	public void testOutputIsIdentical() throws Exception {
+		List<Statement> statements = createStatements(new Random(42), 20_000);
+
+		String sequential = write(out -> new TriGWriter(out), statements, 0, false);
+		String parallel = write(out -> new TriGWriter(out), statements, 4, false);
+
+		assertThat(parallel).isNotEmpty();
+		assertEquals(sequential, parallel);
+	}
+
+	@Test
+	public void testOutputIsIdenticalWithBaseIRI() throws Exception {
+		List<Statement> statements = createStatements(new Random(7), 5_000);
+		ParsedIRI base = ParsedIRI.create("http://example.org/");
+
+		String sequential = write(out -> new TriGWriter(out, base), statements, 0, false);
+		String parallel = write(out -> new TriGWriter(out, base), statements, 3, false);
+
+		assertEquals(sequential, parallel);
+	}
+
+	@Test
+	public void testOutputIsIdenticalWhenGroupedByContext() throws Exception {
+		List<Statement> statements = createStatements(new Random(3), 5_000);
+
+		String sequential = write(out -> new TriGWriter(out), statements, 0, true);
+		String parallel = write(out -> new TriGWriter(out), statements, 2, true);
+
+		assertEquals(sequential, parallel);
+	}
+
+	@Test
+	public void testLargeGraphIsSplit() throws Exception {
+		List<Statement> statements = new ArrayList<>();
+		IRI context = vf.createIRI("http://example.org/g");
+		for (Statement st : createStatements(new Random(5), 5_000)) {
+			statements.add(vf.createStatement(st.getSubject(), st.getPredicate(), st.getObject(), context));
+		}
+
+		String sequential = write(out -> new TriGWriter(out), statements, 0, false);
+		String parallel = write(out -> new TriGWriter(out), statements, 4, false);
+
+		assertEquals(sequential, parallel);
+	}
+
+	@Test
+	public void testTriGStarWriter() throws Exception {
+		List<Statement> statements = createStatements(new Random(11), 3_000);
+		IRI p = vf.createIRI("http://example.org/p");
+		for (int i = 0; i < 100; i++) {
+			statements.add(vf.createStatement(vf.createTriple(vf.createIRI("urn:s" + i), p, vf.createLiteral(i)), p,
+					vf.createLiteral(true), vf.createIRI("urn:g" + i % 3)));
+		}
+
+		String sequential = write(out -> new TriGStarWriter(out), statements, 0, false);
+		String parallel = write(out -> new TriGStarWriter(out), statements, 4, false);
+
+		assertThat(parallel).contains("<<");
+		assertEquals(sequential, parallel);
+	}
+
+	@Test
+	public void testFormatterIsShutDownOnFailure() throws Exception {
+		List<Statement> statements = createStatements(new Random(13), 20_000);
+		Writer failing = new Writer() {
+
+			private int written;
+
+			@Override
+			public void write(char[] cbuf, int off, int len) throws IOException {
+				written += len;
+				if (written > 10_000) {
+					throw new IOException("device full");
+				}
+			}
+
+			@Override
+			public void flush() {
+			}
+
+			@Override
+			public void close() {
+			}
+		};
+
+		assertThatThrownBy(() -> write(out -> new TriGWriter(failing), statements, 4, false))
+				.isInstanceOf(RDFHandlerException.class)
+				.hasRootCauseMessage("device full");
+
+		long deadline = System.currentTimeMillis() + 10_000;
+		while (!getFormatterThreads().isEmpty() && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(getFormatterThreads()).isEmpty();
+	}
+
+	private static List<Thread> getFormatterThreads() {
+		List<Thread> threads = new ArrayList<>();
+		for (Thread thread : Thread.getAllStackTraces().keySet()) {
+			if (thread.isAlive() && thread.getName().startsWith("rdf4j-trig-formatter-")) {
+				threads.add(thread);
+			}
+		}
+		return threads;
+	}
+
+	private String write(Function<Writer, TriGWriter> writerFactory, List<Statement> statements, long threads,
+			boolean groupByContext) {
+		StringWriter out = new StringWriter();
+		TriGWriter writer = writerFactory.apply(out);
+		writer.getWriterConfig()
+				.set(BasicWriterSettings.PRETTY_PRINT, false)
+				.set(TriGWriterSettings.GROUP_BY_CONTEXT, groupByContext)
+				.set(TriGWriterSettings.FORMATTING_THREADS, threads);
+
+		writer.startRDF();
+		writer.handleNamespace("ex", "http://example.org/");
+		for (int i = 0; i < statements.size(); i++) {
+			if (i == statements.size() / 2) {
+				writer.handleNamespace("ex2", "http://example.org/2/");
+				writer.handleNamespace("ex", "http://example.org/");
+			}
+			if (i % 997 == 0) {
+				writer.handleComment("statement " + i);
+			}
+			writer.handleStatement(statements.get(i));
+		}
+		writer.endRDF();
+		return out.toString();
+	}
+
+	private List<Statement> createStatements(Random random, int count) {
+		List<Statement> statements = new ArrayList<>(count);
+		Resource context = null;
+		Resource subject = null;
+		for (int i = 0; i < count; i++) {
+			if (random.nextInt(50) == 0) {
+				int g = random.nextInt(5);
+				context = g == 0 ? null : g == 1 ? vf.createBNode("g") : vf.createIRI("http://example.org/g" + g);
+			}
+			if (subject == null || random.nextInt(4) == 0) {
+				subject = random.nextInt(10) == 0 ? vf.createBNode("b" + random.nextInt(100))
+						: vf.createIRI("http://example.org/" + (random.nextBoolean() ? "2/" : "") + "s"
+								+ random.nextInt(1000));
+			}
+			IRI predicate = vf.createIRI("http://example.org/p" + random.nextInt(3));
+			Value object;
+			switch (random.nextInt(4)) {
+			case 0:
+				object = vf.createLiteral("line " + i + (random.nextBoolean() ? "\nwith \"quotes\"" : ""));
+				break;
+			case 1:
+				object = vf.createLiteral(Integer.toString(i), XSD.INT);
+				break;
+			case 2:
+				object = vf.createLiteral("label", "en");
+				break;
+			default:
+				object = vf.createIRI("urn:o" + random.nextInt(100));
+			}
+			statements.add(vf.createStatement(subject, predicate, object, context));
+		}
+		return statements;
+	}
+}
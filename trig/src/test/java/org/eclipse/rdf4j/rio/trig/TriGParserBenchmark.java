@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.rio.trig;
+
+import java.io.StringReader;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.rio.helpers.AbstractRDFHandler;
+import org.eclipse.rdf4j.rio.turtle.TurtleParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarks {@link TriGParser}, which scans whitespace, IRIs and strings in bulk, against {@link TurtleParser}, which
+ * reads the same document one character at a time.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 5)
+@BenchmarkMode({ Mode.AverageTime })
+@Fork(value = 1, jvmArgs = { "-Xms1G", "-Xmx1G" })
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TriGParserBenchmark {
+
+	private String document;
+
+	public static void main(String[] args) throws RunnerException {
+		Options opt = new OptionsBuilder()
+				.include("TriGParserBenchmark.*")
+				.build();
+
+		new Runner(opt).run();
+	}
+
+	@Setup
+	public void setup() {
+		Random random = new Random(42);
+		StringBuilder sb = new StringBuilder();
+		sb.append("@prefix ex: <http://example.org/vocabulary/> .\n\n");
+		for (int i = 0; i < 20_000; i++) {
+			if (i % 100 == 0) {
+				sb.append("# resources ").append(i).append(" to ").append(i + 99).append('\n');
+			}
+			sb.append("<http://example.org/data/resources/").append(i).append(">\n");
+			sb.append("        ex:label \"Resource number ").append(i).append(", described at some length\"@en ;\n");
+			sb.append("        ex:seeAlso <https://www.example.com/catalogue/items?id=")
+					.append(random.nextInt(1_000_000))
+					.append("&amp;format=html> ;\n");
+			sb.append("        ex:comment \"A \\\"quoted\\\" value\\nwith an escape\" .\n\n");
+		}
+		document = sb.toString();
+	}
+
+	@Benchmark
+	public long parseTriG() throws Exception {
+		return parse(new TriGParser());
+	}
+
+	@Benchmark
+	public long parseTurtle() throws Exception {
+		return parse(new TurtleParser());
+	}
+
+	private long parse(TurtleParser parser) throws Exception {
+		CountingHandler handler = new CountingHandler();
+		parser.setRDFHandler(handler);
+		parser.parse(new StringReader(document), "");
+		return handler.count;
+	}
+
+	private static class CountingHandler extends AbstractRDFHandler {
+
+		private long count;
+
+		@Override
+		public void handleStatement(Statement st) {
+			count++;
+		}
+	}
+}
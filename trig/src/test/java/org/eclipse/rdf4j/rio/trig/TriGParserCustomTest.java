@@ -17,10 +17,14 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.rdf4j.model.BNode;
 import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.ValueFactory;
 import org.eclipse.rdf4j.model.impl.LinkedHashModel;
 import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
@@ -30,6 +34,7 @@ import org.eclipse.rdf4j.rio.RDFFormat;
 import org.eclipse.rdf4j.rio.RDFParseException;
 import org.eclipse.rdf4j.rio.RDFParser;
 import org.eclipse.rdf4j.rio.Rio;
+import org.eclipse.rdf4j.rio.helpers.AbstractRDFHandler;
 import org.eclipse.rdf4j.rio.helpers.BasicParserSettings;
 import org.eclipse.rdf4j.rio.helpers.ParseErrorCollector;
 import org.eclipse.rdf4j.rio.helpers.StatementCollector;
@@ -279,4 +284,52 @@ public class TriGParserCustomTest {
 		assertEquals(1.2d, Models.objectLiteral(m).get().doubleValue(), 0.01);
 	}
 
+	@Test
+	public void testConjectureHandlerDeclared() throws Exception {
+		ConjectureRecorder recorder = new ConjectureRecorder();
+		parser.setRDFHandler(recorder);
+		parser.parse(new StringReader("@prefix ex: <http://www.example.it/> .\n"
+				+ "CONJ ex:a { ex:s ex:p ex:o }\n CONJ ex:a { ex:s ex:p ex:o2 }\n CONJ <urn:b> { ex:s ex:p ex:o }"), "");
+
+		assertThat(recorder.declared).containsExactly("http://www.example.it/a -> conj-http://www.example.it/a",
+				"urn:b -> conj-urn:b");
+		assertThat(recorder.settled).isEmpty();
+		assertEquals(3, recorder.statements);
+	}
+
+	@Test
+	public void testConjectureHandlerSettled() throws Exception {
+		ConjectureRecorder recorder = new ConjectureRecorder();
+		parser.setRDFHandler(recorder);
+		parser.parse(new StringReader("@prefix conj: <https://w3id.org/conjectures/> .\n"
+				+ "@prefix ex: <http://www.example.it/> .\n"
+				+ "CONJ ex:a { ex:s ex:p ex:o }\n SETT ex:a { ex:s ex:p ex:o }"), "");
+
+		assertThat(recorder.declared).containsExactly("http://www.example.it/a -> conj-http://www.example.it/a");
+		assertThat(recorder.settled).containsExactly("conj-http://www.example.it/a -> http://www.example.it/a");
+	}
+
+	private static class ConjectureRecorder extends AbstractRDFHandler implements ConjectureHandler {
+
+		private final List<String> declared = new ArrayList<>();
+
+		private final List<String> settled = new ArrayList<>();
+
+		private int statements;
+
+		@Override
+		public void handleStatement(Statement st) {
+			statements++;
+		}
+
+		@Override
+		public void conjectureDeclared(Resource original, Resource conjecture) {
+			declared.add(original.stringValue() + " -> " + conjecture.stringValue());
+		}
+
+		@Override
+		public void conjectureSettled(Resource conjecture, Resource targetGraph) {
+			settled.add(conjecture.stringValue() + " -> " + targetGraph.stringValue());
+		}
+	}
 }
@@ -0,0 +1,204 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.rio.trig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.util.Models;
+import org.eclipse.rdf4j.rio.RDFParseException;
+import org.eclipse.rdf4j.rio.RDFParser;
+import org.eclipse.rdf4j.rio.helpers.StatementCollector;
+import org.eclipse.rdf4j.rio.trig.TriGScannerTest.ChunkedReader;
+import org.eclipse.rdf4j.rio.turtle.TurtleParser;
+import org.junit.Test;
+
+/**
+ * Tests that {@link TriGParser}, which scans its input in bulk, reads the same statements and reports the same error
+ * locations as the character by character {@link TurtleParser} it extends.
+ */
+public class TriGParserScanningTest {
+
+	private static final String BASE_URI = "http://example.org/base/";
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	@Test
+	public void testTokensAcrossBufferBoundary() throws Exception {
+		String statements = String.join("\n", "",
+				"@prefix ex: <http://example.org/> .",
+				"ex:s ex:p \"\"\"long\nstring\"\"\" , 'single' , \"double\"@en-GB , 12.5e3 , -7 , true ;",
+				"  ex:q <relative> , _:b1 , ( 1 2 ) , [ ex:r ex:o ] .",
+				"ex:t ex:p ex:o");
+		for (int padding = BUFFER_SIZE - 200; padding < BUFFER_SIZE + 10; padding++) {
+			// every token of the statements starts at the end of a buffer for some padding
+			String document = "#" + repeat('x', padding) + statements + " .\n";
+			assertSameStatements(document);
+		}
+	}
+
+	@Test
+	public void testShortReads() throws Exception {
+		String document = String.join("\n",
+				"@prefix ex: <http://example.org/> .",
+				"# a comment",
+				"ex:s ex:p \"a\\\"b\\\\c\" , 'd\\'e' , \"\"\"f\"g\"\"h\"\"\" ;",
+				"   ex:q <http://example.org/\\u00E9😀> , \"😀\" , 123 , 1.5 .");
+		for (int chunkSize = 1; chunkSize < 8; chunkSize++) {
+			assertTrue(Models.isomorphic(parseTurtle(new StringReader(document)),
+					parseTriG(new ChunkedReader(document, chunkSize))));
+		}
+	}
+
+	@Test
+	public void testStringEscapes() throws Exception {
+		Model model = assertSameStatements(String.join("\n",
+				"<urn:s> <urn:p> \"tab\\tnl\\ncr\\rbs\\\\q\\\"a\\'b\\bf\\f\" .",
+				"<urn:s> <urn:p> 'tab\\tq\\'dq\\\"' .",
+				"<urn:s> <urn:p> \"\\u00E9\\U0001F600\" .",
+				"<urn:s> <urn:p> \"é😀\" .",
+				"<urn:s> <urn:p> '😀\\U0001F601' .",
+				"<urn:s> <urn:p> \"\"\"multi\nline \\\"\"\" with \\U0001F600\"\"\" ."));
+
+		assertThat(model.objects()).extracting(value -> value.stringValue())
+				.containsExactly("tab\tnl\ncr\rbs\\q\"a'b\bf\f", "tab\tq'dq\"", "é😀", "😀😁",
+						"multi\nline \"\"\" with 😀");
+	}
+
+	@Test
+	public void testIRIEscapes() throws Exception {
+		Model model = assertSameStatements(String.join("\n",
+				"<urn:s> <urn:p> <http://example.org/\\u00E9> .",
+				"<urn:s> <urn:p> <http://example.org/\\U0001F600> .",
+				"<urn:s> <urn:p> <http://example.org/😀é> .",
+				"<urn:s> <urn:p> <relative/😀> ."));
+
+		assertThat(model.objects()).extracting(value -> value.stringValue())
+				.containsExactly("http://example.org/é", "http://example.org/😀", "http://example.org/😀é",
+						BASE_URI + "relative/😀");
+	}
+
+	@Test
+	public void testSupplementaryCharacterAtBufferBoundary() throws Exception {
+		String statement = "<urn:s> <urn:p> \"😀\" , <urn:😀> .\n";
+		for (int padding = BUFFER_SIZE - 40; padding < BUFFER_SIZE; padding++) {
+			// the surrogate pairs are split between buffers for some padding
+			assertSameStatements("#" + repeat('x', padding) + "\n" + statement);
+		}
+	}
+
+	@Test
+	public void testLineNumbersWithLineFeeds() throws Exception {
+		assertErrorLine(4, "<urn:s> <urn:p> <urn:o> .\n\n  \n<urn:s> <urn:p> <urn:o> <urn:x> .");
+	}
+
+	@Test
+	public void testLineNumbersWithCarriageReturnLineFeeds() throws Exception {
+		assertErrorLine(4, "<urn:s> <urn:p> <urn:o> .\r\n\r\n  \r\n<urn:s> <urn:p> <urn:o> <urn:x> .");
+	}
+
+	@Test
+	public void testLineNumbersWithCarriageReturns() throws Exception {
+		assertErrorLine(null, "<urn:s> <urn:p> <urn:o> .\r\r  \r<urn:s> <urn:p> <urn:o> <urn:x> .");
+	}
+
+	@Test
+	public void testLineNumbersAfterComments() throws Exception {
+		assertErrorLine(5,
+				"# comment\n<urn:s> <urn:p> <urn:o> . # comment\r\n\t\n# comment\n<urn:s> <urn:p> <urn:o> <urn:x> .");
+	}
+
+	@Test
+	public void testLineNumbersInStrings() throws Exception {
+		assertErrorLine(3, "<urn:s> <urn:p> \"\"\"one\ntwo\"\"\" .\n<urn:s> <urn:p> \"three\nfour\" .");
+		assertErrorLine(2, "<urn:s> <urn:p> 'one' .\n<urn:s> <urn:p> 'two\r' .");
+	}
+
+	@Test
+	public void testLineNumbersInIRIs() throws Exception {
+		assertErrorLine(3, "<urn:s> <urn:p> <urn:o> .\n\n<urn:s> <urn:p> <urn:o p> .");
+	}
+
+	@Test
+	public void testLineNumbersAcrossBuffers() throws Exception {
+		StringBuilder document = new StringBuilder();
+		for (int i = 0; i < 2000; i++) {
+			document.append("<urn:s> <urn:p> \"line ").append(i).append("\" .").append(i % 2 == 0 ? "\n" : "\r\n");
+		}
+		document.append("<urn:s> <urn:p> <urn:o> <urn:x> .");
+
+		assertErrorLine(2001, document.toString());
+	}
+
+	/**
+	 * Asserts that both parsers read the same statements from the supplied Turtle document.
+	 */
+	private Model assertSameStatements(String document) throws IOException {
+		Model expected = parseTurtle(new StringReader(document));
+		Model actual = parseTriG(new StringReader(document));
+		assertTrue(Models.isomorphic(expected, actual));
+		return actual;
+	}
+
+	/**
+	 * Asserts that both parsers reject the supplied Turtle document at the supplied line.
+	 */
+	private void assertErrorLine(Integer expectedLine, String document) {
+		RDFParseException expected = catchThrowableOfType(() -> parseTurtle(new StringReader(document)),
+				RDFParseException.class);
+		RDFParseException actual = catchThrowableOfType(() -> parseTriG(new StringReader(document)),
+				RDFParseException.class);
+
+		assertThat(expected).isNotNull();
+		assertThat(actual).isNotNull();
+		assertThat(actual.getLineNumber()).isEqualTo(expected.getLineNumber());
+		if (expectedLine != null) {
+			assertThat(actual.getLineNumber()).isEqualTo(expectedLine.longValue());
+		}
+	}
+
+	private Model parseTurtle(Reader reader) throws IOException {
+		return parse(new TurtleParser(vf), reader);
+	}
+
+	private Model parseTriG(Reader reader) throws IOException {
+		return parse(new TriGParser(vf), reader);
+	}
+
+	private static Model parse(RDFParser parser, Reader reader) throws IOException {
+		List<Statement> statements = new ArrayList<>();
+		parser.setRDFHandler(new StatementCollector(statements));
+		parser.parse(reader, BASE_URI);
+		return new LinkedHashModel(statements);
+	}
+
+	private static String repeat(char c, int count) {
+		StringBuilder sb = new StringBuilder(count);
+		for (int i = 0; i < count; i++) {
+			sb.append(c);
+		}
+		return sb.toString();
+	}
+}
@@ -0,0 +1,223 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.rio.trig;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link TriGScanner}.
+ */
+public class TriGScannerTest {
+
+	private static final int BUFFER_SIZE = 8192;
+
+	@Test
+	public void testReadAcrossBuffers() throws IOException {
+		String input = repeat('a', BUFFER_SIZE - 1) + "bcd";
+		TriGScanner scanner = new TriGScanner(new StringReader(input));
+
+		assertEquals(input, readAll(scanner));
+		assertEquals(-1, scanner.read());
+	}
+
+	@Test
+	public void testUnreadAtStartOfBuffer() throws IOException {
+		String input = repeat('a', BUFFER_SIZE - 1) + "bcd";
+		TriGScanner scanner = new TriGScanner(new StringReader(input));
+		skip(scanner, BUFFER_SIZE - 1);
+
+		// the last character of the first buffer and the first of the second
+		assertEquals('b', scanner.read());
+		assertEquals('c', scanner.read());
+		scanner.unread('c');
+		scanner.unread('b');
+		scanner.unread('a');
+
+		assertEquals("abcd", readAll(scanner));
+	}
+
+	@Test
+	public void testUnreadBeforeFirstRead() throws IOException {
+		TriGScanner scanner = new TriGScanner(new StringReader("bc"));
+		scanner.unread('a');
+
+		assertEquals("abc", readAll(scanner));
+	}
+
+	@Test
+	public void testUnreadMoreThanBufferSize() throws IOException {
+		String input = repeat('x', 3 * BUFFER_SIZE);
+		String pushedBack = repeat('y', 2 * BUFFER_SIZE + 5);
+		TriGScanner scanner = new TriGScanner(new StringReader(input));
+		skip(scanner, 10);
+		for (int i = pushedBack.length() - 1; i >= 0; i--) {
+			scanner.unread(pushedBack.charAt(i));
+		}
+
+		assertEquals(pushedBack + input.substring(10), readAll(scanner));
+	}
+
+	@Test
+	public void testUnreadWithShortReads() throws IOException {
+		String input = "0123456789abcdef";
+		TriGScanner scanner = new TriGScanner(new ChunkedReader(input, 1));
+
+		assertEquals('0', scanner.read());
+		assertEquals('1', scanner.read());
+		scanner.unread('1');
+		scanner.unread('0');
+		assertEquals('0', scanner.read());
+		assertEquals("123456789abcdef", readAll(scanner));
+	}
+
+	@Test
+	public void testSkipWhitespaceCountsLineFeeds() throws IOException {
+		TriGScanner scanner = new TriGScanner(new StringReader(" \t\n\r\n\r  \nx"));
+
+		// a CR on its own is not counted, CRLF is counted once
+		assertEquals(3, scanner.skipWhitespace());
+		assertEquals('x', scanner.read());
+		assertEquals(0, scanner.skipWhitespace());
+		assertEquals(-1, scanner.read());
+	}
+
+	@Test
+	public void testSkipWhitespaceAcrossBuffers() throws IOException {
+		String whitespace = repeat('\n', BUFFER_SIZE + 10) + repeat(' ', BUFFER_SIZE);
+		TriGScanner scanner = new TriGScanner(new ChunkedReader(whitespace + "x", 1000));
+
+		assertEquals(BUFFER_SIZE + 10, scanner.skipWhitespace());
+		assertEquals('x', scanner.read());
+	}
+
+	@Test
+	public void testSkipWhitespaceAfterUnread() throws IOException {
+		TriGScanner scanner = new TriGScanner(new StringReader("\nx"));
+		scanner.unread(' ');
+		scanner.unread('\n');
+
+		assertEquals(2, scanner.skipWhitespace());
+		assertEquals('x', scanner.read());
+	}
+
+	@Test
+	public void testAppendUntil() throws IOException {
+		TriGScanner scanner = new TriGScanner(new StringReader("http://example.org/é😀>rest"));
+		StringBuilder sb = new StringBuilder("<");
+
+		scanner.appendUntil(sb, TriGScanner.IRI_DELIMITERS);
+
+		assertEquals("<http://example.org/é😀", sb.toString());
+		assertEquals('>', scanner.read());
+	}
+
+	@Test
+	public void testAppendUntilStopsAtDelimiters() throws IOException {
+		assertAppendedUntil("abc", "abc\"def", TriGScanner.DOUBLE_QUOTED_DELIMITERS, '"');
+		assertAppendedUntil("abc'", "abc'\\\"", TriGScanner.DOUBLE_QUOTED_DELIMITERS, '\\');
+		assertAppendedUntil("abc\"", "abc\"\rd", TriGScanner.SINGLE_QUOTED_DELIMITERS, '\r');
+		assertAppendedUntil("abc", "abc\n'", TriGScanner.SINGLE_QUOTED_DELIMITERS, '\n');
+		assertAppendedUntil("a", "a b>", TriGScanner.IRI_DELIMITERS, ' ');
+	}
+
+	@Test
+	public void testAppendUntilAcrossBuffers() throws IOException {
+		String content = repeat('a', 3 * BUFFER_SIZE + 7);
+		TriGScanner scanner = new TriGScanner(new ChunkedReader(content + "\"", 100));
+		scanner.unread('b');
+		StringBuilder sb = new StringBuilder();
+
+		scanner.appendUntil(sb, TriGScanner.DOUBLE_QUOTED_DELIMITERS);
+
+		assertEquals("b" + content, sb.toString());
+		assertEquals('"', scanner.read());
+	}
+
+	@Test
+	public void testAppendUntilEndOfInput() throws IOException {
+		TriGScanner scanner = new TriGScanner(new StringReader("abc"));
+		StringBuilder sb = new StringBuilder();
+
+		scanner.appendUntil(sb, TriGScanner.IRI_DELIMITERS);
+
+		assertEquals("abc", sb.toString());
+		assertEquals(-1, scanner.read());
+	}
+
+	private static void assertAppendedUntil(String expected, String input, boolean[] delimiters, char next)
+			throws IOException {
+		TriGScanner scanner = new TriGScanner(new StringReader(input));
+		StringBuilder sb = new StringBuilder();
+		scanner.appendUntil(sb, delimiters);
+		assertEquals(expected, sb.toString());
+		assertEquals(next, scanner.read());
+	}
+
+	private static void skip(TriGScanner scanner, int count) throws IOException {
+		for (int i = 0; i < count; i++) {
+			scanner.read();
+		}
+	}
+
+	private static String readAll(TriGScanner scanner) throws IOException {
+		StringBuilder sb = new StringBuilder();
+		for (int c = scanner.read(); c != -1; c = scanner.read()) {
+			sb.append((char) c);
+		}
+		return sb.toString();
+	}
+
+	private static String repeat(char c, int count) {
+		StringBuilder sb = new StringBuilder(count);
+		for (int i = 0; i < count; i++) {
+			sb.append(c);
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * A reader that returns at most a fixed number of characters per read.
+	 */
+	static final class ChunkedReader extends Reader {
+
+		private final String input;
+
+		private final int chunkSize;
+
+		private int position;
+
+		ChunkedReader(String input, int chunkSize) {
+			this.input = input;
+			this.chunkSize = chunkSize;
+		}
+
+		@Override
+		public int read(char[] cbuf, int off, int len) {
+			if (position == input.length()) {
+				return -1;
+			}
+			int count = Math.min(Math.min(len, chunkSize), input.length() - position);
+			input.getChars(position, position + count, cbuf, off);
+			position += count;
+			return count;
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+}
@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.rio.trig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertEquals;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.Rio;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for {@link TriGSplitter}.
+ */
+public class TriGSplitterTest {
+
+	@Rule
+	public TemporaryFolder tempDir = new TemporaryFolder();
+
+	private final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	@Test
+	public void testShardsContainAllStatements() throws Exception {
+		StringBuilder trig = new StringBuilder("@prefix ex: <http://example.org/> .\n");
+		for (int i = 0; i < 20; i++) {
+			trig.append("ex:g").append(i).append(" { ex:s ex:p ").append(i).append(" }\n");
+		}
+		trig.append("ex:s ex:p ex:o .\n");
+
+		Path input = write(trig.toString());
+		List<Path> shards = split(input, 3, new TriGSplitter(3));
+
+		Model original = Rio.parse(new StringReader(trig.toString()), "", RDFFormat.TRIG);
+		Model union = new LinkedHashModel();
+		for (Path shard : shards) {
+			String content = new String(Files.readAllBytes(shard), StandardCharsets.UTF_8);
+			assertThat(content).contains("@prefix ex: <http://example.org/>");
+			union.addAll(Rio.parse(new StringReader(content), "", RDFFormat.TRIG));
+		}
+		assertEquals(original, union);
+	}
+
+	@Test
+	public void testConjectureColocatedWithTarget() throws Exception {
+		StringBuilder trig = new StringBuilder("@prefix conj: <https://w3id.org/conjectures/> .\n");
+		trig.append("@prefix ex: <http://example.org/> .\n");
+		for (int i = 0; i < 10; i++) {
+			trig.append("CONJ ex:g").append(i).append(" { ex:s ex:p ex:o }\n");
+			trig.append("SETT ex:g").append(i).append(" { ex:s ex:p ex:o }\n");
+		}
+
+		Path input = write(trig.toString());
+		TriGSplitter splitter = new TriGSplitter(4);
+		List<Path> shards = split(input, 4, splitter);
+
+		for (Path shard : shards) {
+			Model model = Rio.parse(Files.newBufferedReader(shard), "", RDFFormat.TRIG);
+			for (Resource context : model.contexts()) {
+				String key = TriGSplitter.partitionKey(context);
+				assertThat(model.contexts()).contains(vf.createIRI(key), vf.createIRI("conj-" + key));
+			}
+		}
+	}
+
+	@Test
+	public void testRebalance() throws Exception {
+		StringBuilder trig = new StringBuilder();
+		for (int i = 0; i < 50; i++) {
+			trig.append("<urn:g").append(i).append("> { ");
+			for (int j = 0; j <= i % 5; j++) {
+				trig.append("<urn:s> <urn:p> ").append(j).append(" . ");
+			}
+			trig.append("}\n");
+		}
+
+		TriGSplitter splitter = new TriGSplitter(4);
+		splitter.setBalanceTolerance(0.05);
+		Path input = write(trig.toString());
+		split(input, 4, splitter);
+
+		long[] sizes = splitter.getShardSizes();
+		long total = 0;
+		for (long size : sizes) {
+			total += size;
+		}
+		assertEquals(150, total);
+		for (long size : sizes) {
+			// no shard exceeds the tolerance by more than the largest graph
+			assertThat(size).isLessThanOrEqualTo((long) Math.ceil(total / 4.0 * 1.05) + 5);
+		}
+	}
+
+	private Path write(String content) throws Exception {
+		Path input = tempDir.newFile("input.trig").toPath();
+		Files.write(input, content.getBytes(StandardCharsets.UTF_8));
+		return input;
+	}
+
+	private List<Path> split(Path input, int shardCount, TriGSplitter splitter) throws Exception {
+		List<Path> shards = new ArrayList<>();
+		for (int i = 0; i < shardCount; i++) {
+			shards.add(tempDir.getRoot().toPath().resolve("shard-" + i + ".trig"));
+		}
+		splitter.split(input, "", shards);
+		return shards;
+	}
+}